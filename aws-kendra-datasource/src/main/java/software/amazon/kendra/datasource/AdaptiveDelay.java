@@ -0,0 +1,177 @@
+package software.amazon.kendra.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.DoubleSupplier;
+
+import com.google.common.base.Preconditions;
+import software.amazon.cloudformation.proxy.Delay;
+
+/**
+ * Stabilization delay that polls on a short, fixed schedule first and then backs off exponentially with jitter
+ * up to a cap.
+ *
+ * The schedule is a function of the attempt number only, which the framework keeps in the callback context, so
+ * it carries on where it left off when the handler is re-invoked. The poll count and total wait reflect the
+ * delays handed out by this instance and are there to tune the schedule.
+ */
+public class AdaptiveDelay implements Delay {
+
+  private final Duration timeout;
+  private final int earlyPolls;
+  private final Duration earlyDelay;
+  private final Duration baseDelay;
+  private final Duration maxDelay;
+  private final double multiplier;
+  private final double jitter;
+  private final DoubleSupplier random;
+
+  private final AtomicInteger pollCount = new AtomicInteger();
+  private final AtomicLong totalWaitMillis = new AtomicLong();
+
+  private AdaptiveDelay(final Builder builder) {
+    this.timeout = builder.timeout;
+    this.earlyPolls = builder.earlyPolls;
+    this.earlyDelay = builder.earlyDelay;
+    this.baseDelay = builder.baseDelay;
+    this.maxDelay = builder.maxDelay;
+    this.multiplier = builder.multiplier;
+    this.jitter = builder.jitter;
+    this.random = builder.random;
+  }
+
+  public static Builder of() {
+    return new Builder();
+  }
+
+  @Override
+  public Duration nextDelay(final int attempt) {
+    if (isTimedOut(attempt)) {
+      return Duration.ZERO;
+    }
+    final long delayMillis = Math.max(1L, Math.round(scheduledDelayMillis(attempt) * jitterFactor()));
+    pollCount.incrementAndGet();
+    totalWaitMillis.addAndGet(delayMillis);
+    return Duration.ofMillis(delayMillis);
+  }
+
+  public int getPollCount() {
+    return pollCount.get();
+  }
+
+  public Duration getTotalWait() {
+    return Duration.ofMillis(totalWaitMillis.get());
+  }
+
+  @Override
+  public String toString() {
+    return String.format("AdaptiveDelay(polls=%d, totalWait=%s)", getPollCount(), getTotalWait());
+  }
+
+  /**
+   * Whether the schedule has used up the timeout by the given attempt.
+   */
+  boolean isTimedOut(final int attempt) {
+    return scheduledWaitMillis(attempt - 1) >= timeout.toMillis();
+  }
+
+  int getEarlyPolls() {
+    return earlyPolls;
+  }
+
+  /**
+   * The delay before the given attempt (1 based) without jitter.
+   */
+  long scheduledDelayMillis(final int attempt) {
+    if (attempt <= earlyPolls) {
+      return earlyDelay.toMillis();
+    }
+    final double backoff = baseDelay.toMillis() * Math.pow(multiplier, attempt - earlyPolls - 1);
+    return (long) Math.min(backoff, maxDelay.toMillis());
+  }
+
+  private long scheduledWaitMillis(final int attempts) {
+    long total = 0;
+    int attempt = 1;
+    for (; attempt <= attempts; attempt++) {
+      final long delayMillis = scheduledDelayMillis(attempt);
+      if (attempt > earlyPolls && delayMillis >= maxDelay.toMillis()) {
+        break;
+      }
+      total += delayMillis;
+    }
+    // Every remaining attempt waits the capped delay
+    return total + Math.max(0, attempts - attempt + 1) * maxDelay.toMillis();
+  }
+
+  private double jitterFactor() {
+    return 1.0 + jitter * (2.0 * random.getAsDouble() - 1.0);
+  }
+
+  public static final class Builder {
+    private Duration timeout;
+    private int earlyPolls = 3;
+    private Duration earlyDelay = Duration.ofSeconds(10);
+    private Duration baseDelay = Duration.ofSeconds(30);
+    private Duration maxDelay = Duration.ofMinutes(2);
+    private double multiplier = 1.5;
+    private double jitter = 0.2;
+    private DoubleSupplier random = () -> ThreadLocalRandom.current().nextDouble();
+
+    private Builder() {
+    }
+
+    public Builder timeout(final Duration timeout) {
+      this.timeout = timeout;
+      return this;
+    }
+
+    public Builder earlyPolls(final int earlyPolls) {
+      this.earlyPolls = earlyPolls;
+      return this;
+    }
+
+    public Builder earlyDelay(final Duration earlyDelay) {
+      this.earlyDelay = earlyDelay;
+      return this;
+    }
+
+    public Builder baseDelay(final Duration baseDelay) {
+      this.baseDelay = baseDelay;
+      return this;
+    }
+
+    public Builder maxDelay(final Duration maxDelay) {
+      this.maxDelay = maxDelay;
+      return this;
+    }
+
+    public Builder multiplier(final double multiplier) {
+      this.multiplier = multiplier;
+      return this;
+    }
+
+    public Builder jitter(final double jitter) {
+      this.jitter = jitter;
+      return this;
+    }
+
+    // Used for testing
+    Builder random(final DoubleSupplier random) {
+      this.random = random;
+      return this;
+    }
+
+    public AdaptiveDelay build() {
+      Preconditions.checkArgument(timeout != null && !timeout.isNegative() && !timeout.isZero(),
+          "timeout must be positive");
+      Preconditions.checkArgument(earlyPolls >= 0, "earlyPolls must not be negative");
+      Preconditions.checkArgument(multiplier >= 1.0, "multiplier must be at least 1");
+      Preconditions.checkArgument(jitter >= 0.0 && jitter < 1.0, "jitter must be in [0, 1)");
+      Preconditions.checkArgument(maxDelay.compareTo(baseDelay) >= 0, "maxDelay must not be less than baseDelay");
+      return new AdaptiveDelay(this);
+    }
+  }
+}
@@ -5,6 +5,9 @@ public class ApiName {
     static final String UPDATE_DATASOURCE = "UpdateDataSource";
     static final String DESCRIBE_DATASOURCE = "DescribeDataSource";
     static final String DELETE_DATASOURCE = "DeleteDataSource";
+    static final String DESCRIBE_INDEX = "DescribeIndex";
     static final String LIST_DATA_SOURCES = "ListDataSources";
     static final String LIST_TAGS_FOR_RESOURCE = "ListTagsForResource";
+    static final String TAG_RESOURCE = "TagResource";
+    static final String UNTAG_RESOURCE = "UntagResource";
 }
@@ -1,5 +1,8 @@
 package software.amazon.kendra.datasource;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
@@ -7,4 +10,49 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    private boolean tagsUpdated = false;
+    // Set once the index was seen ready, the mutation is made in the same invocation
+    private boolean indexReady = false;
+    // Set once the configuration warnings were logged, so a callback doesn't log them again
+    private boolean warningsLogged = false;
+
+    // Epoch millis at which each status was last entered, survives re-invocations so stabilization knows how
+    // long the data source has been CREATING, UPDATING or DELETING.
+    private Map<String, Long> statusTransitions = new LinkedHashMap<>();
+    private String lastObservedStatus;
+    private int pollCount = 0;
+
+    // Timings kept across re-invocations, written out by HandlerMetrics once the handler completes. Phases are in
+    // millis, the calls are counted and their latency summed per API.
+    private Map<String, Long> phaseStartedAt = new LinkedHashMap<>();
+    private Map<String, Long> phaseMillis = new LinkedHashMap<>();
+    private Map<String, Integer> apiCalls = new LinkedHashMap<>();
+    private Map<String, Long> apiMillis = new LinkedHashMap<>();
+
+    /**
+     * Records the status seen by a stabilization poll.
+     * @param status the observed status
+     * @param nowMillis the time of the poll in epoch millis
+     * @return how long the previous status lasted in millis if this poll observed a transition, otherwise -1
+     */
+    public long recordStatus(final String status, final long nowMillis) {
+        pollCount++;
+        if (status.equals(lastObservedStatus)) {
+            return -1L;
+        }
+        final Long previousSince = lastObservedStatus == null ? null : statusTransitions.get(lastObservedStatus);
+        statusTransitions.put(status, nowMillis);
+        lastObservedStatus = status;
+        return previousSince == null ? -1L : nowMillis - previousSince;
+    }
+
+    /**
+     * Records a call to Kendra, concurrent reads record theirs from other threads.
+     * @param apiName the API called
+     * @param millis how long the call took
+     */
+    public synchronized void recordCall(final String apiName, final long millis) {
+        apiCalls.merge(apiName, 1, Integer::sum);
+        apiMillis.merge(apiName, millis, Long::sum);
+    }
 }
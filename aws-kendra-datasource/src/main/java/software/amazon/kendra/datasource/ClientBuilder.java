@@ -1,10 +1,56 @@
 package software.amazon.kendra.datasource;
 
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.KendraClientBuilder;
+import software.amazon.awssdk.services.kendra.model.ConflictException;
+import software.amazon.awssdk.services.kendra.model.ThrottlingException;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static software.amazon.kendra.datasource.ApiName.CREATE_DATASOURCE;
+import static software.amazon.kendra.datasource.ApiName.DELETE_DATASOURCE;
+import static software.amazon.kendra.datasource.ApiName.DESCRIBE_DATASOURCE;
+import static software.amazon.kendra.datasource.ApiName.DESCRIBE_INDEX;
+import static software.amazon.kendra.datasource.ApiName.LIST_DATA_SOURCES;
+import static software.amazon.kendra.datasource.ApiName.LIST_TAGS_FOR_RESOURCE;
+import static software.amazon.kendra.datasource.ApiName.TAG_RESOURCE;
+import static software.amazon.kendra.datasource.ApiName.UNTAG_RESOURCE;
+import static software.amazon.kendra.datasource.ApiName.UPDATE_DATASOURCE;
 
 public class ClientBuilder {
-  public static KendraClient getClient() {
-    return KendraClient.builder().httpClient(LambdaWrapper.HTTP_CLIENT).build();
+
+  // Lives as long as the Lambda container, so warm invocations skip client construction.
+  static final KendraClientCache CLIENT_CACHE = new KendraClientCache(ClientBuilder::buildClient);
+
+  // Shared by every invocation in the container, so concurrent reads and stabilization polls draw from the
+  // same buckets. Calls that change a resource get a lower rate than reads.
+  static final ApiRateLimiter RATE_LIMITER = ApiRateLimiter.builder()
+      .limit(CREATE_DATASOURCE, 1, 2)
+      .limit(UPDATE_DATASOURCE, 1, 2)
+      .limit(DELETE_DATASOURCE, 1, 2)
+      .limit(DESCRIBE_DATASOURCE, 5, 10)
+      .limit(DESCRIBE_INDEX, 5, 10)
+      .limit(LIST_DATA_SOURCES, 2, 5)
+      .limit(LIST_TAGS_FOR_RESOURCE, 5, 10)
+      .build();
+
+  // A conflict on an existing data source is usually a sync or another change still in progress, so it is worth
+  // waiting out. On CreateDataSource it means the name is taken, which won't change by retrying.
+  static final ServiceErrors SERVICE_ERRORS = ServiceErrors.builder()
+      .retryOn(ThrottlingException.class)
+      .retryOn(ConflictException.class, UPDATE_DATASOURCE, DELETE_DATASOURCE, TAG_RESOURCE, UNTAG_RESOURCE)
+      .build();
+
+  public static KendraClient getClient(final ResourceHandlerRequest<ResourceModel> request) {
+    return CLIENT_CACHE.get(request.getRegion(), request.getAwsPartition(), request.getAwsAccountId());
+  }
+
+  private static KendraClient buildClient(final KendraClientCache.Key key) {
+    final KendraClientBuilder builder = KendraClient.builder().httpClient(LambdaWrapper.HTTP_CLIENT);
+    if (key.getRegion() != null) {
+      builder.region(Region.of(key.getRegion()));
+    }
+    return builder.build();
   }
 }
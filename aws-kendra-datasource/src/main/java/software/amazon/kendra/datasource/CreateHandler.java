@@ -2,35 +2,24 @@ package software.amazon.kendra.datasource;
 
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.kendra.KendraClient;
-import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
-import software.amazon.awssdk.services.kendra.model.ConflictException;
 import software.amazon.awssdk.services.kendra.model.CreateDataSourceRequest;
 import software.amazon.awssdk.services.kendra.model.CreateDataSourceResponse;
 import software.amazon.awssdk.services.kendra.model.DataSourceStatus;
 import software.amazon.awssdk.services.kendra.model.DescribeDataSourceRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeDataSourceResponse;
-import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.kendra.model.ServiceQuotaExceededException;
-import software.amazon.awssdk.services.kendra.model.ThrottlingException;
-import software.amazon.awssdk.services.kendra.model.ValidationException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
-import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
-import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import static software.amazon.kendra.datasource.ApiName.CREATE_DATASOURCE;
+import static software.amazon.kendra.datasource.ApiName.DESCRIBE_DATASOURCE;
 
 public class CreateHandler extends BaseHandlerStd {
 
@@ -41,17 +30,40 @@ public class CreateHandler extends BaseHandlerStd {
 
     private final DataSourceArnBuilder dataSourceArnBuilder;
 
+    private final BiFunction<ResourceModel, CallbackContext, Delay> delayProvider;
+
+    private final Supplier<Delay> indexDelayProvider;
+
     public CreateHandler() {
-        super();
-        this.dataSourceArnBuilder = new DataSourceArn();
+        this(new DataSourceArn());
     }
 
     public CreateHandler(DataSourceArnBuilder dataSourceArnBuilder) {
         super();
         this.dataSourceArnBuilder = dataSourceArnBuilder;
+        this.delayProvider = (model, context) -> StabilizationDelays.forDataSource(CREATE_DATASOURCE, context);
+        this.indexDelayProvider = StabilizationDelays::forParentIndex;
+    }
+
+    // Used for testing.
+    public CreateHandler(DataSourceArnBuilder dataSourceArnBuilder, Delay delay) {
+        super();
+        this.dataSourceArnBuilder = dataSourceArnBuilder;
+        this.delayProvider = (model, context) -> delay;
+        this.indexDelayProvider = () -> delay;
     }
 
 
+    @Override
+    protected boolean validatesDesiredState() {
+        return true;
+    }
+
+    @Override
+    protected boolean changesResource() {
+        return true;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -62,6 +74,13 @@ public class CreateHandler extends BaseHandlerStd {
         this.logger = logger;
 
         final ResourceModel model = request.getDesiredResourceState();
+        // Fail before the create call rather than when the stabilization finds the data source FAILED
+        DataSourceValidator.validate(model);
+        if (!callbackContext.isWarningsLogged()) {
+            DataSourceValidator.warnings(model).forEach(logger::log);
+            callbackContext.setWarningsLogged(true);
+        }
+        final ResponseCache<DescribeDataSourceResponse> describeDataSourceResponseCache = new ResponseCache<>();
 
         // TODO: Adjust Progress Chain according to your implementation
         // https://github.com/aws-cloudformation/cloudformation-cli-java-plugin/blob/master/src/main/java/software/amazon/cloudformation/proxy/CallChain.java
@@ -73,18 +92,25 @@ public class CreateHandler extends BaseHandlerStd {
             // for more information -> https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
             //.then(progress -> checkForPreCreateResourceExistence(proxy, request, progress))
 
+            // Kendra rejects the create while the index is busy, wait for it instead of failing
+            .then(phase("AwaitIndex", progress -> ParentIndex.awaitReady(proxy, proxyClient, progress,
+                indexDelayProvider.get(), serviceErrors, logger)))
+
             // STEP 2 [create/stabilize progress chain - required for resource creation]
-            .then(progress ->
+            .then(phase("Create", progress ->
                 // If your service API throws 'ResourceAlreadyExistsException' for create requests then CreateHandler can return just proxy.initiate construction
                 // STEP 2.0 [initialize a proxy context]
                 proxy.initiate("AWS-Kendra-DataSource::Create", proxyClient, model, callbackContext)
                     .translateToServiceRequest(Translator::translateToCreateRequest)
                     .makeServiceCall(this::createDataSource)
                     .done(this::setId)
-                )
+                ))
             // stabilize
-            .then(progress -> stabilize(proxy, proxyClient, progress))
-            .then(progress -> new ReadHandler(dataSourceArnBuilder).handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(phase("PostCreateStabilize", progress -> stabilize(proxy, proxyClient, progress,
+                delayProvider.apply(model, callbackContext), describeDataSourceResponseCache)))
+            // the last stabilization poll saw the data source ACTIVE, the read reuses that response
+            .then(phase("Read", progress -> new ReadHandler(dataSourceArnBuilder, describeDataSourceResponseCache)
+                .handleRequest(proxy, request, callbackContext, proxyClient, logger)));
     }
 
 
@@ -98,31 +124,9 @@ public class CreateHandler extends BaseHandlerStd {
     private CreateDataSourceResponse createDataSource(
         final CreateDataSourceRequest createDataSourceRequest,
         final ProxyClient<KendraClient> proxyClient) {
-        CreateDataSourceResponse createDataSourceResponse;
-        try {
-            createDataSourceResponse = proxyClient.injectCredentialsAndInvokeV2(createDataSourceRequest,
-             proxyClient.client()::createDataSource);
-        } catch(final ValidationException e) {
-            throw new CfnInvalidRequestException(e.getMessage(), e);
-        } catch (final ConflictException e) {
-            throw new CfnResourceConflictException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
-        } catch (ServiceQuotaExceededException e) {
-            throw new CfnServiceLimitExceededException(ResourceModel.TYPE_NAME, e.getMessage(), e);
-        } catch (AccessDeniedException e) {
-            throw new CfnAccessDeniedException(CREATE_DATASOURCE, e);
-        } catch (ThrottlingException e) {
-            throw new CfnThrottlingException(CREATE_DATASOURCE, e);
-        } catch (final AwsServiceException e) {
-            /*
-             * While the handler contract states that the handler must always return a progress event,
-             * you may throw any instance of BaseHandlerException, as the wrapper map it to a progress event.
-             * Each BaseHandlerException maps to a specific error code, and you should map service exceptions as closely as possible
-             * to more specific error codes
-             */
-            throw new CfnGeneralServiceException(CREATE_DATASOURCE, e);
-        }
+        // A missing index is reported without an identifier, the data source doesn't have one yet
+        final CreateDataSourceResponse createDataSourceResponse = serviceErrors.call(CREATE_DATASOURCE, null, () ->
+            proxyClient.injectCredentialsAndInvokeV2(createDataSourceRequest, proxyClient.client()::createDataSource));
 
         logger.log(String.format("%s successfully created.", ResourceModel.TYPE_NAME));
         return createDataSourceResponse;
@@ -131,23 +135,31 @@ public class CreateHandler extends BaseHandlerStd {
     private ProgressEvent<ResourceModel, CallbackContext> stabilize(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<KendraClient> proxyClient,
-            final ProgressEvent<ResourceModel, CallbackContext> progress) {
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Delay delay,
+            final ResponseCache<DescribeDataSourceResponse> describeDataSourceResponseCache) {
         return proxy.initiate("AWS-Kendra-DataSource::stabilize", proxyClient, progress.getResourceModel(),
                 progress.getCallbackContext())
                 .translateToServiceRequest(Function.identity())
+                .backoffDelay(delay)
                 .makeServiceCall(EMPTY_CALL)
                 .stabilize((resourceModel, response, proxyInvocation, model, callbackContext) ->
-                        isStabilized(proxyInvocation, model)).progress();
+                        isStabilized(proxyInvocation, model, callbackContext, describeDataSourceResponseCache)).progress();
     }
 
-    private boolean isStabilized(final ProxyClient<KendraClient> proxyClient, final ResourceModel model) {
+    private boolean isStabilized(final ProxyClient<KendraClient> proxyClient, final ResourceModel model,
+                                 final CallbackContext callbackContext,
+                                 final ResponseCache<DescribeDataSourceResponse> describeDataSourceResponseCache) {
         DescribeDataSourceRequest describeDataSourceRequest = DescribeDataSourceRequest.builder()
                 .id(model.getId())
                 .indexId(model.getIndexId())
                 .build();
-        DescribeDataSourceResponse describeDataSourceResponse = proxyClient.injectCredentialsAndInvokeV2(describeDataSourceRequest,
-                proxyClient.client()::describeDataSource);
+        DescribeDataSourceResponse describeDataSourceResponse = HandlerEvents.stabilizationPoll(DESCRIBE_DATASOURCE, model.getId(),
+                () -> proxyClient.injectCredentialsAndInvokeV2(describeDataSourceRequest, proxyClient.client()::describeDataSource),
+                DescribeDataSourceResponse::statusAsString);
+        describeDataSourceResponseCache.put(describeDataSourceResponse);
         DataSourceStatus dataSourceStatus = describeDataSourceResponse.status();
+        recordStatus(callbackContext, describeDataSourceResponse.statusAsString(), model, logger);
         if (dataSourceStatus.equals(DataSourceStatus.FAILED)) {
             throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getId());
         }
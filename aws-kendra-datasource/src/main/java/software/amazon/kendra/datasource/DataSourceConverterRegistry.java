@@ -0,0 +1,152 @@
+package software.amazon.kendra.datasource;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import software.amazon.awssdk.services.kendra.model.DataSourceType;
+import software.amazon.kendra.datasource.convert.DatabaseConverter;
+import software.amazon.kendra.datasource.convert.GoogleDriveConverter;
+import software.amazon.kendra.datasource.convert.OneDriveConverter;
+import software.amazon.kendra.datasource.convert.S3Converter;
+import software.amazon.kendra.datasource.convert.SalesforceConverter;
+import software.amazon.kendra.datasource.convert.ServiceNowConverter;
+import software.amazon.kendra.datasource.convert.SharePointConverter;
+import software.amazon.kendra.datasource.convert.TemplateConverter;
+import software.amazon.kendra.datasource.convert.WebCrawlerConverter;
+import software.amazon.kendra.datasource.convert.WorkDocsConverter;
+import software.amazon.kendra.datasource.convert.confluence.ConfluenceConverter;
+
+/**
+ * The connector converters by data source type.
+ *
+ * Every converter is only referenced from inside a lambda, so its class is loaded and initialized the first time
+ * a data source of that type is converted rather than when the registry is. A new connector is supported by
+ * registering it here.
+ */
+final class DataSourceConverterRegistry {
+
+  private static final Map<DataSourceType, Converter> CONVERTERS = new EnumMap<>(DataSourceType.class);
+
+  static {
+    register(DataSourceType.S3,
+        model -> model.getS3Configuration() != null,
+        (model, sdk) -> sdk.s3Configuration(S3Converter.toSdkDataSourceConfiguration(model.getS3Configuration())),
+        sdk -> S3Converter.toModelDataSourceConfiguration(sdk.s3Configuration()));
+    register(DataSourceType.SHAREPOINT,
+        model -> model.getSharePointConfiguration() != null,
+        (model, sdk) -> sdk.sharePointConfiguration(
+            SharePointConverter.toSdkDataSourceConfiguration(model.getSharePointConfiguration())),
+        sdk -> SharePointConverter.toModelDataSourceConfiguration(sdk.sharePointConfiguration()));
+    register(DataSourceType.SALESFORCE,
+        model -> model.getSalesforceConfiguration() != null,
+        (model, sdk) -> sdk.salesforceConfiguration(
+            SalesforceConverter.toSdkDataSourceConfiguration(model.getSalesforceConfiguration())),
+        sdk -> SalesforceConverter.toModelDataSourceConfiguration(sdk.salesforceConfiguration()));
+    register(DataSourceType.DATABASE,
+        model -> model.getDatabaseConfiguration() != null,
+        (model, sdk) -> sdk.databaseConfiguration(DatabaseConverter.toSdk(model.getDatabaseConfiguration())),
+        sdk -> DatabaseConverter.toModelDataSourceConfiguration(sdk.databaseConfiguration()));
+    register(DataSourceType.SERVICENOW,
+        model -> model.getServiceNowConfiguration() != null,
+        (model, sdk) -> sdk.serviceNowConfiguration(
+            ServiceNowConverter.toSdkDataSourceConfiguration(model.getServiceNowConfiguration())),
+        sdk -> ServiceNowConverter.toModelDataSourceConfiguration(sdk.serviceNowConfiguration()));
+    register(DataSourceType.ONEDRIVE,
+        model -> model.getOneDriveConfiguration() != null,
+        (model, sdk) -> sdk.oneDriveConfiguration(
+            OneDriveConverter.toSdkDataSourceConfiguration(model.getOneDriveConfiguration())),
+        sdk -> OneDriveConverter.toModelDataSourceConfiguration(sdk.oneDriveConfiguration()));
+    register(DataSourceType.CONFLUENCE,
+        model -> model.getConfluenceConfiguration() != null,
+        (model, sdk) -> sdk.confluenceConfiguration(
+            ConfluenceConverter.toSdkDataSourceConfiguration(model.getConfluenceConfiguration())),
+        sdk -> ConfluenceConverter.toModelDataSourceConfiguration(sdk.confluenceConfiguration()));
+    register(DataSourceType.GOOGLEDRIVE,
+        model -> model.getGoogleDriveConfiguration() != null,
+        (model, sdk) -> sdk.googleDriveConfiguration(
+            GoogleDriveConverter.toSdkDataSourceConfiguration(model.getGoogleDriveConfiguration())),
+        sdk -> GoogleDriveConverter.toModelDataSourceConfiguration(sdk.googleDriveConfiguration()));
+    register(DataSourceType.WEBCRAWLER,
+        model -> model.getWebCrawlerConfiguration() != null,
+        (model, sdk) -> sdk.webCrawlerConfiguration(
+            WebCrawlerConverter.toSdkDataSourceConfiguration(model.getWebCrawlerConfiguration())),
+        sdk -> WebCrawlerConverter.toModelDataSourceConfiguration(sdk.webCrawlerConfiguration()));
+    register(DataSourceType.WORKDOCS,
+        model -> model.getWorkDocsConfiguration() != null,
+        (model, sdk) -> sdk.workDocsConfiguration(
+            WorkDocsConverter.toSdkDataSourceConfiguration(model.getWorkDocsConfiguration())),
+        sdk -> WorkDocsConverter.toModelDataSourceConfiguration(sdk.workDocsConfiguration()));
+    register(DataSourceType.TEMPLATE,
+        model -> model.getTemplateConfiguration() != null,
+        (model, sdk) -> sdk.templateConfiguration(
+            TemplateConverter.toSdkTemplateConfiguration(model.getTemplateConfiguration())),
+        sdk -> TemplateConverter.toModelDataSourceConfiguration(sdk.templateConfiguration()));
+  }
+
+  private DataSourceConverterRegistry() {
+  }
+
+  private static void register(final DataSourceType type,
+                               final Predicate<DataSourceConfiguration> configured,
+                               final BiConsumer<DataSourceConfiguration,
+                                   software.amazon.awssdk.services.kendra.model.DataSourceConfiguration.Builder> toSdk,
+                               final Function<software.amazon.awssdk.services.kendra.model.DataSourceConfiguration,
+                                   DataSourceConfiguration> toModel) {
+    if (CONVERTERS.put(type, new Converter(configured, toSdk, toModel)) != null) {
+      throw new IllegalStateException("Converter for " + type + " registered twice");
+    }
+  }
+
+  static Set<DataSourceType> types() {
+    return Collections.unmodifiableSet(CONVERTERS.keySet());
+  }
+
+  /**
+   * Perform a straight pass through from the model to the SDK request, of every connector configuration that is
+   * set, whatever the type of the data source. The Kendra service will do validation.
+   */
+  static software.amazon.awssdk.services.kendra.model.DataSourceConfiguration toSdk(
+      final DataSourceConfiguration model) {
+    final software.amazon.awssdk.services.kendra.model.DataSourceConfiguration.Builder sdk =
+        software.amazon.awssdk.services.kendra.model.DataSourceConfiguration.builder();
+    for (final Converter converter : CONVERTERS.values()) {
+      if (converter.configured.test(model)) {
+        converter.toSdk.accept(model, sdk);
+      }
+    }
+    return sdk.build();
+  }
+
+  /**
+   * @return the configuration of the connector of the given type, or null for a type without a converter
+   */
+  static DataSourceConfiguration toModel(
+      final software.amazon.awssdk.services.kendra.model.DataSourceConfiguration sdk, final String dataSourceType) {
+    final Converter converter = CONVERTERS.get(DataSourceType.fromValue(dataSourceType));
+    return converter == null ? null : converter.toModel.apply(sdk);
+  }
+
+  private static final class Converter {
+
+    private final Predicate<DataSourceConfiguration> configured;
+    private final BiConsumer<DataSourceConfiguration,
+        software.amazon.awssdk.services.kendra.model.DataSourceConfiguration.Builder> toSdk;
+    private final Function<software.amazon.awssdk.services.kendra.model.DataSourceConfiguration,
+        DataSourceConfiguration> toModel;
+
+    private Converter(final Predicate<DataSourceConfiguration> configured,
+                      final BiConsumer<DataSourceConfiguration,
+                          software.amazon.awssdk.services.kendra.model.DataSourceConfiguration.Builder> toSdk,
+                      final Function<software.amazon.awssdk.services.kendra.model.DataSourceConfiguration,
+                          DataSourceConfiguration> toModel) {
+      this.configured = configured;
+      this.toSdk = toSdk;
+      this.toModel = toModel;
+    }
+  }
+}
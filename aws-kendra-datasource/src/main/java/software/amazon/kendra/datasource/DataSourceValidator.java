@@ -0,0 +1,754 @@
+package software.amazon.kendra.datasource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import software.amazon.awssdk.services.kendra.model.DataSourceType;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.kendra.datasource.convert.UrlCanonicalizer;
+import software.amazon.kendra.datasource.pattern.ConnectorPatterns;
+import software.amazon.kendra.datasource.pattern.PatternFilter;
+import software.amazon.kendra.datasource.pattern.PatternFinding;
+
+/**
+ * Checks a data source before it is sent to Kendra, so a configuration the service would reject fails the
+ * request right away, with every problem listed, instead of after a create call and a stabilization that ends in
+ * FAILED.
+ *
+ * The connector configurations and the custom document enrichment are checked against the constraints of
+ * aws-kendra-datasource.json, plus the rules between fields the schema can't express: the connector configuration
+ * has to match the type, the operator of a condition has to fit its value, the inclusion and exclusion patterns
+ * have to compile and let something through, and so on. The top level properties are left to
+ * {@link ResourceModelValidator}, which only finds a schema pattern somewhere in a value where this class wants the
+ * whole value to match. Patterns and allowed values are compiled once per container.
+ */
+final class DataSourceValidator {
+
+  private static final Pattern ARN = Pattern.compile(
+      "arn:[a-z0-9-\\.]{1,63}:[a-z0-9-\\.]{0,63}:[a-z0-9-\\.]{0,63}:[a-z0-9-\\.]{0,63}:[^/].{0,1023}");
+  private static final Pattern S3_BUCKET_NAME = Pattern.compile("[a-z0-9][\\.\\-a-z0-9]{1,61}[a-z0-9]");
+  private static final Pattern URL = Pattern.compile("^(https?|ftp|file)://([^\\s]*)");
+  private static final Pattern HTTP_URL = Pattern.compile("^(https?)://([^\\s]*)");
+  private static final Pattern VPC_ID = Pattern.compile("[\\-0-9a-zA-Z]+");
+  private static final Pattern TENANT_DOMAIN = Pattern.compile("^([a-zA-Z0-9]+(-[a-zA-Z0-9]+)*\\.)+[a-z]{2,}$");
+  private static final Pattern ONE_DRIVE_USER = Pattern.compile("^(?!\\s).+@([a-zA-Z0-9_\\-\\.]+)\\.([a-zA-Z]{2,5})$");
+  private static final Pattern SERVICE_NOW_HOST_URL = Pattern.compile(
+      "^(?!(^(https?|ftp|file):\\/\\/))[a-z0-9-]+(\\.service-now\\.com)$");
+  private static final Pattern HOST = Pattern.compile("([^\\s]*)");
+  private static final Pattern ORGANIZATION_ID = Pattern.compile("d-[0-9a-fA-F]{10}");
+  private static final Pattern DOCUMENT_ATTRIBUTE_KEY = Pattern.compile("[a-zA-Z0-9_][a-zA-Z0-9_-]*");
+
+  private static final Set<String> SHARE_POINT_VERSIONS = values("SHAREPOINT_ONLINE", "SHAREPOINT_2013", "SHAREPOINT_2016");
+  private static final Set<String> SALESFORCE_STANDARD_OBJECT_NAMES = values("ACCOUNT", "CAMPAIGN", "CASE", "CONTACT",
+      "CONTRACT", "DOCUMENT", "GROUP", "IDEA", "LEAD", "OPPORTUNITY", "PARTNER", "PRICEBOOK", "PRODUCT", "PROFILE",
+      "SOLUTION", "TASK", "USER");
+  private static final Set<String> SALESFORCE_KNOWLEDGE_ARTICLE_STATES = values("DRAFT", "PUBLISHED", "ARCHIVED");
+  private static final Set<String> SALESFORCE_CHATTER_FEED_INCLUDE_FILTER_TYPES = values("ACTIVE_USER", "STANDARD_USER");
+  private static final Set<String> DATABASE_ENGINE_TYPES = values("RDS_AURORA_MYSQL", "RDS_AURORA_POSTGRESQL",
+      "RDS_MYSQL", "RDS_POSTGRESQL");
+  private static final Set<String> QUERY_IDENTIFIERS_ENCLOSING_OPTIONS = values("DOUBLE_QUOTES", "NONE");
+  private static final Set<String> SERVICE_NOW_BUILD_VERSIONS = values("LONDON", "OTHERS");
+  private static final Set<String> SERVICE_NOW_AUTHENTICATION_TYPES = values("HTTP_BASIC", "OAUTH2");
+  private static final Set<String> CONFLUENCE_VERSIONS = values("CLOUD", "SERVER");
+  private static final Set<String> CONFLUENCE_SPACE_FIELD_NAMES = values("DISPLAY_URL", "ITEM_TYPE", "SPACE_KEY", "URL");
+  private static final Set<String> CONFLUENCE_PAGE_FIELD_NAMES = values("AUTHOR", "CONTENT_STATUS", "CREATED_DATE",
+      "DISPLAY_URL", "ITEM_TYPE", "LABELS", "MODIFIED_DATE", "PARENT_ID", "SPACE_KEY", "SPACE_NAME", "URL", "VERSION");
+  private static final Set<String> CONFLUENCE_BLOG_FIELD_NAMES = values("AUTHOR", "DISPLAY_URL", "ITEM_TYPE", "LABELS",
+      "PUBLISH_DATE", "SPACE_KEY", "SPACE_NAME", "URL", "VERSION");
+  private static final Set<String> CONFLUENCE_ATTACHMENT_FIELD_NAMES = values("AUTHOR", "CONTENT_TYPE", "CREATED_DATE",
+      "DISPLAY_URL", "FILE_SIZE", "ITEM_TYPE", "PARENT_ID", "SPACE_KEY", "SPACE_NAME", "URL", "VERSION");
+  private static final Set<String> WEB_CRAWLER_MODES = values("HOST_ONLY", "SUBDOMAINS", "EVERYTHING");
+  private static final Set<String> TYPES = values("S3", "SHAREPOINT", "SALESFORCE", "ONEDRIVE", "SERVICENOW",
+      "DATABASE", "CUSTOM", "CONFLUENCE", "GOOGLEDRIVE", "WEBCRAWLER", "WORKDOCS", "TEMPLATE");
+
+  // Operators that only test whether the attribute is there, and those that compare, which need a number or a date
+  private static final Set<String> PRESENCE_OPERATORS = values("Exists", "NotExists");
+  private static final Set<String> ORDER_OPERATORS = values("GreaterThan", "GreaterThanOrEquals", "LessThan",
+      "LessThanOrEquals");
+  private static final Set<String> CONTAINS_OPERATORS = values("Contains", "NotContains");
+  private static final Set<String> CONDITION_OPERATORS = values("GreaterThan", "GreaterThanOrEquals", "LessThan",
+      "LessThanOrEquals", "Equals", "NotEquals", "Contains", "NotContains", "Exists", "NotExists", "BeginsWith");
+
+  private final List<String> violations = new ArrayList<>();
+
+  private DataSourceValidator() {
+  }
+
+  /**
+   * @throws CfnInvalidRequestException listing every violation, when there is at least one
+   */
+  static void validate(final ResourceModel model) {
+    final List<String> violations = violations(model);
+    if (!violations.isEmpty()) {
+      throw new CfnInvalidRequestException(String.join("; ", violations));
+    }
+  }
+
+  static List<String> violations(final ResourceModel model) {
+    final DataSourceValidator validator = new DataSourceValidator();
+    validator.resource(model);
+    return validator.violations;
+  }
+
+  /**
+   * Inclusion and exclusion patterns and seed URLs that don't make Kendra reject the data source but have no
+   * effect, worth a line in the handler log.
+   */
+  static List<String> warnings(final ResourceModel model) {
+    final List<String> warnings = new ArrayList<>();
+    patterns(model.getDataSourceConfiguration(), PatternFinding.Severity.WARNING, warnings);
+    final DataSourceConfiguration configuration = model.getDataSourceConfiguration();
+    final WebCrawlerUrls urls = configuration == null || configuration.getWebCrawlerConfiguration() == null
+        ? null
+        : configuration.getWebCrawlerConfiguration().getUrls();
+    if (urls != null && urls.getSeedUrlConfiguration() != null) {
+      final String path = "DataSourceConfiguration.WebCrawlerConfiguration.Urls.SeedUrlConfiguration.SeedUrls";
+      UrlCanonicalizer.duplicates(urls.getSeedUrlConfiguration().getSeedUrls()).forEach((index, first) ->
+          warnings.add(String.format("%s[%d] is the same URL as %s[%d], it is crawled once", path, index, path,
+              first)));
+    }
+    return warnings;
+  }
+
+  private static void patterns(final DataSourceConfiguration configuration, final PatternFinding.Severity severity,
+                               final List<String> messages) {
+    for (final Map.Entry<String, PatternFilter> filter : ConnectorPatterns.of(configuration).entrySet()) {
+      for (final PatternFinding finding : filter.getValue().getFindings()) {
+        if (finding.getSeverity() == severity) {
+          messages.add(filter.getKey() + "." + finding);
+        }
+      }
+    }
+  }
+
+  private static Set<String> values(final String... values) {
+    return Collections.unmodifiableSet(new HashSet<>(Arrays.asList(values)));
+  }
+
+  private void resource(final ResourceModel model) {
+    dataSourceConfiguration(model.getType(), model.getDataSourceConfiguration());
+    customDocumentEnrichment("CustomDocumentEnrichmentConfiguration", model.getCustomDocumentEnrichmentConfiguration());
+  }
+
+  private void dataSourceConfiguration(final String type, final DataSourceConfiguration configuration) {
+    final String path = "DataSourceConfiguration";
+    // A type this handler doesn't know about is left for Kendra to judge
+    final boolean knownType = type != null && TYPES.contains(type);
+    if (configuration == null) {
+      if (knownType && !DataSourceType.CUSTOM.toString().equals(type)) {
+        violations.add(path + " is required for a data source of type " + type);
+      }
+      return;
+    }
+    if (DataSourceType.CUSTOM.toString().equals(type)) {
+      violations.add(path + " must not be set for a data source of type CUSTOM");
+      return;
+    }
+
+    final List<String> configured = new ArrayList<>();
+    if (configuration.getS3Configuration() != null) {
+      configured.add(DataSourceType.S3.toString());
+      s3(path + ".S3Configuration", configuration.getS3Configuration());
+    }
+    if (configuration.getSharePointConfiguration() != null) {
+      configured.add(DataSourceType.SHAREPOINT.toString());
+      sharePoint(path + ".SharePointConfiguration", configuration.getSharePointConfiguration());
+    }
+    if (configuration.getSalesforceConfiguration() != null) {
+      configured.add(DataSourceType.SALESFORCE.toString());
+      salesforce(path + ".SalesforceConfiguration", configuration.getSalesforceConfiguration());
+    }
+    if (configuration.getOneDriveConfiguration() != null) {
+      configured.add(DataSourceType.ONEDRIVE.toString());
+      oneDrive(path + ".OneDriveConfiguration", configuration.getOneDriveConfiguration());
+    }
+    if (configuration.getServiceNowConfiguration() != null) {
+      configured.add(DataSourceType.SERVICENOW.toString());
+      serviceNow(path + ".ServiceNowConfiguration", configuration.getServiceNowConfiguration());
+    }
+    if (configuration.getDatabaseConfiguration() != null) {
+      configured.add(DataSourceType.DATABASE.toString());
+      database(path + ".DatabaseConfiguration", configuration.getDatabaseConfiguration());
+    }
+    if (configuration.getConfluenceConfiguration() != null) {
+      configured.add(DataSourceType.CONFLUENCE.toString());
+      confluence(path + ".ConfluenceConfiguration", configuration.getConfluenceConfiguration());
+    }
+    if (configuration.getGoogleDriveConfiguration() != null) {
+      configured.add(DataSourceType.GOOGLEDRIVE.toString());
+      googleDrive(path + ".GoogleDriveConfiguration", configuration.getGoogleDriveConfiguration());
+    }
+    if (configuration.getWebCrawlerConfiguration() != null) {
+      configured.add(DataSourceType.WEBCRAWLER.toString());
+      webCrawler(path + ".WebCrawlerConfiguration", configuration.getWebCrawlerConfiguration());
+    }
+    if (configuration.getWorkDocsConfiguration() != null) {
+      configured.add(DataSourceType.WORKDOCS.toString());
+      workDocs(path + ".WorkDocsConfiguration", configuration.getWorkDocsConfiguration());
+    }
+    if (configuration.getTemplateConfiguration() != null) {
+      configured.add(DataSourceType.TEMPLATE.toString());
+      required(path + ".TemplateConfiguration.Template", configuration.getTemplateConfiguration().getTemplate());
+    }
+    patterns(configuration, PatternFinding.Severity.ERROR, violations);
+
+    if (!knownType) {
+      return;
+    }
+    if (configured.size() != 1) {
+      violations.add(path + " must set exactly one connector configuration, found " + configured.size());
+    } else if (!configured.get(0).equals(type)) {
+      violations.add(path + " configures a " + configured.get(0) + " connector for a data source of type " + type);
+    }
+  }
+
+  private void s3(final String path, final S3DataSourceConfiguration configuration) {
+    required(path + ".BucketName", configuration.getBucketName());
+    string(path + ".BucketName", configuration.getBucketName(), 3, 63, S3_BUCKET_NAME);
+    inclusionsExclusions(path + ".InclusionPrefixes", configuration.getInclusionPrefixes());
+    inclusionsExclusions(path + ".InclusionPatterns", configuration.getInclusionPatterns());
+    inclusionsExclusions(path + ".ExclusionPatterns", configuration.getExclusionPatterns());
+    if (configuration.getDocumentsMetadataConfiguration() != null) {
+      string(path + ".DocumentsMetadataConfiguration.S3Prefix",
+          configuration.getDocumentsMetadataConfiguration().getS3Prefix(), 1, 1024);
+    }
+    if (configuration.getAccessControlListConfiguration() != null) {
+      string(path + ".AccessControlListConfiguration.KeyPath",
+          configuration.getAccessControlListConfiguration().getKeyPath(), 1, 1024);
+    }
+  }
+
+  private void sharePoint(final String path, final SharePointConfiguration configuration) {
+    required(path + ".SharePointVersion", configuration.getSharePointVersion());
+    oneOf(path + ".SharePointVersion", configuration.getSharePointVersion(), SHARE_POINT_VERSIONS);
+    required(path + ".Urls", configuration.getUrls());
+    strings(path + ".Urls", configuration.getUrls(), 0, 100, 1, 2048, URL);
+    secretArn(path + ".SecretArn", configuration.getSecretArn());
+    inclusionsExclusions(path + ".InclusionPatterns", configuration.getInclusionPatterns());
+    inclusionsExclusions(path + ".ExclusionPatterns", configuration.getExclusionPatterns());
+    vpc(path + ".VpcConfiguration", configuration.getVpcConfiguration());
+    fieldMappings(path + ".FieldMappings", configuration.getFieldMappings());
+    string(path + ".DocumentTitleFieldName", configuration.getDocumentTitleFieldName(), 1, 100);
+    s3Path(path + ".SslCertificateS3Path", configuration.getSslCertificateS3Path());
+  }
+
+  private void salesforce(final String path, final SalesforceConfiguration configuration) {
+    required(path + ".ServerUrl", configuration.getServerUrl());
+    string(path + ".ServerUrl", configuration.getServerUrl(), 1, 2048, URL);
+    secretArn(path + ".SecretArn", configuration.getSecretArn());
+    final List<SalesforceStandardObjectConfiguration> standardObjects = configuration.getStandardObjectConfigurations();
+    if (size(path + ".StandardObjectConfigurations", standardObjects, 1, 17)) {
+      for (int i = 0; i < standardObjects.size(); i++) {
+        final String objectPath = path + ".StandardObjectConfigurations[" + i + "]";
+        final SalesforceStandardObjectConfiguration standardObject = standardObjects.get(i);
+        required(objectPath + ".Name", standardObject.getName());
+        oneOf(objectPath + ".Name", standardObject.getName(), SALESFORCE_STANDARD_OBJECT_NAMES);
+        documentFields(objectPath, standardObject.getDocumentDataFieldName(), standardObject.getDocumentTitleFieldName(),
+            standardObject.getFieldMappings());
+      }
+    }
+
+    final SalesforceKnowledgeArticleConfiguration knowledgeArticles = configuration.getKnowledgeArticleConfiguration();
+    if (knowledgeArticles != null) {
+      final String articlesPath = path + ".KnowledgeArticleConfiguration";
+      required(articlesPath + ".IncludedStates", knowledgeArticles.getIncludedStates());
+      enums(articlesPath + ".IncludedStates", knowledgeArticles.getIncludedStates(), 1, 3,
+          SALESFORCE_KNOWLEDGE_ARTICLE_STATES);
+      final SalesforceStandardKnowledgeArticleTypeConfiguration standard =
+          knowledgeArticles.getStandardKnowledgeArticleTypeConfiguration();
+      if (standard != null) {
+        documentFields(articlesPath + ".StandardKnowledgeArticleTypeConfiguration", standard.getDocumentDataFieldName(),
+            standard.getDocumentTitleFieldName(), standard.getFieldMappings());
+      }
+      final List<SalesforceCustomKnowledgeArticleTypeConfiguration> customs =
+          knowledgeArticles.getCustomKnowledgeArticleTypeConfigurations();
+      if (size(articlesPath + ".CustomKnowledgeArticleTypeConfigurations", customs, 1, 10)) {
+        for (int i = 0; i < customs.size(); i++) {
+          final String customPath = articlesPath + ".CustomKnowledgeArticleTypeConfigurations[" + i + "]";
+          required(customPath + ".Name", customs.get(i).getName());
+          string(customPath + ".Name", customs.get(i).getName(), 1, 100);
+          documentFields(customPath, customs.get(i).getDocumentDataFieldName(),
+              customs.get(i).getDocumentTitleFieldName(), customs.get(i).getFieldMappings());
+        }
+      }
+    }
+
+    final SalesforceChatterFeedConfiguration chatterFeed = configuration.getChatterFeedConfiguration();
+    if (chatterFeed != null) {
+      final String chatterPath = path + ".ChatterFeedConfiguration";
+      documentFields(chatterPath, chatterFeed.getDocumentDataFieldName(), chatterFeed.getDocumentTitleFieldName(),
+          chatterFeed.getFieldMappings());
+      enums(chatterPath + ".IncludeFilterTypes", chatterFeed.getIncludeFilterTypes(), 1, 2,
+          SALESFORCE_CHATTER_FEED_INCLUDE_FILTER_TYPES);
+    }
+    inclusionsExclusions(path + ".IncludeAttachmentFilePatterns", configuration.getIncludeAttachmentFilePatterns());
+    inclusionsExclusions(path + ".ExcludeAttachmentFilePatterns", configuration.getExcludeAttachmentFilePatterns());
+  }
+
+  private void oneDrive(final String path, final OneDriveConfiguration configuration) {
+    required(path + ".TenantDomain", configuration.getTenantDomain());
+    string(path + ".TenantDomain", configuration.getTenantDomain(), 1, 256, TENANT_DOMAIN);
+    secretArn(path + ".SecretArn", configuration.getSecretArn());
+    final OneDriveUsers users = configuration.getOneDriveUsers();
+    required(path + ".OneDriveUsers", users);
+    if (users != null) {
+      if ((users.getOneDriveUserList() == null) == (users.getOneDriveUserS3Path() == null)) {
+        violations.add(path + ".OneDriveUsers must set exactly one of OneDriveUserList and OneDriveUserS3Path");
+      }
+      strings(path + ".OneDriveUsers.OneDriveUserList", users.getOneDriveUserList(), 1, 100, 1, 256, ONE_DRIVE_USER);
+      s3Path(path + ".OneDriveUsers.OneDriveUserS3Path", users.getOneDriveUserS3Path());
+    }
+    inclusionsExclusions(path + ".InclusionPatterns", configuration.getInclusionPatterns());
+    inclusionsExclusions(path + ".ExclusionPatterns", configuration.getExclusionPatterns());
+    fieldMappings(path + ".FieldMappings", configuration.getFieldMappings());
+  }
+
+  private void serviceNow(final String path, final ServiceNowConfiguration configuration) {
+    required(path + ".HostUrl", configuration.getHostUrl());
+    string(path + ".HostUrl", configuration.getHostUrl(), 1, 2048, SERVICE_NOW_HOST_URL);
+    secretArn(path + ".SecretArn", configuration.getSecretArn());
+    required(path + ".ServiceNowBuildVersion", configuration.getServiceNowBuildVersion());
+    oneOf(path + ".ServiceNowBuildVersion", configuration.getServiceNowBuildVersion(), SERVICE_NOW_BUILD_VERSIONS);
+    oneOf(path + ".AuthenticationType", configuration.getAuthenticationType(), SERVICE_NOW_AUTHENTICATION_TYPES);
+
+    final ServiceNowKnowledgeArticleConfiguration knowledgeArticles = configuration.getKnowledgeArticleConfiguration();
+    if (knowledgeArticles != null) {
+      final String articlesPath = path + ".KnowledgeArticleConfiguration";
+      documentFields(articlesPath, knowledgeArticles.getDocumentDataFieldName(),
+          knowledgeArticles.getDocumentTitleFieldName(), knowledgeArticles.getFieldMappings());
+      inclusionsExclusions(articlesPath + ".IncludeAttachmentFilePatterns",
+          knowledgeArticles.getIncludeAttachmentFilePatterns());
+      inclusionsExclusions(articlesPath + ".ExcludeAttachmentFilePatterns",
+          knowledgeArticles.getExcludeAttachmentFilePatterns());
+      string(articlesPath + ".FilterQuery", knowledgeArticles.getFilterQuery(), 1, 2048);
+    }
+    final ServiceNowServiceCatalogConfiguration serviceCatalog = configuration.getServiceCatalogConfiguration();
+    if (serviceCatalog != null) {
+      final String catalogPath = path + ".ServiceCatalogConfiguration";
+      documentFields(catalogPath, serviceCatalog.getDocumentDataFieldName(), serviceCatalog.getDocumentTitleFieldName(),
+          serviceCatalog.getFieldMappings());
+      inclusionsExclusions(catalogPath + ".IncludeAttachmentFilePatterns",
+          serviceCatalog.getIncludeAttachmentFilePatterns());
+      inclusionsExclusions(catalogPath + ".ExcludeAttachmentFilePatterns",
+          serviceCatalog.getExcludeAttachmentFilePatterns());
+    }
+  }
+
+  private void database(final String path, final DatabaseConfiguration configuration) {
+    required(path + ".DatabaseEngineType", configuration.getDatabaseEngineType());
+    oneOf(path + ".DatabaseEngineType", configuration.getDatabaseEngineType(), DATABASE_ENGINE_TYPES);
+
+    final ConnectionConfiguration connection = configuration.getConnectionConfiguration();
+    required(path + ".ConnectionConfiguration", connection);
+    if (connection != null) {
+      final String connectionPath = path + ".ConnectionConfiguration";
+      required(connectionPath + ".DatabaseHost", connection.getDatabaseHost());
+      string(connectionPath + ".DatabaseHost", connection.getDatabaseHost(), 1, 253);
+      required(connectionPath + ".DatabasePort", connection.getDatabasePort());
+      range(connectionPath + ".DatabasePort", connection.getDatabasePort(), 1, 65535);
+      required(connectionPath + ".DatabaseName", connection.getDatabaseName());
+      string(connectionPath + ".DatabaseName", connection.getDatabaseName(), 1, 100);
+      required(connectionPath + ".TableName", connection.getTableName());
+      string(connectionPath + ".TableName", connection.getTableName(), 1, 100);
+      secretArn(connectionPath + ".SecretArn", connection.getSecretArn());
+    }
+    vpc(path + ".VpcConfiguration", configuration.getVpcConfiguration());
+
+    final ColumnConfiguration columns = configuration.getColumnConfiguration();
+    required(path + ".ColumnConfiguration", columns);
+    if (columns != null) {
+      final String columnsPath = path + ".ColumnConfiguration";
+      required(columnsPath + ".DocumentIdColumnName", columns.getDocumentIdColumnName());
+      string(columnsPath + ".DocumentIdColumnName", columns.getDocumentIdColumnName(), 1, 100);
+      required(columnsPath + ".DocumentDataColumnName", columns.getDocumentDataColumnName());
+      string(columnsPath + ".DocumentDataColumnName", columns.getDocumentDataColumnName(), 1, 100);
+      string(columnsPath + ".DocumentTitleColumnName", columns.getDocumentTitleColumnName(), 1, 100);
+      fieldMappings(columnsPath + ".FieldMappings", columns.getFieldMappings());
+      required(columnsPath + ".ChangeDetectingColumns", columns.getChangeDetectingColumns());
+      strings(columnsPath + ".ChangeDetectingColumns", columns.getChangeDetectingColumns(), 1, 5, 1, 100, null);
+    }
+    if (configuration.getAclConfiguration() != null) {
+      final String aclPath = path + ".AclConfiguration.AllowedGroupsColumnName";
+      required(aclPath, configuration.getAclConfiguration().getAllowedGroupsColumnName());
+      string(aclPath, configuration.getAclConfiguration().getAllowedGroupsColumnName(), 1, 100);
+    }
+    if (configuration.getSqlConfiguration() != null) {
+      oneOf(path + ".SqlConfiguration.QueryIdentifiersEnclosingOption",
+          configuration.getSqlConfiguration().getQueryIdentifiersEnclosingOption(), QUERY_IDENTIFIERS_ENCLOSING_OPTIONS);
+    }
+  }
+
+  private void confluence(final String path, final ConfluenceConfiguration configuration) {
+    required(path + ".ServerUrl", configuration.getServerUrl());
+    string(path + ".ServerUrl", configuration.getServerUrl(), 1, 2048, URL);
+    secretArn(path + ".SecretArn", configuration.getSecretArn());
+    required(path + ".Version", configuration.getVersion());
+    oneOf(path + ".Version", configuration.getVersion(), CONFLUENCE_VERSIONS);
+
+    final ConfluenceSpaceConfiguration spaces = configuration.getSpaceConfiguration();
+    if (spaces != null) {
+      final String spacesPath = path + ".SpaceConfiguration";
+      strings(spacesPath + ".IncludeSpaces", spaces.getIncludeSpaces(), 1, Integer.MAX_VALUE, 1, 255, null);
+      strings(spacesPath + ".ExcludeSpaces", spaces.getExcludeSpaces(), 1, Integer.MAX_VALUE, 1, 255, null);
+      final List<ConfluenceSpaceToIndexFieldMapping> mappings = spaces.getSpaceFieldMappings();
+      if (size(spacesPath + ".SpaceFieldMappings", mappings, 1, 4)) {
+        for (int i = 0; i < mappings.size(); i++) {
+          confluenceFieldMapping(spacesPath + ".SpaceFieldMappings[" + i + "]", mappings.get(i).getDataSourceFieldName(),
+              mappings.get(i).getDateFieldFormat(), mappings.get(i).getIndexFieldName(), CONFLUENCE_SPACE_FIELD_NAMES);
+        }
+      }
+    }
+    if (configuration.getPageConfiguration() != null) {
+      final List<ConfluencePageToIndexFieldMapping> mappings = configuration.getPageConfiguration().getPageFieldMappings();
+      final String mappingsPath = path + ".PageConfiguration.PageFieldMappings";
+      if (size(mappingsPath, mappings, 1, 12)) {
+        for (int i = 0; i < mappings.size(); i++) {
+          confluenceFieldMapping(mappingsPath + "[" + i + "]", mappings.get(i).getDataSourceFieldName(),
+              mappings.get(i).getDateFieldFormat(), mappings.get(i).getIndexFieldName(), CONFLUENCE_PAGE_FIELD_NAMES);
+        }
+      }
+    }
+    if (configuration.getBlogConfiguration() != null) {
+      final List<ConfluenceBlogToIndexFieldMapping> mappings = configuration.getBlogConfiguration().getBlogFieldMappings();
+      final String mappingsPath = path + ".BlogConfiguration.BlogFieldMappings";
+      if (size(mappingsPath, mappings, 1, 9)) {
+        for (int i = 0; i < mappings.size(); i++) {
+          confluenceFieldMapping(mappingsPath + "[" + i + "]", mappings.get(i).getDataSourceFieldName(),
+              mappings.get(i).getDateFieldFormat(), mappings.get(i).getIndexFieldName(), CONFLUENCE_BLOG_FIELD_NAMES);
+        }
+      }
+    }
+    if (configuration.getAttachmentConfiguration() != null) {
+      final List<ConfluenceAttachmentToIndexFieldMapping> mappings =
+          configuration.getAttachmentConfiguration().getAttachmentFieldMappings();
+      final String mappingsPath = path + ".AttachmentConfiguration.AttachmentFieldMappings";
+      if (size(mappingsPath, mappings, 1, 11)) {
+        for (int i = 0; i < mappings.size(); i++) {
+          confluenceFieldMapping(mappingsPath + "[" + i + "]", mappings.get(i).getDataSourceFieldName(),
+              mappings.get(i).getDateFieldFormat(), mappings.get(i).getIndexFieldName(),
+              CONFLUENCE_ATTACHMENT_FIELD_NAMES);
+        }
+      }
+    }
+    vpc(path + ".VpcConfiguration", configuration.getVpcConfiguration());
+    inclusionsExclusions(path + ".InclusionPatterns", configuration.getInclusionPatterns());
+    inclusionsExclusions(path + ".ExclusionPatterns", configuration.getExclusionPatterns());
+  }
+
+  private void googleDrive(final String path, final GoogleDriveConfiguration configuration) {
+    secretArn(path + ".SecretArn", configuration.getSecretArn());
+    inclusionsExclusions(path + ".InclusionPatterns", configuration.getInclusionPatterns());
+    inclusionsExclusions(path + ".ExclusionPatterns", configuration.getExclusionPatterns());
+    fieldMappings(path + ".FieldMappings", configuration.getFieldMappings());
+    strings(path + ".ExcludeMimeTypes", configuration.getExcludeMimeTypes(), 0, 30, 1, 256, null);
+    strings(path + ".ExcludeUserAccounts", configuration.getExcludeUserAccounts(), 0, 100, 1, 256, null);
+    strings(path + ".ExcludeSharedDrives", configuration.getExcludeSharedDrives(), 0, 100, 1, 256, null);
+  }
+
+  private void webCrawler(final String path, final WebCrawlerConfiguration configuration) {
+    final WebCrawlerUrls urls = configuration.getUrls();
+    required(path + ".Urls", urls);
+    if (urls != null) {
+      final WebCrawlerSeedUrlConfiguration seedUrls = urls.getSeedUrlConfiguration();
+      final WebCrawlerSiteMapsConfiguration siteMaps = urls.getSiteMapsConfiguration();
+      if ((seedUrls == null) == (siteMaps == null)) {
+        violations.add(path + ".Urls must set exactly one of SeedUrlConfiguration and SiteMapsConfiguration");
+      }
+      if (seedUrls != null) {
+        required(path + ".Urls.SeedUrlConfiguration.SeedUrls", seedUrls.getSeedUrls());
+        strings(path + ".Urls.SeedUrlConfiguration.SeedUrls", seedUrls.getSeedUrls(), 0, 100, 1, 2048, HTTP_URL);
+        oneOf(path + ".Urls.SeedUrlConfiguration.WebCrawlerMode", seedUrls.getWebCrawlerMode(), WEB_CRAWLER_MODES);
+      }
+      if (siteMaps != null) {
+        required(path + ".Urls.SiteMapsConfiguration.SiteMaps", siteMaps.getSiteMaps());
+        strings(path + ".Urls.SiteMapsConfiguration.SiteMaps", siteMaps.getSiteMaps(), 0, 3, 1, 2048, HTTP_URL);
+      }
+    }
+    range(path + ".CrawlDepth", configuration.getCrawlDepth(), 1, 10);
+    range(path + ".MaxLinksPerPage", configuration.getMaxLinksPerPage(), 1, 1000);
+    range(path + ".MaxContentSizePerPageInMegaBytes", configuration.getMaxContentSizePerPageInMegaBytes(), 0, 50);
+    range(path + ".MaxUrlsPerMinuteCrawlRate", configuration.getMaxUrlsPerMinuteCrawlRate(), 1, 300);
+    inclusionsExclusions(path + ".UrlInclusionPatterns", configuration.getUrlInclusionPatterns());
+    inclusionsExclusions(path + ".UrlExclusionPatterns", configuration.getUrlExclusionPatterns());
+
+    final ProxyConfiguration proxy = configuration.getProxyConfiguration();
+    if (proxy != null) {
+      hostAndPort(path + ".ProxyConfiguration", proxy.getHost(), proxy.getPort());
+      string(path + ".ProxyConfiguration.Credentials", proxy.getCredentials(), 1, 1284, ARN);
+    }
+    if (configuration.getAuthenticationConfiguration() != null) {
+      final List<WebCrawlerBasicAuthentication> authentications =
+          configuration.getAuthenticationConfiguration().getBasicAuthentication();
+      final String authenticationsPath = path + ".AuthenticationConfiguration.BasicAuthentication";
+      if (size(authenticationsPath, authentications, 0, 10)) {
+        for (int i = 0; i < authentications.size(); i++) {
+          final String authenticationPath = authenticationsPath + "[" + i + "]";
+          hostAndPort(authenticationPath, authentications.get(i).getHost(), authentications.get(i).getPort());
+          secretArn(authenticationPath + ".Credentials", authentications.get(i).getCredentials());
+        }
+      }
+    }
+  }
+
+  private void workDocs(final String path, final WorkDocsConfiguration configuration) {
+    required(path + ".OrganizationId", configuration.getOrganizationId());
+    string(path + ".OrganizationId", configuration.getOrganizationId(), 12, 12, ORGANIZATION_ID);
+    inclusionsExclusions(path + ".InclusionPatterns", configuration.getInclusionPatterns());
+    inclusionsExclusions(path + ".ExclusionPatterns", configuration.getExclusionPatterns());
+    fieldMappings(path + ".FieldMappings", configuration.getFieldMappings());
+  }
+
+  private void customDocumentEnrichment(final String path, final CustomDocumentEnrichmentConfiguration configuration) {
+    if (configuration == null) {
+      return;
+    }
+    final List<InlineCustomDocumentEnrichmentConfiguration> inlines = configuration.getInlineConfigurations();
+    if (size(path + ".InlineConfigurations", inlines, 0, 100)) {
+      for (int i = 0; i < inlines.size(); i++) {
+        final String inlinePath = path + ".InlineConfigurations[" + i + "]";
+        condition(inlinePath + ".Condition", inlines.get(i).getCondition());
+        target(inlinePath + ".Target", inlines.get(i).getTarget());
+      }
+    }
+    hook(path + ".PreExtractionHookConfiguration", configuration.getPreExtractionHookConfiguration());
+    hook(path + ".PostExtractionHookConfiguration", configuration.getPostExtractionHookConfiguration());
+    string(path + ".RoleArn", configuration.getRoleArn(), 1, 1284, ARN);
+  }
+
+  private void condition(final String path, final DocumentAttributeCondition condition) {
+    if (condition == null) {
+      return;
+    }
+    required(path + ".ConditionDocumentAttributeKey", condition.getConditionDocumentAttributeKey());
+    string(path + ".ConditionDocumentAttributeKey", condition.getConditionDocumentAttributeKey(), 1, 200,
+        DOCUMENT_ATTRIBUTE_KEY);
+    final String operator = condition.getOperator();
+    required(path + ".Operator", operator);
+    if (!oneOf(path + ".Operator", operator, CONDITION_OPERATORS) || operator == null) {
+      return;
+    }
+
+    final DocumentAttributeValue value = condition.getConditionOnValue();
+    if (PRESENCE_OPERATORS.contains(operator)) {
+      return;
+    }
+    if (value == null) {
+      violations.add(path + ".ConditionOnValue is required with operator " + operator);
+      return;
+    }
+    if (!documentAttributeValue(path + ".ConditionOnValue", value)) {
+      return;
+    }
+    if (ORDER_OPERATORS.contains(operator) && value.getLongValue() == null && value.getDateValue() == null) {
+      violations.add(path + ".ConditionOnValue must be a LongValue or a DateValue with operator " + operator);
+    } else if (CONTAINS_OPERATORS.contains(operator) && value.getStringValue() == null
+        && value.getStringListValue() == null) {
+      violations.add(path + ".ConditionOnValue must be a StringValue or a StringListValue with operator " + operator);
+    } else if ("BeginsWith".equals(operator) && value.getStringValue() == null) {
+      violations.add(path + ".ConditionOnValue must be a StringValue with operator " + operator);
+    }
+  }
+
+  private void target(final String path, final DocumentAttributeTarget target) {
+    if (target == null) {
+      return;
+    }
+    required(path + ".TargetDocumentAttributeKey", target.getTargetDocumentAttributeKey());
+    string(path + ".TargetDocumentAttributeKey", target.getTargetDocumentAttributeKey(), 1, 200,
+        DOCUMENT_ATTRIBUTE_KEY);
+    if (Boolean.TRUE.equals(target.getTargetDocumentAttributeValueDeletion())
+        && target.getTargetDocumentAttributeValue() != null) {
+      violations.add(path + " must not set TargetDocumentAttributeValue when TargetDocumentAttributeValueDeletion is true");
+    } else if (target.getTargetDocumentAttributeValue() != null) {
+      documentAttributeValue(path + ".TargetDocumentAttributeValue", target.getTargetDocumentAttributeValue());
+    }
+  }
+
+  private void hook(final String path, final HookConfiguration hook) {
+    if (hook == null) {
+      return;
+    }
+    condition(path + ".InvocationCondition", hook.getInvocationCondition());
+    required(path + ".LambdaArn", hook.getLambdaArn());
+    string(path + ".LambdaArn", hook.getLambdaArn(), 1, 2048);
+    required(path + ".S3Bucket", hook.getS3Bucket());
+    string(path + ".S3Bucket", hook.getS3Bucket(), 3, 63, S3_BUCKET_NAME);
+  }
+
+  /**
+   * A document attribute value is a union, exactly one of its members has to be set.
+   */
+  private boolean documentAttributeValue(final String path, final DocumentAttributeValue value) {
+    int set = 0;
+    set += value.getStringValue() != null ? 1 : 0;
+    set += value.getStringListValue() != null ? 1 : 0;
+    set += value.getLongValue() != null ? 1 : 0;
+    set += value.getDateValue() != null ? 1 : 0;
+    if (set != 1) {
+      violations.add(path + " must set exactly one of StringValue, StringListValue, LongValue and DateValue");
+      return false;
+    }
+    return string(path + ".StringValue", value.getStringValue(), 1, 2048);
+  }
+
+  private void documentFields(final String path, final String dataFieldName, final String titleFieldName,
+                              final List<DataSourceToIndexFieldMapping> fieldMappings) {
+    required(path + ".DocumentDataFieldName", dataFieldName);
+    string(path + ".DocumentDataFieldName", dataFieldName, 1, 100);
+    string(path + ".DocumentTitleFieldName", titleFieldName, 1, 100);
+    fieldMappings(path + ".FieldMappings", fieldMappings);
+  }
+
+  private void fieldMappings(final String path, final List<DataSourceToIndexFieldMapping> fieldMappings) {
+    if (!size(path, fieldMappings, 0, 100)) {
+      return;
+    }
+    for (int i = 0; i < fieldMappings.size(); i++) {
+      final String mappingPath = path + "[" + i + "]";
+      final DataSourceToIndexFieldMapping fieldMapping = fieldMappings.get(i);
+      required(mappingPath + ".DataSourceFieldName", fieldMapping.getDataSourceFieldName());
+      string(mappingPath + ".DataSourceFieldName", fieldMapping.getDataSourceFieldName(), 1, 100);
+      string(mappingPath + ".DateFieldFormat", fieldMapping.getDateFieldFormat(), 4, 40);
+      required(mappingPath + ".IndexFieldName", fieldMapping.getIndexFieldName());
+      string(mappingPath + ".IndexFieldName", fieldMapping.getIndexFieldName(), 1, 30);
+    }
+  }
+
+  private void confluenceFieldMapping(final String path, final String dataSourceFieldName, final String dateFieldFormat,
+                                      final String indexFieldName, final Set<String> dataSourceFieldNames) {
+    required(path + ".DataSourceFieldName", dataSourceFieldName);
+    oneOf(path + ".DataSourceFieldName", dataSourceFieldName, dataSourceFieldNames);
+    string(path + ".DateFieldFormat", dateFieldFormat, 4, 40);
+    required(path + ".IndexFieldName", indexFieldName);
+    string(path + ".IndexFieldName", indexFieldName, 1, 30);
+  }
+
+  /**
+   * Kendra wants at least one subnet and one security group, within the limits of the schema.
+   */
+  private void vpc(final String path, final DataSourceVpcConfiguration vpc) {
+    if (vpc == null) {
+      return;
+    }
+    required(path + ".SubnetIds", vpc.getSubnetIds());
+    strings(path + ".SubnetIds", vpc.getSubnetIds(), 1, 6, 1, 200, VPC_ID);
+    required(path + ".SecurityGroupIds", vpc.getSecurityGroupIds());
+    strings(path + ".SecurityGroupIds", vpc.getSecurityGroupIds(), 1, 10, 1, 200, VPC_ID);
+  }
+
+  private void s3Path(final String path, final S3Path s3Path) {
+    if (s3Path == null) {
+      return;
+    }
+    required(path + ".Bucket", s3Path.getBucket());
+    string(path + ".Bucket", s3Path.getBucket(), 3, 63, S3_BUCKET_NAME);
+    required(path + ".Key", s3Path.getKey());
+    string(path + ".Key", s3Path.getKey(), 1, 1024);
+  }
+
+  private void hostAndPort(final String path, final String host, final Integer port) {
+    required(path + ".Host", host);
+    string(path + ".Host", host, 1, 253, HOST);
+    required(path + ".Port", port);
+    range(path + ".Port", port, 1, 65535);
+  }
+
+  private void secretArn(final String path, final String secretArn) {
+    required(path, secretArn);
+    string(path, secretArn, 1, 1284, ARN);
+  }
+
+  private void inclusionsExclusions(final String path, final List<String> patterns) {
+    strings(path, patterns, 0, 100, 1, 50, null);
+  }
+
+  private void required(final String path, final Object value) {
+    if (value == null) {
+      violations.add(path + " is required");
+    }
+  }
+
+  private boolean string(final String path, final String value, final int minLength, final int maxLength) {
+    return string(path, value, minLength, maxLength, null);
+  }
+
+  /**
+   * Checks a string that is set, a missing one is left to {@link #required}.
+   */
+  private boolean string(final String path, final String value, final int minLength, final int maxLength,
+                         final Pattern pattern) {
+    if (value == null) {
+      return true;
+    }
+    if (value.length() < minLength || value.length() > maxLength) {
+      violations.add(minLength == maxLength
+          ? String.format("%s must be %d characters long", path, minLength)
+          : String.format("%s must be between %d and %d characters long", path, minLength, maxLength));
+      return false;
+    }
+    if (pattern != null && !pattern.matcher(value).matches()) {
+      violations.add(String.format("%s must match %s", path, pattern.pattern()));
+      return false;
+    }
+    return true;
+  }
+
+  private boolean oneOf(final String path, final String value, final Set<String> values) {
+    if (value == null || values.contains(value)) {
+      return true;
+    }
+    violations.add(String.format("%s must be one of %s, was %s", path, values, value));
+    return false;
+  }
+
+  private void range(final String path, final Number value, final long minimum, final long maximum) {
+    if (value != null && (value.doubleValue() < minimum || value.doubleValue() > maximum)) {
+      violations.add(String.format("%s must be between %d and %d", path, minimum, maximum));
+    }
+  }
+
+  /**
+   * @return whether the list is set and within bounds, so its items can be checked
+   */
+  private boolean size(final String path, final List<?> list, final int minItems, final int maxItems) {
+    if (list == null) {
+      return false;
+    }
+    if (list.size() < minItems || list.size() > maxItems) {
+      violations.add(maxItems == Integer.MAX_VALUE
+          ? String.format("%s must have at least %d items", path, minItems)
+          : String.format("%s must have between %d and %d items", path, minItems, maxItems));
+      return false;
+    }
+    return true;
+  }
+
+  private void strings(final String path, final List<String> values, final int minItems, final int maxItems,
+                       final int minLength, final int maxLength, final Pattern pattern) {
+    if (!size(path, values, minItems, maxItems)) {
+      return;
+    }
+    for (int i = 0; i < values.size(); i++) {
+      final String itemPath = path + "[" + i + "]";
+      required(itemPath, values.get(i));
+      string(itemPath, values.get(i), minLength, maxLength, pattern);
+    }
+  }
+
+  private void enums(final String path, final List<String> values, final int minItems, final int maxItems,
+                     final Set<String> allowed) {
+    if (!size(path, values, minItems, maxItems)) {
+      return;
+    }
+    for (int i = 0; i < values.size(); i++) {
+      required(path + "[" + i + "]", values.get(i));
+      oneOf(path + "[" + i + "]", values.get(i), allowed);
+    }
+  }
+}
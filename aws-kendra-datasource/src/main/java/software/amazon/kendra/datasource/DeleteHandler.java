@@ -1,56 +1,42 @@
 package software.amazon.kendra.datasource;
 
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.kendra.KendraClient;
-import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
-import software.amazon.awssdk.services.kendra.model.ConflictException;
 import software.amazon.awssdk.services.kendra.model.DeleteDataSourceRequest;
 import software.amazon.awssdk.services.kendra.model.DeleteDataSourceResponse;
 import software.amazon.awssdk.services.kendra.model.DescribeDataSourceRequest;
+import software.amazon.awssdk.services.kendra.model.DescribeDataSourceResponse;
 import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.kendra.model.ThrottlingException;
-import software.amazon.awssdk.services.kendra.model.ValidationException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 
-import java.time.Duration;
+import java.util.function.BiFunction;
 
 import static software.amazon.kendra.datasource.ApiName.DELETE_DATASOURCE;
+import static software.amazon.kendra.datasource.ApiName.DESCRIBE_DATASOURCE;
 
 public class DeleteHandler extends BaseHandlerStd {
 
-    private static final Constant STABILIZATION_DELAY = Constant.of()
-            // Set the timeout to something silly/way too high, because
-            // we already set the timeout in the schema https://github.com/aws-cloudformation/aws-cloudformation-resource-schema
-            .timeout(Duration.ofDays(365L))
-            // Set the delay to five minutes so the stabilization code only calls
-            // DescribeDataSource every five minutes - delete can take hours
-            .delay(Duration.ofMinutes(5))
-            .build();
-
     private Logger logger;
 
-    private final Delay delay;
+    private final BiFunction<ResourceModel, CallbackContext, Delay> delayProvider;
 
     public DeleteHandler() {
         super();
-        delay = STABILIZATION_DELAY;
+        delayProvider = (model, context) -> StabilizationDelays.forDataSource(DELETE_DATASOURCE, context);
     }
 
     public DeleteHandler(Delay delay) {
         super();
-        this.delay = delay;
+        this.delayProvider = (model, context) -> delay;
+    }
+
+    @Override
+    protected boolean changesResource() {
+        return true;
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -66,21 +52,21 @@ public class DeleteHandler extends BaseHandlerStd {
 
         return ProgressEvent.progress(model, callbackContext)
                 // STEP 2.0 [delete/stabilize progress chain - required for resource deletion]
-                .then(progress ->
+                .then(phase("Delete", progress ->
                         // If your service API throws 'ResourceNotFoundException' for delete requests then DeleteHandler can return just proxy.initiate construction
                         // STEP 2.0 [initialize a proxy context]
                         proxy.initiate("AWS-Kendra-DataSource::Delete", proxyClient, model, callbackContext)
 
                                 // STEP 2.1 [construct a body of a request]
                                 .translateToServiceRequest(Translator::translateToDeleteRequest)
-                                .backoffDelay(delay)
+                                .backoffDelay(delayProvider.apply(model, callbackContext))
                                 // STEP 2.2 [ make an api call]
                                 .makeServiceCall(this::deleteDataSource)
 
                                 // STEP 2.3 [stabilize step is not necessarily required but typically involves describing the resource until it is in a certain status, though it can take many forms]
                                 // for more information -> https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
                                 .stabilize(this::stabilizedOnDelete)
-                                .done(this::setResourceModelToNullAndReturnSuccess));
+                                .done(this::setResourceModelToNullAndReturnSuccess)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> setResourceModelToNullAndReturnSuccess(
@@ -103,29 +89,9 @@ public class DeleteHandler extends BaseHandlerStd {
     private DeleteDataSourceResponse deleteDataSource(
             final DeleteDataSourceRequest deleteDataSourceRequest,
             final ProxyClient<KendraClient> proxyClient) {
-        DeleteDataSourceResponse deleteDataSourceResponse;
-        try {
-            deleteDataSourceResponse = proxyClient.injectCredentialsAndInvokeV2(
-                    deleteDataSourceRequest, proxyClient.client()::deleteDataSource);
-        } catch (final ResourceNotFoundException e) {
-            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, deleteDataSourceRequest.id(), e);
-        } catch (ConflictException e) {
-            throw new CfnResourceConflictException(e);
-        } catch (AccessDeniedException e) {
-            throw new CfnAccessDeniedException(DELETE_DATASOURCE, e);
-        } catch (ValidationException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (ThrottlingException e) {
-            throw new CfnThrottlingException(DELETE_DATASOURCE, e);
-        } catch (final AwsServiceException e) {
-            /*
-             * While the handler contract states that the handler must always return a progress event,
-             * you may throw any instance of BaseHandlerException, as the wrapper map it to a progress event.
-             * Each BaseHandlerException maps to a specific error code, and you should map service exceptions as closely as possible
-             * to more specific error codes
-             */
-            throw new CfnGeneralServiceException(DELETE_DATASOURCE, e);
-        }
+        final DeleteDataSourceResponse deleteDataSourceResponse = serviceErrors.call(DELETE_DATASOURCE,
+                deleteDataSourceRequest.id(), () -> proxyClient.injectCredentialsAndInvokeV2(
+                        deleteDataSourceRequest, proxyClient.client()::deleteDataSource));
 
         logger.log(String.format("%s successfully deleted.", ResourceModel.TYPE_NAME));
         return deleteDataSourceResponse;
@@ -155,9 +121,14 @@ public class DeleteHandler extends BaseHandlerStd {
 
         boolean stabilized;
         try {
-            proxyClient.injectCredentialsAndInvokeV2(describeDataSourceRequest, proxyClient.client()::describeDataSource);
+            final DescribeDataSourceResponse describeDataSourceResponse = HandlerEvents.stabilizationPoll(DESCRIBE_DATASOURCE,
+                model.getId(),
+                () -> proxyClient.injectCredentialsAndInvokeV2(describeDataSourceRequest, proxyClient.client()::describeDataSource),
+                DescribeDataSourceResponse::statusAsString);
+            recordStatus(callbackContext, describeDataSourceResponse.statusAsString(), model, logger);
             stabilized = false;
         } catch (ResourceNotFoundException e) {
+            recordStatus(callbackContext, StabilizationPredictor.DELETED, model, logger);
             stabilized = true;
         }
         logger.log(String.format("%s [%s] deletion has stabilized: %s",
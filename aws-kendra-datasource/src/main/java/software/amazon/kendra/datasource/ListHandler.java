@@ -2,19 +2,11 @@ package software.amazon.kendra.datasource;
 
 import static software.amazon.kendra.datasource.ApiName.LIST_DATA_SOURCES;
 
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import java.util.List;
+
 import software.amazon.awssdk.services.kendra.KendraClient;
-import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
 import software.amazon.awssdk.services.kendra.model.ListDataSourcesRequest;
 import software.amazon.awssdk.services.kendra.model.ListDataSourcesResponse;
-import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.kendra.model.ThrottlingException;
-import software.amazon.awssdk.services.kendra.model.ValidationException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -24,6 +16,36 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ListHandler extends BaseHandlerStd {
 
+    // Lives as long as the Lambda container, so a caller walking the pages picks up the page read ahead for it
+    private static final ListPages<ListDataSourcesResponse> PAGES = new ListPages<>(ListPages.readAheadFromEnvironment());
+
+    private final boolean hydrate;
+
+    private final DataSourceArnBuilder dataSourceArnBuilder;
+
+    private final ListPages<ListDataSourcesResponse> pages;
+
+    private final int pageSize;
+
+    public ListHandler() {
+        this(HydratedList.enabledByEnvironment(), new DataSourceArn());
+    }
+
+    /**
+     * @param hydrate whether to read every listed data source and return complete models instead of identifiers
+     */
+    public ListHandler(boolean hydrate, DataSourceArnBuilder dataSourceArnBuilder) {
+        this(hydrate, dataSourceArnBuilder, PAGES, ListPages.pageSizeFromEnvironment());
+    }
+
+    ListHandler(boolean hydrate, DataSourceArnBuilder dataSourceArnBuilder, ListPages<ListDataSourcesResponse> pages,
+                int pageSize) {
+        this.hydrate = hydrate;
+        this.dataSourceArnBuilder = dataSourceArnBuilder;
+        this.pages = pages;
+        this.pageSize = pageSize;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -34,35 +56,58 @@ public class ListHandler extends BaseHandlerStd {
 
         final String indexId = request.getDesiredResourceState().getIndexId();
 
-        final ListDataSourcesRequest listDataSourcesRequest = Translator.translateToListRequest(
-            indexId,request.getNextToken());
+        final String scope = String.join("/", request.getAwsAccountId(), request.getRegion(), indexId);
+        return pages.list(scope, request.getNextToken(),
+            token -> listDataSources(Translator.translateToListRequest(indexId, token, pageSize), proxyClient),
+            ListDataSourcesResponse::nextToken,
+            listDataSourcesResponse -> toProgress(proxy, request, listDataSourcesResponse, proxyClient, logger));
+    }
 
-        ListDataSourcesResponse listDataSourcesResponse = listDataSources(listDataSourcesRequest, proxyClient);
+    private ProgressEvent<ResourceModel, CallbackContext> toProgress(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ListDataSourcesResponse listDataSourcesResponse,
+        final ProxyClient<KendraClient> proxyClient,
+        final Logger logger) {
+        final String indexId = request.getDesiredResourceState().getIndexId();
 
         String nextToken = listDataSourcesResponse.nextToken();
 
+        List<ResourceModel> resourceModels = Translator.translateFromListResponse(listDataSourcesResponse, indexId);
+        if (hydrate) {
+            resourceModels = HydratedList.hydrate(resourceModels, model -> read(proxy, request, model, proxyClient, logger));
+        }
+
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .resourceModels(Translator.translateFromListResponse(listDataSourcesResponse, indexId))
+            .resourceModels(resourceModels)
             .nextToken(nextToken)
             .status(OperationStatus.SUCCESS)
             .build();
     }
 
+    private ResourceModel read(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ResourceModel model,
+        final ProxyClient<KendraClient> proxyClient,
+        final Logger logger) {
+        // The reads run concurrently, each gets its own handler and context
+        final ReadHandler readHandler = new ReadHandler(dataSourceArnBuilder);
+        readHandler.serviceErrors = serviceErrors;
+        final ResourceHandlerRequest<ResourceModel> readRequest = ResourceHandlerRequest.<ResourceModel>builder()
+            .awsPartition(request.getAwsPartition())
+            .region(request.getRegion())
+            .awsAccountId(request.getAwsAccountId())
+            .desiredResourceState(model)
+            .build();
+        return readHandler.handleRequest(proxy, readRequest, new CallbackContext(), proxyClient, logger).getResourceModel();
+    }
+
     private ListDataSourcesResponse listDataSources(
         ListDataSourcesRequest request,
         ProxyClient<KendraClient> proxyClient) {
-        try {
-            return proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::listDataSources);
-        } catch (ValidationException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
-        } catch (AccessDeniedException e) {
-            throw new CfnAccessDeniedException(LIST_DATA_SOURCES, e);
-        } catch (ThrottlingException e) {
-            throw new CfnThrottlingException(LIST_DATA_SOURCES, e);
-        } catch (final AwsServiceException e) {
-            throw new CfnGeneralServiceException(LIST_DATA_SOURCES, e);
-        }
+        // A missing index is reported without an identifier
+        return serviceErrors.call(LIST_DATA_SOURCES, null, () ->
+            proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::listDataSources));
     }
 }
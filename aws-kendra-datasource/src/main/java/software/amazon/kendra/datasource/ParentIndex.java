@@ -0,0 +1,77 @@
+package software.amazon.kendra.datasource;
+
+import java.util.Set;
+import java.util.function.Function;
+
+import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexRequest;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexResponse;
+import software.amazon.awssdk.services.kendra.model.IndexStatus;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import static software.amazon.kendra.datasource.ApiName.DESCRIBE_INDEX;
+
+/**
+ * Holds a data source mutation back until its index can take it.
+ *
+ * Kendra rejects CreateDataSource and UpdateDataSource with a ConflictException while the index is being created
+ * or updated, which is what happens when a stack changes an index together with its data sources. Rather than
+ * failing the operation, the handler polls DescribeIndex on a backoff schedule, returning IN_PROGRESS with a
+ * callback delay when the wait outlasts the invocation, and only makes its call once the index has settled. An
+ * index in any other status is left for the call itself to report.
+ */
+final class ParentIndex {
+
+  static final Set<String> BUSY = Set.of(
+      IndexStatus.CREATING.toString(),
+      IndexStatus.UPDATING.toString(),
+      IndexStatus.SYSTEM_UPDATING.toString());
+
+  private ParentIndex() {
+  }
+
+  static ProgressEvent<ResourceModel, CallbackContext> awaitReady(
+      final AmazonWebServicesClientProxy proxy,
+      final ProxyClient<KendraClient> proxyClient,
+      final ProgressEvent<ResourceModel, CallbackContext> progress,
+      final Delay delay,
+      final ServiceErrors serviceErrors,
+      final Logger logger) {
+    // The chain is replayed when the handler is re-invoked, by then the mutation has been made
+    if (progress.getCallbackContext().isIndexReady()) {
+      return progress;
+    }
+    return proxy.initiate("AWS-Kendra-DataSource::AwaitIndex", proxyClient, progress.getResourceModel(),
+            progress.getCallbackContext())
+        .translateToServiceRequest(Function.identity())
+        .backoffDelay(delay)
+        .makeServiceCall(CreateHandler.EMPTY_CALL)
+        .stabilize((resourceModel, response, proxyInvocation, model, callbackContext) ->
+            isReady(proxyInvocation, model, callbackContext, serviceErrors, logger))
+        .progress();
+  }
+
+  private static boolean isReady(
+      final ProxyClient<KendraClient> proxyClient,
+      final ResourceModel model,
+      final CallbackContext callbackContext,
+      final ServiceErrors serviceErrors,
+      final Logger logger) {
+    final DescribeIndexRequest describeIndexRequest = DescribeIndexRequest.builder().id(model.getIndexId()).build();
+    final DescribeIndexResponse describeIndexResponse = HandlerEvents.stabilizationPoll(DESCRIBE_INDEX, model.getId(),
+        () -> serviceErrors.call(DESCRIBE_INDEX, null, () ->
+            proxyClient.injectCredentialsAndInvokeV2(describeIndexRequest, proxyClient.client()::describeIndex)),
+        DescribeIndexResponse::statusAsString);
+    if (BUSY.contains(describeIndexResponse.statusAsString())) {
+      logger.log(String.format("Index [%s] is %s, waiting to change %s [%s]", model.getIndexId(),
+          describeIndexResponse.statusAsString(), ResourceModel.TYPE_NAME, model.getId()));
+      return false;
+    }
+    callbackContext.setIndexReady(true);
+    return true;
+  }
+}
@@ -1,15 +1,10 @@
 package software.amazon.kendra.datasource;
 
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.kendra.KendraClient;
 import software.amazon.awssdk.services.kendra.model.DescribeDataSourceRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeDataSourceResponse;
 import software.amazon.awssdk.services.kendra.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.kendra.model.ListTagsForResourceResponse;
-import software.amazon.awssdk.services.kendra.model.ResourceInUseException;
-import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -25,13 +20,27 @@ public class ReadHandler extends BaseHandlerStd {
 
     private DataSourceArnBuilder dataSourceArnBuilder;
 
+    // Only ever filled by the create and update chains, a standalone read always describes the data source.
+    private final ResponseCache<DescribeDataSourceResponse> describeDataSourceResponseCache;
+
     public ReadHandler() {
         super();
         this.dataSourceArnBuilder = new DataSourceArn();
+        this.describeDataSourceResponseCache = new ResponseCache<>();
     }
 
     public ReadHandler(DataSourceArnBuilder dataSourceArnBuilder) {
+        this(dataSourceArnBuilder, new ResponseCache<>());
+    }
+
+    /**
+     * @param describeDataSourceResponseCache the latest DescribeDataSource response seen by the calling handler,
+     *                                        reused instead of describing the data source again
+     */
+    public ReadHandler(DataSourceArnBuilder dataSourceArnBuilder,
+                       ResponseCache<DescribeDataSourceResponse> describeDataSourceResponseCache) {
         this.dataSourceArnBuilder = dataSourceArnBuilder;
+        this.describeDataSourceResponseCache = describeDataSourceResponseCache;
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -43,27 +52,30 @@ public class ReadHandler extends BaseHandlerStd {
 
         this.logger = logger;
         final ResourceModel model = request.getDesiredResourceState();
-        final DescribeDataSourceRequest describeDataSourceRequest = Translator.translateToReadRequest(model);
-        DescribeDataSourceResponse describeDataSourceResponse;
-        try {
-            describeDataSourceResponse = proxyClient.injectCredentialsAndInvokeV2(
-                describeDataSourceRequest, proxyClient.client()::describeDataSource);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, describeDataSourceRequest.id(), e);
-        } catch (final AwsServiceException e) {
-            throw new CfnGeneralServiceException(DESCRIBE_DATASOURCE, e);
-        }
         // STEP 4 [Add List Tags for DataSource]
-        String dataSourceArn = dataSourceArnBuilder.build(request);
+        // The ARN only depends on the request, so the tags are listed while the data source is described.
+        final String dataSourceArn = dataSourceArnBuilder.build(request);
+        return ConcurrentReads.both(
+            () -> describeDataSourceResponseCache.get()
+                .orElseGet(() -> describeDataSource(Translator.translateToReadRequest(model), proxyClient)),
+            () -> listTags(dataSourceArn, proxyClient),
+            (describeDataSourceResponse, listTagsForResourceResponse) ->
+                constructResourceModelFromResponse(describeDataSourceResponse, listTagsForResourceResponse, dataSourceArn));
+    }
+
+    private ListTagsForResourceResponse listTags(
+        final String dataSourceArn,
+        final ProxyClient<KendraClient> proxyClient) {
         final ListTagsForResourceRequest listTagsForResourceRequest = Translator.translateToListTagsRequest(dataSourceArn);
-        ListTagsForResourceResponse listTagsForResourceResponse;
-        try {
-            listTagsForResourceResponse = proxyClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest,
-                    proxyClient.client()::listTagsForResource);
-        } catch (ResourceInUseException e) {
-            throw new CfnGeneralServiceException(LIST_TAGS_FOR_RESOURCE, e);
-        }
-        return constructResourceModelFromResponse(describeDataSourceResponse, listTagsForResourceResponse, dataSourceArn);
+        return serviceErrors.call(LIST_TAGS_FOR_RESOURCE, dataSourceArn, () ->
+            proxyClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest, proxyClient.client()::listTagsForResource));
+    }
+
+    private DescribeDataSourceResponse describeDataSource(
+        final DescribeDataSourceRequest describeDataSourceRequest,
+        final ProxyClient<KendraClient> proxyClient) {
+        return serviceErrors.call(DESCRIBE_DATASOURCE, describeDataSourceRequest.id(), () ->
+            proxyClient.injectCredentialsAndInvokeV2(describeDataSourceRequest, proxyClient.client()::describeDataSource));
     }
 
     /**
@@ -0,0 +1,93 @@
+package software.amazon.kendra.datasource;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+
+/**
+ * Structural diff between the previous and the desired resource model, used to decide how much of an update
+ * has to run.
+ *
+ * Properties are compared the way the framework serializes them, so a property added to the schema is picked
+ * up without changes here and needs a full update until it is listed otherwise. Unset and empty values are
+ * treated the same and tags are compared regardless of order.
+ */
+final class ResourceModelDiff {
+
+  enum Change {
+    // Desired and previous state are the same
+    NONE,
+    // Only tags changed, TagResource/UntagResource apply them without touching the data source
+    TAGS_ONLY,
+    // Only the name or description changed, possibly with tags
+    METADATA_ONLY,
+    // Anything else, the data source may go through UPDATING
+    FULL
+  }
+
+  static final String TAGS = "Tags";
+
+  // Read only properties, a template never changes them
+  private static final Set<String> IGNORED = ImmutableSet.of("Id", "Arn");
+
+  private static final Set<String> METADATA = ImmutableSet.of("Name", "Description");
+
+  private static final ObjectMapper MAPPER = new ObjectMapper()
+      .setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+
+  private static final TypeReference<Map<String, Object>> PROPERTIES = new TypeReference<Map<String, Object>>() {
+  };
+
+  private ResourceModelDiff() {
+  }
+
+  /**
+   * @return the names of the properties that differ, in the schema's spelling
+   */
+  static Set<String> changedProperties(final ResourceModel previous, final ResourceModel desired) {
+    final Map<String, Object> before = properties(previous);
+    final Map<String, Object> after = properties(desired);
+    final Set<String> changed = new TreeSet<>();
+    for (final String name : Sets.union(before.keySet(), after.keySet())) {
+      if (!IGNORED.contains(name) && !Objects.equals(before.get(name), after.get(name))) {
+        changed.add(name);
+      }
+    }
+    return changed;
+  }
+
+  static Change classify(final ResourceModel previous, final ResourceModel desired) {
+    if (previous == null) {
+      // Nothing to compare against
+      return Change.FULL;
+    }
+    final Set<String> changed = changedProperties(previous, desired);
+    if (changed.isEmpty()) {
+      return Change.NONE;
+    }
+    final Set<String> untagged = Sets.difference(changed, Collections.singleton(TAGS));
+    if (untagged.isEmpty()) {
+      return Change.TAGS_ONLY;
+    }
+    return METADATA.containsAll(untagged) ? Change.METADATA_ONLY : Change.FULL;
+  }
+
+  private static Map<String, Object> properties(final ResourceModel model) {
+    if (model == null) {
+      return Collections.emptyMap();
+    }
+    final Map<String, Object> properties = MAPPER.convertValue(model, PROPERTIES);
+    properties.computeIfPresent(TAGS, (name, tags) -> tags instanceof Collection ? new HashSet<>((Collection<?>) tags) : tags);
+    return properties;
+  }
+}
@@ -0,0 +1,75 @@
+package software.amazon.kendra.datasource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.ValidationException;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+/**
+ * Validates a resource model against the provider schema, so invalid input fails before any call to Kendra.
+ *
+ * The schema ships in the handler jar and is loaded once per container, the first time a model is validated.
+ * A validation then only walks the model, which is serialized the way the framework serializes it.
+ */
+final class ResourceModelValidator {
+
+  private static final String SCHEMA_RESOURCE = "/aws-kendra-datasource.json";
+
+  private static final Schema SCHEMA = loadSchema(SCHEMA_RESOURCE);
+
+  private static final ObjectMapper MAPPER = new ObjectMapper()
+      .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+  private static final TypeReference<Map<String, Object>> PROPERTIES = new TypeReference<Map<String, Object>>() {
+  };
+
+  private ResourceModelValidator() {
+  }
+
+  /**
+   * @throws CfnInvalidRequestException listing every violation, when there is at least one
+   */
+  static void validate(final ResourceModel model) {
+    final List<String> violations = violations(model);
+    if (!violations.isEmpty()) {
+      throw new CfnInvalidRequestException(String.join("; ", violations));
+    }
+  }
+
+  static List<String> violations(final ResourceModel model) {
+    try {
+      SCHEMA.validate(new JSONObject(MAPPER.convertValue(model, PROPERTIES)));
+      return Collections.emptyList();
+    } catch (final ValidationException e) {
+      return e.getAllMessages();
+    }
+  }
+
+  private static Schema loadSchema(final String resource) {
+    try (InputStream schema = ResourceModelValidator.class.getResourceAsStream(resource)) {
+      if (schema == null) {
+        throw new IllegalStateException("Schema " + resource + " is not on the classpath");
+      }
+      return SchemaLoader.builder()
+          .schemaJson(new JSONObject(new JSONTokener(schema)))
+          .draftV7Support()
+          .build()
+          .load()
+          .build();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
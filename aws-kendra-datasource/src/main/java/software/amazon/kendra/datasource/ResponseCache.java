@@ -0,0 +1,27 @@
+package software.amazon.kendra.datasource;
+
+import java.util.Optional;
+
+/**
+ * Holds the latest response of a read call made during one handler invocation, so the read at the end of the
+ * chain can translate it instead of calling the service again.
+ *
+ * It is created per invocation and never stored in the callback context or on a long-lived handler. Callers
+ * invalidate it whenever they change the resource, so it only ever holds a response that reflects the latest change.
+ */
+public class ResponseCache<T> {
+
+  private T latest;
+
+  public void put(final T response) {
+    this.latest = response;
+  }
+
+  public void invalidate() {
+    this.latest = null;
+  }
+
+  public Optional<T> get() {
+    return Optional.ofNullable(latest);
+  }
+}
@@ -0,0 +1,73 @@
+package software.amazon.kendra.datasource;
+
+import java.time.Duration;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+import static software.amazon.kendra.datasource.ApiName.CREATE_DATASOURCE;
+import static software.amazon.kendra.datasource.ApiName.DELETE_DATASOURCE;
+import static software.amazon.kendra.datasource.ApiName.UPDATE_DATASOURCE;
+
+/**
+ * Picks the stabilization schedule for a data source operation, and predicts the next poll from the status
+ * transitions recorded in the callback context when there is one.
+ *
+ * A new delay is handed out per request because the handlers are reused across invocations and the delay
+ * keeps per-request counters.
+ */
+final class StabilizationDelays {
+
+  // Set the timeout to something silly/way too high, because
+  // we already set the timeout in the schema https://github.com/aws-cloudformation/aws-cloudformation-resource-schema
+  static final Duration TIMEOUT = Duration.ofDays(365L);
+
+  // Lives as long as the Lambda container, so it keeps learning from the stabilizations it has seen.
+  static final StabilizationPredictor PREDICTOR = new StabilizationPredictor();
+
+  private StabilizationDelays() {
+  }
+
+  static AdaptiveDelay forDataSource(final String operation) {
+    switch (operation) {
+      case CREATE_DATASOURCE:
+      case UPDATE_DATASOURCE:
+        // Create and update usually settle within a minute.
+        return AdaptiveDelay.of()
+            .timeout(TIMEOUT)
+            .earlyPolls(3)
+            .earlyDelay(Duration.ofSeconds(5))
+            .baseDelay(Duration.ofSeconds(15))
+            .maxDelay(Duration.ofMinutes(1))
+            .build();
+      case DELETE_DATASOURCE:
+        // Delete removes the synced documents from the index and can take hours.
+        return AdaptiveDelay.of()
+            .timeout(TIMEOUT)
+            .earlyPolls(2)
+            .earlyDelay(Duration.ofSeconds(15))
+            .baseDelay(Duration.ofMinutes(1))
+            .maxDelay(Duration.ofMinutes(5))
+            .build();
+      default:
+        throw new IllegalArgumentException("No stabilization schedule for " + operation);
+    }
+  }
+
+  /**
+   * The schedule for waiting on a busy index before the data source is created or updated. An index update
+   * takes minutes, so there is no point polling it as often as the data source.
+   */
+  static AdaptiveDelay forParentIndex() {
+    return AdaptiveDelay.of()
+        .timeout(TIMEOUT)
+        .earlyPolls(1)
+        .earlyDelay(Duration.ofSeconds(15))
+        .baseDelay(Duration.ofSeconds(30))
+        .maxDelay(Duration.ofMinutes(2))
+        .build();
+  }
+
+  static Delay forDataSource(final String operation, final CallbackContext callbackContext) {
+    return new PredictiveDelay(PREDICTOR, callbackContext, forDataSource(operation));
+  }
+}
@@ -0,0 +1,53 @@
+package software.amazon.kendra.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.collect.ImmutableMap;
+import software.amazon.awssdk.services.kendra.model.DataSourceStatus;
+
+/**
+ * Predicts how long a data source stays in a transitional status.
+ *
+ * The prediction starts from a table of typical durations and follows the durations observed by the container (as
+ * an exponentially weighted moving average).
+ */
+public class StabilizationPredictor {
+
+  // Status used to record that the data source no longer exists.
+  static final String DELETED = "DELETED";
+
+  private static final double OBSERVATION_WEIGHT = 0.3;
+
+  private static final Map<String, Duration> TYPICAL_DURATIONS = ImmutableMap.of(
+      DataSourceStatus.CREATING.toString(), Duration.ofMinutes(1),
+      DataSourceStatus.UPDATING.toString(), Duration.ofMinutes(1),
+      DataSourceStatus.DELETING.toString(), Duration.ofMinutes(15));
+
+  private final Map<String, Long> expectedMillis = new ConcurrentHashMap<>();
+
+  public StabilizationPredictor() {
+    TYPICAL_DURATIONS.forEach((status, duration) -> expectedMillis.put(status, duration.toMillis()));
+  }
+
+  /**
+   * @param status a transitional data source status
+   * @return the expected time the data source spends in the status, empty if the status is not transitional
+   */
+  public Optional<Duration> expectedDuration(final String status) {
+    return Optional.ofNullable(expectedMillis.get(status)).map(Duration::ofMillis);
+  }
+
+  /**
+   * Folds an observed duration into the prediction for the status.
+   */
+  public void observe(final String status, final Duration observed) {
+    if (observed.isNegative() || observed.isZero()) {
+      return;
+    }
+    expectedMillis.computeIfPresent(status, (key, expected) ->
+        Math.round(expected + OBSERVATION_WEIGHT * (observed.toMillis() - expected)));
+  }
+}
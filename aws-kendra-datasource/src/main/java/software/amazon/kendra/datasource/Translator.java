@@ -1,7 +1,6 @@
 package software.amazon.kendra.datasource;
 
 import software.amazon.awssdk.services.kendra.model.CreateDataSourceRequest;
-import software.amazon.awssdk.services.kendra.model.DataSourceType;
 import software.amazon.awssdk.services.kendra.model.DeleteDataSourceRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeDataSourceRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeDataSourceResponse;
@@ -13,19 +12,8 @@ import software.amazon.awssdk.services.kendra.model.Tag;
 import software.amazon.awssdk.services.kendra.model.TagResourceRequest;
 import software.amazon.awssdk.services.kendra.model.UntagResourceRequest;
 import software.amazon.awssdk.services.kendra.model.UpdateDataSourceRequest;
-import software.amazon.kendra.datasource.convert.DatabaseConverter;
-import software.amazon.kendra.datasource.convert.GoogleDriveConverter;
 import software.amazon.kendra.datasource.convert.ListConverter;
-import software.amazon.kendra.datasource.convert.OneDriveConverter;
-import software.amazon.kendra.datasource.convert.S3Converter;
-import software.amazon.kendra.datasource.convert.SalesforceConverter;
-import software.amazon.kendra.datasource.convert.ServiceNowConverter;
-import software.amazon.kendra.datasource.convert.SharePointConverter;
-import software.amazon.kendra.datasource.convert.TemplateConverter;
-import software.amazon.kendra.datasource.convert.WebCrawlerConverter;
-import software.amazon.kendra.datasource.convert.WorkDocsConverter;
 import software.amazon.kendra.datasource.convert.cde.CustomDocumentEnrichmentConfigurationConverter;
-import software.amazon.kendra.datasource.convert.confluence.ConfluenceConverter;
 
 import java.util.Collection;
 import java.util.List;
@@ -34,6 +22,10 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static software.amazon.kendra.datasource.ApiName.CREATE_DATASOURCE;
+import static software.amazon.kendra.datasource.ApiName.DESCRIBE_DATASOURCE;
+import static software.amazon.kendra.datasource.ApiName.UPDATE_DATASOURCE;
+
 /**
  * This class is a centralized placeholder for
  *  - api request construction
@@ -49,6 +41,10 @@ public class Translator {
    * @return awsRequest the aws service request to create a resource
    */
   static CreateDataSourceRequest translateToCreateRequest(final ResourceModel model) {
+    return HandlerEvents.conversion(CREATE_DATASOURCE, model.getId(), () -> createRequest(model));
+  }
+
+  private static CreateDataSourceRequest createRequest(final ResourceModel model) {
     final CreateDataSourceRequest.Builder builder = CreateDataSourceRequest
             .builder()
             .name(model.getName())
@@ -91,6 +87,13 @@ public class Translator {
   static ResourceModel translateFromReadResponse(final DescribeDataSourceResponse describeDataSourceResponse,
                                                  final ListTagsForResourceResponse listTagsForResourceResponse,
                                                  final String dataSourceArn) {
+    return HandlerEvents.conversion(DESCRIBE_DATASOURCE, describeDataSourceResponse.id(),
+            () -> modelFromReadResponse(describeDataSourceResponse, listTagsForResourceResponse, dataSourceArn));
+  }
+
+  private static ResourceModel modelFromReadResponse(final DescribeDataSourceResponse describeDataSourceResponse,
+                                                     final ListTagsForResourceResponse listTagsForResourceResponse,
+                                                     final String dataSourceArn) {
     ResourceModel.ResourceModelBuilder builder = ResourceModel.builder()
             .id(describeDataSourceResponse.id())
             .arn(dataSourceArn)
@@ -131,6 +134,10 @@ public class Translator {
    * @return awsRequest the aws service request to modify a resource
    */
   static UpdateDataSourceRequest translateToUpdateRequest(final ResourceModel model) {
+    return HandlerEvents.conversion(UPDATE_DATASOURCE, model.getId(), () -> updateRequest(model));
+  }
+
+  private static UpdateDataSourceRequest updateRequest(final ResourceModel model) {
     String description = model.getDescription() == null ? "" : model.getDescription();
     String name =  model.getName();
     String roleArn =  model.getRoleArn();
@@ -155,12 +162,15 @@ public class Translator {
    * Request to list resources
    * @param indexId IndexId assoicated with the request
    * @param nextToken token passed to the aws service list resources request
+   * @param maxResults the most data sources to return on the page
    * @return awsRequest the aws service request to list resources within aws account
    */
-  static ListDataSourcesRequest translateToListRequest(final String indexId, final String nextToken) {
+  static ListDataSourcesRequest translateToListRequest(final String indexId, final String nextToken,
+                                                       final int maxResults) {
     final ListDataSourcesRequest listDataSourcesRequest = ListDataSourcesRequest.builder()
             .indexId(indexId)
             .nextToken(nextToken)
+            .maxResults(maxResults)
             .build();
     return listDataSourcesRequest;
   }
@@ -220,50 +230,11 @@ public class Translator {
     if (dataSourceConfiguration == null) {
       return null;
     }
-    software.amazon.awssdk.services.kendra.model.DataSourceConfiguration.Builder modelDataSourceConfiguration =
-            software.amazon.awssdk.services.kendra.model.DataSourceConfiguration.builder();
-    // Perform a straight pass through from the model to the SDK request. The Kendra service will
-    // do validation.
-    modelDataSourceConfiguration.s3Configuration(S3Converter.toSdkDataSourceConfiguration(dataSourceConfiguration.getS3Configuration()));
-    modelDataSourceConfiguration.sharePointConfiguration(SharePointConverter.toSdkDataSourceConfiguration(dataSourceConfiguration.getSharePointConfiguration()));
-    modelDataSourceConfiguration.salesforceConfiguration(SalesforceConverter.toSdkDataSourceConfiguration(dataSourceConfiguration.getSalesforceConfiguration()));
-    modelDataSourceConfiguration.databaseConfiguration(DatabaseConverter.toSdk(dataSourceConfiguration.getDatabaseConfiguration()));
-    modelDataSourceConfiguration.serviceNowConfiguration(ServiceNowConverter.toSdkDataSourceConfiguration(dataSourceConfiguration.getServiceNowConfiguration()));
-    modelDataSourceConfiguration.oneDriveConfiguration(OneDriveConverter.toSdkDataSourceConfiguration(dataSourceConfiguration.getOneDriveConfiguration()));
-    modelDataSourceConfiguration.confluenceConfiguration(ConfluenceConverter.toSdkDataSourceConfiguration(dataSourceConfiguration.getConfluenceConfiguration()));
-    modelDataSourceConfiguration.googleDriveConfiguration(GoogleDriveConverter.toSdkDataSourceConfiguration(dataSourceConfiguration.getGoogleDriveConfiguration()));
-    modelDataSourceConfiguration.webCrawlerConfiguration(WebCrawlerConverter.toSdkDataSourceConfiguration(dataSourceConfiguration.getWebCrawlerConfiguration()));
-    modelDataSourceConfiguration.workDocsConfiguration(WorkDocsConverter.toSdkDataSourceConfiguration(dataSourceConfiguration.getWorkDocsConfiguration()));
-    modelDataSourceConfiguration.templateConfiguration(TemplateConverter.toSdkTemplateConfiguration(dataSourceConfiguration.getTemplateConfiguration()));
-    return modelDataSourceConfiguration.build();
+    return DataSourceConverterRegistry.toSdk(dataSourceConfiguration);
   }
 
   static DataSourceConfiguration toModelDataSourceConfiguration(
           final software.amazon.awssdk.services.kendra.model.DataSourceConfiguration dataSourceConfiguration, final String dataSourceType) {
-    if (DataSourceType.S3.toString().equals(dataSourceType)) {
-      return S3Converter.toModelDataSourceConfiguration(dataSourceConfiguration.s3Configuration());
-    } else if(DataSourceType.SHAREPOINT.toString().equals(dataSourceType)) {
-      return SharePointConverter.toModelDataSourceConfiguration(dataSourceConfiguration.sharePointConfiguration());
-    } else if (DataSourceType.SALESFORCE.toString().equals(dataSourceType)) {
-      return SalesforceConverter.toModelDataSourceConfiguration(dataSourceConfiguration.salesforceConfiguration());
-    } else if (DataSourceType.DATABASE.toString().equals(dataSourceType)) {
-      return DatabaseConverter.toModelDataSourceConfiguration(dataSourceConfiguration.databaseConfiguration());
-    } else if (DataSourceType.SERVICENOW.toString().equals(dataSourceType)) {
-      return ServiceNowConverter.toModelDataSourceConfiguration(dataSourceConfiguration.serviceNowConfiguration());
-    } else if (DataSourceType.ONEDRIVE.toString().equals(dataSourceType)) {
-      return OneDriveConverter.toModelDataSourceConfiguration(dataSourceConfiguration.oneDriveConfiguration());
-    } else if (DataSourceType.CONFLUENCE.toString().equals(dataSourceType)) {
-      return ConfluenceConverter.toModelDataSourceConfiguration(dataSourceConfiguration.confluenceConfiguration());
-    } else if (DataSourceType.GOOGLEDRIVE.toString().equals(dataSourceType)) {
-      return GoogleDriveConverter.toModelDataSourceConfiguration(dataSourceConfiguration.googleDriveConfiguration());
-    } else if (DataSourceType.WEBCRAWLER.toString().equals(dataSourceType)) {
-      return WebCrawlerConverter.toModelDataSourceConfiguration(dataSourceConfiguration.webCrawlerConfiguration());
-    } else if (DataSourceType.WORKDOCS.toString().equals(dataSourceType)) {
-      return WorkDocsConverter.toModelDataSourceConfiguration(dataSourceConfiguration.workDocsConfiguration());
-    } else if (DataSourceType.TEMPLATE.toString().equals(dataSourceType)) {
-      return TemplateConverter.toModelDataSourceConfiguration(dataSourceConfiguration.templateConfiguration());
-    }else {
-      return null;
-    }
+    return DataSourceConverterRegistry.toModel(dataSourceConfiguration, dataSourceType);
   }
 }
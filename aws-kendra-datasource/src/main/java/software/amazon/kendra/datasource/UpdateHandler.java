@@ -1,30 +1,19 @@
 package software.amazon.kendra.datasource;
 
 import com.google.common.collect.Sets;
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.kendra.KendraClient;
-import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
-import software.amazon.awssdk.services.kendra.model.ConflictException;
 import software.amazon.awssdk.services.kendra.model.DataSourceStatus;
 import software.amazon.awssdk.services.kendra.model.DescribeDataSourceRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeDataSourceResponse;
 import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.kendra.model.ServiceQuotaExceededException;
 import software.amazon.awssdk.services.kendra.model.TagResourceRequest;
-import software.amazon.awssdk.services.kendra.model.ThrottlingException;
 import software.amazon.awssdk.services.kendra.model.UntagResourceRequest;
 import software.amazon.awssdk.services.kendra.model.UpdateDataSourceRequest;
 import software.amazon.awssdk.services.kendra.model.UpdateDataSourceResponse;
-import software.amazon.awssdk.services.kendra.model.ValidationException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotUpdatableException;
-import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
-import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -33,8 +22,14 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import static software.amazon.kendra.datasource.ApiName.DESCRIBE_DATASOURCE;
+import static software.amazon.kendra.datasource.ApiName.TAG_RESOURCE;
+import static software.amazon.kendra.datasource.ApiName.UNTAG_RESOURCE;
 import static software.amazon.kendra.datasource.ApiName.UPDATE_DATASOURCE;
 
 public class UpdateHandler extends BaseHandlerStd {
@@ -43,14 +38,37 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private final DataSourceArnBuilder dataSourceArnBuilder;
 
+    private final BiFunction<ResourceModel, CallbackContext, Delay> delayProvider;
+
+    private final Supplier<Delay> indexDelayProvider;
+
     public UpdateHandler() {
-       super();
-       dataSourceArnBuilder = new DataSourceArn();
+       this(new DataSourceArn());
     }
 
     public UpdateHandler(DataSourceArnBuilder dataSourceArnBuilder) {
        super();
        this.dataSourceArnBuilder = dataSourceArnBuilder;
+       this.delayProvider = (model, context) -> StabilizationDelays.forDataSource(UPDATE_DATASOURCE, context);
+       this.indexDelayProvider = StabilizationDelays::forParentIndex;
+    }
+
+    // Used for testing.
+    public UpdateHandler(DataSourceArnBuilder dataSourceArnBuilder, Delay delay) {
+       super();
+       this.dataSourceArnBuilder = dataSourceArnBuilder;
+       this.delayProvider = (model, context) -> delay;
+       this.indexDelayProvider = () -> delay;
+    }
+
+    @Override
+    protected boolean validatesDesiredState() {
+        return true;
+    }
+
+    @Override
+    protected boolean changesResource() {
+        return true;
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -65,22 +83,53 @@ public class UpdateHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
 
         verifyNonUpdatableFields(model, request.getPreviousResourceState());
+        DataSourceValidator.validate(model);
+        if (!callbackContext.isWarningsLogged()) {
+            DataSourceValidator.warnings(model).forEach(logger::log);
+            callbackContext.setWarningsLogged(true);
+        }
+
+        final ResourceModelDiff.Change change = ResourceModelDiff.classify(request.getPreviousResourceState(), model);
+        logger.log(String.format("%s [%s] update classified as %s.", ResourceModel.TYPE_NAME, model.getId(), change));
+        final ResponseCache<DescribeDataSourceResponse> describeDataSourceResponseCache = new ResponseCache<>();
 
         return ProgressEvent.progress(model, callbackContext)
-                .then(progress ->
+                .then(phase("ValidateResourceExists", progress ->
                         proxy.initiate("AWS-Kendra-DataSource::ValidateResourceExists", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(Translator::translateToReadRequest)
                                 .makeServiceCall(this::validateResourceExists)
-                                .progress()
-                )
-                .then(progress ->
-                        proxy.initiate("AWS-Kendra-DataSource::Update", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(Translator::translateToUpdateRequest)
-                                .makeServiceCall(this::updateDataSource)
-                                .stabilize(this::stabilize)
-                                .progress())
-                .then(progress -> updateTags(proxyClient, progress, request))
-                .then(progress -> new ReadHandler(dataSourceArnBuilder).handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                                .done((describeDataSourceRequest, describeDataSourceResponse, client, resourceModel, context) -> {
+                                    // Still current if the update turns out to leave the data source alone
+                                    describeDataSourceResponseCache.put(describeDataSourceResponse);
+                                    return ProgressEvent.progress(resourceModel, context);
+                                })
+                ))
+                // Kendra rejects the update while the index is busy, wait for it instead of failing
+                .then(phase("AwaitIndex", progress -> requiresDataSourceUpdate(change)
+                        ? ParentIndex.awaitReady(proxy, proxyClient, progress, indexDelayProvider.get(), serviceErrors,
+                                logger)
+                        : progress))
+                .then(phase("Update", progress -> {
+                    // Tags are applied separately, so there is nothing for UpdateDataSource to do.
+                    if (!requiresDataSourceUpdate(change)) {
+                        return progress;
+                    }
+                    describeDataSourceResponseCache.invalidate();
+                    // UpdateDataSource takes the whole configuration, so a metadata only change still sends the full
+                    // request. The data source stays ACTIVE for it and the stabilization returns on its first poll.
+                    return proxy.initiate("AWS-Kendra-DataSource::Update", proxyClient, model, callbackContext)
+                            .translateToServiceRequest(Translator::translateToUpdateRequest)
+                            .makeServiceCall(this::updateDataSource)
+                            .progress();
+                }))
+                // Tags don't depend on the data source settling, so apply them before the stabilization wait instead of after.
+                .then(phase("Tag", progress -> updateTags(proxyClient, progress, request)))
+                .then(phase("PostUpdateStabilize", progress -> requiresDataSourceUpdate(change)
+                        ? stabilize(proxy, proxyClient, progress, delayProvider.apply(model, callbackContext),
+                                describeDataSourceResponseCache)
+                        : progress))
+                .then(phase("Read", progress -> new ReadHandler(dataSourceArnBuilder, describeDataSourceResponseCache)
+                        .handleRequest(proxy, request, callbackContext, proxyClient, logger)));
     }
 
     private DescribeDataSourceResponse validateResourceExists(DescribeDataSourceRequest describeDataSourceRequest, ProxyClient<KendraClient> proxyClient) {
@@ -103,59 +152,58 @@ public class UpdateHandler extends BaseHandlerStd {
     private UpdateDataSourceResponse updateDataSource(
         final UpdateDataSourceRequest updateDataSourceRequest,
         final ProxyClient<KendraClient> proxyClient) {
-            UpdateDataSourceResponse updateDataSourceResponse;
-        try {
-            updateDataSourceResponse = proxyClient.injectCredentialsAndInvokeV2(updateDataSourceRequest, proxyClient.client()::updateDataSource);
-        } catch (ValidationException e) {
-            throw new CfnInvalidRequestException(e.getMessage(), e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, updateDataSourceRequest.id(), e);
-        } catch (ConflictException e) {
-            throw new CfnResourceConflictException(e);
-        } catch (ServiceQuotaExceededException e) {
-            throw new CfnServiceLimitExceededException(ResourceModel.TYPE_NAME, e.getMessage(), e);
-        } catch (AccessDeniedException e) {
-            throw new CfnAccessDeniedException(UPDATE_DATASOURCE, e);
-        } catch (ThrottlingException e) {
-            throw new CfnThrottlingException(UPDATE_DATASOURCE, e);
-        } catch (final AwsServiceException e) {
-           /*
-            * While the handler contract states that the handler must always return a progress event,
-            * you may throw any instance of BaseHandlerException, as the wrapper map it to a progress event.
-            * Each BaseHandlerException maps to a specific error code, and you should map service exceptions as closely as possible
-            * to more specific error codes
-            */
-            throw new CfnGeneralServiceException(UPDATE_DATASOURCE, e);
-        }
+        final UpdateDataSourceResponse updateDataSourceResponse = serviceErrors.call(UPDATE_DATASOURCE,
+            updateDataSourceRequest.id(), () ->
+                proxyClient.injectCredentialsAndInvokeV2(updateDataSourceRequest, proxyClient.client()::updateDataSource));
 
         logger.log(String.format("%s has successfully been updated.", ResourceModel.TYPE_NAME));
         return updateDataSourceResponse;
     }
 
+    private static boolean requiresDataSourceUpdate(final ResourceModelDiff.Change change) {
+        return change != ResourceModelDiff.Change.NONE && change != ResourceModelDiff.Change.TAGS_ONLY;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> stabilize(
+        final AmazonWebServicesClientProxy proxy,
+        final ProxyClient<KendraClient> proxyClient,
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final Delay delay,
+        final ResponseCache<DescribeDataSourceResponse> describeDataSourceResponseCache) {
+        return proxy.initiate("AWS-Kendra-DataSource::PostUpdateStabilize", proxyClient, progress.getResourceModel(),
+                progress.getCallbackContext())
+                .translateToServiceRequest(Function.identity())
+                .backoffDelay(delay)
+                .makeServiceCall(CreateHandler.EMPTY_CALL)
+                .stabilize((resourceModel, response, proxyInvocation, model, callbackContext) ->
+                        isStabilized(proxyInvocation, model, callbackContext, describeDataSourceResponseCache)).progress();
+    }
+
    /**
     * If your resource requires some form of stabilization (e.g. service does not provide strong consistency), you will need to ensure that your code
     * accounts for any potential issues, so that a subsequent read/update requests will not cause any conflicts (e.g. NotFoundException/InvalidRequestException)
     * for more information -> https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
-    * @param updateDataSourceRequest the aws service  update resource resquest
-    * @param updateDataSourceResponse the aws service  update resource response
     * @param proxyClient the aws service client to make the call
     * @param model resource model
     * @param callbackContext callback context
+    * @param describeDataSourceResponseCache receives every response, the final read reuses the last one
     * @return boolean state of stabilized or not
     */
-    private boolean stabilize(
-        final UpdateDataSourceRequest updateDataSourceRequest,
-        final UpdateDataSourceResponse updateDataSourceResponse,
+    private boolean isStabilized(
         final ProxyClient<KendraClient> proxyClient,
         final ResourceModel model,
-        final CallbackContext callbackContext) {
+        final CallbackContext callbackContext,
+        final ResponseCache<DescribeDataSourceResponse> describeDataSourceResponseCache) {
         DescribeDataSourceRequest describeDataSourceRequest = DescribeDataSourceRequest.builder()
             .id(model.getId())
             .indexId(model.getIndexId())
             .build();
-        DescribeDataSourceResponse describeDataSourceResponse = proxyClient.injectCredentialsAndInvokeV2(describeDataSourceRequest,
-            proxyClient.client()::describeDataSource);
+        DescribeDataSourceResponse describeDataSourceResponse = HandlerEvents.stabilizationPoll(DESCRIBE_DATASOURCE, model.getId(),
+            () -> proxyClient.injectCredentialsAndInvokeV2(describeDataSourceRequest, proxyClient.client()::describeDataSource),
+            DescribeDataSourceResponse::statusAsString);
+        describeDataSourceResponseCache.put(describeDataSourceResponse);
         DataSourceStatus dataSourceStatus = describeDataSourceResponse.status();
+        recordStatus(callbackContext, describeDataSourceResponse.statusAsString(), model, logger);
         return dataSourceStatus.equals(DataSourceStatus.ACTIVE);
     }
 
@@ -164,6 +212,10 @@ public class UpdateHandler extends BaseHandlerStd {
         ResourceModel currResourceModel = request.getDesiredResourceState();
         ResourceModel prevResourceModel = request.getPreviousResourceState();
         CallbackContext callbackContext = progress.getCallbackContext();
+        // The chain is replayed when the handler is re-invoked during stabilization
+        if (callbackContext.isTagsUpdated()) {
+            return ProgressEvent.progress(currResourceModel, callbackContext);
+        }
         Set<Tag> currentTags;
         if (currResourceModel.getTags() != null) {
             currentTags = currResourceModel.getTags().stream().collect(Collectors.toSet());
@@ -180,22 +232,17 @@ public class UpdateHandler extends BaseHandlerStd {
         final Set<Tag> tagsToAdd = Sets.difference(currentTags, existingTags);
         if (!tagsToAdd.isEmpty()) {
             TagResourceRequest tagResourceRequest = Translator.translateToTagResourceRequest(tagsToAdd, arn);
-            try {
-                proxyClient.injectCredentialsAndInvokeV2(tagResourceRequest, proxyClient.client()::tagResource);
-            } catch (ValidationException e) {
-                throw new CfnInvalidRequestException(e.getMessage(), e);
-            }
+            serviceErrors.call(TAG_RESOURCE, arn, () ->
+                    proxyClient.injectCredentialsAndInvokeV2(tagResourceRequest, proxyClient.client()::tagResource));
         }
 
         final Set<Tag> tagsToRemove = Sets.difference(existingTags, currentTags);
         if (!tagsToRemove.isEmpty()) {
             UntagResourceRequest untagResourceRequest = Translator.translateToUntagResourceRequest(tagsToRemove, arn);
-            try {
-                proxyClient.injectCredentialsAndInvokeV2(untagResourceRequest, proxyClient.client()::untagResource);
-            } catch (ValidationException e) {
-                throw new CfnInvalidRequestException(e.getMessage(), e);
-            }
+            serviceErrors.call(UNTAG_RESOURCE, arn, () ->
+                    proxyClient.injectCredentialsAndInvokeV2(untagResourceRequest, proxyClient.client()::untagResource));
         }
+        callbackContext.setTagsUpdated(true);
         return ProgressEvent.progress(currResourceModel, callbackContext);
     }
 
@@ -8,9 +8,6 @@ import software.amazon.kendra.datasource.DataSourceVpcConfiguration;
 import software.amazon.kendra.datasource.DatabaseConfiguration;
 import software.amazon.kendra.datasource.SqlConfiguration;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 public class DatabaseConverter {
     public static software.amazon.awssdk.services.kendra.model.DataSourceConfiguration toSdkDataSourceConfiguration(
             DatabaseConfiguration model) {
@@ -49,13 +46,6 @@ public class DatabaseConverter {
                 .build();
     }
 
-    private static List<String> toSdkStringList(List<String> stringList) {
-        if (stringList == null) {
-            return null;
-        }
-        return stringList.stream().collect(Collectors.toList());
-    }
-
     private static software.amazon.awssdk.services.kendra.model.ColumnConfiguration toSdk(ColumnConfiguration model) {
         if (model == null) {
             return null;
@@ -65,7 +55,7 @@ public class DatabaseConverter {
                 .documentIdColumnName(model.getDocumentIdColumnName())
                 .documentDataColumnName(model.getDocumentDataColumnName())
                 .documentTitleColumnName(model.getDocumentTitleColumnName())
-                .changeDetectingColumns(toSdkStringList(model.getChangeDetectingColumns()))
+                .changeDetectingColumns(StringListConverter.toSdk(model.getChangeDetectingColumns()))
                 .fieldMappings(ListConverter.toSdk(model.getFieldMappings(), FieldMappingConverter::toSdk))
                 .build();
     }
@@ -1,8 +1,8 @@
 package software.amazon.kendra.datasource.convert;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Central location for how lists are handled when translating to/from
@@ -17,7 +17,7 @@ public class ListConverter {
       if (list == null) {
          return null;
       }
-      return list.stream().map(x -> func.apply(x)).collect(Collectors.toList());
+      return map(list, func);
    }
 
    // When we translate to a resource model from an SDK object, check if the list is null OR if it's empty
@@ -30,6 +30,16 @@ public class ListConverter {
       if (list == null || list.isEmpty()) {
          return null;
       }
-      return list.stream().map(x -> func.apply(x)).collect(Collectors.toList());
+      return map(list, func);
+   }
+
+   // Every nested list of a configuration goes through here on each read, so this is a loop into a list
+   // of the final size rather than a stream and a collector.
+   private static <I, O> List<O> map(List<I> list, Function<I, O> func) {
+      final List<O> converted = new ArrayList<>(list.size());
+      for (final I element : list) {
+         converted.add(func.apply(element));
+      }
+      return converted;
    }
 }
@@ -1,16 +1,17 @@
 package software.amazon.kendra.datasource.convert;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Function;
 
 // Helper class for string lists that need to be converted.
+// Strings don't need converting, so these copy the list in one go, with the same null and empty handling as ListConverter.
 public class StringListConverter {
 
     public static List<String> toSdk(List<String> list) {
-        return ListConverter.toSdk(list, Function.identity());
+        return list == null ? null : new ArrayList<>(list);
     }
 
     public static List<String> toModel(List<String> list) {
-        return ListConverter.toModel(list, Function.identity());
+        return list == null || list.isEmpty() ? null : new ArrayList<>(list);
     }
 }
@@ -2,6 +2,7 @@ package software.amazon.kendra.datasource.convert;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -14,6 +15,10 @@ import software.amazon.kendra.datasource.TemplateConfiguration;
 
 public class TemplateConverter {
 
+  // Kendra takes the template as part of a request of at most 1 MB, so a larger one can only be rejected by the
+  // service. Counted as JSON, without escapes, which makes the estimate a lower bound.
+  static final long MAX_TEMPLATE_BYTES = 1024L * 1024L;
+
   public static software.amazon.awssdk.services.kendra.model.TemplateConfiguration toSdkTemplateConfiguration(
       TemplateConfiguration model
   ) {
@@ -22,7 +27,7 @@ public class TemplateConverter {
     }
 
     return software.amazon.awssdk.services.kendra.model.TemplateConfiguration.builder()
-        .template(templateMapToDocument(model.getTemplate()))
+        .template(templateMapToDocument(model.getTemplate(), new TemplateSize()))
         .build();
   }
 
@@ -42,7 +47,8 @@ public class TemplateConverter {
   }
 
   private static Document templateMapToDocument(
-      Map<String, Object> templateMap
+      Map<String, Object> templateMap,
+      TemplateSize size
   ) {
     if (templateMap == null) {
       return null;
@@ -50,11 +56,14 @@ public class TemplateConverter {
 
     ImmutableMap.Builder<String, Document> mapBuilder = ImmutableMap.builder();
 
+    size.add(2);
     for (Map.Entry<String, Object> mapEntry : templateMap.entrySet()) {
       String key = mapEntry.getKey();
       Object value = mapEntry.getValue();
 
-      mapBuilder.put(key, objectToDocument(value));
+      // The separator, the quoted key and the colon
+      size.add(utf8Length(key) + 4);
+      mapBuilder.put(key, objectToDocument(value, size));
     }
 
     return Document.fromMap(mapBuilder.build());
@@ -83,7 +92,10 @@ public class TemplateConverter {
     return outputMapBuilder.build();
   }
 
-  private static Document objectToDocument(Object value) {
+  private static Document objectToDocument(Object value, TemplateSize size) {
+    if (!(value instanceof List) && !(value instanceof Map)) {
+      size.add(value instanceof String ? utf8Length((String) value) + 2 : String.valueOf(value).length());
+    }
     if (value instanceof Boolean) {
       return Document.fromBoolean((Boolean) value);
     } else if (value instanceof String) {
@@ -114,17 +126,43 @@ public class TemplateConverter {
       List<Object> list = (List<Object>) value;
 
       ImmutableList.Builder<Document> converted = ImmutableList.builder();
+      size.add(2);
       for (Object item : list) {
-        converted.add(objectToDocument(item));
+        size.add(1);
+        converted.add(objectToDocument(item, size));
       }
       return Document.fromList(converted.build());
     } else if (value instanceof Map) {
       @SuppressWarnings("unchecked")
       Map<String, Object> rawMap = (Map<String, Object>) value;
-      return templateMapToDocument(rawMap);
+      return templateMapToDocument(rawMap, size);
     } else {
       throw new CfnInvalidRequestException(String.format("Unexpected document value found: %s", value));
     }
   }
 
+  private static int utf8Length(String string) {
+    for (int i = 0; i < string.length(); i++) {
+      if (string.charAt(i) > 0x7f) {
+        return string.getBytes(StandardCharsets.UTF_8).length;
+      }
+    }
+    return string.length();
+  }
+
+  /**
+   * The JSON size of the template converted so far, which fails the conversion once it passes the maximum.
+   */
+  private static final class TemplateSize {
+
+    private long bytes;
+
+    void add(long count) {
+      bytes += count;
+      if (bytes > MAX_TEMPLATE_BYTES) {
+        throw new CfnInvalidRequestException(String.format(
+            "Template exceeds the maximum size of %d bytes.", MAX_TEMPLATE_BYTES));
+      }
+    }
+  }
 }
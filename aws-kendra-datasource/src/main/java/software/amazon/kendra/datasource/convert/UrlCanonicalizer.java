@@ -0,0 +1,125 @@
+package software.amazon.kendra.datasource.convert;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Canonical forms of web crawler URLs, to find the URLs a crawler treats as the same page.
+ *
+ * The canonical form lower cases the scheme and host, drops the default port, trailing slashes and the fragment,
+ * and sorts the query parameters by name, keeping the order of repeated ones. The case of the path is kept, most
+ * servers treat it as significant. A URL that doesn't parse is its own canonical form.
+ */
+public class UrlCanonicalizer {
+
+    private static final Comparator<String> BY_PARAMETER_NAME = Comparator.comparing(UrlCanonicalizer::parameterName);
+
+    public static String canonicalize(String url) {
+        final URI uri;
+        try {
+            uri = new URI(url.trim());
+        } catch (URISyntaxException e) {
+            return url;
+        }
+        if (uri.getScheme() == null || uri.getRawAuthority() == null) {
+            return url;
+        }
+        final String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+        final StringBuilder canonical = new StringBuilder(url.length()).append(scheme).append("://");
+        if (uri.getHost() == null) {
+            // A registry based authority, e.g. a host name with an underscore, isn't split into its parts
+            canonical.append(uri.getRawAuthority().toLowerCase(Locale.ROOT));
+        } else {
+            if (uri.getRawUserInfo() != null) {
+                canonical.append(uri.getRawUserInfo()).append('@');
+            }
+            canonical.append(uri.getHost().toLowerCase(Locale.ROOT));
+            if (uri.getPort() != -1 && uri.getPort() != defaultPort(scheme)) {
+                canonical.append(':').append(uri.getPort());
+            }
+        }
+
+        final String path = uri.getRawPath() == null ? "" : uri.getRawPath();
+        int end = path.length();
+        while (end > 0 && path.charAt(end - 1) == '/') {
+            end--;
+        }
+        canonical.append(path, 0, end);
+
+        if (uri.getRawQuery() != null && !uri.getRawQuery().isEmpty()) {
+            final String[] parameters = uri.getRawQuery().split("&");
+            // A stable sort, repeated parameters keep their order
+            Arrays.sort(parameters, BY_PARAMETER_NAME);
+            char separator = '?';
+            for (String parameter : parameters) {
+                if (!parameter.isEmpty()) {
+                    canonical.append(separator).append(parameter);
+                    separator = '&';
+                }
+            }
+        }
+        return canonical.toString();
+    }
+
+    /**
+     * @return the URLs without the ones that have the same canonical form as an earlier one, each in the spelling
+     *     of its first occurrence, so the data source reads back the way the template wrote it
+     */
+    public static List<String> dedupe(List<String> urls) {
+        if (urls == null) {
+            return null;
+        }
+        final Map<String, String> unique = new LinkedHashMap<>(urls.size() * 4 / 3 + 1);
+        for (String url : urls) {
+            unique.putIfAbsent(url == null ? null : canonicalize(url), url);
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    /**
+     * @return by index, the URLs that have the same canonical form as an earlier one, with the index of that one
+     */
+    public static Map<Integer, Integer> duplicates(List<String> urls) {
+        final Map<Integer, Integer> duplicates = new LinkedHashMap<>();
+        if (urls == null) {
+            return duplicates;
+        }
+        final Map<String, Integer> first = new HashMap<>(urls.size() * 4 / 3 + 1);
+        for (int i = 0; i < urls.size(); i++) {
+            if (urls.get(i) == null) {
+                continue;
+            }
+            final Integer earlier = first.putIfAbsent(canonicalize(urls.get(i)), i);
+            if (earlier != null) {
+                duplicates.put(i, earlier);
+            }
+        }
+        return duplicates;
+    }
+
+    private static int defaultPort(String scheme) {
+        switch (scheme) {
+            case "http":
+                return 80;
+            case "https":
+                return 443;
+            case "ftp":
+                return 21;
+            default:
+                return -1;
+        }
+    }
+
+    private static String parameterName(String parameter) {
+        final int equals = parameter.indexOf('=');
+        return equals < 0 ? parameter : parameter.substring(0, equals);
+    }
+}
@@ -0,0 +1,112 @@
+package software.amazon.kendra.datasource.pattern;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import software.amazon.kendra.datasource.DataSourceConfiguration;
+import software.amazon.kendra.datasource.S3DataSourceConfiguration;
+import software.amazon.kendra.datasource.SalesforceConfiguration;
+import software.amazon.kendra.datasource.ServiceNowConfiguration;
+import software.amazon.kendra.datasource.WebCrawlerConfiguration;
+
+/**
+ * The pattern filters of the connectors of a data source configuration.
+ */
+public final class ConnectorPatterns {
+
+  private static final String PATH = "DataSourceConfiguration";
+
+  private ConnectorPatterns() {
+  }
+
+  /**
+   * @return the filter of every connector, or connector section, that sets patterns, by the path of its
+   *     configuration, e.g. DataSourceConfiguration.S3Configuration
+   */
+  public static Map<String, PatternFilter> of(final DataSourceConfiguration configuration) {
+    final Map<String, PatternFilter> filters = new LinkedHashMap<>();
+    if (configuration == null) {
+      return filters;
+    }
+    final S3DataSourceConfiguration s3 = configuration.getS3Configuration();
+    if (s3 != null && any(s3.getInclusionPrefixes(), s3.getInclusionPatterns(), s3.getExclusionPatterns())) {
+      filters.put(PATH + ".S3Configuration", PatternFilter.builder(PatternSyntax.GLOB)
+          .prefixes("InclusionPrefixes", s3.getInclusionPrefixes())
+          .inclusions("InclusionPatterns", s3.getInclusionPatterns())
+          .exclusions("ExclusionPatterns", s3.getExclusionPatterns())
+          .build());
+    }
+    if (configuration.getSharePointConfiguration() != null) {
+      regex(filters, PATH + ".SharePointConfiguration", "InclusionPatterns",
+          configuration.getSharePointConfiguration().getInclusionPatterns(), "ExclusionPatterns",
+          configuration.getSharePointConfiguration().getExclusionPatterns());
+    }
+    final SalesforceConfiguration salesforce = configuration.getSalesforceConfiguration();
+    if (salesforce != null) {
+      regex(filters, PATH + ".SalesforceConfiguration", "IncludeAttachmentFilePatterns",
+          salesforce.getIncludeAttachmentFilePatterns(), "ExcludeAttachmentFilePatterns",
+          salesforce.getExcludeAttachmentFilePatterns());
+    }
+    if (configuration.getOneDriveConfiguration() != null) {
+      regex(filters, PATH + ".OneDriveConfiguration", "InclusionPatterns",
+          configuration.getOneDriveConfiguration().getInclusionPatterns(), "ExclusionPatterns",
+          configuration.getOneDriveConfiguration().getExclusionPatterns());
+    }
+    final ServiceNowConfiguration serviceNow = configuration.getServiceNowConfiguration();
+    if (serviceNow != null && serviceNow.getKnowledgeArticleConfiguration() != null) {
+      regex(filters, PATH + ".ServiceNowConfiguration.KnowledgeArticleConfiguration", "IncludeAttachmentFilePatterns",
+          serviceNow.getKnowledgeArticleConfiguration().getIncludeAttachmentFilePatterns(),
+          "ExcludeAttachmentFilePatterns",
+          serviceNow.getKnowledgeArticleConfiguration().getExcludeAttachmentFilePatterns());
+    }
+    if (serviceNow != null && serviceNow.getServiceCatalogConfiguration() != null) {
+      regex(filters, PATH + ".ServiceNowConfiguration.ServiceCatalogConfiguration", "IncludeAttachmentFilePatterns",
+          serviceNow.getServiceCatalogConfiguration().getIncludeAttachmentFilePatterns(),
+          "ExcludeAttachmentFilePatterns",
+          serviceNow.getServiceCatalogConfiguration().getExcludeAttachmentFilePatterns());
+    }
+    if (configuration.getConfluenceConfiguration() != null) {
+      regex(filters, PATH + ".ConfluenceConfiguration", "InclusionPatterns",
+          configuration.getConfluenceConfiguration().getInclusionPatterns(), "ExclusionPatterns",
+          configuration.getConfluenceConfiguration().getExclusionPatterns());
+    }
+    if (configuration.getGoogleDriveConfiguration() != null) {
+      regex(filters, PATH + ".GoogleDriveConfiguration", "InclusionPatterns",
+          configuration.getGoogleDriveConfiguration().getInclusionPatterns(), "ExclusionPatterns",
+          configuration.getGoogleDriveConfiguration().getExclusionPatterns());
+    }
+    final WebCrawlerConfiguration webCrawler = configuration.getWebCrawlerConfiguration();
+    if (webCrawler != null) {
+      regex(filters, PATH + ".WebCrawlerConfiguration", "UrlInclusionPatterns", webCrawler.getUrlInclusionPatterns(),
+          "UrlExclusionPatterns", webCrawler.getUrlExclusionPatterns());
+    }
+    if (configuration.getWorkDocsConfiguration() != null) {
+      regex(filters, PATH + ".WorkDocsConfiguration", "InclusionPatterns",
+          configuration.getWorkDocsConfiguration().getInclusionPatterns(), "ExclusionPatterns",
+          configuration.getWorkDocsConfiguration().getExclusionPatterns());
+    }
+    return filters;
+  }
+
+  private static void regex(final Map<String, PatternFilter> filters, final String path,
+                            final String inclusionsName, final List<String> inclusions,
+                            final String exclusionsName, final List<String> exclusions) {
+    if (any(inclusions, exclusions)) {
+      filters.put(path, PatternFilter.builder(PatternSyntax.REGEX)
+          .inclusions(inclusionsName, inclusions)
+          .exclusions(exclusionsName, exclusions)
+          .build());
+    }
+  }
+
+  @SafeVarargs
+  private static boolean any(final List<String>... lists) {
+    for (final List<String> list : lists) {
+      if (list != null && !list.isEmpty()) {
+        return true;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,125 @@
+package software.amazon.kendra.datasource.pattern;
+
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Translates the glob patterns Kendra takes for S3 into regular expressions.
+ *
+ * The syntax is the one of Java's glob path matcher on a Unix file system: `*` matches within a path segment, `**`
+ * across segments, `?` one character of a segment, `[...]` a character class, negated with `!`, and `{a,b}` one
+ * of its comma separated alternatives.
+ */
+final class Glob {
+
+  private static final String REGEX_META = ".^$*+?|()[]{}\\";
+
+  private Glob() {
+  }
+
+  static String toRegex(final String glob) {
+    final StringBuilder regex = new StringBuilder(glob.length() + 16);
+    boolean inGroup = false;
+    int i = 0;
+    while (i < glob.length()) {
+      final char c = glob.charAt(i++);
+      switch (c) {
+        case '\\':
+          if (i == glob.length()) {
+            throw new PatternSyntaxException("No character to escape", glob, i - 1);
+          }
+          literal(regex, glob.charAt(i++));
+          break;
+        case '*':
+          if (i < glob.length() && glob.charAt(i) == '*') {
+            regex.append(".*");
+            i++;
+          } else {
+            regex.append("[^/]*");
+          }
+          break;
+        case '?':
+          regex.append("[^/]");
+          break;
+        case '[':
+          i = characterClass(glob, i, regex);
+          break;
+        case '{':
+          if (inGroup) {
+            throw new PatternSyntaxException("Cannot nest groups", glob, i - 1);
+          }
+          regex.append("(?:");
+          inGroup = true;
+          break;
+        case '}':
+          if (inGroup) {
+            regex.append(')');
+            inGroup = false;
+          } else {
+            literal(regex, c);
+          }
+          break;
+        case ',':
+          if (inGroup) {
+            regex.append('|');
+          } else {
+            literal(regex, c);
+          }
+          break;
+        default:
+          literal(regex, c);
+      }
+    }
+    if (inGroup) {
+      throw new PatternSyntaxException("Missing '}'", glob, glob.length());
+    }
+    return regex.toString();
+  }
+
+  /**
+   * Whether the glob only matches itself.
+   */
+  static boolean isLiteral(final String glob) {
+    for (int i = 0; i < glob.length(); i++) {
+      if ("*?[{\\".indexOf(glob.charAt(i)) >= 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the index after the closing bracket
+   */
+  private static int characterClass(final String glob, final int start, final StringBuilder regex) {
+    int i = start;
+    regex.append('[');
+    if (i < glob.length() && (glob.charAt(i) == '!' || glob.charAt(i) == '^')) {
+      regex.append('^');
+      i++;
+    }
+    boolean empty = true;
+    while (i < glob.length()) {
+      final char c = glob.charAt(i++);
+      if (c == ']' && !empty) {
+        regex.append(']');
+        return i;
+      }
+      if (c == '\\' && i < glob.length()) {
+        regex.append('\\').append(glob.charAt(i++));
+      } else if (c == '[' || c == '&' || c == ']' || c == '\\') {
+        regex.append('\\').append(c);
+      } else {
+        regex.append(c);
+      }
+      empty = false;
+    }
+    throw new PatternSyntaxException("Missing ']'", glob, start - 1);
+  }
+
+  private static void literal(final StringBuilder regex, final char c) {
+    if (REGEX_META.indexOf(c) >= 0) {
+      regex.append('\\');
+    }
+    regex.append(c);
+  }
+}
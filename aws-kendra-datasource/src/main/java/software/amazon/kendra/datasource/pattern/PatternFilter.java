@@ -0,0 +1,295 @@
+package software.amazon.kendra.datasource.pattern;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * The inclusion prefixes, inclusion patterns and exclusion patterns of a connector, compiled the way Kendra applies
+ * them: a document is indexed when it starts with one of the prefixes and matches one of the inclusion patterns,
+ * where an empty list lets everything through, and matches none of the exclusion patterns.
+ *
+ * Compiling also lints the lists. A pattern that doesn't compile, an exclusion that matches everything or inclusions
+ * that are all excluded are errors, a repeated pattern or one another pattern already covers is a warning. Whether
+ * a pattern covers another is only decided when the other one is a literal, in general it can't be.
+ */
+public final class PatternFilter {
+
+  // Keys a pattern has to match to be taken for one that matches every document
+  private static final List<String> PROBES = Arrays.asList("", "a", "a/b.c", "Folder A/Folder B/Document 1.PDF",
+      "https://example.com/a/b?c=d#e");
+
+  private final PatternSyntax syntax;
+  private final String inclusionsName;
+  private final boolean hasPrefixes;
+  private final boolean hasInclusions;
+  private final List<Entry> prefixes;
+  private final List<Entry> inclusions;
+  private final List<Entry> exclusions;
+  private final List<PatternFinding> findings = new ArrayList<>();
+
+  private PatternFilter(final Builder builder) {
+    syntax = builder.syntax;
+    inclusionsName = builder.inclusionsName;
+    hasPrefixes = !builder.prefixes.isEmpty();
+    hasInclusions = !builder.inclusions.isEmpty();
+    prefixes = prefixes(builder.prefixesName, builder.prefixes);
+    inclusions = compile(builder.inclusionsName, builder.inclusions);
+    exclusions = compile(builder.exclusionsName, builder.exclusions);
+    lintPrefixes();
+    lint(builder.inclusionsName, inclusions, false);
+    lint(builder.exclusionsName, exclusions, true);
+    lintShadowedInclusions();
+  }
+
+  public static Builder builder(final PatternSyntax syntax) {
+    return new Builder(syntax);
+  }
+
+  public List<PatternFinding> getFindings() {
+    return Collections.unmodifiableList(findings);
+  }
+
+  /**
+   * @return whether a sync would index the document with the given key, path or URL
+   */
+  public boolean includes(final String key) {
+    return (!hasPrefixes || anyMatch(prefixes, null, key))
+        && (!hasInclusions || anyMatch(inclusions, null, key))
+        && !anyMatch(exclusions, null, key);
+  }
+
+  /**
+   * Runs a sample listing through the filter, for example the keys of an S3 bucket read from a file with
+   * {@code Files.lines(path)::iterator}.
+   */
+  public SyncEstimate estimate(final Iterable<String> keys) {
+    final boolean[] prefixUsed = new boolean[prefixes.size()];
+    final boolean[] inclusionUsed = new boolean[inclusions.size()];
+    final boolean[] exclusionUsed = new boolean[exclusions.size()];
+    long total = 0;
+    long included = 0;
+    long excluded = 0;
+    for (final String key : keys) {
+      total++;
+      // A pattern only counts as used for the keys that got as far as it
+      if ((!hasPrefixes || anyMatch(prefixes, prefixUsed, key))
+          && (!hasInclusions || anyMatch(inclusions, inclusionUsed, key))) {
+        if (anyMatch(exclusions, exclusionUsed, key)) {
+          excluded++;
+        } else {
+          included++;
+        }
+      }
+    }
+    final List<String> unused = new ArrayList<>();
+    unused(prefixes, prefixUsed, unused);
+    unused(inclusions, inclusionUsed, unused);
+    unused(exclusions, exclusionUsed, unused);
+    return new SyncEstimate(total, included, excluded, unused);
+  }
+
+  private List<Entry> prefixes(final String name, final List<String> values) {
+    final List<Entry> entries = new ArrayList<>(values.size());
+    for (int i = 0; i < values.size(); i++) {
+      if (values.get(i) != null) {
+        entries.add(new Entry(name + "[" + i + "]", values.get(i), null));
+      }
+    }
+    return entries;
+  }
+
+  private List<Entry> compile(final String name, final List<String> patterns) {
+    final List<Entry> entries = new ArrayList<>(patterns.size());
+    for (int i = 0; i < patterns.size(); i++) {
+      final String path = name + "[" + i + "]";
+      final String text = patterns.get(i);
+      if (text == null) {
+        continue;
+      }
+      try {
+        entries.add(new Entry(path, text, syntax.compile(text)));
+      } catch (final PatternSyntaxException e) {
+        error(path, "is not a valid " + syntax.description() + ": " + e.getDescription());
+      }
+    }
+    return entries;
+  }
+
+  private void lintPrefixes() {
+    for (int i = 0; i < prefixes.size(); i++) {
+      final Entry prefix = prefixes.get(i);
+      for (int j = 0; j < prefixes.size(); j++) {
+        final Entry other = prefixes.get(j);
+        if (i == j || !prefix.text.startsWith(other.text)) {
+          continue;
+        }
+        if (!prefix.text.equals(other.text)) {
+          warning(prefix.path, "is already covered by " + other.path);
+          break;
+        }
+        if (j < i) {
+          warning(prefix.path, "repeats " + other.path);
+          break;
+        }
+      }
+    }
+  }
+
+  private void lint(final String name, final List<Entry> entries, final boolean exclusion) {
+    for (int i = 0; i < entries.size(); i++) {
+      final Entry entry = entries.get(i);
+      if (matchesEverything(entry)) {
+        if (exclusion) {
+          error(entry.path, "excludes every document, a sync would index nothing");
+        } else {
+          warning(entry.path, "matches every document, the same as no " + name);
+        }
+        continue;
+      }
+      for (int j = 0; j < entries.size(); j++) {
+        final Entry other = entries.get(j);
+        if (i == j) {
+          continue;
+        }
+        if (entry.text.equals(other.text)) {
+          if (j < i) {
+            warning(entry.path, "repeats " + other.path);
+            break;
+          }
+          // The later one is reported
+          continue;
+        }
+        if (syntax.isLiteral(entry.text) && syntax.matches(other.pattern, entry.text)) {
+          warning(entry.path, "is already matched by " + other.path);
+          break;
+        }
+      }
+    }
+  }
+
+  private void lintShadowedInclusions() {
+    if (inclusions.isEmpty() || exclusions.isEmpty()) {
+      return;
+    }
+    for (final Entry exclusion : exclusions) {
+      if (matchesEverything(exclusion)) {
+        // Already reported as excluding everything
+        return;
+      }
+    }
+    int shadowed = 0;
+    for (final Entry inclusion : inclusions) {
+      if (!syntax.isLiteral(inclusion.text)) {
+        continue;
+      }
+      for (final Entry exclusion : exclusions) {
+        if (syntax.matches(exclusion.pattern, inclusion.text)) {
+          warning(inclusion.path, "is excluded by " + exclusion.path + ", it never includes a document");
+          shadowed++;
+          break;
+        }
+      }
+    }
+    if (shadowed == inclusions.size()) {
+      error(inclusionsName, "are all excluded, a sync would index nothing");
+    }
+  }
+
+  private boolean matchesEverything(final Entry entry) {
+    for (final String probe : PROBES) {
+      if (!syntax.matches(entry.pattern, probe)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Tries every entry rather than stopping at the first match when the use of each one is tracked.
+   */
+  private boolean anyMatch(final List<Entry> entries, final boolean[] used, final String key) {
+    boolean matched = false;
+    for (int i = 0; i < entries.size(); i++) {
+      final Entry entry = entries.get(i);
+      if (entry.pattern == null ? key.startsWith(entry.text) : syntax.matches(entry.pattern, key)) {
+        if (used == null) {
+          return true;
+        }
+        used[i] = true;
+        matched = true;
+      }
+    }
+    return matched;
+  }
+
+  private static void unused(final List<Entry> entries, final boolean[] used, final List<String> unused) {
+    for (int i = 0; i < entries.size(); i++) {
+      if (!used[i]) {
+        unused.add(entries.get(i).path);
+      }
+    }
+  }
+
+  private void error(final String path, final String message) {
+    findings.add(new PatternFinding(PatternFinding.Severity.ERROR, path, message));
+  }
+
+  private void warning(final String path, final String message) {
+    findings.add(new PatternFinding(PatternFinding.Severity.WARNING, path, message));
+  }
+
+  private static final class Entry {
+
+    private final String path;
+    private final String text;
+    // Null for a prefix
+    private final Pattern pattern;
+
+    private Entry(final String path, final String text, final Pattern pattern) {
+      this.path = path;
+      this.text = text;
+      this.pattern = pattern;
+    }
+  }
+
+  public static final class Builder {
+
+    private final PatternSyntax syntax;
+    private String prefixesName = "InclusionPrefixes";
+    private String inclusionsName = "InclusionPatterns";
+    private String exclusionsName = "ExclusionPatterns";
+    private List<String> prefixes = Collections.emptyList();
+    private List<String> inclusions = Collections.emptyList();
+    private List<String> exclusions = Collections.emptyList();
+
+    private Builder(final PatternSyntax syntax) {
+      this.syntax = syntax;
+    }
+
+    public Builder prefixes(final String name, final List<String> prefixes) {
+      this.prefixesName = name;
+      this.prefixes = prefixes != null ? prefixes : Collections.emptyList();
+      return this;
+    }
+
+    public Builder inclusions(final String name, final List<String> inclusions) {
+      this.inclusionsName = name;
+      this.inclusions = inclusions != null ? inclusions : Collections.emptyList();
+      return this;
+    }
+
+    public Builder exclusions(final String name, final List<String> exclusions) {
+      this.exclusionsName = name;
+      this.exclusions = exclusions != null ? exclusions : Collections.emptyList();
+      return this;
+    }
+
+    public PatternFilter build() {
+      return new PatternFilter(this);
+    }
+  }
+}
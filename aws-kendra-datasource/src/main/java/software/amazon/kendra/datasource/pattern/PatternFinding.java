@@ -0,0 +1,44 @@
+package software.amazon.kendra.datasource.pattern;
+
+/**
+ * A problem with one pattern, or with a list of them, found when compiling a {@link PatternFilter}.
+ */
+public final class PatternFinding {
+
+  public enum Severity {
+    // Kendra rejects the pattern, or a sync would index nothing
+    ERROR,
+    // The pattern has no effect
+    WARNING
+  }
+
+  private final Severity severity;
+  private final String path;
+  private final String message;
+
+  PatternFinding(final Severity severity, final String path, final String message) {
+    this.severity = severity;
+    this.path = path;
+    this.message = message;
+  }
+
+  public Severity getSeverity() {
+    return severity;
+  }
+
+  /**
+   * @return the list and index of the pattern, relative to the connector configuration, e.g. InclusionPatterns[2]
+   */
+  public String getPath() {
+    return path;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+
+  @Override
+  public String toString() {
+    return path + " " + message;
+  }
+}
@@ -0,0 +1,72 @@
+package software.amazon.kendra.datasource.pattern;
+
+import java.util.regex.Pattern;
+
+/**
+ * How a connector reads its inclusion and exclusion patterns. S3 takes globs that have to match the whole object
+ * key, the other connectors take regular expressions that match anywhere in the document path or URL.
+ */
+public enum PatternSyntax {
+
+  GLOB("glob pattern") {
+    @Override
+    Pattern compile(final String pattern) {
+      return Pattern.compile(Glob.toRegex(pattern));
+    }
+
+    @Override
+    boolean matches(final Pattern pattern, final String key) {
+      return pattern.matcher(key).matches();
+    }
+
+    @Override
+    boolean isLiteral(final String pattern) {
+      return Glob.isLiteral(pattern);
+    }
+  },
+
+  REGEX("regular expression") {
+    @Override
+    Pattern compile(final String pattern) {
+      return Pattern.compile(pattern);
+    }
+
+    @Override
+    boolean matches(final Pattern pattern, final String key) {
+      return pattern.matcher(key).find();
+    }
+
+    @Override
+    boolean isLiteral(final String pattern) {
+      for (int i = 0; i < pattern.length(); i++) {
+        if ("\\.[]{}()*+?^$|".indexOf(pattern.charAt(i)) >= 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+  };
+
+  private final String description;
+
+  PatternSyntax(final String description) {
+    this.description = description;
+  }
+
+  String description() {
+    return description;
+  }
+
+  /**
+   * @throws java.util.regex.PatternSyntaxException when the pattern isn't valid
+   */
+  abstract Pattern compile(String pattern);
+
+  abstract boolean matches(Pattern pattern, String key);
+
+  /**
+   * Whether the pattern only matches its own text, so whether another pattern covers it can be decided by
+   * matching that text.
+   */
+  abstract boolean isLiteral(String pattern);
+}
@@ -0,0 +1,60 @@
+package software.amazon.kendra.datasource.pattern;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * What a {@link PatternFilter} does to a sample listing of document keys, to size a sync before running it.
+ */
+public final class SyncEstimate {
+
+  private final long total;
+  private final long included;
+  private final long excluded;
+  private final List<String> unusedPatterns;
+
+  SyncEstimate(final long total, final long included, final long excluded, final List<String> unusedPatterns) {
+    this.total = total;
+    this.included = included;
+    this.excluded = excluded;
+    this.unusedPatterns = Collections.unmodifiableList(unusedPatterns);
+  }
+
+  public long getTotal() {
+    return total;
+  }
+
+  /**
+   * @return the keys a sync would index
+   */
+  public long getIncluded() {
+    return included;
+  }
+
+  /**
+   * @return the keys the prefixes and inclusion patterns let through but an exclusion pattern drops
+   */
+  public long getExcluded() {
+    return excluded;
+  }
+
+  /**
+   * @return the keys no prefix or inclusion pattern lets through
+   */
+  public long getNotIncluded() {
+    return total - included - excluded;
+  }
+
+  /**
+   * @return the paths of the valid patterns and prefixes that matched none of the keys
+   */
+  public List<String> getUnusedPatterns() {
+    return unusedPatterns;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%d of %d documents included, %d excluded, %d not included", included, total, excluded,
+        getNotIncluded());
+  }
+}
@@ -0,0 +1,76 @@
+package software.amazon.kendra.datasource;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class AdaptiveDelayTest {
+
+    private static AdaptiveDelay.Builder noJitter() {
+        return AdaptiveDelay.of()
+            .timeout(Duration.ofMinutes(10))
+            .earlyPolls(2)
+            .earlyDelay(Duration.ofSeconds(5))
+            .baseDelay(Duration.ofSeconds(10))
+            .maxDelay(Duration.ofSeconds(40))
+            .multiplier(2.0)
+            .jitter(0.0);
+    }
+
+    @Test
+    public void testPollsEarlyThenBacksOffUpToCap() {
+        final AdaptiveDelay delay = noJitter().build();
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(delay.nextDelay(4)).isEqualTo(Duration.ofSeconds(20));
+        assertThat(delay.nextDelay(5)).isEqualTo(Duration.ofSeconds(40));
+        assertThat(delay.nextDelay(6)).isEqualTo(Duration.ofSeconds(40));
+    }
+
+    @Test
+    public void testTracksPollCountAndTotalWait() {
+        final AdaptiveDelay delay = noJitter().build();
+
+        delay.nextDelay(1);
+        delay.nextDelay(2);
+        delay.nextDelay(3);
+
+        assertThat(delay.getPollCount()).isEqualTo(3);
+        assertThat(delay.getTotalWait()).isEqualTo(Duration.ofSeconds(20));
+        assertThat(delay.toString()).isEqualTo("AdaptiveDelay(polls=3, totalWait=PT20S)");
+    }
+
+    @Test
+    public void testReturnsZeroOnceTimeoutIsReached() {
+        // 5 + 5 + 10 + 20 + 40 * 14 = 600 seconds have been waited after 18 polls
+        final AdaptiveDelay delay = noJitter().build();
+
+        assertThat(delay.nextDelay(17)).isEqualTo(Duration.ofSeconds(40));
+        assertThat(delay.nextDelay(18)).isEqualTo(Duration.ofSeconds(40));
+        assertThat(delay.nextDelay(19)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void testAppliesJitterAroundSchedule() {
+        final AdaptiveDelay low = noJitter().jitter(0.5).random(() -> 0.0).build();
+        final AdaptiveDelay high = noJitter().jitter(0.5).random(() -> 1.0).build();
+
+        assertThat(low.nextDelay(3)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(high.nextDelay(3)).isEqualTo(Duration.ofSeconds(15));
+    }
+
+    @Test
+    public void testRejectsInvalidSchedules() {
+        assertThrows(IllegalArgumentException.class, () -> noJitter().timeout(null).build());
+        assertThrows(IllegalArgumentException.class, () -> noJitter().timeout(Duration.ZERO).build());
+        assertThrows(IllegalArgumentException.class, () -> noJitter().earlyPolls(-1).build());
+        assertThrows(IllegalArgumentException.class, () -> noJitter().multiplier(0.5).build());
+        assertThrows(IllegalArgumentException.class, () -> noJitter().jitter(1.0).build());
+        assertThrows(IllegalArgumentException.class, () -> noJitter().maxDelay(Duration.ofSeconds(1)).build());
+    }
+}
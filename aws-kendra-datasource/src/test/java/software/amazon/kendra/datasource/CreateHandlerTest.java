@@ -1,7 +1,9 @@
 package software.amazon.kendra.datasource;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
@@ -14,6 +16,8 @@ import software.amazon.awssdk.services.kendra.model.CreateDataSourceResponse;
 import software.amazon.awssdk.services.kendra.model.DataSourceStatus;
 import software.amazon.awssdk.services.kendra.model.DescribeDataSourceRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeDataSourceResponse;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexRequest;
+import software.amazon.awssdk.services.kendra.model.IndexStatus;
 import software.amazon.awssdk.services.kendra.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.kendra.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.kendra.model.ThrottlingException;
@@ -29,10 +33,12 @@ import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
 import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -118,6 +124,7 @@ public class CreateHandlerTest extends AbstractTestBase {
             .build();
 
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().createDataSource(any(CreateDataSourceRequest.class)))
             .thenReturn(CreateDataSourceResponse.builder().id(TEST_ID).build());
         when(proxyClient.client().describeDataSource(any(DescribeDataSourceRequest.class)))
@@ -157,7 +164,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
        verify(proxyClient.client(), times(1)).createDataSource(any(CreateDataSourceRequest.class));
-       verify(proxyClient.client(), times(2)).describeDataSource(any(DescribeDataSourceRequest.class));
+       verify(proxyClient.client(), times(1)).describeDataSource(any(DescribeDataSourceRequest.class));
     }
 
     @Test
@@ -178,6 +185,7 @@ public class CreateHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().createDataSource(any(CreateDataSourceRequest.class)))
             .thenReturn(CreateDataSourceResponse.builder().id(TEST_ID).build());
         when(proxyClient.client().describeDataSource(any(DescribeDataSourceRequest.class)))
@@ -228,13 +236,14 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
        verify(proxyClient.client(), times(1)).createDataSource(any(CreateDataSourceRequest.class));
-       verify(proxyClient.client(), times(3)).describeDataSource(any(DescribeDataSourceRequest.class));
+       verify(proxyClient.client(), times(2)).describeDataSource(any(DescribeDataSourceRequest.class));
     }
 
     @Test
     public void handleRequest_throws_CfnInvalidRequestException() {
         final CreateHandler handler = new CreateHandler(testDataSourceArnBuilder);
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().createDataSource(any(CreateDataSourceRequest.class)))
                 .thenThrow(ValidationException.builder().build());
 
@@ -274,7 +283,9 @@ public class CreateHandlerTest extends AbstractTestBase {
     ) {
         // setup scenario
         final CreateHandler handler = new CreateHandler(testDataSourceArnBuilder);
+        handler.serviceErrors = SERVICE_ERRORS;
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().createDataSource(any(CreateDataSourceRequest.class)))
             .thenThrow(kendraException);
 
@@ -286,7 +297,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         // call & verify error is thrown
         assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
             .isInstanceOf(expectedCfnError);
-        verify(proxyClient.client(), times(1)).createDataSource(any(CreateDataSourceRequest.class));
+        verify(proxyClient.client(), times(attempts(ApiName.CREATE_DATASOURCE, kendraException))).createDataSource(any(CreateDataSourceRequest.class));
         verify(proxyClient.client(), times(0)).describeDataSource(any(DescribeDataSourceRequest.class));
         verify(proxyClient.client(), times(0)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
@@ -295,6 +306,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     public void handleRequest_throws_CfnResourceConflictException() {
         final CreateHandler handler = new CreateHandler(testDataSourceArnBuilder);
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().createDataSource(any(CreateDataSourceRequest.class)))
                 .thenThrow(ConflictException.builder().build());
 
@@ -321,6 +333,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     public void handleRequest_throws_GeneralAwsServiceException() {
         final CreateHandler handler = new CreateHandler(testDataSourceArnBuilder);
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().createDataSource(any(CreateDataSourceRequest.class)))
                 .thenThrow(AwsServiceException.builder().build());
 
@@ -361,6 +374,7 @@ public class CreateHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().createDataSource(any(CreateDataSourceRequest.class)))
             .thenReturn(CreateDataSourceResponse.builder().id(TEST_ID).build());
         when(proxyClient.client().describeDataSource(any(DescribeDataSourceRequest.class)))
@@ -401,6 +415,7 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(model)
                 .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().createDataSource(any(CreateDataSourceRequest.class)))
             .thenReturn(CreateDataSourceResponse.builder().id(TEST_ID).build());
         when(proxyClient.client().describeDataSource(any(DescribeDataSourceRequest.class)))
@@ -445,10 +460,119 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).createDataSource(any(CreateDataSourceRequest.class));
-        verify(proxyClient.client(), times(2)).describeDataSource(any(DescribeDataSourceRequest.class));
+        verify(proxyClient.client(), times(1)).describeDataSource(any(DescribeDataSourceRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
 
 
     }
 
+    @Test
+    public void handleRequest_WaitsForTheIndex() {
+        final CreateHandler handler = new CreateHandler(testDataSourceArnBuilder,
+            Constant.of().timeout(Duration.ofMinutes(1)).delay(Duration.ofMillis(1L)).build());
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(standardResourceModel)
+            .build();
+
+        stubIndexStatus(proxyClient.client(), IndexStatus.UPDATING, IndexStatus.SYSTEM_UPDATING, IndexStatus.ACTIVE);
+        stubCreateAndDescribe();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), times(3)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(1)).createDataSource(any(CreateDataSourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_IndexBusyReturnsInProgress() {
+        final CreateHandler handler = new CreateHandler(testDataSourceArnBuilder,
+            Constant.of().timeout(Duration.ofMinutes(10)).delay(Duration.ofSeconds(30)).build());
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(standardResourceModel)
+            .build();
+        // Too little time left in the invocation to wait for the index locally
+        final AmazonWebServicesClientProxy expiringProxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS,
+            () -> Duration.ofSeconds(1).toMillis());
+
+        stubIndexStatus(proxyClient.client(), IndexStatus.UPDATING, IndexStatus.ACTIVE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> waiting = handler.handleRequest(expiringProxy, request,
+            new CallbackContext(), MOCK_PROXY(expiringProxy, awsKendraClient), logger);
+
+        assertThat(waiting.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(waiting.getCallbackDelaySeconds()).isGreaterThan(0);
+        assertThat(waiting.getCallbackContext().isIndexReady()).isFalse();
+        verify(proxyClient.client(), times(0)).createDataSource(any(CreateDataSourceRequest.class));
+
+        stubCreateAndDescribe();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+            waiting.getCallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), times(2)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(1)).createDataSource(any(CreateDataSourceRequest.class));
+    }
+
+    @Test
+    public void handleRequest_WarningsLoggedOnceAcrossCallbacks() {
+        final CreateHandler handler = new CreateHandler(testDataSourceArnBuilder,
+            Constant.of().timeout(Duration.ofMinutes(10)).delay(Duration.ofSeconds(30)).build());
+        final ResourceModel model = ResourceModel.builder()
+            .name(TEST_DATA_SOURCE_NAME)
+            .indexId(TEST_INDEX_ID)
+            .type("WEBCRAWLER")
+            .dataSourceConfiguration(DataSourceConfiguration.builder()
+                .webCrawlerConfiguration(WebCrawlerConfiguration.builder()
+                    .urls(WebCrawlerUrls.builder()
+                        .seedUrlConfiguration(WebCrawlerSeedUrlConfiguration.builder()
+                            .seedUrls(Arrays.asList("https://example.com/docs/", "https://EXAMPLE.com/docs"))
+                            .build())
+                        .build())
+                    .build())
+                .build())
+            .roleArn(TEST_ROLE_ARN)
+            .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+        final String warning = DataSourceValidator.warnings(model).get(0);
+        final List<String> logged = new ArrayList<>();
+        final Logger capturing = logged::add;
+        final AmazonWebServicesClientProxy expiringProxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS,
+            () -> Duration.ofSeconds(1).toMillis());
+
+        stubIndexStatus(proxyClient.client(), IndexStatus.UPDATING, IndexStatus.ACTIVE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> waiting = handler.handleRequest(expiringProxy, request,
+            new CallbackContext(), MOCK_PROXY(expiringProxy, awsKendraClient), capturing);
+
+        assertThat(waiting.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+
+        stubCreateAndDescribe();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request,
+            waiting.getCallbackContext(), proxyClient, capturing);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(logged).containsOnlyOnce(warning);
+        verify(proxyClient.client(), times(2)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(1)).createDataSource(any(CreateDataSourceRequest.class));
+    }
+
+    private void stubCreateAndDescribe() {
+        when(proxyClient.client().createDataSource(any(CreateDataSourceRequest.class)))
+            .thenReturn(CreateDataSourceResponse.builder().id(TEST_ID).build());
+        when(proxyClient.client().describeDataSource(any(DescribeDataSourceRequest.class)))
+            .thenReturn(DescribeDataSourceResponse.builder()
+                .id(TEST_ID)
+                .name(TEST_DATA_SOURCE_NAME)
+                .indexId(TEST_INDEX_ID)
+                .type(TEST_DATA_SOURCE_TYPE)
+                .status(DataSourceStatus.ACTIVE)
+                .build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+            .thenReturn(ListTagsForResourceResponse.builder().build());
+    }
 }
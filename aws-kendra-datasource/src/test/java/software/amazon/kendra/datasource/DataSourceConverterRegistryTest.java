@@ -0,0 +1,104 @@
+package software.amazon.kendra.datasource;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.kendra.model.DataSourceType;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DataSourceConverterRegistryTest {
+
+    @Test
+    void testRegisteredTypes() {
+        assertThat(DataSourceConverterRegistry.types()).containsExactlyInAnyOrder(
+                DataSourceType.S3,
+                DataSourceType.SHAREPOINT,
+                DataSourceType.SALESFORCE,
+                DataSourceType.DATABASE,
+                DataSourceType.SERVICENOW,
+                DataSourceType.ONEDRIVE,
+                DataSourceType.CONFLUENCE,
+                DataSourceType.GOOGLEDRIVE,
+                DataSourceType.WEBCRAWLER,
+                DataSourceType.WORKDOCS,
+                DataSourceType.TEMPLATE);
+    }
+
+    @Test
+    void testToSdkConvertsOnlyConfiguredConnectors() {
+        DataSourceConfiguration model = DataSourceConfiguration
+                .builder()
+                .s3Configuration(S3DataSourceConfiguration.builder().bucketName("bucket").build())
+                .build();
+
+        software.amazon.awssdk.services.kendra.model.DataSourceConfiguration sdk = DataSourceConverterRegistry.toSdk(model);
+
+        assertThat(sdk.s3Configuration().bucketName()).isEqualTo("bucket");
+        assertThat(sdk.sharePointConfiguration()).isNull();
+        assertThat(sdk.webCrawlerConfiguration()).isNull();
+        assertThat(sdk.templateConfiguration()).isNull();
+    }
+
+    @Test
+    void testToSdkPassesEveryConfiguredConnectorThrough() {
+        DataSourceConfiguration model = DataSourceConfiguration
+                .builder()
+                .s3Configuration(S3DataSourceConfiguration.builder().bucketName("bucket").build())
+                .workDocsConfiguration(WorkDocsConfiguration.builder().organizationId("organization").build())
+                .build();
+
+        software.amazon.awssdk.services.kendra.model.DataSourceConfiguration sdk = DataSourceConverterRegistry.toSdk(model);
+
+        assertThat(sdk.s3Configuration().bucketName()).isEqualTo("bucket");
+        assertThat(sdk.workDocsConfiguration().organizationId()).isEqualTo("organization");
+    }
+
+    @Test
+    void testToModelPicksConverterByType() {
+        software.amazon.awssdk.services.kendra.model.DataSourceConfiguration sdk =
+                software.amazon.awssdk.services.kendra.model.DataSourceConfiguration
+                        .builder()
+                        .s3Configuration(software.amazon.awssdk.services.kendra.model.S3DataSourceConfiguration
+                                .builder()
+                                .bucketName("bucket")
+                                .build())
+                        .workDocsConfiguration(software.amazon.awssdk.services.kendra.model.WorkDocsConfiguration
+                                .builder()
+                                .organizationId("organization")
+                                .build())
+                        .build();
+
+        DataSourceConfiguration model = DataSourceConverterRegistry.toModel(sdk, DataSourceType.WORKDOCS.toString());
+
+        assertThat(model.getS3Configuration()).isNull();
+        assertThat(model.getWorkDocsConfiguration().getOrganizationId()).isEqualTo("organization");
+    }
+
+    @Test
+    void testToModelUnregisteredType() {
+        software.amazon.awssdk.services.kendra.model.DataSourceConfiguration sdk =
+                software.amazon.awssdk.services.kendra.model.DataSourceConfiguration.builder().build();
+
+        assertThat(DataSourceConverterRegistry.toModel(sdk, DataSourceType.CUSTOM.toString())).isNull();
+        assertThat(DataSourceConverterRegistry.toModel(sdk, "NOT_A_TYPE")).isNull();
+        assertThat(DataSourceConverterRegistry.toModel(sdk, null)).isNull();
+    }
+
+    @Test
+    void testRoundTrip() {
+        DataSourceConfiguration model = DataSourceConfiguration
+                .builder()
+                .webCrawlerConfiguration(WebCrawlerConfiguration.builder()
+                        .urls(WebCrawlerUrls.builder()
+                                .seedUrlConfiguration(WebCrawlerSeedUrlConfiguration.builder()
+                                        .seedUrls(Arrays.asList("https://example.com"))
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+
+        assertThat(DataSourceConverterRegistry.toModel(DataSourceConverterRegistry.toSdk(model),
+                DataSourceType.WEBCRAWLER.toString())).isEqualTo(model);
+    }
+}
@@ -0,0 +1,232 @@
+package software.amazon.kendra.datasource;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class DataSourceValidatorTest {
+
+    private static final String SECRET_ARN = "arn:aws:secretsmanager:us-west-2:0123456789:secret:sharepoint";
+
+    @Test
+    void testValidConfiguration() {
+        ResourceModel model = ResourceModel.builder()
+                .type("SHAREPOINT")
+                .dataSourceConfiguration(DataSourceConfiguration.builder()
+                        .sharePointConfiguration(sharePoint().build())
+                        .build())
+                .build();
+
+        assertThat(DataSourceValidator.violations(model)).isEmpty();
+    }
+
+    @Test
+    void testReportsEveryViolation() {
+        ResourceModel model = ResourceModel.builder()
+                .type("SHAREPOINT")
+                .dataSourceConfiguration(DataSourceConfiguration.builder()
+                        .sharePointConfiguration(sharePoint()
+                                .sharePointVersion("SHAREPOINT_2000")
+                                .urls(Arrays.asList("https://example.com", "example.com"))
+                                .secretArn("secret")
+                                .fieldMappings(Collections.singletonList(DataSourceToIndexFieldMapping.builder()
+                                        .dataSourceFieldName("author")
+                                        .build()))
+                                .build())
+                        .build())
+                .build();
+
+        List<String> violations = DataSourceValidator.violations(model);
+
+        assertThat(violations).hasSize(4);
+        assertThat(violations.get(0)).startsWith(
+                "DataSourceConfiguration.SharePointConfiguration.SharePointVersion must be one of ")
+                .endsWith(", was SHAREPOINT_2000");
+        assertThat(violations.subList(1, 4)).containsExactly(
+                "DataSourceConfiguration.SharePointConfiguration.Urls[1] must match ^(https?|ftp|file)://([^\\s]*)",
+                "DataSourceConfiguration.SharePointConfiguration.SecretArn must match "
+                        + "arn:[a-z0-9-\\.]{1,63}:[a-z0-9-\\.]{0,63}:[a-z0-9-\\.]{0,63}:[a-z0-9-\\.]{0,63}:[^/].{0,1023}",
+                "DataSourceConfiguration.SharePointConfiguration.FieldMappings[0].IndexFieldName is required");
+    }
+
+    @Test
+    void testValidateThrows() {
+        ResourceModel model = ResourceModel.builder()
+                .type("S3")
+                .dataSourceConfiguration(DataSourceConfiguration.builder().build())
+                .build();
+
+        assertThatThrownBy(() -> DataSourceValidator.validate(model))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("DataSourceConfiguration must set exactly one connector configuration, found 0");
+    }
+
+    @Test
+    void testConfigurationMustMatchType() {
+        ResourceModel model = ResourceModel.builder()
+                .type("S3")
+                .dataSourceConfiguration(DataSourceConfiguration.builder()
+                        .sharePointConfiguration(sharePoint().build())
+                        .build())
+                .build();
+
+        assertThat(DataSourceValidator.violations(model)).containsExactly(
+                "DataSourceConfiguration configures a SHAREPOINT connector for a data source of type S3");
+    }
+
+    @Test
+    void testCustomTakesNoConfiguration() {
+        assertThat(DataSourceValidator.violations(ResourceModel.builder().type("CUSTOM").build())).isEmpty();
+        assertThat(DataSourceValidator.violations(ResourceModel.builder()
+                .type("CUSTOM")
+                .dataSourceConfiguration(DataSourceConfiguration.builder().build())
+                .build()))
+                .containsExactly("DataSourceConfiguration must not be set for a data source of type CUSTOM");
+        assertThat(DataSourceValidator.violations(ResourceModel.builder().type("S3").build()))
+                .containsExactly("DataSourceConfiguration is required for a data source of type S3");
+    }
+
+    @Test
+    void testVpcCounts() {
+        ResourceModel model = ResourceModel.builder()
+                .type("SHAREPOINT")
+                .dataSourceConfiguration(DataSourceConfiguration.builder()
+                        .sharePointConfiguration(sharePoint()
+                                .vpcConfiguration(DataSourceVpcConfiguration.builder()
+                                        .subnetIds(Collections.emptyList())
+                                        .securityGroupIds(Collections.nCopies(11, "sg-1"))
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+
+        assertThat(DataSourceValidator.violations(model)).containsExactly(
+                "DataSourceConfiguration.SharePointConfiguration.VpcConfiguration.SubnetIds must have between 1 and 6 items",
+                "DataSourceConfiguration.SharePointConfiguration.VpcConfiguration.SecurityGroupIds must have between 1 and 10 items");
+    }
+
+    @Test
+    void testMutuallyExclusiveFields() {
+        ResourceModel model = ResourceModel.builder()
+                .type("WEBCRAWLER")
+                .dataSourceConfiguration(DataSourceConfiguration.builder()
+                        .webCrawlerConfiguration(WebCrawlerConfiguration.builder()
+                                .urls(WebCrawlerUrls.builder()
+                                        .seedUrlConfiguration(WebCrawlerSeedUrlConfiguration.builder()
+                                                .seedUrls(Collections.singletonList("https://example.com"))
+                                                .build())
+                                        .siteMapsConfiguration(WebCrawlerSiteMapsConfiguration.builder()
+                                                .siteMaps(Collections.singletonList("https://example.com/sitemap.xml"))
+                                                .build())
+                                        .build())
+                                .crawlDepth(11)
+                                .build())
+                        .build())
+                .build();
+
+        assertThat(DataSourceValidator.violations(model)).containsExactly(
+                "DataSourceConfiguration.WebCrawlerConfiguration.Urls must set exactly one of SeedUrlConfiguration "
+                        + "and SiteMapsConfiguration",
+                "DataSourceConfiguration.WebCrawlerConfiguration.CrawlDepth must be between 1 and 10");
+    }
+
+    @Test
+    void testConditionOperators() {
+        ResourceModel model = ResourceModel.builder()
+                .type("CUSTOM")
+                .customDocumentEnrichmentConfiguration(CustomDocumentEnrichmentConfiguration.builder()
+                        .inlineConfigurations(Arrays.asList(
+                                inline("GreaterThan", DocumentAttributeValue.builder().stringValue("a").build()),
+                                inline("BeginsWith", DocumentAttributeValue.builder().stringValue("a").build()),
+                                inline("Exists", null),
+                                inline("Equals", null),
+                                inline("Contains", DocumentAttributeValue.builder()
+                                        .stringValue("a")
+                                        .dateValue("2021-01-01T00:00:00Z")
+                                        .build()),
+                                inline("Matches", null)))
+                        .build())
+                .build();
+
+        List<String> violations = DataSourceValidator.violations(model);
+
+        assertThat(violations).hasSize(4);
+        assertThat(violations.subList(0, 3)).containsExactly(
+                "CustomDocumentEnrichmentConfiguration.InlineConfigurations[0].Condition.ConditionOnValue must be a "
+                        + "LongValue or a DateValue with operator GreaterThan",
+                "CustomDocumentEnrichmentConfiguration.InlineConfigurations[3].Condition.ConditionOnValue is required "
+                        + "with operator Equals",
+                "CustomDocumentEnrichmentConfiguration.InlineConfigurations[4].Condition.ConditionOnValue must set "
+                        + "exactly one of StringValue, StringListValue, LongValue and DateValue");
+        assertThat(violations.get(3))
+                .startsWith("CustomDocumentEnrichmentConfiguration.InlineConfigurations[5].Condition.Operator must be one of ")
+                .endsWith(", was Matches");
+    }
+
+    @Test
+    void testPatterns() {
+        ResourceModel model = ResourceModel.builder()
+                .type("SHAREPOINT")
+                .dataSourceConfiguration(DataSourceConfiguration.builder()
+                        .sharePointConfiguration(sharePoint()
+                                .inclusionPatterns(Arrays.asList("\\.pdf$", "\\.pdf$"))
+                                .exclusionPatterns(Arrays.asList("(drafts", ".*"))
+                                .build())
+                        .build())
+                .build();
+
+        assertThat(DataSourceValidator.violations(model)).containsExactly(
+                "DataSourceConfiguration.SharePointConfiguration.ExclusionPatterns[0] is not a valid regular "
+                        + "expression: Unclosed group",
+                "DataSourceConfiguration.SharePointConfiguration.ExclusionPatterns[1] excludes every document, a sync "
+                        + "would index nothing");
+        assertThat(DataSourceValidator.warnings(model)).containsExactly(
+                "DataSourceConfiguration.SharePointConfiguration.InclusionPatterns[1] repeats InclusionPatterns[0]");
+    }
+
+    @Test
+    void testDuplicateSeedUrls() {
+        ResourceModel model = ResourceModel.builder()
+                .type("WEBCRAWLER")
+                .dataSourceConfiguration(DataSourceConfiguration.builder()
+                        .webCrawlerConfiguration(WebCrawlerConfiguration.builder()
+                                .urls(WebCrawlerUrls.builder()
+                                        .seedUrlConfiguration(WebCrawlerSeedUrlConfiguration.builder()
+                                                .seedUrls(Arrays.asList("https://example.com/docs/",
+                                                        "https://example.org", "https://EXAMPLE.com/docs#top"))
+                                                .build())
+                                        .build())
+                                .build())
+                        .build())
+                .build();
+
+        assertThat(DataSourceValidator.violations(model)).isEmpty();
+        assertThat(DataSourceValidator.warnings(model)).containsExactly(
+                "DataSourceConfiguration.WebCrawlerConfiguration.Urls.SeedUrlConfiguration.SeedUrls[2] is the same "
+                        + "URL as DataSourceConfiguration.WebCrawlerConfiguration.Urls.SeedUrlConfiguration.SeedUrls[0], "
+                        + "it is crawled once");
+    }
+
+    private static SharePointConfiguration.SharePointConfigurationBuilder sharePoint() {
+        return SharePointConfiguration.builder()
+                .sharePointVersion("SHAREPOINT_ONLINE")
+                .urls(Collections.singletonList("https://example.sharepoint.com"))
+                .secretArn(SECRET_ARN);
+    }
+
+    private static InlineCustomDocumentEnrichmentConfiguration inline(String operator, DocumentAttributeValue value) {
+        return InlineCustomDocumentEnrichmentConfiguration.builder()
+                .condition(DocumentAttributeCondition.builder()
+                        .conditionDocumentAttributeKey("_category")
+                        .operator(operator)
+                        .conditionOnValue(value)
+                        .build())
+                .build();
+    }
+}
@@ -165,6 +165,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
     ) {
       // set up scenario
       final DeleteHandler handler = new DeleteHandler(testDelay);
+      handler.serviceErrors = SERVICE_ERRORS;
 
       final ResourceModel model = ResourceModel.builder()
           .id(TEST_ID)
@@ -179,7 +180,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
       // call and verify error thrown
       assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
           .isInstanceOf(cfnErrorExpected);
-      verify(proxyClient.client(), times(1)).deleteDataSource(any(DeleteDataSourceRequest.class));
+      verify(proxyClient.client(), times(attempts(ApiName.DELETE_DATASOURCE, serviceException))).deleteDataSource(any(DeleteDataSourceRequest.class));
       verify(proxyClient.client(), times(0)).describeDataSource(any(DescribeDataSourceRequest.class));
     }
 }
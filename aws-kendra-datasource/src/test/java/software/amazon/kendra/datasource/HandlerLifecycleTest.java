@@ -0,0 +1,187 @@
+package software.amazon.kendra.datasource;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.model.CreateDataSourceRequest;
+import software.amazon.awssdk.services.kendra.model.CreateIndexRequest;
+import software.amazon.awssdk.services.kendra.model.DataSourceType;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the real handlers against {@link FakeKendraClient}, so the whole lifecycle of a data source is exercised,
+ * including the stabilization polls, instead of one mocked call at a time.
+ */
+public class HandlerLifecycleTest extends AbstractTestBase {
+
+    // A minute of data source time passes in under a millisecond
+    private static final double SPEED = 100_000;
+
+    private final TestDataSourceArnBuilder testDataSourceArnBuilder = new TestDataSourceArnBuilder();
+    private final Delay testDelay = Constant.of().timeout(Duration.ofMinutes(1)).delay(Duration.ofMillis(1L)).build();
+
+    private FakeKendraClient kendra;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<KendraClient> proxyClient;
+    private String indexId;
+
+    @BeforeEach
+    public void setup() {
+        kendra = FakeKendraClient.builder().clock(FakeClock.scaled(SPEED)).build();
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = MOCK_PROXY(proxy, kendra);
+        indexId = kendra.createIndex(CreateIndexRequest.builder().name("index").roleArn("roleArn").build()).id();
+        kendra.clock().advance(FakeKendraClient.DEFAULT_INDEX_CREATE_TIME);
+        kendra.resetCalls();
+    }
+
+    @Test
+    public void testCreateReadUpdateDelete() {
+        final ResourceModel created = create(model("description"));
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getArn()).isEqualTo(testDataSourceArnBuilder.build(request(created, null)));
+        assertThat(kendra.calls(ApiName.CREATE_DATASOURCE)).isEqualTo(1);
+        assertThat(kendra.calls(ApiName.DESCRIBE_DATASOURCE)).isGreaterThan(1);
+
+        assertThat(read(created)).isEqualTo(created);
+
+        kendra.resetCalls();
+        final ResourceModel desired = model("updated");
+        desired.setId(created.getId());
+        final UpdateHandler updateHandler = new UpdateHandler(testDataSourceArnBuilder, testDelay);
+        updateHandler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> updated = updateHandler.handleRequest(
+            proxy, request(desired, created), new CallbackContext(), proxyClient, logger);
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getDescription()).isEqualTo("updated");
+        assertThat(kendra.calls(ApiName.UPDATE_DATASOURCE)).isEqualTo(1);
+
+        final DeleteHandler deleteHandler = new DeleteHandler(testDelay);
+        deleteHandler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = deleteHandler.handleRequest(
+            proxy, request(created, null), new CallbackContext(), proxyClient, logger);
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(deleted.getResourceModel()).isNull();
+
+        assertThatThrownBy(() -> read(created)).isInstanceOf(CfnNotFoundException.class);
+    }
+
+    @Test
+    public void testCreateFailsWhenTheDataSourceFails() {
+        kendra.failNextCreate("The role can't be assumed");
+
+        assertThatThrownBy(() -> create(model("description"))).isInstanceOf(CfnNotStabilizedException.class);
+    }
+
+    @Test
+    public void testInvalidConfigurationFailsBeforeCreate() {
+        final ResourceModel model = model("description");
+        model.setType(DataSourceType.S3.toString());
+        model.setDataSourceConfiguration(DataSourceConfiguration.builder()
+            .s3Configuration(S3DataSourceConfiguration.builder().bucketName("Not_A_Bucket").build())
+            .build());
+
+        assertThatThrownBy(() -> create(model)).isInstanceOf(CfnInvalidRequestException.class)
+            .hasMessageContaining("DataSourceConfiguration.S3Configuration.BucketName");
+        assertThat(kendra.calls(ApiName.CREATE_DATASOURCE)).isZero();
+    }
+
+    @Test
+    public void testCreateWaitsWhileTheIndexIsCreating() {
+        indexId = kendra.createIndex(CreateIndexRequest.builder().name("index").roleArn("roleArn").build()).id();
+        kendra.resetCalls();
+
+        assertThat(create(model("description")).getId()).isNotNull();
+        assertThat(kendra.calls(ApiName.DESCRIBE_INDEX)).isGreaterThan(1);
+        assertThat(kendra.calls(ApiName.CREATE_DATASOURCE)).isEqualTo(1);
+    }
+
+    @Test
+    public void testThrottledReadIsRetried() {
+        final ResourceModel created = create(model("description"));
+        kendra.resetCalls();
+        kendra.throttleNext(ApiName.DESCRIBE_DATASOURCE, 2);
+
+        assertThat(read(created)).isEqualTo(created);
+        assertThat(kendra.calls(ApiName.DESCRIBE_DATASOURCE)).isEqualTo(3);
+        assertThat(kendra.throttled()).isEqualTo(2);
+    }
+
+    @Test
+    public void testListPagesThroughDataSources() {
+        for (int i = 0; i < 12; i++) {
+            kendra.createDataSource(CreateDataSourceRequest.builder()
+                .indexId(indexId)
+                .name("dataSource" + i)
+                .type(DataSourceType.CUSTOM)
+                .build());
+        }
+        kendra.resetCalls();
+        final ListHandler handler = new ListHandler();
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ResourceModel model = ResourceModel.builder().indexId(indexId).build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstPage = handler.handleRequest(
+            proxy, request(model, null), new CallbackContext(), proxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> secondPage = handler.handleRequest(
+            proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .nextToken(firstPage.getNextToken())
+                .build(),
+            new CallbackContext(), proxyClient, logger);
+
+        assertThat(firstPage.getResourceModels()).hasSize(FakeKendraClient.DEFAULT_PAGE_SIZE);
+        assertThat(secondPage.getResourceModels()).hasSize(2);
+        assertThat(secondPage.getNextToken()).isNull();
+        assertThat(kendra.calls(ApiName.LIST_DATA_SOURCES)).isEqualTo(2);
+    }
+
+    private ResourceModel model(final String description) {
+        return ResourceModel.builder()
+            .indexId(indexId)
+            .name("name")
+            .type(DataSourceType.CUSTOM.toString())
+            .roleArn("roleArn")
+            .description(description)
+            .build();
+    }
+
+    private ResourceModel create(final ResourceModel model) {
+        final CreateHandler handler = new CreateHandler(testDataSourceArnBuilder, testDelay);
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy, request(model, null), new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        return response.getResourceModel();
+    }
+
+    private ResourceModel read(final ResourceModel model) {
+        final ReadHandler handler = new ReadHandler(testDataSourceArnBuilder);
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy, request(model, null), new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        return response.getResourceModel();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(desired)
+            .previousResourceState(previous)
+            .build();
+    }
+}
@@ -4,9 +4,14 @@ import org.junit.jupiter.api.AfterEach;
 
 import software.amazon.awssdk.services.kendra.KendraClient;
 import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
+import software.amazon.awssdk.services.kendra.model.DataSourceSummary;
+import software.amazon.awssdk.services.kendra.model.DescribeDataSourceRequest;
+import software.amazon.awssdk.services.kendra.model.DescribeDataSourceResponse;
 import software.amazon.awssdk.services.kendra.model.KendraException;
 import software.amazon.awssdk.services.kendra.model.ListDataSourcesRequest;
 import software.amazon.awssdk.services.kendra.model.ListDataSourcesResponse;
+import software.amazon.awssdk.services.kendra.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.kendra.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.kendra.model.ThrottlingException;
 import software.amazon.awssdk.services.kendra.model.ValidationException;
@@ -34,6 +39,7 @@ import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -99,6 +105,55 @@ public class ListHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).listDataSources(any(ListDataSourcesRequest.class));
     }
 
+    @Test
+    public void handleRequest_HydratedReadsEveryDataSource() {
+        final ListHandler handler = new ListHandler(true, new TestDataSourceArnBuilder());
+        handler.serviceErrors = SERVICE_ERRORS;
+
+        final ResourceModel model = ResourceModel.builder()
+            .indexId(TEST_INDEX_ID)
+            .build();
+        when(proxyClient.client().listDataSources(any(ListDataSourcesRequest.class)))
+            .thenReturn(ListDataSourcesResponse.builder()
+                .summaryItems(
+                    DataSourceSummary.builder().id("first").build(),
+                    DataSourceSummary.builder().id("deleted").build(),
+                    DataSourceSummary.builder().id("second").build())
+                .nextToken("nextToken")
+                .build());
+        when(proxyClient.client().describeDataSource(any(DescribeDataSourceRequest.class))).thenAnswer(invocation -> {
+            final DescribeDataSourceRequest describeRequest = invocation.getArgument(0);
+            if ("deleted".equals(describeRequest.id())) {
+                throw ResourceNotFoundException.builder().build();
+            }
+            return DescribeDataSourceResponse.builder()
+                .id(describeRequest.id())
+                .indexId(TEST_INDEX_ID)
+                .name(describeRequest.id() + " name")
+                .type("CUSTOM")
+                .build();
+        });
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+            .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getNextToken()).isEqualTo("nextToken");
+        assertThat(response.getResourceModels())
+            .extracting(ResourceModel::getId, ResourceModel::getName, ResourceModel::getType)
+            .containsExactly(tuple("first", "first name", "CUSTOM"), tuple("second", "second name", "CUSTOM"));
+
+        verify(proxyClient.client(), times(1)).listDataSources(any(ListDataSourcesRequest.class));
+        verify(proxyClient.client(), times(3)).describeDataSource(any(DescribeDataSourceRequest.class));
+        verify(proxyClient.client(), times(3)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
     static Stream<Arguments> kendraErrorExpectedCfnErrorArguments() {
         return Stream.of(
           Arguments.of(ValidationException.builder().build(), CfnInvalidRequestException.class),
@@ -115,6 +170,7 @@ public class ListHandlerTest extends AbstractTestBase {
         Class<? extends RuntimeException> expectedCfnError) {
         // set up test scenario
         final ListHandler handler = new ListHandler();
+        handler.serviceErrors = SERVICE_ERRORS;
 
         final ResourceModel model = ResourceModel.builder()
             .id(TEST_ID)
@@ -129,6 +185,6 @@ public class ListHandlerTest extends AbstractTestBase {
             .build();
         assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
             .isInstanceOf(expectedCfnError);
-        verify(proxyClient.client(), times(1)).listDataSources(any(ListDataSourcesRequest.class));
+        verify(proxyClient.client(), times(attempts(ApiName.LIST_DATA_SOURCES, kendraException))).listDataSources(any(ListDataSourcesRequest.class));
     }
 }
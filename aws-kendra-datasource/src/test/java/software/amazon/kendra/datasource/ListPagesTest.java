@@ -0,0 +1,130 @@
+package software.amazon.kendra.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ListPagesTest {
+
+    private static final String SCOPE = "0123456789/us-west-2/indexId";
+
+    private AtomicLong now;
+    private List<String> listed;
+
+    @BeforeEach
+    public void setup() {
+        now = new AtomicLong(0);
+        listed = Collections.synchronizedList(new ArrayList<>());
+    }
+
+    @Test
+    public void testPageSize() {
+        assertThat(ListPages.pageSize(null)).isEqualTo(ListPages.MAX_PAGE_SIZE);
+        assertThat(ListPages.pageSize(" 25 ")).isEqualTo(25);
+        assertThat(ListPages.pageSize("500")).isEqualTo(ListPages.MAX_PAGE_SIZE);
+        assertThat(ListPages.pageSize("0")).isEqualTo(1);
+        assertThat(ListPages.pageSize("many")).isEqualTo(ListPages.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    public void testListsEveryPageWithoutReadAhead() {
+        final ListPages<Integer> pages = pages(false);
+
+        assertThat(pages.list(SCOPE, null, this::list, ListPagesTest::nextToken, Function.identity())).isEqualTo(1);
+        assertThat(pages.list(SCOPE, "2", this::list, ListPagesTest::nextToken, Function.identity())).isEqualTo(2);
+
+        assertThat(listed).containsExactly("first", "2");
+        assertThat(pages.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testReadsTheNextPageAhead() {
+        final ListPages<Integer> pages = pages(true);
+
+        assertThat(pages.list(SCOPE, null, this::list, ListPagesTest::nextToken, Function.identity())).isEqualTo(1);
+        assertThat(listed).containsExactly("first", "2");
+        assertThat(pages.size()).isEqualTo(1);
+
+        assertThat(pages.list(SCOPE, "2", this::list, ListPagesTest::nextToken, Function.identity())).isEqualTo(2);
+        assertThat(pages.list(SCOPE, "3", this::list, ListPagesTest::nextToken, Function.identity())).isEqualTo(3);
+
+        // The last page has no page after it to read
+        assertThat(listed).containsExactly("first", "2", "3");
+        assertThat(pages.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void testReadAheadPagesAreScoped() {
+        final ListPages<Integer> pages = pages(true);
+        pages.list(SCOPE, null, this::list, ListPagesTest::nextToken, Function.identity());
+
+        pages.list("9876543210/us-west-2/indexId", "2", this::list, ListPagesTest::nextToken, Function.identity());
+
+        assertThat(listed).containsExactly("first", "2", "2", "3");
+    }
+
+    @Test
+    public void testReadAheadPagesExpire() {
+        final ListPages<Integer> pages = pages(true);
+        pages.list(SCOPE, null, this::list, ListPagesTest::nextToken, Function.identity());
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        pages.list(SCOPE, "2", this::list, ListPagesTest::nextToken, Function.identity());
+
+        assertThat(listed).containsExactly("first", "2", "2", "3");
+    }
+
+    @Test
+    public void testKeepsTheLatestPages() {
+        final ListPages<Integer> pages = pages(true);
+        pages.list(SCOPE, null, this::list, ListPagesTest::nextToken, Function.identity());
+        pages.list("other", null, this::list, ListPagesTest::nextToken, Function.identity());
+        pages.list("another", null, this::list, ListPagesTest::nextToken, Function.identity());
+
+        assertThat(pages.size()).isEqualTo(2);
+        listed.clear();
+        pages.list(SCOPE, "2", this::list, ListPagesTest::nextToken, Function.identity());
+        assertThat(listed).containsExactly("2", "3");
+    }
+
+    @Test
+    public void testFailedReadAheadIsListedAgain() {
+        final ListPages<Integer> pages = pages(true);
+        final AtomicBoolean throttled = new AtomicBoolean();
+        final Function<String, Integer> throttledOnce = token -> {
+            if ("2".equals(token) && throttled.compareAndSet(false, true)) {
+                listed.add("throttled");
+                throw new IllegalStateException("Throttled");
+            }
+            return list(token);
+        };
+
+        assertThat(pages.list(SCOPE, null, throttledOnce, ListPagesTest::nextToken, Function.identity())).isEqualTo(1);
+        assertThat(pages.size()).isEqualTo(0);
+        assertThat(pages.list(SCOPE, "2", throttledOnce, ListPagesTest::nextToken, Function.identity())).isEqualTo(2);
+
+        assertThat(listed).containsExactly("first", "throttled", "2", "3");
+    }
+
+    private ListPages<Integer> pages(final boolean readAhead) {
+        return new ListPages<>(readAhead, Duration.ofMinutes(1), 2, now::get);
+    }
+
+    private Integer list(final String token) {
+        listed.add(token == null ? "first" : token);
+        return token == null ? 1 : Integer.parseInt(token);
+    }
+
+    private static String nextToken(final Integer page) {
+        return page < 3 ? String.valueOf(page + 1) : null;
+    }
+}
@@ -0,0 +1,109 @@
+package software.amazon.kendra.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PredictiveDelayTest {
+
+    private AtomicLong now;
+    private CallbackContext callbackContext;
+    private PredictiveDelay delay;
+
+    @BeforeEach
+    public void setup() {
+        now = new AtomicLong(Duration.ofDays(1).toMillis());
+        callbackContext = new CallbackContext();
+        final AdaptiveDelay fallback = AdaptiveDelay.of()
+            .timeout(Duration.ofHours(2))
+            .earlyPolls(2)
+            .earlyDelay(Duration.ofSeconds(5))
+            .baseDelay(Duration.ofSeconds(30))
+            .maxDelay(Duration.ofMinutes(1))
+            .jitter(0.0)
+            .build();
+        delay = new PredictiveDelay(new StabilizationPredictor(), callbackContext, fallback, now::get);
+    }
+
+    @Test
+    public void testUsesEarlyPollsBeforePredicting() {
+        callbackContext.recordStatus("DELETING", now.get());
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void testSleepsUntilShortlyBeforePredictedCompletion() {
+        // Deletes are expected to take 15 minutes
+        callbackContext.recordStatus("DELETING", now.get());
+        now.addAndGet(Duration.ofMinutes(1).toMillis());
+
+        assertThat(delay.nextDelay(3)).isEqualTo(PredictiveDelay.MAX_DELAY);
+
+        now.addAndGet(Duration.ofMinutes(10).toMillis());
+        assertThat(delay.nextDelay(4)).isEqualTo(Duration.ofSeconds(230));
+    }
+
+    @Test
+    public void testPollsOftenAroundPredictedCompletion() {
+        callbackContext.recordStatus("CREATING", now.get());
+        now.addAndGet(Duration.ofSeconds(55).toMillis());
+
+        assertThat(delay.nextDelay(3)).isEqualTo(PredictiveDelay.NEAR_DELAY);
+
+        now.addAndGet(Duration.ofMinutes(2).toMillis());
+        assertThat(delay.nextDelay(4)).isEqualTo(PredictiveDelay.NEAR_DELAY);
+    }
+
+    @Test
+    public void testFallsBackOnceWellOverdue() {
+        callbackContext.recordStatus("CREATING", now.get());
+        now.addAndGet(Duration.ofMinutes(4).toMillis());
+
+        assertThat(delay.nextDelay(5)).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void testFallsBackWithoutObservedStatus() {
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    public void testTimesOutWithFallbackSchedule() {
+        assertThat(delay.nextDelay(1000)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void testTracksPollCountAndTotalWait() {
+        delay.nextDelay(1);
+        delay.nextDelay(3);
+
+        assertThat(delay.getPollCount()).isEqualTo(2);
+        assertThat(delay.getTotalWait()).isEqualTo(Duration.ofSeconds(35));
+        assertThat(delay.toString()).isEqualTo("PredictiveDelay(polls=2, totalWait=PT35S)");
+    }
+
+    @Test
+    public void testCallbackContextRecordsTransitions() {
+        final long start = now.get();
+
+        assertThat(callbackContext.recordStatus("CREATING", start)).isEqualTo(-1L);
+        assertThat(callbackContext.recordStatus("CREATING", start + 1000)).isEqualTo(-1L);
+        assertThat(callbackContext.recordStatus("ACTIVE", start + 5000)).isEqualTo(5000L);
+
+        assertThat(callbackContext.getPollCount()).isEqualTo(3);
+        assertThat(callbackContext.getLastObservedStatus()).isEqualTo("ACTIVE");
+        assertThat(callbackContext.getStatusTransitions()).containsEntry("CREATING", start).containsEntry("ACTIVE", start + 5000);
+    }
+
+    @Test
+    public void testStabilizationDelaysPredictFromCallbackContext() {
+        assertThat(StabilizationDelays.forDataSource(ApiName.DELETE_DATASOURCE, callbackContext))
+            .isInstanceOf(PredictiveDelay.class);
+    }
+}
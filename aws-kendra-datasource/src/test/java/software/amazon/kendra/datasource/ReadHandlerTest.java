@@ -5,15 +5,26 @@ import java.util.Arrays;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
+import software.amazon.awssdk.services.kendra.model.ConflictException;
 import software.amazon.awssdk.services.kendra.model.DataSourceStatus;
 import software.amazon.awssdk.services.kendra.model.DescribeDataSourceRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeDataSourceResponse;
 import software.amazon.awssdk.services.kendra.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.kendra.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.kendra.model.ServiceQuotaExceededException;
 import software.amazon.awssdk.services.kendra.model.Tag;
+import software.amazon.awssdk.services.kendra.model.ThrottlingException;
+import software.amazon.awssdk.services.kendra.model.ValidationException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -29,6 +40,7 @@ import software.amazon.cloudformation.proxy.delay.Constant;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -116,6 +128,53 @@ public class ReadHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).describeDataSource(any(DescribeDataSourceRequest.class));
     }
 
+    @Test
+    public void handleRequest_ReusesCachedDescribeResponse() {
+        final ResponseCache<DescribeDataSourceResponse> describeDataSourceResponseCache = new ResponseCache<>();
+        describeDataSourceResponseCache.put(DescribeDataSourceResponse.builder()
+            .id(TEST_ID)
+            .name(TEST_DATA_SOURCE_NAME)
+            .indexId(TEST_INDEX_ID)
+            .type(TEST_DATA_SOURCE_TYPE)
+            .configuration(software.amazon.awssdk.services.kendra.model.DataSourceConfiguration.builder().build())
+            .description(TEST_DESCRIPTION)
+            .roleArn(TEST_ROLE_ARN)
+            .schedule(TEST_SCHEDULE)
+            .status(DataSourceStatus.ACTIVE)
+            .build());
+        final ReadHandler handler = new ReadHandler(testDataSourceArnBuilder, describeDataSourceResponseCache);
+        final ResourceModel model = ResourceModel.builder()
+        .id(TEST_ID)
+        .indexId(TEST_INDEX_ID)
+        .build();
+
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        ResourceModel expectedResourceModel = ResourceModel.builder()
+            .id(TEST_ID)
+            .indexId(TEST_INDEX_ID)
+            .name(TEST_DATA_SOURCE_NAME)
+            .arn(testDataSourceArnBuilder.build(request))
+            .description(TEST_DESCRIPTION)
+            .roleArn(TEST_ROLE_ARN)
+            .schedule(TEST_SCHEDULE)
+            .type(TEST_DATA_SOURCE_TYPE)
+            .build();
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(expectedResourceModel);
+
+        verify(proxyClient.client(), times(0)).describeDataSource(any(DescribeDataSourceRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
     @Test
     public void handleRequest_WithTags() {
         final ReadHandler handler = new ReadHandler(testDataSourceArnBuilder);
@@ -218,4 +277,35 @@ public class ReadHandlerTest extends AbstractTestBase {
             handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
         });
     }
+
+    // Mapped to GeneralServiceException before the errors went through ServiceErrors
+    @Test
+    public void handleRequest_DescribeDataSourceErrorsMapToTheirCodes() {
+        final ReadHandler handler = new ReadHandler(testDataSourceArnBuilder);
+        handler.serviceErrors = SERVICE_ERRORS;
+
+        final ResourceModel model = ResourceModel.builder()
+            .name(TEST_DATA_SOURCE_NAME)
+            .id(TEST_ID)
+            .indexId(TEST_INDEX_ID)
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        assertFailsWith(handler, request, ValidationException.builder().build(), CfnInvalidRequestException.class);
+        assertFailsWith(handler, request, ConflictException.builder().build(), CfnResourceConflictException.class);
+        assertFailsWith(handler, request, ServiceQuotaExceededException.builder().build(),
+            CfnServiceLimitExceededException.class);
+        assertFailsWith(handler, request, AccessDeniedException.builder().build(), CfnAccessDeniedException.class);
+        assertFailsWith(handler, request, ThrottlingException.builder().build(), CfnThrottlingException.class);
+    }
+
+    private void assertFailsWith(final ReadHandler handler, final ResourceHandlerRequest<ResourceModel> request,
+                                 final AwsServiceException e, final Class<? extends BaseHandlerException> type) {
+        doThrow(e).when(awsKendraClient).describeDataSource(any(DescribeDataSourceRequest.class));
+
+        assertThrows(type, () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+    }
 }
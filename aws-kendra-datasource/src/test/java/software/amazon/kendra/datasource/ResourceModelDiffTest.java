@@ -0,0 +1,68 @@
+package software.amazon.kendra.datasource;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceModelDiffTest {
+
+    private static ResourceModel.ResourceModelBuilder baseModel() {
+        return ResourceModel.builder()
+                .id("id")
+                .indexId("indexId")
+                .name("name")
+                .roleArn("roleArn")
+                .type("S3")
+                .dataSourceConfiguration(DataSourceConfiguration.builder()
+                        .s3Configuration(S3DataSourceConfiguration.builder()
+                                .bucketName("bucket")
+                                .inclusionPrefixes(Arrays.asList("a/", "b/"))
+                                .build())
+                        .build());
+    }
+
+    @Test
+    void testNoChange() {
+        assertThat(ResourceModelDiff.classify(baseModel().arn("arn").build(), baseModel().build()))
+                .isEqualTo(ResourceModelDiff.Change.NONE);
+    }
+
+    @Test
+    void testNoPreviousState() {
+        assertThat(ResourceModelDiff.classify(null, baseModel().build())).isEqualTo(ResourceModelDiff.Change.FULL);
+    }
+
+    @Test
+    void testTagsOnly() {
+        final ResourceModel desired = baseModel()
+                .tags(Arrays.asList(Tag.builder().key("key").value("value").build()))
+                .build();
+        assertThat(ResourceModelDiff.classify(baseModel().build(), desired)).isEqualTo(ResourceModelDiff.Change.TAGS_ONLY);
+    }
+
+    @Test
+    void testMetadataOnly() {
+        final ResourceModel desired = baseModel()
+                .description("description")
+                .build();
+        assertThat(ResourceModelDiff.classify(baseModel().build(), desired))
+                .isEqualTo(ResourceModelDiff.Change.METADATA_ONLY);
+    }
+
+    @Test
+    void testNestedConfigurationChange() {
+        final ResourceModel desired = baseModel()
+                .dataSourceConfiguration(DataSourceConfiguration.builder()
+                        .s3Configuration(S3DataSourceConfiguration.builder()
+                                .bucketName("bucket")
+                                .inclusionPrefixes(Arrays.asList("a/"))
+                                .build())
+                        .build())
+                .build();
+        assertThat(ResourceModelDiff.changedProperties(baseModel().build(), desired))
+                .containsExactly("DataSourceConfiguration");
+        assertThat(ResourceModelDiff.classify(baseModel().build(), desired)).isEqualTo(ResourceModelDiff.Change.FULL);
+    }
+}
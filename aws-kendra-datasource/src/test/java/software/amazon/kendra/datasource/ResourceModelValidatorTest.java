@@ -0,0 +1,158 @@
+package software.amazon.kendra.datasource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Collections;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+public class ResourceModelValidatorTest {
+
+    private static final String INDEX_ID = "0123456789abcdef0123456789abcdef0123";
+
+    @Test
+    void testValidModel() {
+        assertThat(ResourceModelValidator.violations(validModel())).isEmpty();
+    }
+
+    @ParameterizedTest
+    @MethodSource("requiredProperties")
+    void testRequiredProperty(final String property, final Consumer<ResourceModel> unset) {
+        ResourceModel model = validModel();
+        unset.accept(model);
+
+        assertThat(ResourceModelValidator.violations(model))
+                .containsExactly("#: required key [" + property + "] not found");
+    }
+
+    static Stream<Arguments> requiredProperties() {
+        return Stream.of(
+                unset("Name", model -> model.setName(null)),
+                unset("IndexId", model -> model.setIndexId(null)),
+                unset("Type", model -> model.setType(null)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"S3", "SHAREPOINT", "SALESFORCE", "ONEDRIVE", "SERVICENOW", "DATABASE", "CUSTOM",
+            "CONFLUENCE", "GOOGLEDRIVE", "WEBCRAWLER", "WORKDOCS", "TEMPLATE"})
+    void testType(final String type) {
+        ResourceModel model = validModel();
+        model.setType(type);
+
+        // Whether the type has the configuration it needs is a connector rule, see DataSourceValidator
+        assertThat(ResourceModelValidator.violations(model)).isEmpty();
+    }
+
+    @Test
+    void testUnknownType() {
+        ResourceModel model = validModel();
+        model.setType("NOT_A_TYPE");
+
+        assertThat(ResourceModelValidator.violations(model)).hasSize(1);
+        assertThat(ResourceModelValidator.violations(model).get(0)).startsWith("#/Type");
+    }
+
+    @Test
+    void testConfiguresOneConnector() {
+        ResourceModel model = validModel();
+        model.setType("S3");
+        model.setDataSourceConfiguration(DataSourceConfiguration.builder()
+                .s3Configuration(S3DataSourceConfiguration.builder()
+                        .bucketName("bucket")
+                        .build())
+                .webCrawlerConfiguration(WebCrawlerConfiguration.builder()
+                        .urls(WebCrawlerUrls.builder()
+                                .siteMapsConfiguration(WebCrawlerSiteMapsConfiguration.builder()
+                                        .siteMaps(Collections.singletonList("https://example.com/sitemap.xml"))
+                                        .build())
+                                .build())
+                        .build())
+                .build());
+
+        assertThat(ResourceModelValidator.violations(model)).hasSize(1);
+        assertThat(ResourceModelValidator.violations(model).get(0)).startsWith("#/DataSourceConfiguration");
+    }
+
+    @Test
+    void testReportsEveryViolation() {
+        ResourceModel model = validModel();
+        model.setIndexId("index");
+        model.setType("NOT_A_TYPE");
+
+        assertThat(ResourceModelValidator.violations(model)).hasSize(2);
+        assertThat(String.join("; ", ResourceModelValidator.violations(model)))
+                .contains("#/IndexId")
+                .contains("#/Type");
+    }
+
+    @Test
+    void testNestedViolation() {
+        ResourceModel model = validModel();
+        model.setType("S3");
+        model.setDataSourceConfiguration(DataSourceConfiguration.builder()
+                .s3Configuration(S3DataSourceConfiguration.builder()
+                        .bucketName("b")
+                        .build())
+                .build());
+
+        assertThat(ResourceModelValidator.violations(model)).hasSize(1);
+        assertThat(ResourceModelValidator.violations(model).get(0))
+                .startsWith("#/DataSourceConfiguration/S3Configuration/BucketName");
+    }
+
+    @Test
+    void testTemplateIsFreeForm() {
+        ResourceModel model = validModel();
+        model.setType("TEMPLATE");
+        model.setDataSourceConfiguration(DataSourceConfiguration.builder()
+                .templateConfiguration(TemplateConfiguration.builder()
+                        .template(Collections.singletonMap("connectionConfiguration",
+                                Collections.singletonMap("repositoryEndpointMetadata",
+                                        Collections.singletonMap("port", 443))))
+                        .build())
+                .build());
+
+        assertThat(ResourceModelValidator.violations(model)).isEmpty();
+    }
+
+    @Test
+    void testCreateRejectsInvalidModelBeforeCallingKendra() {
+        ResourceModel model = validModel();
+        model.setName(null);
+        AmazonWebServicesClientProxy proxy = mock(AmazonWebServicesClientProxy.class);
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        assertThatThrownBy(() -> new CreateHandler().handleRequest(proxy, request, null, new LoggerProxy()))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("Name");
+        verifyNoMoreInteractions(proxy);
+    }
+
+    private static Arguments unset(final String property, final Consumer<ResourceModel> unset) {
+        return Arguments.of(property, unset);
+    }
+
+    private static ResourceModel validModel() {
+        return ResourceModel.builder()
+                .name("name")
+                .indexId(INDEX_ID)
+                .type("CUSTOM")
+                .roleArn("arn:aws:iam::0123456789:role/KendraDataSource")
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package software.amazon.kendra.datasource;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StabilizationPredictorTest {
+
+    @Test
+    public void testSeededFromTypicalDurations() {
+        final StabilizationPredictor predictor = new StabilizationPredictor();
+
+        assertThat(predictor.expectedDuration("CREATING")).contains(Duration.ofMinutes(1));
+        assertThat(predictor.expectedDuration("DELETING")).contains(Duration.ofMinutes(15));
+        assertThat(predictor.expectedDuration("ACTIVE")).isEmpty();
+    }
+
+    @Test
+    public void testFollowsObservedDurations() {
+        final StabilizationPredictor predictor = new StabilizationPredictor();
+
+        predictor.observe("UPDATING", Duration.ofMinutes(11));
+
+        // 1 minute + 0.3 * (11 - 1) minutes
+        assertThat(predictor.expectedDuration("UPDATING")).contains(Duration.ofMinutes(4));
+    }
+
+    @Test
+    public void testIgnoresUnusableObservations() {
+        final StabilizationPredictor predictor = new StabilizationPredictor();
+
+        predictor.observe("CREATING", Duration.ZERO);
+        predictor.observe("ACTIVE", Duration.ofMinutes(5));
+
+        assertThat(predictor.expectedDuration("CREATING")).contains(Duration.ofMinutes(1));
+        assertThat(predictor.expectedDuration("ACTIVE")).isEmpty();
+    }
+}
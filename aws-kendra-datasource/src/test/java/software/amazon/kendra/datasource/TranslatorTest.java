@@ -209,9 +209,10 @@ public class TranslatorTest {
     void testTranslateToListRequest()  {
         String nextToken = "nextToken";
         String indexId = "indexId";
-        ListDataSourcesRequest listDataSourcesRequest = Translator.translateToListRequest(indexId, nextToken);
+        ListDataSourcesRequest listDataSourcesRequest = Translator.translateToListRequest(indexId, nextToken, 100);
         assertThat(listDataSourcesRequest.indexId()).isEqualTo(indexId);
         assertThat(listDataSourcesRequest.nextToken()).isEqualTo(nextToken);
+        assertThat(listDataSourcesRequest.maxResults()).isEqualTo(100);
     }
 
     @Test
@@ -12,6 +12,8 @@ import software.amazon.awssdk.services.kendra.model.ConflictException;
 import software.amazon.awssdk.services.kendra.model.DataSourceStatus;
 import software.amazon.awssdk.services.kendra.model.DescribeDataSourceRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeDataSourceResponse;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexRequest;
+import software.amazon.awssdk.services.kendra.model.IndexStatus;
 import software.amazon.awssdk.services.kendra.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.kendra.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
@@ -37,9 +39,11 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -48,6 +52,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -116,6 +121,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(model)
                 .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().updateDataSource(any(UpdateDataSourceRequest.class)))
                 .thenReturn(UpdateDataSourceResponse.builder().build());
 
@@ -164,7 +170,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
         verify(proxyClient.client(), times(1)).updateDataSource(any(UpdateDataSourceRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
-        verify(proxyClient.client(), times(3)).describeDataSource(any(DescribeDataSourceRequest.class));
+        verify(proxyClient.client(), times(2)).describeDataSource(any(DescribeDataSourceRequest.class));
 
         verify(awsKendraClient, atLeastOnce()).serviceName();
 
@@ -187,6 +193,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
              .desiredResourceState(model)
              .build();
 
+         stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
          when(proxyClient.client().updateDataSource(any(UpdateDataSourceRequest.class)))
              .thenReturn(UpdateDataSourceResponse.builder().build());
 
@@ -246,7 +253,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).updateDataSource(any(UpdateDataSourceRequest.class));
-        verify(proxyClient.client(), times(4)).describeDataSource(any(DescribeDataSourceRequest.class));
+        verify(proxyClient.client(), times(3)).describeDataSource(any(DescribeDataSourceRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
 
         verify(awsKendraClient, atLeastOnce()).serviceName();
@@ -256,18 +263,20 @@ public class UpdateHandlerTest extends AbstractTestBase {
     public void testThatItThrowsCfnThrottlingException() {
         // set up test scenario
         final UpdateHandler handler = new UpdateHandler(testDataSourceArnBuilder);
+        handler.serviceErrors = SERVICE_ERRORS;
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
             .desiredResourceState(standardResourceModel)
             .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().updateDataSource(any(UpdateDataSourceRequest.class)))
             .thenThrow(ThrottlingException.builder().build());
 
         // call and verify error
         assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
             .isInstanceOf(CfnThrottlingException.class);
-        verify(proxyClient.client(), times(1)).updateDataSource(any(UpdateDataSourceRequest.class));
+        verify(proxyClient.client(), times(ServiceErrors.DEFAULT_MAX_ATTEMPTS)).updateDataSource(any(UpdateDataSourceRequest.class));
         verify(proxyClient.client(), times(1)).describeDataSource(any(DescribeDataSourceRequest.class));
         verify(proxyClient.client(), times(0)).listTagsForResource(any(ListTagsForResourceRequest.class));
 
@@ -283,6 +292,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .desiredResourceState(standardResourceModel)
             .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().updateDataSource(any(UpdateDataSourceRequest.class)))
             .thenThrow(ServiceQuotaExceededException.builder().build());
 
@@ -305,6 +315,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .desiredResourceState(standardResourceModel)
             .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().updateDataSource(any(UpdateDataSourceRequest.class)))
             .thenThrow(AccessDeniedException.builder().build());
 
@@ -322,6 +333,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     public void handleRequest_throwsCfnInvalidRequestException() {
         final UpdateHandler handler = new UpdateHandler(testDataSourceArnBuilder);
 
+         stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
          when(proxyClient.client().updateDataSource(any(UpdateDataSourceRequest.class)))
                  .thenThrow(ValidationException.builder().build());
 
@@ -351,6 +363,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     public void handleRequest_throwsCfnNotFoundException() {
         final UpdateHandler handler = new UpdateHandler(testDataSourceArnBuilder);
 
+         stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
          when(proxyClient.client().updateDataSource(any(UpdateDataSourceRequest.class)))
                  .thenThrow(ResourceNotFoundException.builder().build());
 
@@ -380,7 +393,9 @@ public class UpdateHandlerTest extends AbstractTestBase {
     @Test
     public void handleRequest_throwsCfnResourceConflictException() {
         final UpdateHandler handler = new UpdateHandler(testDataSourceArnBuilder);
+        handler.serviceErrors = SERVICE_ERRORS;
 
+         stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
          when(proxyClient.client().updateDataSource(any(UpdateDataSourceRequest.class)))
                  .thenThrow(ConflictException.builder().build());
 
@@ -402,6 +417,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
              handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
          });
         verify(proxyClient.client(), times(1)).describeDataSource(any(DescribeDataSourceRequest.class));
+        // Retried, a conflict on an existing data source usually clears up
+        verify(proxyClient.client(), times(ServiceErrors.DEFAULT_MAX_ATTEMPTS)).updateDataSource(any(UpdateDataSourceRequest.class));
 
         verify(awsKendraClient, atLeastOnce()).serviceName();
     }
@@ -410,6 +427,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     public void handleRequest_throwsCfnGeneralServiceException() {
         final UpdateHandler handler = new UpdateHandler(testDataSourceArnBuilder);
 
+         stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
          when(proxyClient.client().updateDataSource(any(UpdateDataSourceRequest.class)))
                  .thenThrow(AwsServiceException.builder().build());
 
@@ -455,6 +473,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
           .desiredResourceState(model)
           .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().updateDataSource(any(UpdateDataSourceRequest.class)))
             .thenReturn(UpdateDataSourceResponse.builder().build());
         when(proxyClient.client().describeDataSource(any(DescribeDataSourceRequest.class)))
@@ -502,7 +521,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).updateDataSource(any(UpdateDataSourceRequest.class));
-        verify(proxyClient.client(), times(3)).describeDataSource(any(DescribeDataSourceRequest.class));
+        verify(proxyClient.client(), times(2)).describeDataSource(any(DescribeDataSourceRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
         verify(proxyClient.client(), times(1)).tagResource(any(TagResourceRequest.class));
 
@@ -532,6 +551,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
           .previousResourceState(prevModel)
           .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().updateDataSource(any(UpdateDataSourceRequest.class)))
             .thenReturn(UpdateDataSourceResponse.builder().build());
         when(proxyClient.client().describeDataSource(any(DescribeDataSourceRequest.class)))
@@ -574,7 +594,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).updateDataSource(any(UpdateDataSourceRequest.class));
-        verify(proxyClient.client(), times(3)).describeDataSource(any(DescribeDataSourceRequest.class));
+        verify(proxyClient.client(), times(2)).describeDataSource(any(DescribeDataSourceRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
         verify(proxyClient.client(), times(1)).untagResource(any(UntagResourceRequest.class));
 
@@ -609,6 +629,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
           .previousResourceState(prevModel)
           .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().updateDataSource(any(UpdateDataSourceRequest.class)))
             .thenReturn(UpdateDataSourceResponse.builder().build());
         when(proxyClient.client().describeDataSource(any(DescribeDataSourceRequest.class)))
@@ -658,7 +679,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).updateDataSource(any(UpdateDataSourceRequest.class));
-        verify(proxyClient.client(), times(3)).describeDataSource(any(DescribeDataSourceRequest.class));
+        verify(proxyClient.client(), times(2)).describeDataSource(any(DescribeDataSourceRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
         verify(proxyClient.client(), times(1)).tagResource(any(TagResourceRequest.class));
         verify(proxyClient.client(), times(1)).untagResource(any(UntagResourceRequest.class));
@@ -666,6 +687,192 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(awsKendraClient, atLeastOnce()).serviceName();
     }
 
+    @Test
+    public void handleRequest_NoChangeSkipsUpdate() {
+        final UpdateHandler handler = new UpdateHandler(testDataSourceArnBuilder);
+        final ResourceModel prevModel = ResourceModel.builder()
+            .id(TEST_ID)
+            .indexId(TEST_INDEX_ID)
+            .name(TEST_DATA_SOURCE_NAME)
+            .schedule(TEST_SCHEDULE)
+            .roleArn(TEST_ROLE_ARN)
+            .description(TEST_DESCRIPTION)
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+          .desiredResourceState(standardResourceModel)
+          .previousResourceState(prevModel)
+          .build();
+
+        when(proxyClient.client().describeDataSource(any(DescribeDataSourceRequest.class)))
+           .thenReturn(DescribeDataSourceResponse.builder()
+            .id(TEST_ID)
+            .indexId(TEST_INDEX_ID)
+            .name(TEST_DATA_SOURCE_NAME)
+            .schedule(TEST_SCHEDULE)
+            .description(TEST_DESCRIPTION)
+            .roleArn(TEST_ROLE_ARN)
+            .type(TEST_DATA_SOURCE_TYPE)
+            .status(DataSourceStatus.ACTIVE)
+            .build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+            .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), times(0)).updateDataSource(any(UpdateDataSourceRequest.class));
+        verify(proxyClient.client(), times(1)).describeDataSource(any(DescribeDataSourceRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+
+        verify(awsKendraClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_TagsOnlySkipsUpdateAndStabilization() {
+        final UpdateHandler handler = new UpdateHandler(testDataSourceArnBuilder);
+        String key = "key";
+        String value = "value";
+        List<Tag> tags = Arrays.asList(Tag.builder().key(key).value(value).build());
+        final ResourceModel model = ResourceModel.builder()
+            .id(TEST_ID)
+            .indexId(TEST_INDEX_ID)
+            .name(TEST_DATA_SOURCE_NAME)
+            .schedule(TEST_SCHEDULE)
+            .roleArn(TEST_ROLE_ARN)
+            .description(TEST_DESCRIPTION)
+            .tags(tags)
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+          .desiredResourceState(model)
+          .previousResourceState(standardResourceModel)
+          .build();
+
+        when(proxyClient.client().describeDataSource(any(DescribeDataSourceRequest.class)))
+           .thenReturn(DescribeDataSourceResponse.builder()
+            .id(TEST_ID)
+            .indexId(TEST_INDEX_ID)
+            .name(TEST_DATA_SOURCE_NAME)
+            .schedule(TEST_SCHEDULE)
+            .description(TEST_DESCRIPTION)
+            .roleArn(TEST_ROLE_ARN)
+            .type(TEST_DATA_SOURCE_TYPE)
+            .status(DataSourceStatus.ACTIVE)
+            .build());
+        when(proxyClient.client().tagResource(any(TagResourceRequest.class)))
+            .thenReturn(TagResourceResponse.builder().build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+            .thenReturn(ListTagsForResourceResponse
+                .builder()
+                .tags(Arrays.asList(software.amazon.awssdk.services.kendra.model.Tag
+                    .builder().key(key).value(value).build()))
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTags()).isEqualTo(tags);
+        verify(proxyClient.client(), times(0)).updateDataSource(any(UpdateDataSourceRequest.class));
+        verify(proxyClient.client(), times(1)).describeDataSource(any(DescribeDataSourceRequest.class));
+        verify(proxyClient.client(), times(1)).tagResource(any(TagResourceRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+
+        verify(awsKendraClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_TagsAppliedBeforeStabilization() {
+        final UpdateHandler handler = new UpdateHandler(testDataSourceArnBuilder,
+            Constant.of().timeout(Duration.ofMinutes(1)).delay(Duration.ofMillis(1L)).build());
+        String key = "key";
+        String value = "value";
+        final ResourceModel model = ResourceModel.builder()
+            .id(TEST_ID)
+            .indexId(TEST_INDEX_ID)
+            .name(TEST_DATA_SOURCE_NAME)
+            .schedule(TEST_SCHEDULE)
+            .roleArn(TEST_ROLE_ARN)
+            .description(TEST_DESCRIPTION)
+            .tags(Arrays.asList(Tag.builder().key(key).value(value).build()))
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+          .desiredResourceState(model)
+          .build();
+
+        final DescribeDataSourceResponse.Builder describeDataSourceResponse = DescribeDataSourceResponse.builder()
+            .id(TEST_ID)
+            .indexId(TEST_INDEX_ID)
+            .name(TEST_DATA_SOURCE_NAME)
+            .schedule(TEST_SCHEDULE)
+            .description(TEST_DESCRIPTION)
+            .roleArn(TEST_ROLE_ARN)
+            .type(TEST_DATA_SOURCE_TYPE);
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
+        when(proxyClient.client().updateDataSource(any(UpdateDataSourceRequest.class)))
+            .thenReturn(UpdateDataSourceResponse.builder().build());
+        when(proxyClient.client().tagResource(any(TagResourceRequest.class)))
+            .thenReturn(TagResourceResponse.builder().build());
+        when(proxyClient.client().describeDataSource(any(DescribeDataSourceRequest.class)))
+            .thenReturn(
+                describeDataSourceResponse.status(DataSourceStatus.ACTIVE).build(),
+                describeDataSourceResponse.status(DataSourceStatus.UPDATING).build(),
+                describeDataSourceResponse.status(DataSourceStatus.ACTIVE).build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+            .thenReturn(ListTagsForResourceResponse
+                .builder()
+                .tags(Arrays.asList(software.amazon.awssdk.services.kendra.model.Tag
+                    .builder().key(key).value(value).build()))
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext().isTagsUpdated()).isTrue();
+        final InOrder inOrder = inOrder(awsKendraClient);
+        inOrder.verify(awsKendraClient).describeDataSource(any(DescribeDataSourceRequest.class));
+        inOrder.verify(awsKendraClient).updateDataSource(any(UpdateDataSourceRequest.class));
+        inOrder.verify(awsKendraClient).tagResource(any(TagResourceRequest.class));
+        inOrder.verify(awsKendraClient, times(2)).describeDataSource(any(DescribeDataSourceRequest.class));
+        inOrder.verify(awsKendraClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+
+        verify(awsKendraClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_WaitsForTheIndexBeforeUpdating() {
+        final UpdateHandler handler = new UpdateHandler(testDataSourceArnBuilder,
+            Constant.of().timeout(Duration.ofMinutes(1)).delay(Duration.ofMillis(1L)).build());
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(standardResourceModel)
+            .build();
+
+        stubIndexStatus(proxyClient.client(), IndexStatus.UPDATING, IndexStatus.ACTIVE);
+        when(proxyClient.client().updateDataSource(any(UpdateDataSourceRequest.class)))
+            .thenReturn(UpdateDataSourceResponse.builder().build());
+        when(proxyClient.client().describeDataSource(any(DescribeDataSourceRequest.class)))
+            .thenReturn(DescribeDataSourceResponse.builder()
+                .id(TEST_ID)
+                .indexId(TEST_INDEX_ID)
+                .name(TEST_DATA_SOURCE_NAME)
+                .type(TEST_DATA_SOURCE_TYPE)
+                .status(DataSourceStatus.ACTIVE)
+                .build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+            .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext().isIndexReady()).isTrue();
+        final InOrder inOrder = inOrder(awsKendraClient);
+        inOrder.verify(awsKendraClient, times(2)).describeIndex(any(DescribeIndexRequest.class));
+        inOrder.verify(awsKendraClient).updateDataSource(any(UpdateDataSourceRequest.class));
+
+        verify(awsKendraClient, atLeastOnce()).serviceName();
+    }
+
     @Test
     public void handleRequest_FailWith_TagResourceThrowsException() {
         final UpdateHandler handler = new UpdateHandler(testDataSourceArnBuilder);
@@ -682,6 +889,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .tags(tags)
             .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().updateDataSource(any(UpdateDataSourceRequest.class)))
             .thenReturn(UpdateDataSourceResponse.builder().build());
         when(proxyClient.client().describeDataSource(any(DescribeDataSourceRequest.class)))
@@ -708,7 +916,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         });
 
         verify(proxyClient.client(), times(1)).updateDataSource(any(UpdateDataSourceRequest.class));
-        verify(proxyClient.client(), times(2)).describeDataSource(any(DescribeDataSourceRequest.class));
+        verify(proxyClient.client(), times(1)).describeDataSource(any(DescribeDataSourceRequest.class));
 
         verify(awsKendraClient, atLeastOnce()).serviceName();
     }
@@ -732,6 +940,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .tags(Arrays.asList(Tag.builder().key(key).value(value).build()))
                 .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().updateDataSource(any(UpdateDataSourceRequest.class)))
             .thenReturn(UpdateDataSourceResponse.builder().build());
         when(proxyClient.client().describeDataSource(any(DescribeDataSourceRequest.class)))
@@ -759,7 +968,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         });
 
         verify(proxyClient.client(), times(1)).updateDataSource(any(UpdateDataSourceRequest.class));
-        verify(proxyClient.client(), times(2)).describeDataSource(any(DescribeDataSourceRequest.class));
+        verify(proxyClient.client(), times(1)).describeDataSource(any(DescribeDataSourceRequest.class));
 
         verify(awsKendraClient, atLeastOnce()).serviceName();
     }
@@ -0,0 +1,126 @@
+package software.amazon.kendra.datasource.convert;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.kendra.model.SharePointVersion;
+import software.amazon.kendra.datasource.DataSourceToIndexFieldMapping;
+import software.amazon.kendra.datasource.DataSourceVpcConfiguration;
+import software.amazon.kendra.datasource.SalesforceChatterFeedConfiguration;
+import software.amazon.kendra.datasource.SalesforceConfiguration;
+import software.amazon.kendra.datasource.SalesforceStandardObjectConfiguration;
+import software.amazon.kendra.datasource.SharePointConfiguration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ListConverterTest {
+
+    private static final List<String> STRINGS = Arrays.asList("a", "b", "c");
+
+    @Test
+    void testToSdkNull() {
+        assertThat(ListConverter.toSdk(null, String::length)).isNull();
+        assertThat(StringListConverter.toSdk(null)).isNull();
+    }
+
+    @Test
+    void testToSdkKeepsEmptyList() {
+        assertThat(ListConverter.toSdk(Collections.<String>emptyList(), String::length)).isEmpty();
+        assertThat(StringListConverter.toSdk(Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    void testToModelDropsEmptyList() {
+        assertThat(ListConverter.toModel(null, String::length)).isNull();
+        assertThat(ListConverter.toModel(Collections.<String>emptyList(), String::length)).isNull();
+        assertThat(StringListConverter.toModel(null)).isNull();
+        assertThat(StringListConverter.toModel(Collections.emptyList())).isNull();
+    }
+
+    @Test
+    void testConvertsInOrder() {
+        assertThat(ListConverter.toSdk(STRINGS, String::toUpperCase)).containsExactly("A", "B", "C");
+        assertThat(ListConverter.toModel(STRINGS, String::toUpperCase)).containsExactly("A", "B", "C");
+        assertThat(StringListConverter.toSdk(STRINGS)).isEqualTo(STRINGS);
+        assertThat(StringListConverter.toModel(STRINGS)).isEqualTo(STRINGS);
+    }
+
+    @Test
+    void testReturnsMutableCopy() {
+        List<String> source = new ArrayList<>(STRINGS);
+        List<String> sdk = StringListConverter.toSdk(source);
+        List<String> model = StringListConverter.toModel(source);
+        List<String> converted = ListConverter.toSdk(source, s -> s);
+
+        sdk.add("d");
+        model.add("d");
+        converted.add("d");
+
+        assertThat(source).isEqualTo(STRINGS);
+    }
+
+    @Test
+    void testSharePointRoundTrip() {
+        SharePointConfiguration model = SharePointConfiguration.builder()
+                .sharePointVersion(SharePointVersion.SHAREPOINT_ONLINE.toString())
+                .urls(Arrays.asList("https://one.sharepoint.com", "https://two.sharepoint.com"))
+                .secretArn("secretArn")
+                .crawlAttachments(true)
+                .useChangeLog(false)
+                .inclusionPatterns(Arrays.asList("*.pdf", "*.docx"))
+                .exclusionPatterns(Arrays.asList("*.tmp"))
+                .vpcConfiguration(DataSourceVpcConfiguration.builder()
+                        .securityGroupIds(Arrays.asList("sg-1", "sg-2"))
+                        .subnetIds(Arrays.asList("subnet-1"))
+                        .build())
+                .fieldMappings(Arrays.asList(fieldMapping("author"), fieldMapping("created")))
+                .documentTitleFieldName("title")
+                .disableLocalGroups(true)
+                .build();
+
+        assertThat(SharePointConverter.toModelDataSourceConfiguration(
+                SharePointConverter.toSdkDataSourceConfiguration(model)).getSharePointConfiguration())
+                .isEqualTo(model);
+    }
+
+    @Test
+    void testSalesforceRoundTrip() {
+        SalesforceConfiguration model = SalesforceConfiguration.builder()
+                .serverUrl("https://example.my.salesforce.com")
+                .secretArn("secretArn")
+                .crawlAttachments(true)
+                .standardObjectConfigurations(Arrays.asList(
+                        SalesforceStandardObjectConfiguration.builder()
+                                .name("ACCOUNT")
+                                .documentDataFieldName("description")
+                                .documentTitleFieldName("name")
+                                .fieldMappings(Arrays.asList(fieldMapping("owner")))
+                                .build(),
+                        SalesforceStandardObjectConfiguration.builder()
+                                .name("CASE")
+                                .documentDataFieldName("body")
+                                .fieldMappings(Arrays.asList(fieldMapping("status"), fieldMapping("priority")))
+                                .build()))
+                .chatterFeedConfiguration(SalesforceChatterFeedConfiguration.builder()
+                        .documentDataFieldName("body")
+                        .fieldMappings(Arrays.asList(fieldMapping("author")))
+                        .includeFilterTypes(Arrays.asList("ACTIVE_USER", "STANDARD_USER"))
+                        .build())
+                .includeAttachmentFilePatterns(Arrays.asList("*.pdf"))
+                .excludeAttachmentFilePatterns(Arrays.asList("*.zip", "*.exe"))
+                .build();
+
+        assertThat(SalesforceConverter.toModel(SalesforceConverter.toSdkDataSourceConfiguration(model)))
+                .isEqualTo(model);
+    }
+
+    private static DataSourceToIndexFieldMapping fieldMapping(String name) {
+        return DataSourceToIndexFieldMapping.builder()
+                .dataSourceFieldName(name)
+                .indexFieldName("_" + name)
+                .build();
+    }
+}
@@ -1,18 +1,21 @@
 package software.amazon.kendra.datasource.convert;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import software.amazon.awssdk.core.document.Document;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.kendra.datasource.DataSourceConfiguration;
 import software.amazon.kendra.datasource.TemplateConfiguration;
 
@@ -183,4 +186,16 @@ class TemplateConverterTest {
     assertThat(objectList.get(0)).containsEntry("id", "1").containsEntry("name", "first");
     assertThat(objectList.get(1)).containsEntry("id", "2").containsEntry("name", "second");
   }
+
+  @Test
+  public void testTemplateTooLarge() {
+    Map<String, Object> template = ImmutableMap.of(
+        "fieldMappings", Collections.nCopies(100_000, "source_field_name")
+    );
+
+    assertThatThrownBy(() -> TemplateConverter.toSdkTemplateConfiguration(
+        TemplateConfiguration.builder().template(template).build()))
+        .isInstanceOf(CfnInvalidRequestException.class)
+        .hasMessageContaining(String.valueOf(TemplateConverter.MAX_TEMPLATE_BYTES));
+  }
 }
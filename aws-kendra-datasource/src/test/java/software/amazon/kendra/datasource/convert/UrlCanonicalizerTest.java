@@ -0,0 +1,72 @@
+package software.amazon.kendra.datasource.convert;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.kendra.datasource.WebCrawlerConfiguration;
+import software.amazon.kendra.datasource.WebCrawlerSeedUrlConfiguration;
+import software.amazon.kendra.datasource.WebCrawlerUrls;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+public class UrlCanonicalizerTest {
+
+    @Test
+    void testCanonicalize() {
+        assertThat(UrlCanonicalizer.canonicalize("HTTPS://Example.COM:443/Docs/?b=2&a=1&a=0#top"))
+                .isEqualTo("https://example.com/Docs?a=1&a=0&b=2");
+        assertThat(UrlCanonicalizer.canonicalize("https://example.com/")).isEqualTo("https://example.com");
+        assertThat(UrlCanonicalizer.canonicalize("http://example.com:8080/a//")).isEqualTo("http://example.com:8080/a");
+        assertThat(UrlCanonicalizer.canonicalize("https://my_host.example.com/a/")).isEqualTo("https://my_host.example.com/a");
+    }
+
+    @Test
+    void testCanonicalizeKeepsPathCase() {
+        assertThat(UrlCanonicalizer.canonicalize("https://example.com/Docs"))
+                .isNotEqualTo(UrlCanonicalizer.canonicalize("https://example.com/docs"));
+    }
+
+    @Test
+    void testCanonicalizeLeavesInvalidUrls() {
+        assertThat(UrlCanonicalizer.canonicalize("not a url")).isEqualTo("not a url");
+        assertThat(UrlCanonicalizer.canonicalize("example.com/docs")).isEqualTo("example.com/docs");
+    }
+
+    @Test
+    void testDedupeKeepsFirstSpelling() {
+        assertThat(UrlCanonicalizer.dedupe(Arrays.asList(
+                "https://example.com/docs/",
+                "https://EXAMPLE.com/docs",
+                "https://example.com/faq?b=2&a=1",
+                "https://example.com/faq?a=1&b=2")))
+                .containsExactly("https://example.com/docs/", "https://example.com/faq?b=2&a=1");
+        assertThat(UrlCanonicalizer.dedupe(null)).isNull();
+        assertThat(UrlCanonicalizer.dedupe(Collections.emptyList())).isEmpty();
+    }
+
+    @Test
+    void testDuplicates() {
+        assertThat(UrlCanonicalizer.duplicates(Arrays.asList(
+                "https://example.com/docs/",
+                "https://example.com/faq",
+                "https://example.com/docs",
+                "https://example.com/faq#answers")))
+                .containsExactly(entry(2, 0), entry(3, 1));
+    }
+
+    @Test
+    void testConverterSendsSeedUrlsAsDeclared() {
+        WebCrawlerConfiguration model = WebCrawlerConfiguration.builder()
+                .urls(WebCrawlerUrls.builder()
+                        .seedUrlConfiguration(WebCrawlerSeedUrlConfiguration.builder()
+                                .seedUrls(Arrays.asList("https://example.com/", "https://example.com", "https://example.org"))
+                                .build())
+                        .build())
+                .build();
+
+        assertThat(WebCrawlerConverter.toSdkDataSourceConfiguration(model).urls().seedUrlConfiguration().seedUrls())
+                .containsExactly("https://example.com/", "https://example.com", "https://example.org");
+    }
+}
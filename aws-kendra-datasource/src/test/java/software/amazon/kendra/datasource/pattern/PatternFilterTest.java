@@ -0,0 +1,191 @@
+package software.amazon.kendra.datasource.pattern;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.kendra.datasource.DataSourceConfiguration;
+import software.amazon.kendra.datasource.S3DataSourceConfiguration;
+import software.amazon.kendra.datasource.ServiceNowConfiguration;
+import software.amazon.kendra.datasource.ServiceNowKnowledgeArticleConfiguration;
+import software.amazon.kendra.datasource.SharePointConfiguration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PatternFilterTest {
+
+    @Test
+    void testGlobToRegex() {
+        assertThat(Glob.toRegex("*.pdf")).isEqualTo("[^/]*\\.pdf");
+        assertThat(Glob.toRegex("**/*internal*")).isEqualTo(".*/[^/]*internal[^/]*");
+        assertThat(Glob.toRegex("report-??.{pdf,docx}")).isEqualTo("report-[^/][^/]\\.(?:pdf|docx)");
+        assertThat(Glob.toRegex("[!a-c]\\*")).isEqualTo("[^a-c]\\*");
+        assertThat(Glob.isLiteral("docs/report.pdf")).isTrue();
+        assertThat(Glob.isLiteral("docs/*.pdf")).isFalse();
+    }
+
+    @Test
+    void testGlobMatchesWholeKey() {
+        PatternFilter filter = PatternFilter.builder(PatternSyntax.GLOB)
+                .inclusions("InclusionPatterns", Collections.singletonList("*.pdf"))
+                .exclusions("ExclusionPatterns", Collections.singletonList("**/*internal*"))
+                .build();
+
+        assertThat(filter.includes("report.pdf")).isTrue();
+        assertThat(filter.includes("docs/report.pdf")).isFalse();
+        assertThat(filter.includes("report.pdf.bak")).isFalse();
+        assertThat(filter.includes("docs/internal-report.pdf")).isFalse();
+    }
+
+    @Test
+    void testRegexMatchesAnywhere() {
+        PatternFilter filter = PatternFilter.builder(PatternSyntax.REGEX)
+                .inclusions("InclusionPatterns", Collections.singletonList("\\.pdf$"))
+                .exclusions("ExclusionPatterns", Collections.singletonList("/Drafts/"))
+                .build();
+
+        assertThat(filter.includes("https://example.sharepoint.com/Shared Documents/report.pdf")).isTrue();
+        assertThat(filter.includes("https://example.sharepoint.com/Drafts/report.pdf")).isFalse();
+        assertThat(filter.includes("https://example.sharepoint.com/Shared Documents/report.docx")).isFalse();
+    }
+
+    @Test
+    void testEmptyListsLetEverythingThrough() {
+        PatternFilter filter = PatternFilter.builder(PatternSyntax.GLOB).build();
+
+        assertThat(filter.getFindings()).isEmpty();
+        assertThat(filter.includes("any/key")).isTrue();
+    }
+
+    @Test
+    void testInvalidPatterns() {
+        PatternFilter glob = PatternFilter.builder(PatternSyntax.GLOB)
+                .inclusions("InclusionPatterns", Arrays.asList("[a-z", "{pdf,docx"))
+                .build();
+        PatternFilter regex = PatternFilter.builder(PatternSyntax.REGEX)
+                .exclusions("ExclusionPatterns", Collections.singletonList("(draft"))
+                .build();
+
+        assertThat(messages(glob, PatternFinding.Severity.ERROR)).containsExactly(
+                "InclusionPatterns[0] is not a valid glob pattern: Missing ']'",
+                "InclusionPatterns[1] is not a valid glob pattern: Missing '}'");
+        assertThat(messages(regex, PatternFinding.Severity.ERROR)).containsExactly(
+                "ExclusionPatterns[0] is not a valid regular expression: Unclosed group");
+    }
+
+    @Test
+    void testRedundantPatterns() {
+        PatternFilter filter = PatternFilter.builder(PatternSyntax.GLOB)
+                .prefixes("InclusionPrefixes", Arrays.asList("docs/", "docs/2024/", "docs/"))
+                .inclusions("InclusionPatterns", Arrays.asList("**/*.pdf", "docs/report.pdf", "**/*.pdf"))
+                .build();
+
+        assertThat(messages(filter, PatternFinding.Severity.ERROR)).isEmpty();
+        assertThat(messages(filter, PatternFinding.Severity.WARNING)).containsExactly(
+                "InclusionPrefixes[1] is already covered by InclusionPrefixes[0]",
+                "InclusionPrefixes[2] repeats InclusionPrefixes[0]",
+                "InclusionPatterns[1] is already matched by InclusionPatterns[0]",
+                "InclusionPatterns[2] repeats InclusionPatterns[0]");
+    }
+
+    @Test
+    void testInclusionMatchingEverything() {
+        PatternFilter filter = PatternFilter.builder(PatternSyntax.REGEX)
+                .inclusions("InclusionPatterns", Collections.singletonList(".*"))
+                .build();
+
+        assertThat(messages(filter, PatternFinding.Severity.WARNING)).containsExactly(
+                "InclusionPatterns[0] matches every document, the same as no InclusionPatterns");
+    }
+
+    @Test
+    void testExclusionMatchingEverything() {
+        PatternFilter filter = PatternFilter.builder(PatternSyntax.GLOB)
+                .inclusions("InclusionPatterns", Collections.singletonList("report.pdf"))
+                .exclusions("ExclusionPatterns", Collections.singletonList("**"))
+                .build();
+
+        assertThat(messages(filter, PatternFinding.Severity.ERROR)).containsExactly(
+                "ExclusionPatterns[0] excludes every document, a sync would index nothing");
+        assertThat(filter.includes("report.pdf")).isFalse();
+    }
+
+    @Test
+    void testShadowedInclusions() {
+        PatternFilter someShadowed = PatternFilter.builder(PatternSyntax.REGEX)
+                .inclusions("IncludeAttachmentFilePatterns", Arrays.asList("secret", "\\.pdf$"))
+                .exclusions("ExcludeAttachmentFilePatterns", Collections.singletonList("secr"))
+                .build();
+        PatternFilter allShadowed = PatternFilter.builder(PatternSyntax.REGEX)
+                .inclusions("IncludeAttachmentFilePatterns", Collections.singletonList("secret"))
+                .exclusions("ExcludeAttachmentFilePatterns", Collections.singletonList("secr"))
+                .build();
+
+        assertThat(messages(someShadowed, PatternFinding.Severity.ERROR)).isEmpty();
+        assertThat(messages(someShadowed, PatternFinding.Severity.WARNING)).containsExactly(
+                "IncludeAttachmentFilePatterns[0] is excluded by ExcludeAttachmentFilePatterns[0], it never includes "
+                        + "a document");
+        assertThat(messages(allShadowed, PatternFinding.Severity.ERROR)).containsExactly(
+                "IncludeAttachmentFilePatterns are all excluded, a sync would index nothing");
+    }
+
+    @Test
+    void testEstimate() {
+        PatternFilter filter = PatternFilter.builder(PatternSyntax.GLOB)
+                .prefixes("InclusionPrefixes", Arrays.asList("docs/", "archive/"))
+                .inclusions("InclusionPatterns", Arrays.asList("**/*.pdf", "**/*.docx"))
+                .exclusions("ExclusionPatterns", Arrays.asList("**/internal/**", "**/*.tmp"))
+                .build();
+        List<String> keys = Arrays.asList(
+                "docs/a.pdf",
+                "docs/b/c.pdf",
+                "docs/internal/d.pdf",
+                "docs/e.txt",
+                "images/f.pdf");
+
+        SyncEstimate estimate = filter.estimate(keys);
+
+        assertThat(estimate.getTotal()).isEqualTo(5);
+        assertThat(estimate.getIncluded()).isEqualTo(2);
+        assertThat(estimate.getExcluded()).isEqualTo(1);
+        assertThat(estimate.getNotIncluded()).isEqualTo(2);
+        assertThat(estimate.getUnusedPatterns()).containsExactly(
+                "InclusionPrefixes[1]", "InclusionPatterns[1]", "ExclusionPatterns[1]");
+        assertThat(estimate).hasToString("2 of 5 documents included, 1 excluded, 2 not included");
+    }
+
+    @Test
+    void testConnectorPatterns() {
+        DataSourceConfiguration configuration = DataSourceConfiguration.builder()
+                .s3Configuration(S3DataSourceConfiguration.builder()
+                        .bucketName("bucket")
+                        .exclusionPatterns(Collections.singletonList("**"))
+                        .build())
+                .sharePointConfiguration(SharePointConfiguration.builder().build())
+                .serviceNowConfiguration(ServiceNowConfiguration.builder()
+                        .knowledgeArticleConfiguration(ServiceNowKnowledgeArticleConfiguration.builder()
+                                .includeAttachmentFilePatterns(Collections.singletonList("(pdf"))
+                                .build())
+                        .build())
+                .build();
+
+        Map<String, PatternFilter> filters = ConnectorPatterns.of(configuration);
+
+        assertThat(filters).containsOnlyKeys(
+                "DataSourceConfiguration.S3Configuration",
+                "DataSourceConfiguration.ServiceNowConfiguration.KnowledgeArticleConfiguration");
+        assertThat(filters.get("DataSourceConfiguration.ServiceNowConfiguration.KnowledgeArticleConfiguration")
+                .getFindings().get(0).getPath()).isEqualTo("IncludeAttachmentFilePatterns[0]");
+        assertThat(ConnectorPatterns.of(null)).isEmpty();
+    }
+
+    private static List<String> messages(PatternFilter filter, PatternFinding.Severity severity) {
+        return filter.getFindings().stream()
+                .filter(finding -> finding.getSeverity() == severity)
+                .map(PatternFinding::toString)
+                .collect(Collectors.toList());
+    }
+}
@@ -4,6 +4,9 @@ public class ApiName {
     static final String CREATE_FAQ = "CreateFaq";
     static final String LIST_FAQS = "ListFaqs";
     static final String DESCRIBE_FAQ = "DescribeFaq";
+    static final String DESCRIBE_INDEX = "DescribeIndex";
     static final String DELETE_FAQ = "DeleteFaq";
     static final String LIST_TAGS_FOR_RESOURCE = "ListTagsForResource";
+    static final String TAG_RESOURCE = "TagResource";
+    static final String UNTAG_RESOURCE = "UntagResource";
 }
@@ -1,8 +1,11 @@
 package software.amazon.kendra.faq;
 
+import java.util.function.Function;
+
 import software.amazon.awssdk.services.kendra.KendraClient;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
+import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
@@ -10,19 +13,57 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+
+  // Replaced in tests so retries don't sleep
+  ServiceErrors serviceErrors = ClientBuilder.SERVICE_ERRORS;
+
+  // Replaced in tests to capture the metric lines and control the clock
+  HandlerMetrics metrics = HandlerMetrics.STANDARD_OUT;
+
+  // Replaced in tests to start with drained buckets
+  ApiRateLimiter rateLimiter = ClientBuilder.RATE_LIMITER;
+
   @Override
   public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
           final AmazonWebServicesClientProxy proxy,
           final ResourceHandlerRequest<ResourceModel> request,
           final CallbackContext callbackContext,
           final Logger logger) {
-    return handleRequest(
-            proxy,
-            request,
-            callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(ClientBuilder::getClient),
-            logger
-    );
+    // Callbacks carry the model the first invocation already checked
+    if (callbackContext == null && validatesDesiredState()) {
+      ResourceModelValidator.validate(request.getDesiredResourceState());
+    }
+    final KendraClient kendraClient = ClientBuilder.getClient(request);
+    final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+    ProgressEvent<ResourceModel, CallbackContext> progress;
+    try {
+      progress = handleRequest(
+              proxy,
+              request,
+              context,
+              new RateLimitedProxyClient(metrics.metered(proxy.newProxy(() -> kendraClient), context,
+                  () -> HandlerEvents.resourceId(request.getDesiredResourceState())), rateLimiter),
+              logger
+      );
+    } catch (ApiRateLimiter.WaitTooLongException e) {
+      if (!changesResource()) {
+        metrics.emit(action(), OperationStatus.FAILED, context);
+        throw e;
+      }
+      // The calls the proxy chains already made are kept in the context, the callback carries on from this one
+      final int callbackDelaySeconds = (int) Math.max(1, (e.getWait().toMillis() + 999) / 1000);
+      logger.log(String.format("%s The call is made again in a callback in %ds.", e.getMessage(),
+          callbackDelaySeconds));
+      progress = ProgressEvent.defaultInProgressHandler(context, callbackDelaySeconds,
+          request.getDesiredResourceState());
+    } catch (RuntimeException e) {
+      metrics.emit(action(), OperationStatus.FAILED, context);
+      throw e;
+    }
+    if (!progress.isInProgress()) {
+      metrics.emit(action(), progress.getStatus(), context);
+    }
+    return progress;
   }
 
   protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -31,4 +72,37 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
           final CallbackContext callbackContext,
           final ProxyClient<KendraClient> proxyClient,
           final Logger logger);
+
+  /**
+   * @return the step, timed as the named phase of the operation
+   */
+  protected Function<ProgressEvent<ResourceModel, CallbackContext>, ProgressEvent<ResourceModel, CallbackContext>> phase(
+      final String name,
+      final Function<ProgressEvent<ResourceModel, CallbackContext>, ProgressEvent<ResourceModel, CallbackContext>> step) {
+    return metrics.phase(name, step);
+  }
+
+  /**
+   * @return the operation the handler implements, e.g. Create for the CreateHandler
+   */
+  String action() {
+    return getClass().getSimpleName().replace("Handler", "");
+  }
+
+  /**
+   * Whether the handler changes the resource. CloudFormation calls those back while they are in progress, so a call
+   * the rate limiter would hold too long is made in a callback instead of failing the operation. Read and List
+   * answer in one invocation.
+   */
+  protected boolean changesResource() {
+    return false;
+  }
+
+  /**
+   * Whether the desired state is a whole model, to be validated against the schema before the handler runs.
+   * Read, Delete and List only get the identifiers.
+   */
+  protected boolean validatesDesiredState() {
+    return false;
+  }
 }
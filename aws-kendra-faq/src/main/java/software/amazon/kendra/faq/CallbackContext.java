@@ -1,5 +1,8 @@
 package software.amazon.kendra.faq;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 import software.amazon.cloudformation.proxy.StdCallbackContext;
 
 @lombok.Getter
@@ -7,4 +10,23 @@ import software.amazon.cloudformation.proxy.StdCallbackContext;
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    // Set once the index was seen ready, the FAQ is created in the same invocation
+    private boolean indexReady = false;
+
+    // Timings kept across re-invocations, written out by HandlerMetrics once the handler completes. Phases are in
+    // millis, the calls are counted and their latency summed per API.
+    private Map<String, Long> phaseStartedAt = new LinkedHashMap<>();
+    private Map<String, Long> phaseMillis = new LinkedHashMap<>();
+    private Map<String, Integer> apiCalls = new LinkedHashMap<>();
+    private Map<String, Long> apiMillis = new LinkedHashMap<>();
+
+    /**
+     * Records a call to Kendra, concurrent reads record theirs from other threads.
+     * @param apiName the API called
+     * @param millis how long the call took
+     */
+    public synchronized void recordCall(final String apiName, final long millis) {
+        apiCalls.merge(apiName, 1, Integer::sum);
+        apiMillis.merge(apiName, millis, Long::sum);
+    }
 }
@@ -1,10 +1,54 @@
 package software.amazon.kendra.faq;
 
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.KendraClientBuilder;
+import software.amazon.awssdk.services.kendra.model.ConflictException;
+import software.amazon.awssdk.services.kendra.model.ThrottlingException;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static software.amazon.kendra.faq.ApiName.CREATE_FAQ;
+import static software.amazon.kendra.faq.ApiName.DELETE_FAQ;
+import static software.amazon.kendra.faq.ApiName.DESCRIBE_FAQ;
+import static software.amazon.kendra.faq.ApiName.DESCRIBE_INDEX;
+import static software.amazon.kendra.faq.ApiName.LIST_FAQS;
+import static software.amazon.kendra.faq.ApiName.LIST_TAGS_FOR_RESOURCE;
+import static software.amazon.kendra.faq.ApiName.TAG_RESOURCE;
+import static software.amazon.kendra.faq.ApiName.UNTAG_RESOURCE;
 
 public class ClientBuilder {
-    public static KendraClient getClient() {
-        return KendraClient.builder().httpClient(LambdaWrapper.HTTP_CLIENT).build();
+
+    // Lives as long as the Lambda container, so warm invocations skip client construction.
+    static final KendraClientCache CLIENT_CACHE = new KendraClientCache(ClientBuilder::buildClient);
+
+    // Shared by every invocation in the container, so concurrent reads and stabilization polls draw from the
+    // same buckets. Calls that change a resource get a lower rate than reads.
+    static final ApiRateLimiter RATE_LIMITER = ApiRateLimiter.builder()
+        .limit(CREATE_FAQ, 1, 2)
+        .limit(DELETE_FAQ, 1, 2)
+        .limit(DESCRIBE_FAQ, 5, 10)
+        .limit(DESCRIBE_INDEX, 5, 10)
+        .limit(LIST_FAQS, 2, 5)
+        .limit(LIST_TAGS_FOR_RESOURCE, 5, 10)
+        .build();
+
+    // A conflict on an existing FAQ is usually another change to it still in progress, so it is worth waiting
+    // out. On CreateFaq it means the name is taken, which won't change by retrying.
+    static final ServiceErrors SERVICE_ERRORS = ServiceErrors.builder()
+        .retryOn(ThrottlingException.class)
+        .retryOn(ConflictException.class, DELETE_FAQ, TAG_RESOURCE, UNTAG_RESOURCE)
+        .build();
+
+    public static KendraClient getClient(final ResourceHandlerRequest<ResourceModel> request) {
+        return CLIENT_CACHE.get(request.getRegion(), request.getAwsPartition(), request.getAwsAccountId());
+    }
+
+    private static KendraClient buildClient(final KendraClientCache.Key key) {
+        final KendraClientBuilder builder = KendraClient.builder().httpClient(LambdaWrapper.HTTP_CLIENT);
+        if (key.getRegion() != null) {
+            builder.region(Region.of(key.getRegion()));
+        }
+        return builder.build();
     }
 }
@@ -1,27 +1,14 @@
 package software.amazon.kendra.faq;
 
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.kendra.KendraClient;
-import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
-import software.amazon.awssdk.services.kendra.model.ConflictException;
 import software.amazon.awssdk.services.kendra.model.CreateFaqRequest;
 import software.amazon.awssdk.services.kendra.model.CreateFaqResponse;
 import software.amazon.awssdk.services.kendra.model.DescribeFaqRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeFaqResponse;
 import software.amazon.awssdk.services.kendra.model.FaqStatus;
-import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.kendra.model.ServiceQuotaExceededException;
-import software.amazon.awssdk.services.kendra.model.ThrottlingException;
-import software.amazon.awssdk.services.kendra.model.ValidationException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
-import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
-import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -29,8 +16,10 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static software.amazon.kendra.faq.ApiName.CREATE_FAQ;
+import static software.amazon.kendra.faq.ApiName.DESCRIBE_FAQ;
 
 public class CreateHandler extends BaseHandlerStd {
     protected static final BiFunction<ResourceModel, ProxyClient<KendraClient>, ResourceModel> EMPTY_CALL =
@@ -40,13 +29,35 @@ public class CreateHandler extends BaseHandlerStd {
 
     private final FaqArnBuilder faqArnBuilder;
 
+    private final Function<ResourceModel, Delay> delayProvider;
+
+    private final Supplier<Delay> indexDelayProvider;
+
     public CreateHandler() {
-        super();
-        faqArnBuilder = new FaqArn();
+        this(new FaqArn());
     }
 
     public CreateHandler(FaqArnBuilder faqArnBuilder) {
         this.faqArnBuilder = faqArnBuilder;
+        this.delayProvider = model -> StabilizationDelays.forFaq(CREATE_FAQ);
+        this.indexDelayProvider = StabilizationDelays::forParentIndex;
+    }
+
+    // Used for testing.
+    public CreateHandler(FaqArnBuilder faqArnBuilder, Delay delay) {
+        this.faqArnBuilder = faqArnBuilder;
+        this.delayProvider = model -> delay;
+        this.indexDelayProvider = () -> delay;
+    }
+
+    @Override
+    protected boolean validatesDesiredState() {
+        return true;
+    }
+
+    @Override
+    protected boolean changesResource() {
+        return true;
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -59,17 +70,24 @@ public class CreateHandler extends BaseHandlerStd {
         this.logger = logger;
 
         final ResourceModel model = request.getDesiredResourceState();
+        final ResponseCache<DescribeFaqResponse> describeFaqResponseCache = new ResponseCache<>();
 
         return ProgressEvent.progress(model, callbackContext)
-                .then(progress ->
+                // Kendra rejects the create while the index is busy, wait for it instead of failing
+                .then(phase("AwaitIndex", progress -> ParentIndex.awaitReady(proxy, proxyClient, progress,
+                        indexDelayProvider.get(), serviceErrors, logger)))
+                .then(phase("Create", progress ->
                         proxy.initiate("AWS-Kendra-Faq::Create", proxyClient, model, callbackContext)
                                 // STEP 2.1 [TODO: construct a body of a request]
                                 .translateToServiceRequest(Translator::translateToCreateRequest)
                                 .makeServiceCall(this::createFaq)
                                 .done(this::setId)
-                )
-                .then(progress -> stabilize(proxy, proxyClient, progress))
-                .then(progress -> new ReadHandler(faqArnBuilder).handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                ))
+                .then(phase("PostCreateStabilize", progress -> stabilize(proxy, proxyClient, progress,
+                        delayProvider.apply(model), describeFaqResponseCache)))
+                // the last stabilization poll saw the faq ACTIVE, the read reuses that response
+                .then(phase("Read", progress -> new ReadHandler(faqArnBuilder, describeFaqResponseCache)
+                        .handleRequest(proxy, request, callbackContext, proxyClient, logger)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> setId(CreateFaqRequest createFaqRequest,
@@ -85,20 +103,26 @@ public class CreateHandler extends BaseHandlerStd {
     private ProgressEvent<ResourceModel, CallbackContext> stabilize(
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<KendraClient> proxyClient,
-            final ProgressEvent<ResourceModel, CallbackContext> progress) {
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Delay delay,
+            final ResponseCache<DescribeFaqResponse> describeFaqResponseCache) {
         return proxy.initiate("AWS-Kendra-Faq::PostCreateStabilize", proxyClient, progress.getResourceModel(),
                 progress.getCallbackContext())
                 .translateToServiceRequest(Function.identity())
+                .backoffDelay(delay)
                 .makeServiceCall(EMPTY_CALL)
                 .stabilize((request, response, proxyInvocation, model, callbackContext) ->
-                        isStabilized(proxyInvocation, model)).progress();
+                        isStabilized(proxyInvocation, model, describeFaqResponseCache)).progress();
 
     }
 
-    private boolean isStabilized(final ProxyClient<KendraClient> proxyClient, final ResourceModel model) {
+    private boolean isStabilized(final ProxyClient<KendraClient> proxyClient, final ResourceModel model,
+                                 final ResponseCache<DescribeFaqResponse> describeFaqResponseCache) {
         DescribeFaqRequest describeFaqRequest = Translator.translateToReadRequest(model);
-        DescribeFaqResponse describeFaqResponse = proxyClient.injectCredentialsAndInvokeV2(describeFaqRequest,
-                proxyClient.client()::describeFaq);
+        DescribeFaqResponse describeFaqResponse = HandlerEvents.stabilizationPoll(DESCRIBE_FAQ, model.getId(),
+                () -> proxyClient.injectCredentialsAndInvokeV2(describeFaqRequest, proxyClient.client()::describeFaq),
+                DescribeFaqResponse::statusAsString);
+        describeFaqResponseCache.put(describeFaqResponse);
         FaqStatus faqStatus = describeFaqResponse.status();
         if (faqStatus.equals(FaqStatus.FAILED)) {
             throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, model.getId());
@@ -116,30 +140,9 @@ public class CreateHandler extends BaseHandlerStd {
     private CreateFaqResponse createFaq(
             final CreateFaqRequest createFaqRequest,
             final ProxyClient<KendraClient> proxyClient) {
-        CreateFaqResponse createFaqResponse;
-        try {
-            createFaqResponse = proxyClient.injectCredentialsAndInvokeV2(createFaqRequest, proxyClient.client()::createFaq);
-        } catch (ValidationException e) {
-            throw new CfnInvalidRequestException(e.getMessage(), e);
-        } catch (ConflictException e) {
-            throw new CfnResourceConflictException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
-        } catch (ServiceQuotaExceededException e) {
-            throw new CfnServiceLimitExceededException(ResourceModel.TYPE_NAME, e.getMessage(), e.getCause());
-        } catch (AccessDeniedException e) {
-            throw new CfnAccessDeniedException(CREATE_FAQ, e);
-        } catch (ThrottlingException e) {
-            throw new CfnThrottlingException(CREATE_FAQ, e);
-        } catch (final AwsServiceException e) {
-            /*
-             * While the handler contract states that the handler must always return a progress event,
-             * you may throw any instance of BaseHandlerException, as the wrapper map it to a progress event.
-             * Each BaseHandlerException maps to a specific error code, and you should map service exceptions as closely as possible
-             * to more specific error codes
-             */
-            throw new CfnGeneralServiceException(CREATE_FAQ, e);
-        }
+        // A missing index is reported without an identifier, the FAQ doesn't have one yet
+        final CreateFaqResponse createFaqResponse = serviceErrors.call(CREATE_FAQ, null, () ->
+                proxyClient.injectCredentialsAndInvokeV2(createFaqRequest, proxyClient.client()::createFaq));
 
         logger.log(String.format("%s successfully created.", ResourceModel.TYPE_NAME));
         return createFaqResponse;
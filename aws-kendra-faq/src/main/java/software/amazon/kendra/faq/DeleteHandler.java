@@ -1,32 +1,43 @@
 package software.amazon.kendra.faq;
 
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.kendra.KendraClient;
-import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
-import software.amazon.awssdk.services.kendra.model.ConflictException;
 import software.amazon.awssdk.services.kendra.model.DeleteFaqRequest;
 import software.amazon.awssdk.services.kendra.model.DeleteFaqResponse;
 import software.amazon.awssdk.services.kendra.model.DescribeFaqRequest;
+import software.amazon.awssdk.services.kendra.model.DescribeFaqResponse;
 import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.kendra.model.ThrottlingException;
-import software.amazon.awssdk.services.kendra.model.ValidationException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.function.Function;
+
 import static software.amazon.kendra.faq.ApiName.DELETE_FAQ;
+import static software.amazon.kendra.faq.ApiName.DESCRIBE_FAQ;
 
 public class DeleteHandler extends BaseHandlerStd {
     private Logger logger;
 
+    private final Function<ResourceModel, Delay> delayProvider;
+
+    public DeleteHandler() {
+        super();
+        delayProvider = model -> StabilizationDelays.forFaq(DELETE_FAQ);
+    }
+
+    public DeleteHandler(Delay delay) {
+        super();
+        this.delayProvider = model -> delay;
+    }
+
+    @Override
+    protected boolean changesResource() {
+        return true;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -47,18 +58,19 @@ public class DeleteHandler extends BaseHandlerStd {
                 // for more information -> https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
                 // if target API does not support 'ResourceNotFoundException' then following check is required
                 // STEP 2.0 [delete/stabilize progress chain - required for resource deletion]
-                .then(progress ->
+                .then(phase("Delete", progress ->
                         // If your service API throws 'ResourceNotFoundException' for delete requests then DeleteHandler can return just proxy.initiate construction
                         // STEP 2.0 [initialize a proxy context]
                         proxy.initiate("AWS-Kendra-Faq::Delete", proxyClient, model, callbackContext)
                                 // STEP 2.1 [TODO: construct a body of a request]
                                 .translateToServiceRequest(Translator::translateToDeleteRequest)
+                                .backoffDelay(delayProvider.apply(model))
                                 // STEP 2.2 [TODO: make an api call]
                                 .makeServiceCall(this::deleteFaq)
                                 // STEP 2.3 [TODO: stabilize step is not necessarily required but typically involves describing the resource until it is in a certain status, though it can take many forms]
                                 // for more information -> https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
                                 .stabilize(this::stabilizedOnDelete)
-                                .done(this::setResourceModelToNullAndReturnSuccess));
+                                .done(this::setResourceModelToNullAndReturnSuccess)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> setResourceModelToNullAndReturnSuccess(
@@ -73,29 +85,8 @@ public class DeleteHandler extends BaseHandlerStd {
     private DeleteFaqResponse deleteFaq(
             final DeleteFaqRequest deleteFaqRequest,
             final ProxyClient<KendraClient> proxyClient) {
-        DeleteFaqResponse deleteFaqResponse;
-        try {
-            deleteFaqResponse = proxyClient.injectCredentialsAndInvokeV2(
-                    deleteFaqRequest, proxyClient.client()::deleteFaq);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, deleteFaqRequest.id(), e);
-        } catch (ConflictException e) {
-            throw new CfnResourceConflictException(e);
-        } catch (AccessDeniedException e) {
-            throw new CfnAccessDeniedException(DELETE_FAQ, e);
-        } catch (ThrottlingException e) {
-            throw new CfnThrottlingException(DELETE_FAQ, e);
-        } catch (ValidationException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (final AwsServiceException e) {
-            /*
-             * While the handler contract states that the handler must always return a progress event,
-             * you may throw any instance of BaseHandlerException, as the wrapper map it to a progress event.
-             * Each BaseHandlerException maps to a specific error code, and you should map service exceptions as closely as possible
-             * to more specific error codes
-             */
-            throw new CfnGeneralServiceException(DELETE_FAQ, e);
-        }
+        final DeleteFaqResponse deleteFaqResponse = serviceErrors.call(DELETE_FAQ, deleteFaqRequest.id(), () ->
+                proxyClient.injectCredentialsAndInvokeV2(deleteFaqRequest, proxyClient.client()::deleteFaq));
 
         logger.log(String.format("%s successfully deleted.", ResourceModel.TYPE_NAME));
         return deleteFaqResponse;
@@ -121,7 +112,9 @@ public class DeleteHandler extends BaseHandlerStd {
         DescribeFaqRequest describeFaqRequest = Translator.translateToReadRequest(model);
         boolean stabilized;
         try {
-            proxyClient.injectCredentialsAndInvokeV2(describeFaqRequest, proxyClient.client()::describeFaq);
+            HandlerEvents.stabilizationPoll(DESCRIBE_FAQ, model.getId(),
+                    () -> proxyClient.injectCredentialsAndInvokeV2(describeFaqRequest, proxyClient.client()::describeFaq),
+                    DescribeFaqResponse::statusAsString);
             stabilized = false;
         } catch (ResourceNotFoundException e) {
             stabilized = true;
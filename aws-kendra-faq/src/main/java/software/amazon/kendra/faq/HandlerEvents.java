@@ -0,0 +1,152 @@
+package software.amazon.kendra.faq;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder events for the steps of a handler, so a recording taken while the handlers run attributes
+ * latency and allocation to Kendra calls, stabilization polls, model conversions and handler phases instead of
+ * generic HTTP client frames.
+ *
+ * The events are only committed while a recording enables them, e.g. with -XX:StartFlightRecording, and cost an
+ * enabled check otherwise. Each carries the resource type, the resource id when it is known, and the outcome of
+ * the step, which is the simple name of the exception when the step failed.
+ */
+final class HandlerEvents {
+
+  static final String SUCCESS = "Success";
+
+  private HandlerEvents() {
+  }
+
+  /**
+   * @return the id of the resource the model identifies, null until it has one
+   */
+  static String resourceId(final ResourceModel model) {
+    return model == null ? null : model.getId();
+  }
+
+  /**
+   * Makes a call to Kendra as a {@link KendraApiCall}, one per attempt.
+   */
+  static <T> T apiCall(final String apiName, final String resourceId, final Supplier<T> call) {
+    final KendraApiCall event = new KendraApiCall();
+    event.apiName = apiName;
+    return record(event, resourceId, call, response -> SUCCESS);
+  }
+
+  /**
+   * Makes the describe call of a stabilization poll as a {@link StabilizationPoll}, its outcome is the status seen.
+   */
+  static <T> T stabilizationPoll(
+      final String apiName,
+      final String resourceId,
+      final Supplier<T> describe,
+      final Function<T, String> status) {
+    final StabilizationPoll event = new StabilizationPoll();
+    event.apiName = apiName;
+    return record(event, resourceId, describe, status);
+  }
+
+  /**
+   * Converts between the resource model and a request or response of the API as a {@link TranslatorConversion}.
+   */
+  static <T> T conversion(final String apiName, final String resourceId, final Supplier<T> conversion) {
+    final TranslatorConversion event = new TranslatorConversion();
+    event.apiName = apiName;
+    return record(event, resourceId, conversion, converted -> SUCCESS);
+  }
+
+  /**
+   * Runs one invocation's share of a handler phase as a {@link HandlerPhase}, its outcome is the status the phase
+   * returned.
+   */
+  static <T> T phase(
+      final String phase,
+      final String resourceId,
+      final Supplier<T> step,
+      final Function<T, String> status) {
+    final HandlerPhase event = new HandlerPhase();
+    event.phase = phase;
+    return record(event, resourceId, step, status);
+  }
+
+  private static <T> T record(
+      final StepEvent event,
+      final String resourceId,
+      final Supplier<T> step,
+      final Function<T, String> outcome) {
+    if (!event.isEnabled()) {
+      return step.get();
+    }
+    event.begin();
+    try {
+      final T result = step.get();
+      event.outcome = outcome.apply(result);
+      return result;
+    } catch (RuntimeException e) {
+      event.outcome = e.getClass().getSimpleName();
+      throw e;
+    } finally {
+      event.end();
+      if (event.shouldCommit()) {
+        event.resourceType = ResourceModel.TYPE_NAME;
+        event.resourceId = resourceId;
+        event.commit();
+      }
+    }
+  }
+
+  @Category({"Kendra", "Resource Provider"})
+  abstract static class StepEvent extends Event {
+    @Label("Resource Type")
+    String resourceType;
+
+    @Label("Resource Id")
+    String resourceId;
+
+    @Label("Outcome")
+    String outcome;
+  }
+
+  @Name(KendraApiCall.NAME)
+  @Label("Kendra API Call")
+  static final class KendraApiCall extends StepEvent {
+    static final String NAME = "software.amazon.kendra.KendraApiCall";
+
+    @Label("API")
+    String apiName;
+  }
+
+  @Name(StabilizationPoll.NAME)
+  @Label("Stabilization Poll")
+  static final class StabilizationPoll extends StepEvent {
+    static final String NAME = "software.amazon.kendra.StabilizationPoll";
+
+    @Label("API")
+    String apiName;
+  }
+
+  @Name(TranslatorConversion.NAME)
+  @Label("Translator Conversion")
+  static final class TranslatorConversion extends StepEvent {
+    static final String NAME = "software.amazon.kendra.TranslatorConversion";
+
+    @Label("API")
+    String apiName;
+  }
+
+  @Name(HandlerPhase.NAME)
+  @Label("Handler Phase")
+  static final class HandlerPhase extends StepEvent {
+    static final String NAME = "software.amazon.kendra.HandlerPhase";
+
+    @Label("Phase")
+    String phase;
+  }
+}
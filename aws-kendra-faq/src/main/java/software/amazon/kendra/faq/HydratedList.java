@@ -0,0 +1,77 @@
+package software.amazon.kendra.faq;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+
+/**
+ * Turns a page of listed identifiers into complete models by reading every resource on the page.
+ *
+ * The reads share a pool of at most {@link #PARALLELISM} threads, so a page costs a few rounds of Describe and
+ * ListTagsForResource calls instead of one read after another, and they go through the rate limited client like
+ * any other call. Every read completes before {@link #hydrate} returns or throws. A resource deleted between the
+ * list and its read is left out of the page.
+ *
+ * Hydration is opt-in through the {@value #ENVIRONMENT_VARIABLE} environment variable of the handler function,
+ * since it turns one call per page into two per resource.
+ */
+final class HydratedList {
+
+  static final String ENVIRONMENT_VARIABLE = "HYDRATED_LIST";
+
+  // Stays under the burst of the DescribeFaq bucket, so the reads of a page start without queueing.
+  static final int PARALLELISM = 8;
+
+  private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(PARALLELISM, PARALLELISM,
+      60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+        final Thread thread = new Thread(runnable, "kendra-faq-list");
+        thread.setDaemon(true);
+        return thread;
+      });
+
+  static {
+    // Threads are only kept while pages are being hydrated
+    EXECUTOR.allowCoreThreadTimeOut(true);
+  }
+
+  private HydratedList() {
+  }
+
+  static boolean enabledByEnvironment() {
+    return Boolean.parseBoolean(System.getenv(ENVIRONMENT_VARIABLE));
+  }
+
+  /**
+   * @param read reads the resource a listed model identifies
+   * @return the read models, in list order
+   */
+  static List<ResourceModel> hydrate(final List<ResourceModel> models, final UnaryOperator<ResourceModel> read) {
+    final List<CompletableFuture<ResourceModel>> reads = new ArrayList<>(models.size());
+    for (final ResourceModel model : models) {
+      reads.add(CompletableFuture.supplyAsync(() -> read.apply(model), EXECUTOR));
+    }
+    final List<ResourceModel> hydrated = new ArrayList<>(models.size());
+    RuntimeException failure = null;
+    for (final CompletableFuture<ResourceModel> result : reads) {
+      try {
+        hydrated.add(ConcurrentReads.join(result));
+      } catch (CfnNotFoundException e) {
+        // Deleted since it was listed
+      } catch (RuntimeException e) {
+        if (failure == null) {
+          failure = e;
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+    return hydrated;
+  }
+}
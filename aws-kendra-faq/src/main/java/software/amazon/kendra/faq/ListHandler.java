@@ -2,21 +2,11 @@ package software.amazon.kendra.faq;
 
 import static software.amazon.kendra.faq.ApiName.LIST_FAQS;
 
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import java.util.List;
+
 import software.amazon.awssdk.services.kendra.KendraClient;
-import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
-import software.amazon.awssdk.services.kendra.model.ConflictException;
 import software.amazon.awssdk.services.kendra.model.ListFaqsRequest;
 import software.amazon.awssdk.services.kendra.model.ListFaqsResponse;
-import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.kendra.model.ThrottlingException;
-import software.amazon.awssdk.services.kendra.model.ValidationException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -26,6 +16,35 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ListHandler extends BaseHandlerStd {
 
+    // Lives as long as the Lambda container, so a caller walking the pages picks up the page read ahead for it
+    private static final ListPages<ListFaqsResponse> PAGES = new ListPages<>(ListPages.readAheadFromEnvironment());
+
+    private final boolean hydrate;
+
+    private final FaqArnBuilder faqArnBuilder;
+
+    private final ListPages<ListFaqsResponse> pages;
+
+    private final int pageSize;
+
+    public ListHandler() {
+        this(HydratedList.enabledByEnvironment(), new FaqArn());
+    }
+
+    /**
+     * @param hydrate whether to read every listed faq and return complete models instead of identifiers
+     */
+    public ListHandler(boolean hydrate, FaqArnBuilder faqArnBuilder) {
+        this(hydrate, faqArnBuilder, PAGES, ListPages.pageSizeFromEnvironment());
+    }
+
+    ListHandler(boolean hydrate, FaqArnBuilder faqArnBuilder, ListPages<ListFaqsResponse> pages, int pageSize) {
+        this.hydrate = hydrate;
+        this.faqArnBuilder = faqArnBuilder;
+        this.pages = pages;
+        this.pageSize = pageSize;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -35,37 +54,61 @@ public class ListHandler extends BaseHandlerStd {
             final Logger logger) {
 
         ResourceModel resourceModel = request.getDesiredResourceState();
-        // STEP 1 [TODO: construct a body of a request]
-        final ListFaqsRequest listFaqsRequest = Translator.translateToListRequest(resourceModel, request.getNextToken());
-        // STEP 2 [TODO: make an api call]
-        ListFaqsResponse listFaqsResponse = listFaqs(listFaqsRequest, proxyClient);
+        final String scope = String.join("/", request.getAwsAccountId(), request.getRegion(),
+                resourceModel.getIndexId());
+        return pages.list(scope, request.getNextToken(),
+                // STEP 1 [TODO: construct a body of a request]
+                // STEP 2 [TODO: make an api call]
+                token -> listFaqs(Translator.translateToListRequest(resourceModel, token, pageSize), proxyClient),
+                ListFaqsResponse::nextToken,
+                listFaqsResponse -> toProgress(proxy, request, listFaqsResponse, proxyClient, logger));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> toProgress(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final ListFaqsResponse listFaqsResponse,
+            final ProxyClient<KendraClient> proxyClient,
+            final Logger logger) {
+        ResourceModel resourceModel = request.getDesiredResourceState();
         // STEP 3 [TODO: get a token for the next page]
         String nextToken = listFaqsResponse.nextToken();
         // STEP 4 [TODO: construct resource models]
         // e.g. https://github.com/aws-cloudformation/aws-cloudformation-resource-providers-logs/blob/master/aws-logs-loggroup/src/main/java/software/amazon/logs/loggroup/ListHandler.java#L19-L21
 
+        List<ResourceModel> resourceModels = Translator.translateFromListResponse(listFaqsResponse, resourceModel.getIndexId());
+        if (hydrate) {
+            resourceModels = HydratedList.hydrate(resourceModels, model -> read(proxy, request, model, proxyClient, logger));
+        }
+
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModels(Translator.translateFromListResponse(listFaqsResponse, resourceModel.getIndexId()))
+                .resourceModels(resourceModels)
                 .nextToken(nextToken)
                 .status(OperationStatus.SUCCESS)
                 .build();
     }
 
+    private ResourceModel read(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final ResourceModel model,
+            final ProxyClient<KendraClient> proxyClient,
+            final Logger logger) {
+        // The reads run concurrently, each gets its own handler and context
+        final ReadHandler readHandler = new ReadHandler(faqArnBuilder);
+        readHandler.serviceErrors = serviceErrors;
+        final ResourceHandlerRequest<ResourceModel> readRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsPartition(request.getAwsPartition())
+                .region(request.getRegion())
+                .awsAccountId(request.getAwsAccountId())
+                .desiredResourceState(model)
+                .build();
+        return readHandler.handleRequest(proxy, readRequest, new CallbackContext(), proxyClient, logger).getResourceModel();
+    }
+
     private ListFaqsResponse listFaqs(ListFaqsRequest request, ProxyClient<KendraClient> proxyClient) {
-        try {
-            return proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::listFaqs);
-        } catch (ValidationException e) {
-            throw new CfnInvalidRequestException(LIST_FAQS, e);
-        } catch (ConflictException e) {
-            throw new CfnResourceConflictException(e);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(e);
-        } catch (ThrottlingException e) {
-            throw new CfnThrottlingException(LIST_FAQS, e);
-        } catch (AccessDeniedException e) {
-            throw new CfnAccessDeniedException(LIST_FAQS, e);
-        } catch (AwsServiceException e) {
-            throw new CfnGeneralServiceException(e);
-        }
+        // A missing index is reported without an identifier
+        return serviceErrors.call(LIST_FAQS, null, () ->
+                proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::listFaqs));
     }
 }
@@ -0,0 +1,110 @@
+package software.amazon.kendra.faq;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Records every Kendra call made through the proxy client in the {@link CallbackContext}, counted and timed per
+ * API, whether it succeeds or fails.
+ *
+ * The API is named the way {@link RateLimitedProxyClient} names it. An async call is timed until its future
+ * completes, a paginated call until it returns its iterable. Calls that aren't async are also recorded as
+ * {@link HandlerEvents.KendraApiCall} events for a flight recording.
+ */
+public class MeteredProxyClient implements ProxyClient<KendraClient> {
+
+  private final ProxyClient<KendraClient> delegate;
+  private final CallbackContext callbackContext;
+  private final LongSupplier clock;
+  private final Supplier<String> resourceId;
+
+  /**
+   * @param resourceId the id of the resource the handler is working on, read at each call since a create only
+   *                   learns it along the way
+   */
+  public MeteredProxyClient(
+      final ProxyClient<KendraClient> delegate,
+      final CallbackContext callbackContext,
+      final LongSupplier clock,
+      final Supplier<String> resourceId) {
+    this.delegate = delegate;
+    this.callbackContext = callbackContext;
+    this.clock = clock;
+    this.resourceId = resourceId;
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+      final RequestT request,
+      final Function<RequestT, ResponseT> requestFunction) {
+    return timed(request, () -> delegate.injectCredentialsAndInvokeV2(request, requestFunction));
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+      injectCredentialsAndInvokeV2Async(
+      final RequestT request,
+      final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+    final long startedAt = clock.getAsLong();
+    final CompletableFuture<ResponseT> response;
+    try {
+      response = delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+    } catch (RuntimeException e) {
+      record(request, startedAt);
+      throw e;
+    }
+    return response.whenComplete((result, e) -> record(request, startedAt));
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+      IterableT injectCredentialsAndInvokeIterableV2(
+      final RequestT request,
+      final Function<RequestT, IterableT> requestFunction) {
+    return timed(request, () -> delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction));
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+      injectCredentialsAndInvokeV2InputStream(
+      final RequestT request,
+      final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+    return timed(request, () -> delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction));
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+      injectCredentialsAndInvokeV2Bytes(
+      final RequestT request,
+      final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+    return timed(request, () -> delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction));
+  }
+
+  @Override
+  public KendraClient client() {
+    return delegate.client();
+  }
+
+  private <T> T timed(final AwsRequest request, final Supplier<T> call) {
+    final long startedAt = clock.getAsLong();
+    try {
+      return HandlerEvents.apiCall(RateLimitedProxyClient.apiName(request), resourceId.get(), call);
+    } finally {
+      record(request, startedAt);
+    }
+  }
+
+  private void record(final AwsRequest request, final long startedAt) {
+    callbackContext.recordCall(RateLimitedProxyClient.apiName(request), clock.getAsLong() - startedAt);
+  }
+}
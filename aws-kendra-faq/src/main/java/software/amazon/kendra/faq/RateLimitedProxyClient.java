@@ -0,0 +1,85 @@
+package software.amazon.kendra.faq;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Passes every Kendra call made through the proxy client through the {@link ApiRateLimiter} first.
+ *
+ * The API is named after the request class, e.g. DescribeFaqRequest is DescribeFaq, which is the spelling
+ * the {@link ApiName} constants use. A paginated call takes one permit when it starts.
+ */
+public class RateLimitedProxyClient implements ProxyClient<KendraClient> {
+
+  private static final String REQUEST_SUFFIX = "Request";
+
+  private final ProxyClient<KendraClient> delegate;
+  private final ApiRateLimiter rateLimiter;
+
+  public RateLimitedProxyClient(final ProxyClient<KendraClient> delegate, final ApiRateLimiter rateLimiter) {
+    this.delegate = delegate;
+    this.rateLimiter = rateLimiter;
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT injectCredentialsAndInvokeV2(
+      final RequestT request,
+      final Function<RequestT, ResponseT> requestFunction) {
+    rateLimiter.acquire(apiName(request));
+    return delegate.injectCredentialsAndInvokeV2(request, requestFunction);
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> CompletableFuture<ResponseT>
+      injectCredentialsAndInvokeV2Async(
+      final RequestT request,
+      final Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+    rateLimiter.acquire(apiName(request));
+    return delegate.injectCredentialsAndInvokeV2Async(request, requestFunction);
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+      IterableT injectCredentialsAndInvokeIterableV2(
+      final RequestT request,
+      final Function<RequestT, IterableT> requestFunction) {
+    rateLimiter.acquire(apiName(request));
+    return delegate.injectCredentialsAndInvokeIterableV2(request, requestFunction);
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+      injectCredentialsAndInvokeV2InputStream(
+      final RequestT request,
+      final Function<RequestT, ResponseInputStream<ResponseT>> requestFunction) {
+    rateLimiter.acquire(apiName(request));
+    return delegate.injectCredentialsAndInvokeV2InputStream(request, requestFunction);
+  }
+
+  @Override
+  public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+      injectCredentialsAndInvokeV2Bytes(
+      final RequestT request,
+      final Function<RequestT, ResponseBytes<ResponseT>> requestFunction) {
+    rateLimiter.acquire(apiName(request));
+    return delegate.injectCredentialsAndInvokeV2Bytes(request, requestFunction);
+  }
+
+  @Override
+  public KendraClient client() {
+    return delegate.client();
+  }
+
+  static String apiName(final AwsRequest request) {
+    final String name = request.getClass().getSimpleName();
+    return name.endsWith(REQUEST_SUFFIX) ? name.substring(0, name.length() - REQUEST_SUFFIX.length()) : name;
+  }
+}
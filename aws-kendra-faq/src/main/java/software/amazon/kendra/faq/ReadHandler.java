@@ -1,22 +1,11 @@
 package software.amazon.kendra.faq;
 
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
 
 import software.amazon.awssdk.services.kendra.KendraClient;
-import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
 import software.amazon.awssdk.services.kendra.model.DescribeFaqRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeFaqResponse;
 import software.amazon.awssdk.services.kendra.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.kendra.model.ListTagsForResourceResponse;
-import software.amazon.awssdk.services.kendra.model.ResourceInUseException;
-import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.kendra.model.ThrottlingException;
-import software.amazon.awssdk.services.kendra.model.ValidationException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -29,14 +18,26 @@ import static software.amazon.kendra.faq.ApiName.LIST_TAGS_FOR_RESOURCE;
 public class ReadHandler extends BaseHandlerStd {
     private Logger logger;
     private FaqArnBuilder faqArnBuilder;
+    // Only ever filled by the create and update chains, a standalone read always describes the faq.
+    private final ResponseCache<DescribeFaqResponse> describeFaqResponseCache;
 
     public ReadHandler() {
         super();
         faqArnBuilder = new FaqArn();
+        describeFaqResponseCache = new ResponseCache<>();
     }
 
     public ReadHandler(FaqArnBuilder faqArnBuilder) {
+        this(faqArnBuilder, new ResponseCache<>());
+    }
+
+    /**
+     * @param describeFaqResponseCache the latest DescribeFaq response seen by the calling handler, reused instead
+     *                                 of describing the faq again
+     */
+    public ReadHandler(FaqArnBuilder faqArnBuilder, ResponseCache<DescribeFaqResponse> describeFaqResponseCache) {
         this.faqArnBuilder = faqArnBuilder;
+        this.describeFaqResponseCache = describeFaqResponseCache;
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -53,18 +54,20 @@ public class ReadHandler extends BaseHandlerStd {
         // TODO: Adjust Progress Chain according to your implementation
         // https://github.com/aws-cloudformation/cloudformation-cli-java-plugin/blob/master/src/main/java/software/amazon/cloudformation/proxy/CallChain.java
 
-        DescribeFaqRequest describeFaqRequest = Translator.translateToReadRequest(model);
-        DescribeFaqResponse describeFaqResponse = readFaq(describeFaqRequest, proxyClient);
-        String faqArn = faqArnBuilder.build(request);
+        // The ARN only depends on the request, so the tags are listed while the faq is described.
+        final String faqArn = faqArnBuilder.build(request);
+        return ConcurrentReads.both(
+                () -> describeFaqResponseCache.get()
+                        .orElseGet(() -> readFaq(Translator.translateToReadRequest(model), proxyClient)),
+                () -> listTags(faqArn, proxyClient),
+                (describeFaqResponse, listTagsForResourceResponse) ->
+                        constructResourceModelFromResponse(describeFaqResponse, listTagsForResourceResponse, faqArn));
+    }
+
+    private ListTagsForResourceResponse listTags(final String faqArn, final ProxyClient<KendraClient> proxyClient) {
         final ListTagsForResourceRequest listTagsForResourceRequest = Translator.translateToListTagsRequest(faqArn);
-        ListTagsForResourceResponse listTagsForResourceResponse;
-        try {
-            listTagsForResourceResponse = proxyClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest,
-                    proxyClient.client()::listTagsForResource);
-        } catch (ResourceInUseException e) {
-            throw new CfnGeneralServiceException(LIST_TAGS_FOR_RESOURCE, e);
-        }
-        return constructResourceModelFromResponse(describeFaqResponse, listTagsForResourceResponse, faqArn);
+        return serviceErrors.call(LIST_TAGS_FOR_RESOURCE, faqArn, () ->
+                proxyClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest, proxyClient.client()::listTagsForResource));
     }
 
     /**
@@ -77,27 +80,8 @@ public class ReadHandler extends BaseHandlerStd {
     private DescribeFaqResponse readFaq(
             final DescribeFaqRequest describeFaqRequest,
             final ProxyClient<KendraClient> proxyClient) {
-        DescribeFaqResponse describeFaqResponse;
-        try {
-            describeFaqResponse = proxyClient.injectCredentialsAndInvokeV2(
-                    describeFaqRequest, proxyClient.client()::describeFaq);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, describeFaqRequest.id(), e);
-        } catch (ValidationException e) {
-            throw new CfnInvalidRequestException(e);
-        } catch (AccessDeniedException e) {
-            throw new CfnAccessDeniedException(DESCRIBE_FAQ, e);
-        } catch (ThrottlingException e) {
-            throw new CfnThrottlingException(DESCRIBE_FAQ, e);
-        } catch (final AwsServiceException e) { // ResourceNotFoundException
-            /*
-             * While the handler contract states that the handler must always return a progress event,
-             * you may throw any instance of BaseHandlerException, as the wrapper map it to a progress event.
-             * Each BaseHandlerException maps to a specific error code, and you should map service exceptions as closely as possible
-             * to more specific error codes
-             */
-            throw new CfnGeneralServiceException(DESCRIBE_FAQ, e); // e.g. https://github.com/aws-cloudformation/aws-cloudformation-resource-providers-logs/commit/2077c92299aeb9a68ae8f4418b5e932b12a8b186#diff-5761e3a9f732dc1ef84103dc4bc93399R56-R63
-        }
+        final DescribeFaqResponse describeFaqResponse = serviceErrors.call(DESCRIBE_FAQ, describeFaqRequest.id(), () ->
+                proxyClient.injectCredentialsAndInvokeV2(describeFaqRequest, proxyClient.client()::describeFaq));
 
         logger.log(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
         return describeFaqResponse;
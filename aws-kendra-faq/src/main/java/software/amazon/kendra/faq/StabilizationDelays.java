@@ -0,0 +1,62 @@
+package software.amazon.kendra.faq;
+
+import java.time.Duration;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+import static software.amazon.kendra.faq.ApiName.CREATE_FAQ;
+import static software.amazon.kendra.faq.ApiName.DELETE_FAQ;
+
+/**
+ * Picks the stabilization schedule for a FAQ operation.
+ *
+ * A new delay is handed out per request because the handlers are reused across invocations and the delay
+ * keeps per-request counters.
+ */
+final class StabilizationDelays {
+
+    // Set the timeout to something silly/way too high, because
+    // we already set the timeout in the schema https://github.com/aws-cloudformation/aws-cloudformation-resource-schema
+    static final Duration TIMEOUT = Duration.ofDays(365L);
+
+    private StabilizationDelays() {
+    }
+
+    static Delay forFaq(final String operation) {
+        switch (operation) {
+            case CREATE_FAQ:
+                // Create ingests the FAQ file from S3, a few minutes for large files.
+                return AdaptiveDelay.of()
+                        .timeout(TIMEOUT)
+                        .earlyPolls(3)
+                        .earlyDelay(Duration.ofSeconds(10))
+                        .baseDelay(Duration.ofSeconds(20))
+                        .maxDelay(Duration.ofMinutes(2))
+                        .build();
+            case DELETE_FAQ:
+                return AdaptiveDelay.of()
+                        .timeout(TIMEOUT)
+                        .earlyPolls(3)
+                        .earlyDelay(Duration.ofSeconds(5))
+                        .baseDelay(Duration.ofSeconds(15))
+                        .maxDelay(Duration.ofMinutes(1))
+                        .build();
+            default:
+                throw new IllegalArgumentException("No stabilization schedule for " + operation);
+        }
+    }
+
+    /**
+     * The schedule for waiting on a busy index before the FAQ is created. An index update takes minutes, so there
+     * is no point polling it as often as the FAQ.
+     */
+    static Delay forParentIndex() {
+        return AdaptiveDelay.of()
+                .timeout(TIMEOUT)
+                .earlyPolls(1)
+                .earlyDelay(Duration.ofSeconds(15))
+                .baseDelay(Duration.ofSeconds(30))
+                .maxDelay(Duration.ofMinutes(2))
+                .build();
+    }
+}
@@ -20,6 +20,9 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static software.amazon.kendra.faq.ApiName.CREATE_FAQ;
+import static software.amazon.kendra.faq.ApiName.DESCRIBE_FAQ;
+
 /**
  * This class is a centralized placeholder for
  *  - api request construction
@@ -30,6 +33,10 @@ import java.util.stream.Stream;
 public class Translator {
 
   static CreateFaqRequest translateToCreateRequest(final ResourceModel model) {
+    return HandlerEvents.conversion(CREATE_FAQ, model.getId(), () -> createRequest(model));
+  }
+
+  private static CreateFaqRequest createRequest(final ResourceModel model) {
     CreateFaqRequest.Builder builder = CreateFaqRequest.builder()
             .indexId(model.getIndexId())
             .description(model.getDescription())
@@ -59,6 +66,13 @@ public class Translator {
   static ResourceModel translateFromReadResponse(final DescribeFaqResponse describeFaqResponse,
                                                  final ListTagsForResourceResponse listTagsForResourceResponse,
                                                  final String arn) {
+    return HandlerEvents.conversion(DESCRIBE_FAQ, describeFaqResponse.id(),
+            () -> modelFromReadResponse(describeFaqResponse, listTagsForResourceResponse, arn));
+  }
+
+  private static ResourceModel modelFromReadResponse(final DescribeFaqResponse describeFaqResponse,
+                                                     final ListTagsForResourceResponse listTagsForResourceResponse,
+                                                     final String arn) {
     ResourceModel.ResourceModelBuilder builder = ResourceModel.builder()
             .id(describeFaqResponse.id())
             .indexId(describeFaqResponse.indexId())
@@ -91,11 +105,13 @@ public class Translator {
             .build();
   }
 
-  static ListFaqsRequest translateToListRequest(final ResourceModel resourceModel, final String nextToken) {
+  static ListFaqsRequest translateToListRequest(final ResourceModel resourceModel, final String nextToken,
+                                               final int maxResults) {
     return ListFaqsRequest
             .builder()
             .indexId(resourceModel.getIndexId())
             .nextToken(nextToken)
+            .maxResults(maxResults)
             .build();
   }
 
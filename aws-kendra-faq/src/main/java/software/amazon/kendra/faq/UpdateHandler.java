@@ -7,8 +7,6 @@ import software.amazon.awssdk.services.kendra.model.DescribeFaqResponse;
 import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.kendra.model.TagResourceRequest;
 import software.amazon.awssdk.services.kendra.model.UntagResourceRequest;
-import software.amazon.awssdk.services.kendra.model.ValidationException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotUpdatableException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -22,6 +20,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static software.amazon.kendra.faq.ApiName.TAG_RESOURCE;
+import static software.amazon.kendra.faq.ApiName.UNTAG_RESOURCE;
+
 public class UpdateHandler extends BaseHandlerStd {
     private Logger logger;
 
@@ -36,6 +37,16 @@ public class UpdateHandler extends BaseHandlerStd {
         this.faqArnBuilder = faqArnBuilder;
     }
 
+    @Override
+    protected boolean validatesDesiredState() {
+        return true;
+    }
+
+    @Override
+    protected boolean changesResource() {
+        return true;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
             final ResourceHandlerRequest<ResourceModel> request,
@@ -48,19 +59,26 @@ public class UpdateHandler extends BaseHandlerStd {
         final ResourceModel model = request.getDesiredResourceState();
 
         verifyNonUpdatableFields(model, request.getPreviousResourceState());
+        final ResponseCache<DescribeFaqResponse> describeFaqResponseCache = new ResponseCache<>();
 
         // TODO: Adjust Progress Chain according to your implementation
         // https://github.com/aws-cloudformation/cloudformation-cli-java-plugin/blob/master/src/main/java/software/amazon/cloudformation/proxy/CallChain.java
 
         return ProgressEvent.progress(model, callbackContext)
-                .then(progress ->
+                .then(phase("ValidateResourceExists", progress ->
                         proxy.initiate("AWS-Kendra-Faq::ValidateResourceExists", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(resourceModel -> Translator.translateToReadRequest(model))
                                 .makeServiceCall(this::validateResourceExists)
-                                .progress())
+                                .done((describeFaqRequest, describeFaqResponse, client, resourceModel, context) -> {
+                                    // Only tags are sent to Kendra on update (there is no UpdateFaq), so this response
+                                    // is still current for the final read
+                                    describeFaqResponseCache.put(describeFaqResponse);
+                                    return ProgressEvent.progress(resourceModel, context);
+                                })))
                 // STEP 1 [first update/stabilize progress chain - required for resource update]
-                .then(progress -> updateTags(proxyClient, progress, request))
-                .then(progress -> new ReadHandler(faqArnBuilder).handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(phase("Tag", progress -> updateTags(proxyClient, progress, request)))
+                .then(phase("Read", progress -> new ReadHandler(faqArnBuilder, describeFaqResponseCache)
+                        .handleRequest(proxy, request, callbackContext, proxyClient, logger)));
     }
 
     private DescribeFaqResponse validateResourceExists(DescribeFaqRequest describeFaqRequest, ProxyClient<KendraClient> proxyClient) {
@@ -94,21 +112,15 @@ public class UpdateHandler extends BaseHandlerStd {
         final Set<Tag> tagsToAdd = Sets.difference(currentTags, existingTags);
         if (!tagsToAdd.isEmpty()) {
             TagResourceRequest tagResourceRequest = Translator.translateToTagResourceRequest(tagsToAdd, arn);
-            try {
-                proxyClient.injectCredentialsAndInvokeV2(tagResourceRequest, proxyClient.client()::tagResource);
-            } catch (ValidationException e) {
-                throw new CfnInvalidRequestException(e.getMessage(), e);
-            }
+            serviceErrors.call(TAG_RESOURCE, arn, () ->
+                    proxyClient.injectCredentialsAndInvokeV2(tagResourceRequest, proxyClient.client()::tagResource));
         }
 
         final Set<Tag> tagsToRemove = Sets.difference(existingTags, currentTags);
         if (!tagsToRemove.isEmpty()) {
             UntagResourceRequest untagResourceRequest = Translator.translateToUntagResourceRequest(tagsToRemove, arn);
-            try {
-                proxyClient.injectCredentialsAndInvokeV2(untagResourceRequest, proxyClient.client()::untagResource);
-            } catch (ValidationException e) {
-                throw new CfnInvalidRequestException(e.getMessage(), e);
-            }
+            serviceErrors.call(UNTAG_RESOURCE, arn, () ->
+                    proxyClient.injectCredentialsAndInvokeV2(untagResourceRequest, proxyClient.client()::untagResource));
         }
 
         return ProgressEvent.progress(currResourceModel, callbackContext);
@@ -139,6 +151,9 @@ public class UpdateHandler extends BaseHandlerStd {
             if (!Optional.ofNullable(currModel.getFileFormat()).equals(Optional.ofNullable(prevModel.getFileFormat()))) {
                 throw new CfnNotUpdatableException(ResourceModel.TYPE_NAME, "FileFormat");
             }
+            if (!Optional.ofNullable(currModel.getLanguageCode()).equals(Optional.ofNullable(prevModel.getLanguageCode()))) {
+                throw new CfnNotUpdatableException(ResourceModel.TYPE_NAME, "LanguageCode");
+            }
         }
     }
 
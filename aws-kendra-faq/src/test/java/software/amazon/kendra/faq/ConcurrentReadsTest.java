@@ -0,0 +1,76 @@
+package software.amazon.kendra.faq;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ConcurrentReadsTest {
+
+    @Test
+    public void testCombinesBothResults() {
+        assertThat(ConcurrentReads.both(() -> "describe", () -> "tags", (a, b) -> a + "+" + b))
+            .isEqualTo("describe+tags");
+    }
+
+    @Test
+    public void testRunsBothCallsAtOnce() {
+        final CountDownLatch secondStarted = new CountDownLatch(1);
+        final Boolean overlapped = ConcurrentReads.both(
+            () -> {
+                try {
+                    // Only returns true if the second call started while the first one was still running
+                    return secondStarted.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            },
+            () -> {
+                secondStarted.countDown();
+                return "tags";
+            },
+            (a, b) -> a);
+
+        assertThat(overlapped).isTrue();
+    }
+
+    @Test
+    public void testFirstFailureWinsAfterSecondCompletes() {
+        final AtomicBoolean secondCompleted = new AtomicBoolean();
+
+        assertThatThrownBy(() -> ConcurrentReads.both(
+            () -> {
+                throw new IllegalStateException("describe");
+            },
+            () -> {
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                secondCompleted.set(true);
+                throw new IllegalArgumentException("tags");
+            },
+            (a, b) -> a))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("describe");
+        assertThat(secondCompleted).isTrue();
+    }
+
+    @Test
+    public void testSecondFailureIsUnwrapped() {
+        assertThatThrownBy(() -> ConcurrentReads.both(
+            () -> "describe",
+            () -> {
+                throw new IllegalArgumentException("tags");
+            },
+            (a, b) -> a))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("tags");
+    }
+}
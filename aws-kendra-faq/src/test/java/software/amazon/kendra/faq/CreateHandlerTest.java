@@ -12,7 +12,9 @@ import software.amazon.awssdk.services.kendra.model.CreateFaqRequest;
 import software.amazon.awssdk.services.kendra.model.CreateFaqResponse;
 import software.amazon.awssdk.services.kendra.model.DescribeFaqRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeFaqResponse;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexRequest;
 import software.amazon.awssdk.services.kendra.model.FaqStatus;
+import software.amazon.awssdk.services.kendra.model.IndexStatus;
 import software.amazon.awssdk.services.kendra.model.KendraException;
 import software.amazon.awssdk.services.kendra.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.kendra.model.ListTagsForResourceResponse;
@@ -32,6 +34,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -109,6 +112,7 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .build();
 
         String id = "id";
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().createFaq(any(CreateFaqRequest.class)))
                 .thenReturn(CreateFaqResponse.builder().id(id).build());
 
@@ -156,7 +160,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).createFaq(any(CreateFaqRequest.class));
-        verify(proxyClient.client(), times(2)).describeFaq(any(DescribeFaqRequest.class));
+        verify(proxyClient.client(), times(1)).describeFaq(any(DescribeFaqRequest.class));
     }
 
     @Test
@@ -186,6 +190,7 @@ public class CreateHandlerTest extends AbstractTestBase {
             .build();
 
         String id = "id";
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().createFaq(any(CreateFaqRequest.class)))
             .thenReturn(CreateFaqResponse.builder().id(id).build());
 
@@ -229,7 +234,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).createFaq(any(CreateFaqRequest.class));
-        verify(proxyClient.client(), times(2)).describeFaq(any(DescribeFaqRequest.class));
+        verify(proxyClient.client(), times(1)).describeFaq(any(DescribeFaqRequest.class));
     }
 
     @Test
@@ -263,6 +268,7 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .build();
 
         String id = "id";
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().createFaq(any(CreateFaqRequest.class)))
                 .thenReturn(CreateFaqResponse.builder().id(id).build());
 
@@ -326,7 +332,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).createFaq(any(CreateFaqRequest.class));
-        verify(proxyClient.client(), times(3)).describeFaq(any(DescribeFaqRequest.class));
+        verify(proxyClient.client(), times(2)).describeFaq(any(DescribeFaqRequest.class));
     }
 
     @Test
@@ -360,6 +366,7 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .build();
 
         String id = "id";
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().createFaq(any(CreateFaqRequest.class)))
                 .thenReturn(CreateFaqResponse.builder().id(id).build());
 
@@ -403,6 +410,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         Class<? extends RuntimeException> expectedCfnErrorClass
     ) {
         final CreateHandler handler = new CreateHandler(faqArnBuilder);
+        handler.serviceErrors = SERVICE_ERRORS;
         S3Path s3Path = S3Path
                 .builder()
                 .key("s3Key")
@@ -422,12 +430,45 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .desiredResourceState(resourceModel)
                 .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().createFaq(any(CreateFaqRequest.class)))
                 .thenThrow(kendraException);
 
         assertThrows(expectedCfnErrorClass, () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
 
-        verify(proxyClient.client(), times(1)).createFaq(any(CreateFaqRequest.class));
+        verify(proxyClient.client(), times(attempts(ApiName.CREATE_FAQ, kendraException))).createFaq(any(CreateFaqRequest.class));
         verify(proxyClient.client(), times(0)).describeFaq(any(DescribeFaqRequest.class));
     }
+
+    @Test
+    public void handleRequest_WaitsForTheIndex() {
+        final CreateHandler handler = new CreateHandler(faqArnBuilder,
+                Constant.of().timeout(Duration.ofMinutes(1)).delay(Duration.ofMillis(1L)).build());
+        ResourceModel resourceModel = ResourceModel
+                .builder()
+                .indexId("indexId")
+                .name("name")
+                .s3Path(S3Path.builder().key("s3Key").bucket("s3Bucket").build())
+                .roleArn("roleArn")
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(resourceModel)
+                .build();
+
+        stubIndexStatus(proxyClient.client(), IndexStatus.CREATING, IndexStatus.UPDATING, IndexStatus.ACTIVE);
+        when(proxyClient.client().createFaq(any(CreateFaqRequest.class)))
+                .thenReturn(CreateFaqResponse.builder().id("id").build());
+        when(proxyClient.client().describeFaq(any(DescribeFaqRequest.class)))
+                .thenReturn(DescribeFaqResponse.builder().id("id").indexId("indexId").status(FaqStatus.ACTIVE).build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext().isIndexReady()).isTrue();
+        verify(proxyClient.client(), times(3)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(1)).createFaq(any(CreateFaqRequest.class));
+    }
 }
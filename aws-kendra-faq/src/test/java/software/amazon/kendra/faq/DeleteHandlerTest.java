@@ -125,6 +125,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
         Class<? extends RuntimeException> expectedCfnError
     ) {
         final DeleteHandler handler = new DeleteHandler();
+        handler.serviceErrors = SERVICE_ERRORS;
         final ResourceModel model = ResourceModel
                 .builder()
                 .id("id")
@@ -139,7 +140,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
                 .thenThrow(kendraSvcException);
 
         assertThrows(expectedCfnError, () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
-        verify(proxyClient.client(), times(1)).deleteFaq(any(DeleteFaqRequest.class));
+        verify(proxyClient.client(), times(attempts(ApiName.DELETE_FAQ, kendraSvcException))).deleteFaq(any(DeleteFaqRequest.class));
         verify(proxyClient.client(), times(0)).describeFaq(any(DescribeFaqRequest.class));
     }
 }
@@ -0,0 +1,179 @@
+package software.amazon.kendra.faq;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.model.CreateFaqRequest;
+import software.amazon.awssdk.services.kendra.model.CreateIndexRequest;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the real handlers against {@link FakeKendraClient}, so the whole lifecycle of a FAQ is exercised,
+ * including the stabilization polls, instead of one mocked call at a time.
+ */
+public class HandlerLifecycleTest extends AbstractTestBase {
+
+    // A minute of FAQ time passes in under a millisecond
+    private static final double SPEED = 100_000;
+
+    // The ARN the fake resolves tags with, so it is built like the handlers build it
+    private final FaqArnBuilder faqArnBuilder = new FaqArn();
+    private final Delay testDelay = Constant.of().timeout(Duration.ofMinutes(1)).delay(Duration.ofMillis(1L)).build();
+
+    private FakeKendraClient kendra;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<KendraClient> proxyClient;
+    private String indexId;
+
+    @BeforeEach
+    public void setup() {
+        kendra = FakeKendraClient.builder().clock(FakeClock.scaled(SPEED)).build();
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = MOCK_PROXY(proxy, kendra);
+        indexId = kendra.createIndex(CreateIndexRequest.builder().name("index").roleArn("roleArn").build()).id();
+        kendra.clock().advance(FakeKendraClient.DEFAULT_INDEX_CREATE_TIME);
+        kendra.resetCalls();
+    }
+
+    @Test
+    public void testCreateReadUpdateDelete() {
+        final ResourceModel created = create(model(Tag.builder().key("team").value("search").build()));
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getTags()).containsExactly(Tag.builder().key("team").value("search").build());
+        assertThat(kendra.calls(ApiName.CREATE_FAQ)).isEqualTo(1);
+        assertThat(kendra.calls(ApiName.DESCRIBE_FAQ)).isGreaterThan(1);
+
+        assertThat(read(created)).isEqualTo(created);
+
+        kendra.resetCalls();
+        final ResourceModel desired = model(Tag.builder().key("owner").value("docs").build());
+        desired.setId(created.getId());
+        final UpdateHandler updateHandler = new UpdateHandler(faqArnBuilder);
+        updateHandler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> updated = updateHandler.handleRequest(
+            proxy, request(desired, created), new CallbackContext(), proxyClient, logger);
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getTags()).containsExactly(Tag.builder().key("owner").value("docs").build());
+        assertThat(kendra.calls(ApiName.TAG_RESOURCE)).isEqualTo(1);
+        assertThat(kendra.calls(ApiName.UNTAG_RESOURCE)).isEqualTo(1);
+
+        final DeleteHandler deleteHandler = new DeleteHandler(testDelay);
+        deleteHandler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = deleteHandler.handleRequest(
+            proxy, request(created, null), new CallbackContext(), proxyClient, logger);
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(deleted.getResourceModel()).isNull();
+
+        assertThatThrownBy(() -> read(created)).isInstanceOf(CfnNotFoundException.class);
+    }
+
+    @Test
+    public void testCreateFailsWhenTheFaqFails() {
+        kendra.failNextCreate("The file can't be parsed");
+
+        assertThatThrownBy(() -> create(model())).isInstanceOf(CfnNotStabilizedException.class);
+    }
+
+    @Test
+    public void testCreateWaitsWhileTheIndexIsCreating() {
+        indexId = kendra.createIndex(CreateIndexRequest.builder().name("index").roleArn("roleArn").build()).id();
+        kendra.resetCalls();
+
+        assertThat(create(model()).getId()).isNotNull();
+        assertThat(kendra.calls(ApiName.DESCRIBE_INDEX)).isGreaterThan(1);
+        assertThat(kendra.calls(ApiName.CREATE_FAQ)).isEqualTo(1);
+    }
+
+    @Test
+    public void testThrottledReadIsRetried() {
+        final ResourceModel created = create(model());
+        kendra.resetCalls();
+        kendra.throttleNext(ApiName.DESCRIBE_FAQ, 2);
+
+        assertThat(read(created)).isEqualTo(created);
+        assertThat(kendra.calls(ApiName.DESCRIBE_FAQ)).isEqualTo(3);
+        assertThat(kendra.throttled()).isEqualTo(2);
+    }
+
+    @Test
+    public void testListPagesThroughFaqs() {
+        for (int i = 0; i < 12; i++) {
+            kendra.createFaq(CreateFaqRequest.builder()
+                .indexId(indexId)
+                .name("faq" + i)
+                .roleArn("roleArn")
+                .s3Path(software.amazon.awssdk.services.kendra.model.S3Path.builder().bucket("bucket").key("key").build())
+                .build());
+        }
+        kendra.resetCalls();
+        final ListHandler handler = new ListHandler();
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ResourceModel model = ResourceModel.builder().indexId(indexId).build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstPage = handler.handleRequest(
+            proxy, request(model, null), new CallbackContext(), proxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> secondPage = handler.handleRequest(
+            proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .nextToken(firstPage.getNextToken())
+                .build(),
+            new CallbackContext(), proxyClient, logger);
+
+        assertThat(firstPage.getResourceModels()).hasSize(FakeKendraClient.DEFAULT_PAGE_SIZE);
+        assertThat(secondPage.getResourceModels()).hasSize(2);
+        assertThat(secondPage.getNextToken()).isNull();
+        assertThat(kendra.calls(ApiName.LIST_FAQS)).isEqualTo(2);
+    }
+
+    private ResourceModel model(final Tag... tags) {
+        return ResourceModel.builder()
+            .indexId(indexId)
+            .name("name")
+            .roleArn("roleArn")
+            .s3Path(S3Path.builder().bucket("bucket").key("key").build())
+            .tags(tags.length == 0 ? null : List.of(tags))
+            .build();
+    }
+
+    private ResourceModel create(final ResourceModel model) {
+        final CreateHandler handler = new CreateHandler(faqArnBuilder, testDelay);
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy, request(model, null), new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        return response.getResourceModel();
+    }
+
+    private ResourceModel read(final ResourceModel model) {
+        final ReadHandler handler = new ReadHandler(faqArnBuilder);
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy, request(model, null), new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        return response.getResourceModel();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(desired)
+            .previousResourceState(previous)
+            .awsPartition("aws")
+            .region("us-west-2")
+            .awsAccountId("0123456789")
+            .build();
+    }
+}
@@ -6,10 +6,14 @@ import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.kendra.KendraClient;
 import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
 import software.amazon.awssdk.services.kendra.model.ConflictException;
+import software.amazon.awssdk.services.kendra.model.DescribeFaqRequest;
+import software.amazon.awssdk.services.kendra.model.DescribeFaqResponse;
 import software.amazon.awssdk.services.kendra.model.FaqStatus;
 import software.amazon.awssdk.services.kendra.model.FaqSummary;
 import software.amazon.awssdk.services.kendra.model.ListFaqsRequest;
 import software.amazon.awssdk.services.kendra.model.ListFaqsResponse;
+import software.amazon.awssdk.services.kendra.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.kendra.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.kendra.model.ThrottlingException;
 import software.amazon.awssdk.services.kendra.model.ValidationException;
@@ -39,6 +43,7 @@ import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
@@ -115,6 +120,47 @@ public class ListHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).listFaqs(any(ListFaqsRequest.class));
     }
 
+    @Test
+    public void handleRequest_HydratedReadsEveryFaq() {
+        final ListHandler handler = new ListHandler(true, new TestFaqArnBuilder());
+        handler.serviceErrors = SERVICE_ERRORS;
+
+        String indexId = "indexId";
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().indexId(indexId).build())
+                .build();
+
+        when(proxyClient.client().listFaqs(any(ListFaqsRequest.class)))
+                .thenReturn(ListFaqsResponse
+                        .builder()
+                        .faqSummaryItems(
+                                FaqSummary.builder().id("first").build(),
+                                FaqSummary.builder().id("second").build())
+                        .build());
+        when(proxyClient.client().describeFaq(any(DescribeFaqRequest.class))).thenAnswer(invocation -> {
+            final DescribeFaqRequest describeRequest = invocation.getArgument(0);
+            return DescribeFaqResponse.builder()
+                    .id(describeRequest.id())
+                    .indexId(describeRequest.indexId())
+                    .name(describeRequest.id() + " name")
+                    .build();
+        });
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels())
+                .extracting(ResourceModel::getId, ResourceModel::getIndexId, ResourceModel::getName)
+                .containsExactly(tuple("first", indexId, "first name"), tuple("second", indexId, "second name"));
+
+        verify(proxyClient.client(), times(1)).listFaqs(any(ListFaqsRequest.class));
+        verify(proxyClient.client(), times(2)).describeFaq(any(DescribeFaqRequest.class));
+        verify(proxyClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
     private static Stream<Arguments> testThatItThrowsExpectedCfnErrorForListFaqKendraCallExceptionArguments() {
         return Stream.of(
             Arguments.of(ValidationException.builder().build(), CfnInvalidRequestException.class),
@@ -134,6 +180,7 @@ public class ListHandlerTest extends AbstractTestBase {
     ) {
         // set up test scenario
         final ListHandler handler = new ListHandler();
+        handler.serviceErrors = SERVICE_ERRORS;
 
         final ResourceModel model = ResourceModel
             .builder()
@@ -149,6 +196,6 @@ public class ListHandlerTest extends AbstractTestBase {
             .build();
         assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
             .isInstanceOf(expectedCfnError);
-        verify(proxyClient.client(), times(1)).listFaqs(any(ListFaqsRequest.class));
+        verify(proxyClient.client(), times(attempts(ApiName.LIST_FAQS, kendraException))).listFaqs(any(ListFaqsRequest.class));
     }
 }
@@ -149,6 +149,46 @@ public class ReadHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).describeFaq(any(DescribeFaqRequest.class));
     }
 
+    @Test
+    public void handleRequest_ReusesCachedDescribeResponse() {
+        String id = "id";
+        String indexId = "indexId";
+        String name = "name";
+        String fileFormat = "CSV";
+        final ResponseCache<DescribeFaqResponse> describeFaqResponseCache = new ResponseCache<>();
+        describeFaqResponseCache.put(DescribeFaqResponse.builder()
+                .id(id)
+                .indexId(indexId)
+                .fileFormat(fileFormat)
+                .name(name)
+                .build());
+        final ReadHandler handler = new ReadHandler(faqArnBuilder, describeFaqResponseCache);
+
+        final ResourceModel model = ResourceModel
+                .builder()
+                .indexId(indexId)
+                .id(id)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getId()).isEqualTo(id);
+        assertThat(response.getResourceModel().getName()).isEqualTo(name);
+        assertThat(response.getResourceModel().getFileFormat()).isEqualTo(fileFormat);
+
+        verify(proxyClient.client(), times(0)).describeFaq(any(DescribeFaqRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
     private static Stream<Arguments> testItThrowsExpectedCfnErrorArguments() {
         return Stream.of(
           Arguments.of(AwsServiceException.builder().build(), CfnGeneralServiceException.class),
@@ -166,6 +206,7 @@ public class ReadHandlerTest extends AbstractTestBase {
         Class<? extends RuntimeException> expectedCfnException
     ) {
         final ReadHandler handler = new ReadHandler(faqArnBuilder);
+        handler.serviceErrors = SERVICE_ERRORS;
         final ResourceModel model = ResourceModel
                 .builder()
                 .indexId("indexId")
@@ -180,6 +221,8 @@ public class ReadHandlerTest extends AbstractTestBase {
                 .thenThrow(kendraServiceException);
 
         assertThrows(expectedCfnException, () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
-        verify(proxyClient.client(), times(1)).describeFaq(any(DescribeFaqRequest.class));
+        verify(proxyClient.client(), times(attempts(ApiName.DESCRIBE_FAQ, kendraServiceException))).describeFaq(any(DescribeFaqRequest.class));
+        // Listed alongside the describe, the describe failure is still the one reported
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 }
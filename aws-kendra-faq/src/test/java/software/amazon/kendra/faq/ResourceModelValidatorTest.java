@@ -0,0 +1,123 @@
+package software.amazon.kendra.faq;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+public class ResourceModelValidatorTest {
+
+    private static final String INDEX_ID = "0123456789abcdef0123456789abcdef0123";
+
+    @Test
+    void testValidModel() {
+        assertThat(ResourceModelValidator.violations(validModel())).isEmpty();
+    }
+
+    @ParameterizedTest
+    @MethodSource("requiredProperties")
+    void testRequiredProperty(final String property, final Consumer<ResourceModel> unset) {
+        ResourceModel model = validModel();
+        unset.accept(model);
+
+        assertThat(ResourceModelValidator.violations(model))
+                .containsExactly("#: required key [" + property + "] not found");
+    }
+
+    static Stream<Arguments> requiredProperties() {
+        return Stream.of(
+                unset("IndexId", model -> model.setIndexId(null)),
+                unset("Name", model -> model.setName(null)),
+                unset("S3Path", model -> model.setS3Path(null)),
+                unset("RoleArn", model -> model.setRoleArn(null)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"CSV", "CSV_WITH_HEADER", "JSON"})
+    void testFileFormat(final String fileFormat) {
+        ResourceModel model = validModel();
+        model.setFileFormat(fileFormat);
+
+        assertThat(ResourceModelValidator.violations(model)).isEmpty();
+    }
+
+    @Test
+    void testUnknownFileFormat() {
+        ResourceModel model = validModel();
+        model.setFileFormat("XML");
+
+        assertThat(ResourceModelValidator.violations(model)).hasSize(1);
+        assertThat(ResourceModelValidator.violations(model).get(0)).startsWith("#/FileFormat");
+    }
+
+    @Test
+    void testS3PathNeedsBucketAndKey() {
+        ResourceModel model = validModel();
+        model.setS3Path(S3Path.builder().bucket("bucket").build());
+
+        assertThat(ResourceModelValidator.violations(model))
+                .containsExactly("#/S3Path: required key [Key] not found");
+    }
+
+    @Test
+    void testIndexIdIsAnIndexId() {
+        ResourceModel model = validModel();
+        model.setIndexId("index");
+
+        assertThat(ResourceModelValidator.violations(model)).hasSize(1);
+        assertThat(ResourceModelValidator.violations(model).get(0)).startsWith("#/IndexId");
+    }
+
+    @Test
+    void testReportsEveryViolation() {
+        ResourceModel model = validModel();
+        model.setRoleArn("KendraFaq");
+        model.setFileFormat("XML");
+
+        assertThat(ResourceModelValidator.violations(model)).hasSize(2);
+        assertThat(String.join("; ", ResourceModelValidator.violations(model)))
+                .contains("#/RoleArn")
+                .contains("#/FileFormat");
+    }
+
+    @Test
+    void testCreateRejectsInvalidModelBeforeCallingKendra() {
+        ResourceModel model = validModel();
+        model.setS3Path(null);
+        AmazonWebServicesClientProxy proxy = mock(AmazonWebServicesClientProxy.class);
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        assertThatThrownBy(() -> new CreateHandler().handleRequest(proxy, request, null, new LoggerProxy()))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("S3Path");
+        verifyNoMoreInteractions(proxy);
+    }
+
+    private static Arguments unset(final String property, final Consumer<ResourceModel> unset) {
+        return Arguments.of(property, unset);
+    }
+
+    private static ResourceModel validModel() {
+        return ResourceModel.builder()
+                .indexId(INDEX_ID)
+                .name("name")
+                .s3Path(S3Path.builder().bucket("bucket").key("faq.csv").build())
+                .roleArn("arn:aws:iam::0123456789:role/KendraFaq")
+                .build();
+    }
+}
@@ -165,9 +165,10 @@ class TranslatorTest {
                 .build();
         String nextToken = "nextToken";
 
-        ListFaqsRequest listFaqsRequest = Translator.translateToListRequest(resourceModel, nextToken);
+        ListFaqsRequest listFaqsRequest = Translator.translateToListRequest(resourceModel, nextToken, 100);
         assertThat(listFaqsRequest.indexId()).isEqualTo(indexId);
         assertThat(listFaqsRequest.nextToken()).isEqualTo(nextToken);
+        assertThat(listFaqsRequest.maxResults()).isEqualTo(100);
     }
 
     @Test
@@ -6,18 +6,28 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
+import software.amazon.awssdk.services.kendra.model.ConflictException;
 import software.amazon.awssdk.services.kendra.model.DescribeFaqRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeFaqResponse;
 import software.amazon.awssdk.services.kendra.model.FaqStatus;
 import software.amazon.awssdk.services.kendra.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.kendra.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.kendra.model.ServiceQuotaExceededException;
 import software.amazon.awssdk.services.kendra.model.TagResourceRequest;
 import software.amazon.awssdk.services.kendra.model.TagResourceResponse;
+import software.amazon.awssdk.services.kendra.model.ThrottlingException;
 import software.amazon.awssdk.services.kendra.model.UntagResourceRequest;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotUpdatableException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -31,6 +41,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -137,7 +148,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
-        verify(proxyClient.client(), times(2)).describeFaq(any(DescribeFaqRequest.class));
+        verify(proxyClient.client(), times(1)).describeFaq(any(DescribeFaqRequest.class));
         verify(kendraClient, atLeastOnce()).serviceName();
     }
 
@@ -208,7 +219,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
-        verify(proxyClient.client(), times(2)).describeFaq(any(DescribeFaqRequest.class));
+        verify(proxyClient.client(), times(1)).describeFaq(any(DescribeFaqRequest.class));
         verify(kendraClient, atLeastOnce()).serviceName();
     }
 
@@ -303,7 +314,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
         verify(proxyClient.client(), times(1))
                 .tagResource(any(TagResourceRequest.class));
-        verify(proxyClient.client(), times(2)).describeFaq(any(DescribeFaqRequest.class));
+        verify(proxyClient.client(), times(1)).describeFaq(any(DescribeFaqRequest.class));
         verify(kendraClient, atLeastOnce()).serviceName();
     }
 
@@ -399,7 +410,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
         verify(proxyClient.client(), times(1))
                 .untagResource(any(UntagResourceRequest.class));
-        verify(proxyClient.client(), times(2)).describeFaq(any(DescribeFaqRequest.class));
+        verify(proxyClient.client(), times(1)).describeFaq(any(DescribeFaqRequest.class));
         verify(kendraClient, atLeastOnce()).serviceName();
     }
 
@@ -507,7 +518,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .untagResource(any(UntagResourceRequest.class));
         verify(proxyClient.client(), times(1))
                 .tagResource(any(TagResourceRequest.class));
-        verify(proxyClient.client(), times(2)).describeFaq(any(DescribeFaqRequest.class));
+        verify(proxyClient.client(), times(1)).describeFaq(any(DescribeFaqRequest.class));
         verify(kendraClient, atLeastOnce()).serviceName();
     }
 
@@ -692,6 +703,35 @@ public class UpdateHandlerTest extends AbstractTestBase {
         });
     }
 
+    @Test
+    public void handleRequest_FailWith_CfnNotUpdatableException_forLanguageCode() {
+        final UpdateHandler handler = new UpdateHandler(faqArnBuilder);
+        String indexId = "indexId";
+        String languageCode = "fr";
+        String oldLanguageCode = "en";
+
+        final ResourceModel model = ResourceModel
+            .builder()
+            .indexId(indexId)
+            .languageCode(languageCode)
+            .build();
+
+        final ResourceModel prevModel = ResourceModel
+            .builder()
+            .indexId(indexId)
+            .languageCode(oldLanguageCode)
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .previousResourceState(prevModel)
+            .build();
+
+        assertThrows(CfnNotUpdatableException.class, () -> {
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        });
+    }
+
     @Test
     public void handleRequest_ThrowsNotFoundException() {
         final UpdateHandler handler = new UpdateHandler(faqArnBuilder);
@@ -716,4 +756,66 @@ public class UpdateHandlerTest extends AbstractTestBase {
         });
         verify(kendraClient, atLeastOnce()).serviceName();
     }
+
+    // Mapped to GeneralServiceException before the errors went through ServiceErrors
+    @Test
+    public void handleRequest_TagErrorsMapToTheirCodes() {
+        final UpdateHandler handler = new UpdateHandler(faqArnBuilder);
+        handler.serviceErrors = SERVICE_ERRORS;
+
+        String faqId = "faqId";
+        String indexId = "indexId";
+        ResourceModel untagged = ResourceModel
+                .builder()
+                .id(faqId)
+                .indexId(indexId)
+                .build();
+        ResourceModel tagged = ResourceModel
+                .builder()
+                .id(faqId)
+                .indexId(indexId)
+                .tags(Arrays.asList(Tag.builder().key("key").value("value").build()))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> tagRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(untagged)
+                .desiredResourceState(tagged)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> untagRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                .previousResourceState(tagged)
+                .desiredResourceState(untagged)
+                .build();
+
+        when(proxyClient.client().describeFaq(any(DescribeFaqRequest.class)))
+                .thenReturn(DescribeFaqResponse
+                        .builder()
+                        .id(faqId)
+                        .indexId(indexId)
+                        .status(FaqStatus.ACTIVE)
+                        .build());
+
+        assertTagsFailWith(handler, tagRequest, untagRequest, ConflictException.builder().build(),
+                CfnResourceConflictException.class);
+        assertTagsFailWith(handler, tagRequest, untagRequest, ServiceQuotaExceededException.builder().build(),
+                CfnServiceLimitExceededException.class);
+        assertTagsFailWith(handler, tagRequest, untagRequest, ResourceNotFoundException.builder().build(),
+                CfnNotFoundException.class);
+        assertTagsFailWith(handler, tagRequest, untagRequest, AccessDeniedException.builder().build(),
+                CfnAccessDeniedException.class);
+        assertTagsFailWith(handler, tagRequest, untagRequest, ThrottlingException.builder().build(),
+                CfnThrottlingException.class);
+        verify(kendraClient, atLeastOnce()).serviceName();
+    }
+
+    private void assertTagsFailWith(final UpdateHandler handler,
+                                    final ResourceHandlerRequest<ResourceModel> tagRequest,
+                                    final ResourceHandlerRequest<ResourceModel> untagRequest,
+                                    final AwsServiceException e,
+                                    final Class<? extends BaseHandlerException> type) {
+        doThrow(e).when(kendraClient).tagResource(any(TagResourceRequest.class));
+        doThrow(e).when(kendraClient).untagResource(any(UntagResourceRequest.class));
+
+        assertThrows(type, () -> handler.handleRequest(proxy, tagRequest, new CallbackContext(), proxyClient, logger));
+        assertThrows(type, () -> handler.handleRequest(proxy, untagRequest, new CallbackContext(), proxyClient, logger));
+    }
 }
@@ -5,5 +5,6 @@ public class ApiName {
   static final String UPDATE_FEATURED_RESULTS_SET = "UpdateFeaturedResultsSet";
   static final String BATCH_DELETE_FEATURED_RESULTS_SETS = "BatchDeleteFeaturedResultsSet";
   static final String DESCRIBE_FEATURED_RESULTS_SET = "DescribeFeaturedResultsSet";
+  static final String DESCRIBE_INDEX = "DescribeIndex";
   static final String LIST_FEATURED_RESULTS_SETS = "ListFeaturedResultsSets";
 }
@@ -0,0 +1,223 @@
+package software.amazon.kendra.featuredresultsset;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import lombok.Value;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+/**
+ * Client side token buckets, one per Kendra API, keyed by the {@link ApiName} spelling of the API.
+ *
+ * Each bucket refills at a steady rate up to its burst size. Once it is empty, callers queue behind each other
+ * and are let through one refill interval apart, so a burst of calls reaches Kendra as a steady stream instead
+ * of tripping the account limits. A caller that would have to wait longer than the maximum wait is rejected
+ * with a {@link WaitTooLongException} instead, which says how long the wait would be.
+ *
+ * The buckets live as long as the Lambda container, so they only smooth the calls made from one container.
+ */
+public class ApiRateLimiter {
+
+  static final Limit DEFAULT_LIMIT = new Limit(2, 5);
+  static final Duration DEFAULT_MAX_WAIT = Duration.ofSeconds(30);
+
+  private final Map<String, Limit> limits;
+  private final Limit defaultLimit;
+  private final long maxWaitNanos;
+  private final LongSupplier nanoClock;
+  private final Sleeper sleeper;
+
+  private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+  private ApiRateLimiter(final Builder builder) {
+    this.limits = new HashMap<>(builder.limits);
+    this.defaultLimit = builder.defaultLimit;
+    this.maxWaitNanos = builder.maxWait.toNanos();
+    this.nanoClock = builder.nanoClock;
+    this.sleeper = builder.sleeper;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Blocks until the API may be called.
+   *
+   * @throws WaitTooLongException if the call would have to wait longer than the maximum wait
+   */
+  public void acquire(final String apiName) {
+    final Bucket bucket = buckets.computeIfAbsent(apiName, name -> new Bucket(limits.getOrDefault(name, defaultLimit)));
+    final long waitNanos = bucket.reserve(nanoClock.getAsLong(), maxWaitNanos);
+    if (waitNanos > maxWaitNanos) {
+      bucket.rejected.incrementAndGet();
+      throw new WaitTooLongException(apiName, Duration.ofNanos(waitNanos), Duration.ofNanos(maxWaitNanos));
+    }
+    bucket.acquired.incrementAndGet();
+    if (waitNanos == 0) {
+      return;
+    }
+    bucket.waitedNanos.addAndGet(waitNanos);
+    bucket.maxWaitedNanos.accumulateAndGet(waitNanos, Math::max);
+    try {
+      sleeper.sleep(waitNanos);
+    } catch (InterruptedException e) {
+      // The permit is already taken, so the call goes ahead early rather than giving it back.
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public Stats stats(final String apiName) {
+    final Bucket bucket = buckets.get(apiName);
+    if (bucket == null) {
+      return new Stats(0, 0, Duration.ZERO, Duration.ZERO);
+    }
+    return new Stats(bucket.acquired.get(), bucket.rejected.get(),
+        Duration.ofNanos(bucket.waitedNanos.get()), Duration.ofNanos(bucket.maxWaitedNanos.get()));
+  }
+
+  public String stats() {
+    final StringBuilder stats = new StringBuilder();
+    buckets.keySet().stream().sorted().forEach(apiName -> {
+      final Stats apiStats = stats(apiName);
+      stats.append(String.format("%s: acquired=%d, rejected=%d, waited=%dms, maxWait=%dms; ", apiName,
+          apiStats.getAcquired(), apiStats.getRejected(), apiStats.getTotalWait().toMillis(),
+          apiStats.getMaxWait().toMillis()));
+    });
+    return stats.toString().trim();
+  }
+
+  @Value
+  public static class Limit {
+    double permitsPerSecond;
+    int burst;
+  }
+
+  @Value
+  public static class Stats {
+    long acquired;
+    long rejected;
+    Duration totalWait;
+    Duration maxWait;
+  }
+
+  /**
+   * The throttling error for a call the bucket would hold longer than the maximum wait. The permit isn't taken.
+   */
+  public static class WaitTooLongException extends CfnThrottlingException {
+    private static final long serialVersionUID = 1L;
+
+    private final Duration wait;
+    private final Duration maxWait;
+
+    WaitTooLongException(final String apiName, final Duration wait, final Duration maxWait) {
+      super(apiName, null);
+      this.wait = wait;
+      this.maxWait = maxWait;
+    }
+
+    public Duration getWait() {
+      return wait;
+    }
+
+    @Override
+    public String getMessage() {
+      return String.format("%s The client side rate limit would hold the call for %dms, over the %dms maximum wait.",
+          super.getMessage(), wait.toMillis(), maxWait.toMillis());
+    }
+  }
+
+  @FunctionalInterface
+  interface Sleeper {
+    void sleep(long nanos) throws InterruptedException;
+  }
+
+  private static final class Bucket {
+    private final double nanosPerPermit;
+    private final double burst;
+    // Goes negative when callers are queued, each one owes a full refill interval
+    private double tokens;
+    private long lastRefillNanos;
+    private boolean started;
+
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong waitedNanos = new AtomicLong();
+    private final AtomicLong maxWaitedNanos = new AtomicLong();
+
+    private Bucket(final Limit limit) {
+      this.nanosPerPermit = TimeUnit.SECONDS.toNanos(1) / limit.getPermitsPerSecond();
+      this.burst = limit.getBurst();
+      this.tokens = limit.getBurst();
+    }
+
+    /**
+     * @return how long the caller has to wait for its permit. The permit is only taken if that is within the
+     *     maximum wait
+     */
+    private synchronized long reserve(final long nowNanos, final long maxWaitNanos) {
+      if (started) {
+        tokens = Math.min(burst, tokens + (nowNanos - lastRefillNanos) / nanosPerPermit);
+      }
+      started = true;
+      lastRefillNanos = nowNanos;
+      final long waitNanos = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) * nanosPerPermit);
+      if (waitNanos <= maxWaitNanos) {
+        tokens -= 1;
+      }
+      return waitNanos;
+    }
+  }
+
+  public static class Builder {
+    private final Map<String, Limit> limits = new HashMap<>();
+    private Limit defaultLimit = DEFAULT_LIMIT;
+    private Duration maxWait = DEFAULT_MAX_WAIT;
+    private LongSupplier nanoClock = System::nanoTime;
+    private Sleeper sleeper = TimeUnit.NANOSECONDS::sleep;
+
+    private Builder() {
+    }
+
+    public Builder limit(final String apiName, final double permitsPerSecond, final int burst) {
+      limits.put(apiName, validate(permitsPerSecond, burst));
+      return this;
+    }
+
+    // Used for APIs without a limit of their own
+    public Builder defaultLimit(final double permitsPerSecond, final int burst) {
+      defaultLimit = validate(permitsPerSecond, burst);
+      return this;
+    }
+
+    public Builder maxWait(final Duration maxWait) {
+      this.maxWait = maxWait;
+      return this;
+    }
+
+    // Used for testing
+    Builder clock(final LongSupplier nanoClock, final Sleeper sleeper) {
+      this.nanoClock = nanoClock;
+      this.sleeper = sleeper;
+      return this;
+    }
+
+    public ApiRateLimiter build() {
+      return new ApiRateLimiter(this);
+    }
+
+    private static Limit validate(final double permitsPerSecond, final int burst) {
+      if (permitsPerSecond <= 0 || burst < 1) {
+        throw new IllegalArgumentException(
+            String.format("Rate limit needs a positive rate and a burst of at least 1, got %s/s burst %d",
+                permitsPerSecond, burst));
+      }
+      return new Limit(permitsPerSecond, burst);
+    }
+  }
+}
@@ -1,15 +1,55 @@
 package software.amazon.kendra.featuredresultsset;
 
-import java.net.URI;
-import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.kendra.KendraClient;
-import software.amazon.awssdk.services.kendra.endpoints.internal.DefaultKendraEndpointProvider;
+import software.amazon.awssdk.services.kendra.KendraClientBuilder;
+import software.amazon.awssdk.services.kendra.model.ConflictException;
+import software.amazon.awssdk.services.kendra.model.FeaturedResultsConflictException;
+import software.amazon.awssdk.services.kendra.model.ThrottlingException;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static software.amazon.kendra.featuredresultsset.ApiName.BATCH_DELETE_FEATURED_RESULTS_SETS;
+import static software.amazon.kendra.featuredresultsset.ApiName.CREATE_FEATURED_RESULTS_SET;
+import static software.amazon.kendra.featuredresultsset.ApiName.DESCRIBE_FEATURED_RESULTS_SET;
+import static software.amazon.kendra.featuredresultsset.ApiName.DESCRIBE_INDEX;
+import static software.amazon.kendra.featuredresultsset.ApiName.LIST_FEATURED_RESULTS_SETS;
+import static software.amazon.kendra.featuredresultsset.ApiName.UPDATE_FEATURED_RESULTS_SET;
 
 public class ClientBuilder {
-  public static KendraClient getClient() {
-    return KendraClient.builder()
-        .httpClient(LambdaWrapper.HTTP_CLIENT)
-        .build();
+
+  // Lives as long as the Lambda container, so warm invocations skip client construction.
+  static final KendraClientCache CLIENT_CACHE = new KendraClientCache(ClientBuilder::buildClient);
+
+  // Shared by every invocation in the container, so concurrent reads and stabilization polls draw from the
+  // same buckets. Calls that change a resource get a lower rate than reads.
+  static final ApiRateLimiter RATE_LIMITER = ApiRateLimiter.builder()
+      .limit(CREATE_FEATURED_RESULTS_SET, 1, 2)
+      .limit(UPDATE_FEATURED_RESULTS_SET, 1, 2)
+      .limit(BATCH_DELETE_FEATURED_RESULTS_SETS, 1, 2)
+      .limit(DESCRIBE_FEATURED_RESULTS_SET, 5, 10)
+      .limit(DESCRIBE_INDEX, 5, 10)
+      .limit(LIST_FEATURED_RESULTS_SETS, 2, 5)
+      .build();
+
+  // A conflict on an existing featured results set is usually another change still being applied. Featured
+  // results conflicting with another set won't go away by waiting, so they aren't retried.
+  static final ServiceErrors SERVICE_ERRORS = ServiceErrors.builder()
+      .map(FeaturedResultsConflictException.class, (apiName, resourceId, e) -> new CfnResourceConflictException(e))
+      .retryOn(ThrottlingException.class)
+      .retryOn(ConflictException.class, UPDATE_FEATURED_RESULTS_SET, BATCH_DELETE_FEATURED_RESULTS_SETS)
+      .build();
+
+  public static KendraClient getClient(final ResourceHandlerRequest<ResourceModel> request) {
+    return CLIENT_CACHE.get(request.getRegion(), request.getAwsPartition(), request.getAwsAccountId());
+  }
+
+  private static KendraClient buildClient(final KendraClientCache.Key key) {
+    final KendraClientBuilder builder = KendraClient.builder().httpClient(LambdaWrapper.HTTP_CLIENT);
+    if (key.getRegion() != null) {
+      builder.region(Region.of(key.getRegion()));
+    }
+    return builder.build();
   }
 }
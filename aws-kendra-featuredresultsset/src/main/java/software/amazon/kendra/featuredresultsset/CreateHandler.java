@@ -1,20 +1,17 @@
 package software.amazon.kendra.featuredresultsset;
 
+import java.util.function.Supplier;
+
 import software.amazon.awssdk.awscore.AwsResponse;
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.services.kendra.KendraClient;
 import software.amazon.awssdk.services.kendra.model.CreateFeaturedResultsSetRequest;
 import software.amazon.awssdk.services.kendra.model.CreateFeaturedResultsSetResponse;
 import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetResponse;
-import software.amazon.awssdk.services.kendra.model.FeaturedResultsConflictException;
 import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.kendra.model.ValidationException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -25,16 +22,36 @@ import static software.amazon.kendra.featuredresultsset.ApiName.CREATE_FEATURED_
 public class CreateHandler extends BaseHandlerStd {
     private Logger logger;
     private FeaturedResultsArnBuilder frsBuilder;
+    private final Supplier<Delay> indexDelayProvider;
 
     public CreateHandler() {
       super();
       frsBuilder = new FeaturedResultsArn();
+      indexDelayProvider = StabilizationDelays::forParentIndex;
     }
 
     // Used for testing.
     public CreateHandler(FeaturedResultsArnBuilder frsBuilder) {
       super();
       this.frsBuilder = frsBuilder;
+      this.indexDelayProvider = StabilizationDelays::forParentIndex;
+    }
+
+    // Used for testing.
+    public CreateHandler(FeaturedResultsArnBuilder frsBuilder, Delay delay) {
+      super();
+      this.frsBuilder = frsBuilder;
+      this.indexDelayProvider = () -> delay;
+    }
+
+    @Override
+    protected boolean validatesDesiredState() {
+        return true;
+    }
+
+    @Override
+    protected boolean changesResource() {
+        return true;
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -52,7 +69,7 @@ public class CreateHandler extends BaseHandlerStd {
             // STEP 1 [check if resource already exists]
             // if target API does not support 'ResourceAlreadyExistsException' then following check is required
             // for more information -> https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
-            .then(progress ->
+            .then(phase("PreExistenceCheck", progress ->
                 // STEP 1.0 [initialize a proxy context]
                 // If your service API is not idempotent, meaning it does not distinguish duplicate create requests against some identifier (e.g; resource Name)
                 // and instead returns a 200 even though a resource already exists, you must first check if the resource exists here
@@ -69,10 +86,14 @@ public class CreateHandler extends BaseHandlerStd {
                          }
                     })
                     .progress()
-            )
+            ))
+
+            // Kendra rejects the create while the index is busy, wait for it instead of failing
+            .then(phase("AwaitIndex", progress -> ParentIndex.awaitReady(proxy, proxyClient, progress,
+                indexDelayProvider.get(), serviceErrors, logger)))
 
             // STEP 2 [create/stabilize progress chain - required for resource creation]
-            .then(progress ->
+            .then(phase("Create", progress ->
                 // If your service API throws 'ResourceAlreadyExistsException' for create requests then CreateHandler can return just proxy.initiate construction
                 // STEP 2.0 [initialize a proxy context]
                 // Implement client invocation of the create request through the proxyClient, which is already initialised with
@@ -81,29 +102,17 @@ public class CreateHandler extends BaseHandlerStd {
                     .translateToServiceRequest(Translator::translateToCreateRequest)
                     .makeServiceCall(this::createFeaturedResultsSet)
                     .done(this::setId)
-                )
+                ))
             // STEP 3 [TODO: describe call/chain to return the resource model]
-            .then(progress -> new ReadHandler(frsBuilder).handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(phase("Read", progress ->
+                new ReadHandler(frsBuilder).handleRequest(proxy, request, callbackContext, proxyClient, logger)));
     }
 
     private CreateFeaturedResultsSetResponse createFeaturedResultsSet(final CreateFeaturedResultsSetRequest createFrsRequest,
         final ProxyClient<KendraClient> proxyClient) {
-        CreateFeaturedResultsSetResponse createFrsResponse;
-        try {
-          createFrsResponse = proxyClient.injectCredentialsAndInvokeV2(createFrsRequest, proxyClient.client()::createFeaturedResultsSet);
-        } catch (ValidationException e) {
-          throw new CfnInvalidRequestException(e.getMessage(), e);
-        } catch (FeaturedResultsConflictException e) {
-          throw new CfnResourceConflictException(e);
-        } catch (final AwsServiceException e) {
-          /*
-           * While the handler contract states that the handler must always return a progress event,
-           * you may throw any instance of BaseHandlerException, as the wrapper map it to a progress event.
-           * Each BaseHandlerException maps to a specific error code, and you should map service exceptions as closely as possible
-           * to more specific error codes
-           */
-          throw new CfnGeneralServiceException(CREATE_FEATURED_RESULTS_SET, e);
-        }
+        // A missing index is reported without an identifier, the featured results set doesn't have one yet
+        final CreateFeaturedResultsSetResponse createFrsResponse = serviceErrors.call(CREATE_FEATURED_RESULTS_SET, null,
+            () -> proxyClient.injectCredentialsAndInvokeV2(createFrsRequest, proxyClient.client()::createFeaturedResultsSet));
 
         logger.log(String.format("%s successfully created.", ResourceModel.TYPE_NAME));
         return createFrsResponse;
@@ -4,7 +4,6 @@ import static software.amazon.kendra.featuredresultsset.ApiName.BATCH_DELETE_FEA
 import static software.amazon.kendra.featuredresultsset.ApiName.CREATE_FEATURED_RESULTS_SET;
 
 import software.amazon.awssdk.awscore.AwsResponse;
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.services.kendra.KendraClient;
 import software.amazon.awssdk.services.kendra.model.BatchDeleteFeaturedResultsSetRequest;
@@ -13,9 +12,6 @@ import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetRe
 import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetResponse;
 import software.amazon.awssdk.services.kendra.model.ErrorCode;
 import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.kendra.model.ValidationException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -27,6 +23,11 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 public class DeleteHandler extends BaseHandlerStd {
     private Logger logger;
 
+    @Override
+    protected boolean changesResource() {
+        return true;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -42,12 +43,12 @@ public class DeleteHandler extends BaseHandlerStd {
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
 
             // STEP 1 [check if resource already exists]
-            .then(progress -> preExistenceCheckForDelete(proxy, proxyClient, progress, request))
-            .then(progress ->
+            .then(phase("PreExistenceCheck", progress -> preExistenceCheckForDelete(proxy, proxyClient, progress, request)))
+            .then(phase("Delete", progress ->
                 proxy.initiate("AWS-Kendra-FeaturedResultsSet::Delete", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                     .translateToServiceRequest(Translator::translateToDeleteRequest)
                     .makeServiceCall(this::deleteFeaturedResultsSet)
-                    .done(this::setResourceModelToNullAndReturnSuccess));
+                    .done(this::setResourceModelToNullAndReturnSuccess)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> preExistenceCheckForDelete(
@@ -73,19 +74,9 @@ public class DeleteHandler extends BaseHandlerStd {
 
     private BatchDeleteFeaturedResultsSetResponse deleteFeaturedResultsSet(final BatchDeleteFeaturedResultsSetRequest deleteRequest,
         final ProxyClient<KendraClient> proxyClient) {
-        BatchDeleteFeaturedResultsSetResponse deleteResponse;
-        try {
-          deleteResponse = proxyClient.injectCredentialsAndInvokeV2(deleteRequest, proxyClient.client()::batchDeleteFeaturedResultsSet);
-        } catch (ValidationException e) {
-          throw new CfnInvalidRequestException(e.getMessage(), e);
-        } catch (AwsServiceException e) {
-          if (e instanceof ResourceNotFoundException) {
-            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, deleteRequest.featuredResultsSetIds()
-                .get(0), e);
-          } else {
-            throw new CfnGeneralServiceException(BATCH_DELETE_FEATURED_RESULTS_SETS, e);
-          }
-        }
+        final BatchDeleteFeaturedResultsSetResponse deleteResponse = serviceErrors.call(BATCH_DELETE_FEATURED_RESULTS_SETS,
+            deleteRequest.featuredResultsSetIds().get(0),
+            () -> proxyClient.injectCredentialsAndInvokeV2(deleteRequest, proxyClient.client()::batchDeleteFeaturedResultsSet));
 
         // Since this is a batch delete API, check for individual errors. InvalidRequest means the FR ID was not found.
         deleteResponse.errors().forEach(error -> {
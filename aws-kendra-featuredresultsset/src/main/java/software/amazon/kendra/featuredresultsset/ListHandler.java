@@ -15,8 +15,42 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import java.util.ArrayList;
 import java.util.List;
 
+import static software.amazon.kendra.featuredresultsset.ApiName.LIST_FEATURED_RESULTS_SETS;
+
 public class ListHandler extends BaseHandlerStd {
 
+    // Lives as long as the Lambda container, so a caller walking the pages picks up the page read ahead for it
+    private static final ListPages<ListFeaturedResultsSetsResponse> PAGES =
+        new ListPages<>(ListPages.readAheadFromEnvironment());
+
+    private final boolean hydrate;
+
+    private final FeaturedResultsArnBuilder frsArnBuilder;
+
+    private final ListPages<ListFeaturedResultsSetsResponse> pages;
+
+    private final int pageSize;
+
+    public ListHandler() {
+        this(HydratedList.enabledByEnvironment(), new FeaturedResultsArn());
+    }
+
+    /**
+     * @param hydrate whether to read every listed featured results set and return complete models instead of
+     *                identifiers
+     */
+    public ListHandler(boolean hydrate, FeaturedResultsArnBuilder frsArnBuilder) {
+        this(hydrate, frsArnBuilder, PAGES, ListPages.pageSizeFromEnvironment());
+    }
+
+    ListHandler(boolean hydrate, FeaturedResultsArnBuilder frsArnBuilder,
+        ListPages<ListFeaturedResultsSetsResponse> pages, int pageSize) {
+        this.hydrate = hydrate;
+        this.frsArnBuilder = frsArnBuilder;
+        this.pages = pages;
+        this.pageSize = pageSize;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -25,22 +59,63 @@ public class ListHandler extends BaseHandlerStd {
         final ProxyClient<KendraClient> proxyClient,
         final Logger logger) {
 
-        // STEP 1 [TODO: construct a body of a request]
-        final ListFeaturedResultsSetsRequest listRequest = Translator.translateToListRequest(request.getDesiredResourceState(), request.getNextToken());
+        final String scope = String.join("/", request.getAwsAccountId(), request.getRegion(),
+            request.getDesiredResourceState().getIndexId());
+        return pages.list(scope, request.getNextToken(),
+            token -> {
+                // STEP 1 [TODO: construct a body of a request]
+                final ListFeaturedResultsSetsRequest listRequest =
+                    Translator.translateToListRequest(request.getDesiredResourceState(), token, pageSize);
 
-        // STEP 2 [TODO: make an api call]
-        ListFeaturedResultsSetsResponse listResponse = proxy.injectCredentialsAndInvokeV2(listRequest, proxyClient.client()::listFeaturedResultsSets);
+                // STEP 2 [TODO: make an api call]
+                // Not found here means the index, which isn't the resource being listed
+                return serviceErrors.call(LIST_FEATURED_RESULTS_SETS, null,
+                    () -> proxyClient.injectCredentialsAndInvokeV2(listRequest,
+                        proxyClient.client()::listFeaturedResultsSets));
+            },
+            ListFeaturedResultsSetsResponse::nextToken,
+            listResponse -> toProgress(proxy, request, listResponse, proxyClient, logger));
+    }
 
+    private ProgressEvent<ResourceModel, CallbackContext> toProgress(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ListFeaturedResultsSetsResponse listResponse,
+        final ProxyClient<KendraClient> proxyClient,
+        final Logger logger) {
         // STEP 3 [TODO: get a token for the next page]
         String nextToken = listResponse.nextToken();
 
         // STEP 4 [TODO: construct resource models]
         // e.g. https://github.com/aws-cloudformation/aws-cloudformation-resource-providers-logs/blob/master/aws-logs-loggroup/src/main/java/software/amazon/logs/loggroup/ListHandler.java#L19-L21
 
+        List<ResourceModel> resourceModels = Translator.translateFromListResponse(listResponse, request.getDesiredResourceState().getIndexId());
+        if (hydrate) {
+            resourceModels = HydratedList.hydrate(resourceModels, model -> read(proxy, request, model, proxyClient, logger));
+        }
+
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .resourceModels(Translator.translateFromListResponse(listResponse, request.getDesiredResourceState().getIndexId()))
+            .resourceModels(resourceModels)
             .nextToken(nextToken)
             .status(OperationStatus.SUCCESS)
             .build();
     }
+
+    private ResourceModel read(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ResourceModel model,
+        final ProxyClient<KendraClient> proxyClient,
+        final Logger logger) {
+        // The reads run concurrently, each gets its own handler and context
+        final ReadHandler readHandler = new ReadHandler(frsArnBuilder);
+        readHandler.serviceErrors = serviceErrors;
+        final ResourceHandlerRequest<ResourceModel> readRequest = ResourceHandlerRequest.<ResourceModel>builder()
+        .awsPartition(request.getAwsPartition())
+        .region(request.getRegion())
+        .awsAccountId(request.getAwsAccountId())
+        .desiredResourceState(model)
+        .build();
+        return readHandler.handleRequest(proxy, readRequest, new CallbackContext(), proxyClient, logger).getResourceModel();
+    }
 }
@@ -0,0 +1,161 @@
+package software.amazon.kendra.featuredresultsset;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import lombok.Value;
+
+/**
+ * Page size and read-ahead for the List handler.
+ *
+ * Pages are requested at {@link #MAX_PAGE_SIZE}, the most the List APIs return, unless the
+ * {@value #PAGE_SIZE_VARIABLE} environment variable of the handler function asks for fewer.
+ *
+ * With {@value #READ_AHEAD_VARIABLE} set, the page after the one being returned is listed while that one is
+ * translated, and kept for the invocation that asks for it by its token. A caller walking the pages usually lands
+ * on the same warm container, so that invocation skips its round trip. The read-ahead completes before the
+ * invocation returns, so no call outlives the invocation that made it. A kept page is scoped to the account,
+ * region and index it was listed for, is handed out once and expires after {@link #DEFAULT_TTL}.
+ *
+ * The scope leaves out the caller: CloudFormation hands every invocation new session credentials, so a page
+ * kept for the caller's credentials would hardly ever be taken. The invocation that takes a page makes no call
+ * of its own, so the token is what vouches for it. Kendra only returns a token to a caller it let list the page
+ * before, with the same request, and CloudFormation only passes it on to the next invocation of that listing.
+ */
+final class ListPages<R> {
+
+  static final int MAX_PAGE_SIZE = 100;
+  static final String PAGE_SIZE_VARIABLE = "LIST_PAGE_SIZE";
+  static final String READ_AHEAD_VARIABLE = "LIST_READ_AHEAD";
+  static final Duration DEFAULT_TTL = Duration.ofMinutes(1);
+  static final int DEFAULT_MAX_ENTRIES = 8;
+
+  // Threads are only created while a page is read ahead and are reclaimed once idle.
+  private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+    final Thread thread = new Thread(runnable, "kendra-featuredresultsset-list-ahead");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final boolean readAhead;
+  private final long ttlNanos;
+  private final int maxEntries;
+  private final LongSupplier nanoClock;
+
+  // Insertion ordered, so the page kept the longest is dropped first
+  private final Map<Key, Entry<R>> pages = new LinkedHashMap<>();
+
+  ListPages(final boolean readAhead) {
+    this(readAhead, DEFAULT_TTL, DEFAULT_MAX_ENTRIES, System::nanoTime);
+  }
+
+  // Used for testing
+  ListPages(final boolean readAhead, final Duration ttl, final int maxEntries, final LongSupplier nanoClock) {
+    this.readAhead = readAhead;
+    this.ttlNanos = ttl.toNanos();
+    this.maxEntries = maxEntries;
+    this.nanoClock = nanoClock;
+  }
+
+  static int pageSizeFromEnvironment() {
+    return pageSize(System.getenv(PAGE_SIZE_VARIABLE));
+  }
+
+  static boolean readAheadFromEnvironment() {
+    return Boolean.parseBoolean(System.getenv(READ_AHEAD_VARIABLE));
+  }
+
+  /**
+   * @return the requested page size within what the List APIs take, the maximum when it isn't a number
+   */
+  static int pageSize(final String pageSize) {
+    if (pageSize == null) {
+      return MAX_PAGE_SIZE;
+    }
+    try {
+      return Math.max(1, Math.min(MAX_PAGE_SIZE, Integer.parseInt(pageSize.trim())));
+    } catch (NumberFormatException e) {
+      return MAX_PAGE_SIZE;
+    }
+  }
+
+  /**
+   * Lists the page for a token, or takes it from an earlier read-ahead, and hands it to {@code use}. With
+   * read-ahead on, the page after it is listed while {@code use} runs.
+   *
+   * @param scope what the pages list, a token is only looked up within the scope it was read ahead for
+   * @param list lists the page for a token
+   * @param nextToken the token of the page after a listed one, null on the last page
+   */
+  <T> T list(
+      final String scope,
+      final String token,
+      final Function<String, R> list,
+      final Function<R, String> nextToken,
+      final Function<R, T> use) {
+    final R page = take(new Key(scope, token)).orElseGet(() -> list.apply(token));
+    final String next = nextToken.apply(page);
+    if (!readAhead || next == null) {
+      return use.apply(page);
+    }
+    final CompletableFuture<R> ahead = CompletableFuture.supplyAsync(() -> list.apply(next), EXECUTOR);
+    try {
+      return use.apply(page);
+    } finally {
+      // A failed read-ahead is left for the next invocation to list again
+      ahead.handle((nextPage, e) -> {
+        if (nextPage != null) {
+          put(new Key(scope, next), nextPage);
+        }
+        return null;
+      }).join();
+    }
+  }
+
+  synchronized int size() {
+    return pages.size();
+  }
+
+  private synchronized Optional<R> take(final Key key) {
+    final Entry<R> entry = pages.remove(key);
+    if (entry == null || nanoClock.getAsLong() - entry.keptAtNanos >= ttlNanos) {
+      return Optional.empty();
+    }
+    return Optional.of(entry.page);
+  }
+
+  private synchronized void put(final Key key, final R page) {
+    final long now = nanoClock.getAsLong();
+    pages.values().removeIf(entry -> now - entry.keptAtNanos >= ttlNanos);
+    pages.put(key, new Entry<>(page, now));
+    final Iterator<Key> eldest = pages.keySet().iterator();
+    while (pages.size() > maxEntries) {
+      eldest.next();
+      eldest.remove();
+    }
+  }
+
+  @Value
+  private static class Key {
+    String scope;
+    String token;
+  }
+
+  private static final class Entry<R> {
+    private final R page;
+    private final long keptAtNanos;
+
+    private Entry(final R page, final long keptAtNanos) {
+      this.page = page;
+      this.keptAtNanos = keptAtNanos;
+    }
+  }
+}
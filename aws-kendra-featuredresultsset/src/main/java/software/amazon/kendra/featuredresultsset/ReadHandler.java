@@ -1,31 +1,43 @@
 package software.amazon.kendra.featuredresultsset;
 
 import java.util.List;
+import java.util.Optional;
 import software.amazon.awssdk.services.kendra.KendraClient;
 import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetResponse;
-import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.SdkClient;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import static software.amazon.kendra.featuredresultsset.ApiName.DESCRIBE_FEATURED_RESULTS_SET;
+
 public class ReadHandler extends BaseHandlerStd {
     private Logger logger;
     private FeaturedResultsArnBuilder frsArnBuilder;
+    // Only ever filled by the update chain, a standalone read always describes the featured results set.
+    private final ResponseCache<DescribeFeaturedResultsSetResponse> describeFrsResponseCache;
 
     public ReadHandler() {
       super();
       frsArnBuilder = new FeaturedResultsArn();
+      describeFrsResponseCache = new ResponseCache<>();
     }
 
     public ReadHandler(FeaturedResultsArnBuilder frsArnBuilder) {
+      this(frsArnBuilder, new ResponseCache<>());
+    }
+
+    /**
+     * @param describeFrsResponseCache the latest DescribeFeaturedResultsSet response seen by the calling handler,
+     *                                 reused instead of describing the featured results set again
+     */
+    public ReadHandler(FeaturedResultsArnBuilder frsArnBuilder,
+        ResponseCache<DescribeFeaturedResultsSetResponse> describeFrsResponseCache) {
       this.frsArnBuilder = frsArnBuilder;
+      this.describeFrsResponseCache = describeFrsResponseCache;
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -39,6 +51,11 @@ public class ReadHandler extends BaseHandlerStd {
         String indexId = request.getDesiredResourceState().getIndexId();
         String frsArn = frsArnBuilder.build(request);
 
+        final Optional<DescribeFeaturedResultsSetResponse> cachedResponse = describeFrsResponseCache.get();
+        if (cachedResponse.isPresent()) {
+            return ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(cachedResponse.get(), frsArn, indexId));
+        }
+
         // TODO: Adjust Progress Chain according to your implementation
         // https://github.com/aws-cloudformation/cloudformation-cli-java-plugin/blob/master/src/main/java/software/amazon/cloudformation/proxy/CallChain.java
 
@@ -46,14 +63,9 @@ public class ReadHandler extends BaseHandlerStd {
         return proxy.initiate("AWS-Kendra-FeaturedResultsSet::Read", proxyClient, request.getDesiredResourceState(), callbackContext)
             .translateToServiceRequest(Translator::translateToReadRequest)
             .makeServiceCall((describeRequest, client) -> {
-                DescribeFeaturedResultsSetResponse describeResponse;
-                try {
-                  describeResponse = client.injectCredentialsAndInvokeV2(describeRequest, client.client()::describeFeaturedResultsSet);
-                } catch (ResourceNotFoundException e) {
-                  throw new CfnNotFoundException(ResourceModel.TYPE_NAME, describeRequest.featuredResultsSetId(), e);
-                } catch (final AwsServiceException e) {
-                    throw new CfnGeneralServiceException(ResourceModel.TYPE_NAME, e);
-                }
+                final DescribeFeaturedResultsSetResponse describeResponse = serviceErrors.call(
+                    DESCRIBE_FEATURED_RESULTS_SET, describeRequest.featuredResultsSetId(),
+                    () -> client.injectCredentialsAndInvokeV2(describeRequest, client.client()::describeFeaturedResultsSet));
 
                 logger.log(String.format("%s has successfully been read.", ResourceModel.TYPE_NAME));
                 return describeResponse;
@@ -0,0 +1,72 @@
+package software.amazon.kendra.featuredresultsset;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+
+/**
+ * Structural diff between the previous and the desired resource model, used to skip updates that would not
+ * change anything.
+ *
+ * Properties are compared the way the framework serializes them, so a property added to the schema is picked
+ * up without changes here. Unset and empty values are treated the same.
+ */
+final class ResourceModelDiff {
+
+  enum Change {
+    // Desired and previous state are the same
+    NONE,
+    // UpdateFeaturedResultsSet has to run
+    FULL
+  }
+
+  // Read only properties, a template never changes them
+  private static final Set<String> IGNORED = ImmutableSet.of("FeaturedResultsSetId", "Arn");
+
+  private static final ObjectMapper MAPPER = new ObjectMapper()
+      .setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+
+  private static final TypeReference<Map<String, Object>> PROPERTIES = new TypeReference<Map<String, Object>>() {
+  };
+
+  private ResourceModelDiff() {
+  }
+
+  /**
+   * @return the names of the properties that differ, in the schema's spelling
+   */
+  static Set<String> changedProperties(final ResourceModel previous, final ResourceModel desired) {
+    final Map<String, Object> before = properties(previous);
+    final Map<String, Object> after = properties(desired);
+    final Set<String> changed = new TreeSet<>();
+    for (final String name : Sets.union(before.keySet(), after.keySet())) {
+      if (!IGNORED.contains(name) && !Objects.equals(before.get(name), after.get(name))) {
+        changed.add(name);
+      }
+    }
+    return changed;
+  }
+
+  static Change classify(final ResourceModel previous, final ResourceModel desired) {
+    if (previous == null) {
+      // Nothing to compare against
+      return Change.FULL;
+    }
+    return changedProperties(previous, desired).isEmpty() ? Change.NONE : Change.FULL;
+  }
+
+  private static Map<String, Object> properties(final ResourceModel model) {
+    if (model == null) {
+      return Collections.emptyMap();
+    }
+    return MAPPER.convertValue(model, PROPERTIES);
+  }
+}
@@ -0,0 +1,33 @@
+package software.amazon.kendra.featuredresultsset;
+
+import java.time.Duration;
+
+/**
+ * Picks the schedule for waiting on a featured results set operation.
+ *
+ * A new delay is handed out per request because the handlers are reused across invocations and the delay
+ * keeps per-request counters.
+ */
+final class StabilizationDelays {
+
+  // Set the timeout to something silly/way too high, because
+  // we already set the timeout in the schema https://github.com/aws-cloudformation/aws-cloudformation-resource-schema
+  static final Duration TIMEOUT = Duration.ofDays(365L);
+
+  private StabilizationDelays() {
+  }
+
+  /**
+   * The schedule for waiting on a busy index before the featured results set is created or updated. An index
+   * update takes minutes.
+   */
+  static AdaptiveDelay forParentIndex() {
+    return AdaptiveDelay.of()
+        .timeout(TIMEOUT)
+        .earlyPolls(1)
+        .earlyDelay(Duration.ofSeconds(15))
+        .baseDelay(Duration.ofSeconds(30))
+        .maxDelay(Duration.ofMinutes(2))
+        .build();
+  }
+}
@@ -21,6 +21,10 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static software.amazon.kendra.featuredresultsset.ApiName.CREATE_FEATURED_RESULTS_SET;
+import static software.amazon.kendra.featuredresultsset.ApiName.DESCRIBE_FEATURED_RESULTS_SET;
+import static software.amazon.kendra.featuredresultsset.ApiName.UPDATE_FEATURED_RESULTS_SET;
+
 /**
  * This class is a centralized placeholder for
  *  - api request construction
@@ -36,6 +40,11 @@ public class Translator {
    * @return awsRequest the aws service request to create a resource
    */
   static CreateFeaturedResultsSetRequest translateToCreateRequest(final ResourceModel model) {
+    return HandlerEvents.conversion(CREATE_FEATURED_RESULTS_SET, model.getFeaturedResultsSetId(),
+        () -> createRequest(model));
+  }
+
+  private static CreateFeaturedResultsSetRequest createRequest(final ResourceModel model) {
     CreateFeaturedResultsSetRequest.Builder builder = CreateFeaturedResultsSetRequest.builder()
         .indexId(model.getIndexId())
         .featuredResultsSetName(model.getFeaturedResultsSetName())
@@ -64,6 +73,11 @@ public class Translator {
    * @return model resource model
    */
   static ResourceModel translateFromReadResponse(final DescribeFeaturedResultsSetResponse awsResponse, final String frsArn, final String indexId) {
+    return HandlerEvents.conversion(DESCRIBE_FEATURED_RESULTS_SET, awsResponse.featuredResultsSetId(),
+        () -> modelFromReadResponse(awsResponse, frsArn, indexId));
+  }
+
+  private static ResourceModel modelFromReadResponse(final DescribeFeaturedResultsSetResponse awsResponse, final String frsArn, final String indexId) {
     // e.g. https://github.com/aws-cloudformation/aws-cloudformation-resource-providers-logs/blob/2077c92299aeb9a68ae8f4418b5e932b12a8b186/aws-logs-loggroup/src/main/java/com/aws/logs/loggroup/Translator.java#L58-L73
     // TODO: Implement once Tagris integration is complete
     return ResourceModel.builder()
@@ -97,6 +111,11 @@ public class Translator {
    * @return awsRequest the aws service request to modify a resource
    */
   static UpdateFeaturedResultsSetRequest translateToUpdateRequest(final ResourceModel model) {
+    return HandlerEvents.conversion(UPDATE_FEATURED_RESULTS_SET, model.getFeaturedResultsSetId(),
+        () -> updateRequest(model));
+  }
+
+  private static UpdateFeaturedResultsSetRequest updateRequest(final ResourceModel model) {
     UpdateFeaturedResultsSetRequest.Builder builder = UpdateFeaturedResultsSetRequest.builder()
         .indexId(model.getIndexId())
         .featuredResultsSetId(model.getFeaturedResultsSetId())
@@ -111,12 +130,15 @@ public class Translator {
   /**
    * Request to list resources
    * @param nextToken token passed to the aws service list resources request
+   * @param maxResults the most featured results sets to return on the page
    * @return awsRequest the aws service request to list resources within aws account
    */
-  static ListFeaturedResultsSetsRequest translateToListRequest(final ResourceModel model, final String nextToken) {
+  static ListFeaturedResultsSetsRequest translateToListRequest(final ResourceModel model, final String nextToken,
+      final int maxResults) {
     ListFeaturedResultsSetsRequest.Builder builder = ListFeaturedResultsSetsRequest.builder()
         .indexId(model.getIndexId())
-        .nextToken(nextToken);
+        .nextToken(nextToken)
+        .maxResults(maxResults);
     return builder.build();
   }
 
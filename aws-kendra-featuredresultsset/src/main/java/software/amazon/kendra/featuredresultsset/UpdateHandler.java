@@ -4,24 +4,20 @@ import static software.amazon.kendra.featuredresultsset.ApiName.CREATE_FEATURED_
 import static software.amazon.kendra.featuredresultsset.ApiName.UPDATE_FEATURED_RESULTS_SET;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import software.amazon.awssdk.awscore.AwsResponse;
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.services.kendra.KendraClient;
 import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetResponse;
 import software.amazon.awssdk.services.kendra.model.UpdateFeaturedResultsSetRequest;
 import software.amazon.awssdk.services.kendra.model.UpdateFeaturedResultsSetResponse;
-import software.amazon.awssdk.services.kendra.model.FeaturedResultsConflictException;
 import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.kendra.model.ValidationException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotUpdatableException;
-import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
@@ -30,16 +26,36 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 public class UpdateHandler extends BaseHandlerStd {
     private Logger logger;
     private FeaturedResultsArnBuilder frsBuilder;
+    private final Supplier<Delay> indexDelayProvider;
 
     public UpdateHandler() {
       super();
       frsBuilder = new FeaturedResultsArn();
+      indexDelayProvider = StabilizationDelays::forParentIndex;
     }
 
     // Used for testing.
     public UpdateHandler(FeaturedResultsArnBuilder frsBuilder) {
       super();
       this.frsBuilder = frsBuilder;
+      this.indexDelayProvider = StabilizationDelays::forParentIndex;
+    }
+
+    // Used for testing.
+    public UpdateHandler(FeaturedResultsArnBuilder frsBuilder, Delay delay) {
+      super();
+      this.frsBuilder = frsBuilder;
+      this.indexDelayProvider = () -> delay;
+    }
+
+    @Override
+    protected boolean validatesDesiredState() {
+        return true;
+    }
+
+    @Override
+    protected boolean changesResource() {
+        return true;
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -54,6 +70,10 @@ public class UpdateHandler extends BaseHandlerStd {
 
         verifyNonUpdatableFields(model, request.getPreviousResourceState());
 
+        final ResourceModelDiff.Change change = ResourceModelDiff.classify(request.getPreviousResourceState(), model);
+        logger.log(String.format("%s [%s] update classified as %s.", ResourceModel.TYPE_NAME, model.getFeaturedResultsSetId(), change));
+        final ResponseCache<DescribeFeaturedResultsSetResponse> describeFrsResponseCache = new ResponseCache<>();
+
         // TODO: Adjust Progress Chain according to your implementation
         // https://github.com/aws-cloudformation/cloudformation-cli-java-plugin/blob/master/src/main/java/software/amazon/cloudformation/proxy/CallChain.java
 
@@ -62,7 +82,7 @@ public class UpdateHandler extends BaseHandlerStd {
             // STEP 1 [check if resource already exists]
             // for more information -> https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
             // if target API does not support 'ResourceNotFoundException' then following check is required
-            .then(progress ->
+            .then(phase("ValidateResourceExists", progress ->
                 // STEP 1.0 [initialize a proxy context]
                 // If your service API does not return ResourceNotFoundException on update requests against some identifier (e.g; resource Name)
                 // and instead returns a 200 even though a resource does not exist, you must first check if the resource exists here
@@ -70,17 +90,31 @@ public class UpdateHandler extends BaseHandlerStd {
                 proxy.initiate("AWS-Kendra-FeaturedResultsSet::Update::PreUpdateCheck", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                     .translateToServiceRequest(Translator::translateToReadRequest)
                     .makeServiceCall(this::validateResourceExists)
-                    .progress()
-            )
-            .then(progress ->
+                    .done((describeFrsRequest, describeFrsResponse, client, resourceModel, context) -> {
+                      // Still current if the update is skipped
+                      describeFrsResponseCache.put(describeFrsResponse);
+                      return ProgressEvent.progress(resourceModel, context);
+                    })
+            ))
+            // Kendra rejects the update while the index is busy, wait for it instead of failing
+            .then(phase("AwaitIndex", progress -> change == ResourceModelDiff.Change.NONE
+                ? progress
+                : ParentIndex.awaitReady(proxy, proxyClient, progress, indexDelayProvider.get(), serviceErrors, logger)))
+            .then(phase("Update", progress -> {
+                if (change == ResourceModelDiff.Change.NONE) {
+                  return progress;
+                }
+                describeFrsResponseCache.invalidate();
                 // STEP 2.0 [initialize a proxy context]
                 // Implement client invocation of the update request through the proxyClient, which is already initialised with
                 // caller credentials, correct region and retry settings
-                proxy.initiate("AWS-Kendra-FeaturedResultsSet::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                return proxy.initiate("AWS-Kendra-FeaturedResultsSet::Update", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                     .translateToServiceRequest(Translator::translateToUpdateRequest)
                     .makeServiceCall(this::updateFeaturedResultsSet)
-                    .progress())
-            .then(progress -> new ReadHandler(frsBuilder).handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                    .progress();
+            }))
+            .then(phase("Read", progress -> new ReadHandler(frsBuilder, describeFrsResponseCache)
+                .handleRequest(proxy, request, callbackContext, proxyClient, logger)));
     }
 
     private DescribeFeaturedResultsSetResponse validateResourceExists(final DescribeFeaturedResultsSetRequest describeFrsRequest,
@@ -97,24 +131,9 @@ public class UpdateHandler extends BaseHandlerStd {
 
     private UpdateFeaturedResultsSetResponse updateFeaturedResultsSet(final UpdateFeaturedResultsSetRequest updateFrsRequest,
         final ProxyClient<KendraClient> proxyClient) {
-        UpdateFeaturedResultsSetResponse updateFrsResponse;
-        try {
-          updateFrsResponse = proxyClient.injectCredentialsAndInvokeV2(updateFrsRequest, proxyClient.client()::updateFeaturedResultsSet);
-        } catch (ValidationException e) {
-          throw new CfnInvalidRequestException(e.getMessage(), e);
-        } catch (FeaturedResultsConflictException e) {
-          throw new CfnResourceConflictException(e);
-        } catch (ResourceNotFoundException e) {
-          throw new CfnNotFoundException(ResourceModel.TYPE_NAME, updateFrsRequest.featuredResultsSetId(), e);
-        } catch (final AwsServiceException e) {
-          /*
-           * While the handler contract states that the handler must always return a progress event,
-           * you may throw any instance of BaseHandlerException, as the wrapper map it to a progress event.
-           * Each BaseHandlerException maps to a specific error code, and you should map service exceptions as closely as possible
-           * to more specific error codes
-           */
-          throw new CfnGeneralServiceException(UPDATE_FEATURED_RESULTS_SET, e);
-        }
+        final UpdateFeaturedResultsSetResponse updateFrsResponse = serviceErrors.call(UPDATE_FEATURED_RESULTS_SET,
+            updateFrsRequest.featuredResultsSetId(),
+            () -> proxyClient.injectCredentialsAndInvokeV2(updateFrsRequest, proxyClient.client()::updateFeaturedResultsSet));
 
         logger.log(String.format("%s successfully updated.", ResourceModel.TYPE_NAME));
         return updateFrsResponse;
@@ -8,11 +8,17 @@ import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexRequest;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexResponse;
+import software.amazon.awssdk.services.kendra.model.IndexStatus;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Credentials;
 import software.amazon.cloudformation.proxy.LoggerProxy;
 import software.amazon.cloudformation.proxy.ProxyClient;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
 public class AbstractTestBase {
   protected static final Credentials MOCK_CREDENTIALS;
   protected static final LoggerProxy logger;
@@ -21,6 +27,22 @@ public class AbstractTestBase {
     MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
     logger = new LoggerProxy();
   }
+
+  // The handlers' retry settings, without sleeping between attempts
+  static final ServiceErrors SERVICE_ERRORS = ClientBuilder.SERVICE_ERRORS.toBuilder()
+    .sleeper(nanos -> { }, () -> 0.5)
+    .build();
+
+  // Create and Update describe the index before changing the featured results set, one status per call
+  static void stubIndexStatus(final KendraClient kendraClient, final IndexStatus status, final IndexStatus... next) {
+    final DescribeIndexResponse[] responses = new DescribeIndexResponse[next.length];
+    for (int i = 0; i < next.length; i++) {
+      responses[i] = DescribeIndexResponse.builder().status(next[i]).build();
+    }
+    when(kendraClient.describeIndex(any(DescribeIndexRequest.class)))
+      .thenReturn(DescribeIndexResponse.builder().status(status).build(), responses);
+  }
+
   static ProxyClient<KendraClient> MOCK_PROXY(
     final AmazonWebServicesClientProxy proxy,
     final KendraClient sdkClient) {
@@ -0,0 +1,169 @@
+package software.amazon.kendra.featuredresultsset;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetRequest;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ApiRateLimiterTest extends AbstractTestBase {
+
+    private static final String API = "DescribeFeaturedResultsSet";
+
+    private AtomicLong now;
+    private AtomicLong slept;
+    private ApiRateLimiter.Builder builder;
+
+    @BeforeEach
+    public void setup() {
+        now = new AtomicLong(0);
+        slept = new AtomicLong(0);
+        // Sleeping moves the fake clock forward, like it would for a real caller
+        builder = ApiRateLimiter.builder()
+            .clock(now::get, nanos -> {
+                slept.addAndGet(nanos);
+                now.addAndGet(nanos);
+            });
+    }
+
+    @Test
+    public void testBurstPassesWithoutWaiting() {
+        final ApiRateLimiter limiter = builder.limit(API, 1, 3).build();
+
+        limiter.acquire(API);
+        limiter.acquire(API);
+        limiter.acquire(API);
+
+        assertThat(slept.get()).isZero();
+        assertThat(limiter.stats(API).getAcquired()).isEqualTo(3);
+        assertThat(limiter.stats(API).getTotalWait()).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void testCallsAfterBurstAreSpacedByRate() {
+        final ApiRateLimiter limiter = builder.limit(API, 2, 1).build();
+
+        limiter.acquire(API);
+        limiter.acquire(API);
+        limiter.acquire(API);
+
+        // Two permits per second, so each call past the burst waits half a second
+        assertThat(slept.get()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1000));
+        assertThat(limiter.stats(API).getMaxWait()).isEqualTo(Duration.ofMillis(500));
+    }
+
+    @Test
+    public void testBucketRefillsWhileIdle() {
+        final ApiRateLimiter limiter = builder.limit(API, 1, 2).build();
+
+        limiter.acquire(API);
+        limiter.acquire(API);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        limiter.acquire(API);
+        limiter.acquire(API);
+
+        // Refills only up to the burst, so the idle time doesn't let more than two calls through at once
+        assertThat(slept.get()).isZero();
+        limiter.acquire(API);
+        assertThat(slept.get()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    public void testRejectsWhenWaitExceedsMaxWait() {
+        // Callers that are still queued, the clock doesn't move while they wait
+        final ApiRateLimiter limiter = ApiRateLimiter.builder()
+            .limit(API, 1, 1)
+            .maxWait(Duration.ofSeconds(1))
+            .clock(now::get, nanos -> { })
+            .build();
+
+        limiter.acquire(API);
+        limiter.acquire(API);
+
+        assertThatThrownBy(() -> limiter.acquire(API))
+            .isInstanceOf(CfnThrottlingException.class)
+            .hasMessageContaining(API)
+            .hasMessageContaining("2000ms")
+            .isInstanceOfSatisfying(ApiRateLimiter.WaitTooLongException.class,
+                e -> assertThat(e.getWait()).isEqualTo(Duration.ofSeconds(2)));
+        assertThat(limiter.stats(API).getAcquired()).isEqualTo(2);
+        assertThat(limiter.stats(API).getRejected()).isEqualTo(1);
+    }
+
+    @Test
+    public void testChangeIsCalledBackWhenTheWaitIsTooLong() {
+        final DeleteHandler handler = new DeleteHandler();
+        handler.rateLimiter = drained();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy(), request(), null, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(10);
+        assertThat(response.getResourceModel()).isEqualTo(request().getDesiredResourceState());
+    }
+
+    @Test
+    public void testReadFailsWhenTheWaitIsTooLong() {
+        final ReadHandler handler = new ReadHandler();
+        handler.rateLimiter = drained();
+
+        assertThatThrownBy(() -> handler.handleRequest(proxy(), request(), null, logger))
+            .isInstanceOf(CfnThrottlingException.class);
+    }
+
+    @Test
+    public void testApisHaveSeparateBuckets() {
+        final ApiRateLimiter limiter = builder.limit(API, 1, 1).defaultLimit(1, 1).build();
+
+        limiter.acquire(API);
+        limiter.acquire("ListTagsForResource");
+
+        assertThat(slept.get()).isZero();
+        assertThat(limiter.stats("ListTagsForResource").getAcquired()).isEqualTo(1);
+        assertThat(limiter.stats("UpdateFeaturedResultsSet").getAcquired()).isZero();
+        assertThat(limiter.stats()).contains("DescribeFeaturedResultsSet: acquired=1").contains("ListTagsForResource: acquired=1");
+    }
+
+    @Test
+    public void testRejectsInvalidLimit() {
+        assertThatThrownBy(() -> builder.limit(API, 0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> builder.limit(API, 1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // One permit every 10 seconds, already taken for each call the handlers start with
+    private ApiRateLimiter drained() {
+        final ApiRateLimiter limiter = builder.defaultLimit(0.1, 1).maxWait(Duration.ofSeconds(1)).build();
+        limiter.acquire(ApiName.DESCRIBE_INDEX);
+        limiter.acquire(ApiName.DESCRIBE_FEATURED_RESULTS_SET);
+        limiter.acquire(ApiName.BATCH_DELETE_FEATURED_RESULTS_SETS);
+        return limiter;
+    }
+
+    private static AmazonWebServicesClientProxy proxy() {
+        return new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request() {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .region("us-east-1")
+            .desiredResourceState(ResourceModel.builder().featuredResultsSetId("id").indexId("indexId").build())
+            .build();
+    }
+
+    @Test
+    public void testApiNameMatchesApiNameConstants() {
+        assertThat(RateLimitedProxyClient.apiName(DescribeFeaturedResultsSetRequest.builder().build()))
+            .isEqualTo(ApiName.DESCRIBE_FEATURED_RESULTS_SET);
+    }
+}
@@ -0,0 +1,102 @@
+package software.amazon.kendra.featuredresultsset;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * The calls to Kendra each handler operation makes, declared in {@value #BUDGETS} as
+ * {@code <operation>.<api>=<calls>} with the {@link ApiName} spelling of the API.
+ *
+ * An operation is run against a {@link MeteredProxyClient}, which counts its calls per API the way the handler
+ * metrics do, once per attempt. A budget is the exact number of calls, and an API without one for the operation
+ * may not be called at all. Any difference fails with every API the operation called or has a budget for, so an
+ * extra round trip shows up in the build output, and so does a call that no longer goes through the proxy client
+ * or is no longer made. A change that makes more or fewer calls updates the budget in the same change.
+ */
+public class CallBudget {
+
+    static final String BUDGETS = "call-budgets.properties";
+
+    private final Properties budgets;
+
+    private CallBudget(final Properties budgets) {
+        this.budgets = budgets;
+    }
+
+    public static CallBudget load() {
+        final Properties budgets = new Properties();
+        try (InputStream in = CallBudget.class.getClassLoader().getResourceAsStream(BUDGETS)) {
+            if (in == null) {
+                throw new IllegalStateException(BUDGETS + " is not on the test classpath");
+            }
+            budgets.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new CallBudget(budgets);
+    }
+
+    /**
+     * @return the budget of the operation by API, empty when none is declared
+     */
+    public Map<String, Integer> of(final String operation) {
+        final Map<String, Integer> budget = new TreeMap<>();
+        final String prefix = operation + ".";
+        for (final String key : budgets.stringPropertyNames()) {
+            if (key.startsWith(prefix)) {
+                budget.put(key.substring(prefix.length()), Integer.parseInt(budgets.getProperty(key).trim()));
+            }
+        }
+        return budget;
+    }
+
+    /**
+     * Runs the operation with a proxy client that counts its calls, and fails if they differ from its budget.
+     *
+     * @return the calls the operation made by API
+     */
+    public Map<String, Integer> assertWithin(
+            final String operation,
+            final ProxyClient<KendraClient> proxyClient,
+            final Consumer<ProxyClient<KendraClient>> run) {
+        final Map<String, Integer> budget = of(operation);
+        if (budget.isEmpty()) {
+            throw new AssertionError("No budget is declared for " + operation + " in " + BUDGETS);
+        }
+        final CallbackContext counts = new CallbackContext();
+        run.accept(new MeteredProxyClient(proxyClient, counts, System::currentTimeMillis, () -> null));
+
+        final Map<String, Integer> calls = new TreeMap<>(counts.getApiCalls());
+        final TreeSet<String> apis = new TreeSet<>(budget.keySet());
+        apis.addAll(calls.keySet());
+        final StringBuilder diff = new StringBuilder();
+        boolean differs = false;
+        for (final String api : apis) {
+            final int made = calls.getOrDefault(api, 0);
+            final int allowed = budget.getOrDefault(api, 0);
+            differs |= made != allowed;
+            diff.append(String.format("%n  %s %-24s %d calls, budget %d", mark(made, allowed), api, made, allowed));
+        }
+        if (differs) {
+            throw new AssertionError(String.format("%s made other calls than its budget in %s declares:%s",
+                operation, BUDGETS, diff));
+        }
+        return calls;
+    }
+
+    private static String mark(final int made, final int allowed) {
+        if (made > allowed) {
+            return "+";
+        }
+        return made < allowed ? "-" : " ";
+    }
+}
@@ -0,0 +1,176 @@
+package software.amazon.kendra.featuredresultsset;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.model.CreateFeaturedResultsSetRequest;
+import software.amazon.awssdk.services.kendra.model.CreateIndexRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Holds every handler operation to the calls {@link CallBudget} declares for it, running the real handlers against
+ * {@link FakeKendraClient}. The index is active before any operation runs, so the counts don't depend on how long
+ * it takes to create.
+ */
+public class CallBudgetTest extends AbstractTestBase {
+
+    private final TestFeaturedResultsArn testFeaturedResultsArn = new TestFeaturedResultsArn();
+    private final CallBudget budget = CallBudget.load();
+
+    private FakeKendraClient kendra;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<KendraClient> proxyClient;
+    private String indexId;
+
+    @BeforeEach
+    public void setup() {
+        kendra = FakeKendraClient.builder()
+            .clock(FakeClock.manual())
+            .indexCreateTime(Duration.ZERO)
+            .build();
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = MOCK_PROXY(proxy, kendra);
+        indexId = kendra.createIndex(CreateIndexRequest.builder().name("index").roleArn("roleArn").build()).id();
+    }
+
+    @Test
+    public void testCreate() {
+        budget.assertWithin("Create", proxyClient, client ->
+            assertThat(run(new CreateHandler(testFeaturedResultsArn), request(model(), null), client)
+                .getFeaturedResultsSetId()).isNotNull());
+    }
+
+    @Test
+    public void testRead() {
+        final ResourceModel created = create();
+
+        budget.assertWithin("Read", proxyClient, client ->
+            assertThat(run(new ReadHandler(testFeaturedResultsArn), request(created, null), client))
+                .isEqualTo(created));
+    }
+
+    @Test
+    public void testUpdate() {
+        final ResourceModel created = create();
+        final ResourceModel desired = read(created);
+        desired.setDescription("updated");
+
+        budget.assertWithin("Update", proxyClient, client ->
+            assertThat(run(new UpdateHandler(testFeaturedResultsArn), request(desired, created), client)
+                .getDescription()).isEqualTo("updated"));
+    }
+
+    @Test
+    public void testDelete() {
+        final ResourceModel created = create();
+
+        budget.assertWithin("Delete", proxyClient, client ->
+            assertThat(run(new DeleteHandler(), request(created, null), client)).isNull());
+    }
+
+    @Test
+    public void testList() {
+        createFeaturedResultsSets(3);
+
+        budget.assertWithin("List", proxyClient, client -> assertThat(list(false, client)).hasSize(3));
+    }
+
+    @Test
+    public void testHydratedList() {
+        createFeaturedResultsSets(3);
+
+        budget.assertWithin("HydratedList", proxyClient, client -> assertThat(list(true, client))
+            .allSatisfy(model -> assertThat(model.getQueryTexts()).hasSize(1)));
+    }
+
+    @Test
+    public void testGoingOverTheBudgetFailsWithTheCalls() {
+        final ResourceModel created = create();
+
+        assertThatThrownBy(() -> budget.assertWithin("Read", proxyClient, client -> {
+            run(new ReadHandler(testFeaturedResultsArn), request(created, null), client);
+            run(new ReadHandler(testFeaturedResultsArn), request(created, null), client);
+        }))
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("Read made other calls than its budget in " + CallBudget.BUDGETS + " declares")
+            .hasMessageContaining("+ " + ApiName.DESCRIBE_FEATURED_RESULTS_SET)
+            .hasMessageContaining("2 calls, budget 1");
+    }
+
+    @Test
+    public void testFallingShortOfTheBudgetFailsWithTheCalls() {
+        assertThatThrownBy(() -> budget.assertWithin("Read", proxyClient, client -> { }))
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("- " + ApiName.DESCRIBE_FEATURED_RESULTS_SET)
+            .hasMessageContaining("0 calls, budget 1");
+    }
+
+    private ResourceModel create() {
+        return run(new CreateHandler(testFeaturedResultsArn), request(model(), null), proxyClient);
+    }
+
+    private ResourceModel read(final ResourceModel model) {
+        return run(new ReadHandler(testFeaturedResultsArn), request(model, null), proxyClient);
+    }
+
+    private void createFeaturedResultsSets(final int count) {
+        for (int i = 0; i < count; i++) {
+            kendra.createFeaturedResultsSet(CreateFeaturedResultsSetRequest.builder()
+                .indexId(indexId)
+                .featuredResultsSetName("featuredResultsSet" + i)
+                .queryTexts("query" + i)
+                .build());
+        }
+    }
+
+    // Not from the environment, so the budget holds wherever the tests run
+    private List<ResourceModel> list(final boolean hydrate, final ProxyClient<KendraClient> client) {
+        final ListHandler handler =
+            new ListHandler(hydrate, testFeaturedResultsArn, new ListPages<>(false), ListPages.MAX_PAGE_SIZE);
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ResourceModel model = ResourceModel.builder().indexId(indexId).build();
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy, request(model, null), new CallbackContext(), client, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        return response.getResourceModels();
+    }
+
+    private ResourceModel run(
+            final BaseHandlerStd handler,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final ProxyClient<KendraClient> client) {
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), client, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        return response.getResourceModel();
+    }
+
+    private ResourceModel model() {
+        return ResourceModel.builder()
+            .indexId(indexId)
+            .featuredResultsSetName("name")
+            .description("description")
+            .status("ACTIVE")
+            .queryTexts(List.of("query"))
+            .featuredDocuments(List.of(FeaturedDocument.builder().id("document").build()))
+            .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(desired)
+            .previousResourceState(previous)
+            .build();
+    }
+}
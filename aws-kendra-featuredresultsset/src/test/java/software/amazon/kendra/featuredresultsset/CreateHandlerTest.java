@@ -6,22 +6,36 @@ import java.util.List;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
+import software.amazon.awssdk.services.kendra.model.ConflictException;
 import software.amazon.awssdk.services.kendra.model.CreateFeaturedResultsSetRequest;
 import software.amazon.awssdk.services.kendra.model.CreateFeaturedResultsSetResponse;
 import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetResponse;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexRequest;
 import software.amazon.awssdk.services.kendra.model.FeaturedDocumentWithMetadata;
 import software.amazon.awssdk.services.kendra.model.FeaturedResultsConflictException;
 import software.amazon.awssdk.services.kendra.model.FeaturedResultsSet;
+import software.amazon.awssdk.services.kendra.model.IndexStatus;
+import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.kendra.model.ServiceQuotaExceededException;
+import software.amazon.awssdk.services.kendra.model.ThrottlingException;
 import software.amazon.awssdk.services.kendra.model.ValidationException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +47,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -96,6 +111,7 @@ public class CreateHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().createFeaturedResultsSet(any(CreateFeaturedResultsSetRequest.class)))
             .thenReturn(CreateFeaturedResultsSetResponse.builder()
                 .featuredResultsSet(FeaturedResultsSet.builder()
@@ -133,6 +149,46 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(2)).describeFeaturedResultsSet(any(DescribeFeaturedResultsSetRequest.class));
     }
 
+    @Test
+    public void handleRequest_WaitsForTheIndex() {
+        final Delay delay = Constant.of().timeout(Duration.ofMinutes(1)).delay(Duration.ofMillis(1L)).build();
+        final CreateHandler handler = new CreateHandler(frsArnBuilder, delay);
+        final ResourceModel model = ResourceModel.builder()
+            .indexId("indexId")
+            .featuredResultsSetName("frsName")
+            .queryTexts(Arrays.asList("query1"))
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        stubIndexStatus(proxyClient.client(), IndexStatus.UPDATING, IndexStatus.SYSTEM_UPDATING, IndexStatus.ACTIVE);
+        when(proxyClient.client().createFeaturedResultsSet(any(CreateFeaturedResultsSetRequest.class)))
+            .thenReturn(CreateFeaturedResultsSetResponse.builder()
+                .featuredResultsSet(FeaturedResultsSet.builder()
+                    .featuredResultsSetName("frsName")
+                    .featuredResultsSetId("frsId")
+                    .status("ACTIVE")
+                    .queryTexts(Arrays.asList("query1"))
+                    .build())
+                .build());
+        when(proxyClient.client().describeFeaturedResultsSet(any(DescribeFeaturedResultsSetRequest.class)))
+            .thenReturn(DescribeFeaturedResultsSetResponse.builder()
+                .featuredResultsSetName("frsName")
+                .featuredResultsSetId("frsId")
+                .status("ACTIVE")
+                .queryTexts(Arrays.asList("query1"))
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), times(3)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(1)).createFeaturedResultsSet(any(CreateFeaturedResultsSetRequest.class));
+        verify(proxyClient.client(), times(2)).describeFeaturedResultsSet(any(DescribeFeaturedResultsSetRequest.class));
+    }
+
     @Test
     public void handleRequest_ValidationException() {
         final CreateHandler handler = new CreateHandler(frsArnBuilder);
@@ -147,6 +203,7 @@ public class CreateHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().createFeaturedResultsSet(any(CreateFeaturedResultsSetRequest.class)))
             .thenThrow(ValidationException.builder().build());
 
@@ -170,6 +227,7 @@ public class CreateHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().createFeaturedResultsSet(any(CreateFeaturedResultsSetRequest.class)))
             .thenThrow(FeaturedResultsConflictException.builder().build());
 
@@ -192,6 +250,7 @@ public class CreateHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().createFeaturedResultsSet(any(CreateFeaturedResultsSetRequest.class)))
             .thenThrow(AwsServiceException.builder().build());
 
@@ -200,4 +259,35 @@ public class CreateHandlerTest extends AbstractTestBase {
             handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
         });
     }
+
+    // Mapped to GeneralServiceException before the errors went through ServiceErrors
+    @Test
+    public void handleRequest_ServiceErrorsMapToTheirCodes() {
+        final CreateHandler handler = new CreateHandler(frsArnBuilder);
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ResourceModel model = ResourceModel.builder()
+            .indexId("indexId")
+            .featuredResultsSetName("frsName")
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
+
+        assertFailsWith(handler, request, ConflictException.builder().build(), CfnResourceConflictException.class);
+        assertFailsWith(handler, request, ServiceQuotaExceededException.builder().build(),
+            CfnServiceLimitExceededException.class);
+        assertFailsWith(handler, request, ResourceNotFoundException.builder().build(), CfnNotFoundException.class);
+        assertFailsWith(handler, request, AccessDeniedException.builder().build(), CfnAccessDeniedException.class);
+        assertFailsWith(handler, request, ThrottlingException.builder().build(), CfnThrottlingException.class);
+    }
+
+    private void assertFailsWith(final CreateHandler handler, final ResourceHandlerRequest<ResourceModel> request,
+                                 final AwsServiceException e, final Class<? extends BaseHandlerException> type) {
+        doThrow(e).when(kendraClient).createFeaturedResultsSet(any(CreateFeaturedResultsSetRequest.class));
+
+        assertThrows(type, () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+    }
 }
@@ -4,15 +4,24 @@ import java.time.Duration;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
 import software.amazon.awssdk.services.kendra.model.BatchDeleteFeaturedResultsSetRequest;
 import software.amazon.awssdk.services.kendra.model.BatchDeleteFeaturedResultsSetResponse;
+import software.amazon.awssdk.services.kendra.model.ConflictException;
 import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetResponse;
 import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.kendra.model.ServiceQuotaExceededException;
+import software.amazon.awssdk.services.kendra.model.ThrottlingException;
 import software.amazon.awssdk.services.kendra.model.ValidationException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -28,6 +37,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.verify;
@@ -182,4 +192,38 @@ public class DeleteHandlerTest extends AbstractTestBase {
             handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
         });
     }
+
+    // Mapped to GeneralServiceException before the errors went through ServiceErrors
+    @Test
+    public void handleRequest_ServiceErrorsMapToTheirCodes() {
+        final DeleteHandler handler = new DeleteHandler();
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ResourceModel model = ResourceModel.builder()
+            .indexId("indexId")
+            .featuredResultsSetId("frsId")
+            .featuredResultsSetName("frsName")
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        when(proxyClient.client().describeFeaturedResultsSet(any(DescribeFeaturedResultsSetRequest.class)))
+            .thenReturn(DescribeFeaturedResultsSetResponse.builder()
+                .featuredResultsSetName("frsName")
+                .build());
+
+        assertFailsWith(handler, request, ConflictException.builder().build(), CfnResourceConflictException.class);
+        assertFailsWith(handler, request, ServiceQuotaExceededException.builder().build(),
+            CfnServiceLimitExceededException.class);
+        assertFailsWith(handler, request, AccessDeniedException.builder().build(), CfnAccessDeniedException.class);
+        assertFailsWith(handler, request, ThrottlingException.builder().build(), CfnThrottlingException.class);
+    }
+
+    private void assertFailsWith(final DeleteHandler handler, final ResourceHandlerRequest<ResourceModel> request,
+                                 final AwsServiceException e, final Class<? extends BaseHandlerException> type) {
+        doThrow(e).when(kendraClient).batchDeleteFeaturedResultsSet(any(BatchDeleteFeaturedResultsSetRequest.class));
+
+        assertThrows(type, () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+    }
 }
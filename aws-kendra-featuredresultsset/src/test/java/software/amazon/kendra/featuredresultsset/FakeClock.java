@@ -0,0 +1,62 @@
+package software.amazon.kendra.featuredresultsset;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Virtual time for {@link FakeKendraClient}.
+ *
+ * A scaled clock runs a fixed number of times faster than the wall clock, so a status transition that takes
+ * minutes against Kendra takes milliseconds in a test, and sleeping on it is shortened by the same factor.
+ * A manual clock only moves when it is advanced or slept on.
+ */
+public class FakeClock {
+
+    private static final Instant START = Instant.parse("2021-01-01T00:00:00Z");
+
+    private final double speed;
+    private final long wallStartNanos = System.nanoTime();
+    private final AtomicLong advancedNanos = new AtomicLong();
+
+    private FakeClock(final double speed) {
+        this.speed = speed;
+    }
+
+    public static FakeClock scaled(final double speed) {
+        if (speed <= 0) {
+            throw new IllegalArgumentException("Speed has to be positive, got " + speed);
+        }
+        return new FakeClock(speed);
+    }
+
+    public static FakeClock manual() {
+        return new FakeClock(0);
+    }
+
+    public long nanos() {
+        return (long) ((System.nanoTime() - wallStartNanos) * speed) + advancedNanos.get();
+    }
+
+    public Instant instant() {
+        return START.plusNanos(nanos());
+    }
+
+    public void advance(final Duration duration) {
+        advancedNanos.addAndGet(duration.toNanos());
+    }
+
+    // Blocks for the wall clock share of the duration, a manual clock is moved forward instead
+    public void sleep(final Duration duration) {
+        if (speed == 0) {
+            advance(duration);
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep((long) (duration.toNanos() / speed));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package software.amazon.kendra.featuredresultsset;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.model.BatchDeleteFeaturedResultsSetError;
+import software.amazon.awssdk.services.kendra.model.BatchDeleteFeaturedResultsSetRequest;
+import software.amazon.awssdk.services.kendra.model.BatchDeleteFeaturedResultsSetResponse;
+import software.amazon.awssdk.services.kendra.model.ConflictException;
+import software.amazon.awssdk.services.kendra.model.ConflictingItem;
+import software.amazon.awssdk.services.kendra.model.CreateFeaturedResultsSetRequest;
+import software.amazon.awssdk.services.kendra.model.CreateFeaturedResultsSetResponse;
+import software.amazon.awssdk.services.kendra.model.CreateIndexRequest;
+import software.amazon.awssdk.services.kendra.model.CreateIndexResponse;
+import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetRequest;
+import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetResponse;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexRequest;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexResponse;
+import software.amazon.awssdk.services.kendra.model.ErrorCode;
+import software.amazon.awssdk.services.kendra.model.FeaturedDocumentWithMetadata;
+import software.amazon.awssdk.services.kendra.model.FeaturedResultsConflictException;
+import software.amazon.awssdk.services.kendra.model.FeaturedResultsSet;
+import software.amazon.awssdk.services.kendra.model.FeaturedResultsSetStatus;
+import software.amazon.awssdk.services.kendra.model.FeaturedResultsSetSummary;
+import software.amazon.awssdk.services.kendra.model.IndexEdition;
+import software.amazon.awssdk.services.kendra.model.IndexStatus;
+import software.amazon.awssdk.services.kendra.model.ListFeaturedResultsSetsRequest;
+import software.amazon.awssdk.services.kendra.model.ListFeaturedResultsSetsResponse;
+import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.kendra.model.ThrottlingException;
+import software.amazon.awssdk.services.kendra.model.UpdateFeaturedResultsSetRequest;
+import software.amazon.awssdk.services.kendra.model.UpdateFeaturedResultsSetResponse;
+import software.amazon.awssdk.services.kendra.model.ValidationException;
+
+/**
+ * An in-memory stand-in for the Kendra control plane, so the handlers can run end to end without an account.
+ *
+ * Featured results sets don't go through transitions of their own, Kendra applies their changes right away and
+ * they are either ACTIVE or INACTIVE. What it does enforce is that a query text belongs to at most one active set
+ * of an index, so that is checked on every create and update. The index a set lives under goes through CREATING,
+ * so tests can start from an index that isn't ready yet. The index time runs on a {@link FakeClock}, which tests
+ * can speed up or drive by hand. Every call can be slowed down by a fixed latency and throttled, and the calls
+ * are counted per API, using the {@link ApiName} spelling, so tests can assert what a handler change costs.
+ */
+public class FakeKendraClient implements KendraClient {
+
+    static final Duration DEFAULT_INDEX_CREATE_TIME = Duration.ofMinutes(10);
+    static final int DEFAULT_PAGE_SIZE = 10;
+
+    private final FakeClock clock;
+    private final Duration indexCreateTime;
+    private final Duration latency;
+    private final double throttleRate;
+    private final Random random;
+    private final int pageSize;
+
+    private final Map<String, Index> indices = new HashMap<>();
+    // Sorted by ID so that pages stay stable while sets come and go
+    private final NavigableMap<String, FeaturedResultsSet> featuredResultsSets = new TreeMap<>();
+    private final Map<String, String> indexIds = new HashMap<>();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final AtomicInteger throttled = new AtomicInteger();
+    private final Map<String, Integer> throttleNext = new HashMap<>();
+
+    private FakeKendraClient(final Builder builder) {
+        this.clock = builder.clock;
+        this.indexCreateTime = builder.indexCreateTime;
+        this.latency = builder.latency;
+        this.throttleRate = builder.throttleRate;
+        this.random = new Random(builder.seed);
+        this.pageSize = builder.pageSize;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public FakeClock clock() {
+        return clock;
+    }
+
+    // Throttles the next calls to the API, on top of the random throttling
+    public synchronized void throttleNext(final String apiName, final int times) {
+        throttleNext.put(apiName, times);
+    }
+
+    public int calls(final String apiName) {
+        final AtomicInteger count = calls.get(apiName);
+        return count == null ? 0 : count.get();
+    }
+
+    public Map<String, Integer> calls() {
+        return calls.entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().get(), (a, b) -> a, TreeMap::new));
+    }
+
+    public int totalCalls() {
+        return calls.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    public int throttled() {
+        return throttled.get();
+    }
+
+    public void resetCalls() {
+        calls.clear();
+        throttled.set(0);
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    // Only what a featured results set needs from its index
+    @Override
+    public CreateIndexResponse createIndex(final CreateIndexRequest request) {
+        return call(request, () -> {
+            final String id = UUID.randomUUID().toString();
+            indices.put(id, new Index(DescribeIndexResponse.builder()
+                .id(id)
+                .name(request.name())
+                .edition(request.edition() == null ? IndexEdition.ENTERPRISE_EDITION.toString() : request.editionAsString())
+                .roleArn(request.roleArn())
+                .createdAt(clock.instant())
+                .updatedAt(clock.instant())
+                .build(), clock.nanos() + indexCreateTime.toNanos()));
+            return CreateIndexResponse.builder().id(id).build();
+        });
+    }
+
+    @Override
+    public DescribeIndexResponse describeIndex(final DescribeIndexRequest request) {
+        return call(request, () -> {
+            final Index index = index(request.id());
+            return index.state.toBuilder().status(index.status(clock.nanos())).build();
+        });
+    }
+
+    @Override
+    public CreateFeaturedResultsSetResponse createFeaturedResultsSet(final CreateFeaturedResultsSetRequest request) {
+        return call(request, () -> {
+            if (request.featuredResultsSetName() == null) {
+                throw ValidationException.builder().message("FeaturedResultsSetName is required").build();
+            }
+            final Index index = index(request.indexId());
+            if (!IndexStatus.ACTIVE.toString().equals(index.status(clock.nanos()))) {
+                throw ConflictException.builder()
+                    .message("Index " + request.indexId() + " is " + index.status(clock.nanos()))
+                    .build();
+            }
+            final long now = clock.instant().toEpochMilli();
+            final FeaturedResultsSet featuredResultsSet = FeaturedResultsSet.builder()
+                .featuredResultsSetId(UUID.randomUUID().toString())
+                .featuredResultsSetName(request.featuredResultsSetName())
+                .description(request.description())
+                .status(request.status() == null ? FeaturedResultsSetStatus.ACTIVE.toString() : request.statusAsString())
+                .queryTexts(request.queryTexts())
+                .featuredDocuments(request.featuredDocuments())
+                .creationTimestamp(now)
+                .lastUpdatedTimestamp(now)
+                .build();
+            requireNoConflicts(request.indexId(), featuredResultsSet);
+            featuredResultsSets.put(featuredResultsSet.featuredResultsSetId(), featuredResultsSet);
+            indexIds.put(featuredResultsSet.featuredResultsSetId(), request.indexId());
+            return CreateFeaturedResultsSetResponse.builder().featuredResultsSet(featuredResultsSet).build();
+        });
+    }
+
+    @Override
+    public DescribeFeaturedResultsSetResponse describeFeaturedResultsSet(final DescribeFeaturedResultsSetRequest request) {
+        return call(request, () -> {
+            final FeaturedResultsSet featuredResultsSet = featuredResultsSet(request.indexId(), request.featuredResultsSetId());
+            // The fake has no documents to look up, so every featured document is reported as found
+            return DescribeFeaturedResultsSetResponse.builder()
+                .featuredResultsSetId(featuredResultsSet.featuredResultsSetId())
+                .featuredResultsSetName(featuredResultsSet.featuredResultsSetName())
+                .description(featuredResultsSet.description())
+                .status(featuredResultsSet.statusAsString())
+                .queryTexts(featuredResultsSet.queryTexts())
+                .featuredDocumentsWithMetadata(featuredResultsSet.featuredDocuments().stream()
+                    .map(document -> FeaturedDocumentWithMetadata.builder().id(document.id()).build())
+                    .collect(Collectors.toList()))
+                .creationTimestamp(featuredResultsSet.creationTimestamp())
+                .lastUpdatedTimestamp(featuredResultsSet.lastUpdatedTimestamp())
+                .build();
+        });
+    }
+
+    @Override
+    public UpdateFeaturedResultsSetResponse updateFeaturedResultsSet(final UpdateFeaturedResultsSetRequest request) {
+        return call(request, () -> {
+            final FeaturedResultsSet current = featuredResultsSet(request.indexId(), request.featuredResultsSetId());
+            // Whatever the request leaves out stays as it is
+            final FeaturedResultsSet.Builder updated = current.toBuilder()
+                .lastUpdatedTimestamp(clock.instant().toEpochMilli());
+            if (request.featuredResultsSetName() != null) {
+                updated.featuredResultsSetName(request.featuredResultsSetName());
+            }
+            if (request.description() != null) {
+                updated.description(request.description());
+            }
+            if (request.status() != null) {
+                updated.status(request.statusAsString());
+            }
+            if (request.hasQueryTexts()) {
+                updated.queryTexts(request.queryTexts());
+            }
+            if (request.hasFeaturedDocuments()) {
+                updated.featuredDocuments(request.featuredDocuments());
+            }
+            final FeaturedResultsSet featuredResultsSet = updated.build();
+            requireNoConflicts(request.indexId(), featuredResultsSet);
+            featuredResultsSets.put(featuredResultsSet.featuredResultsSetId(), featuredResultsSet);
+            return UpdateFeaturedResultsSetResponse.builder().featuredResultsSet(featuredResultsSet).build();
+        });
+    }
+
+    @Override
+    public BatchDeleteFeaturedResultsSetResponse batchDeleteFeaturedResultsSet(
+        final BatchDeleteFeaturedResultsSetRequest request) {
+        return call(request, () -> {
+            index(request.indexId());
+            // A set that isn't there is reported per ID, the call itself still succeeds
+            final List<BatchDeleteFeaturedResultsSetError> errors = new ArrayList<>();
+            for (final String id : request.featuredResultsSetIds()) {
+                if (request.indexId().equals(indexIds.get(id))) {
+                    featuredResultsSets.remove(id);
+                    indexIds.remove(id);
+                } else {
+                    errors.add(BatchDeleteFeaturedResultsSetError.builder()
+                        .id(id)
+                        .errorCode(ErrorCode.INVALID_REQUEST)
+                        .errorMessage("Featured results set " + id + " doesn't exist")
+                        .build());
+                }
+            }
+            return BatchDeleteFeaturedResultsSetResponse.builder().errors(errors).build();
+        });
+    }
+
+    @Override
+    public ListFeaturedResultsSetsResponse listFeaturedResultsSets(final ListFeaturedResultsSetsRequest request) {
+        return call(request, () -> {
+            index(request.indexId());
+            final List<FeaturedResultsSetSummary> summaries = featuredResultsSets.values().stream()
+                .filter(featuredResultsSet -> request.indexId().equals(indexIds.get(featuredResultsSet.featuredResultsSetId())))
+                .map(featuredResultsSet -> FeaturedResultsSetSummary.builder()
+                    .featuredResultsSetId(featuredResultsSet.featuredResultsSetId())
+                    .featuredResultsSetName(featuredResultsSet.featuredResultsSetName())
+                    .status(featuredResultsSet.statusAsString())
+                    .creationTimestamp(featuredResultsSet.creationTimestamp())
+                    .lastUpdatedTimestamp(featuredResultsSet.lastUpdatedTimestamp())
+                    .build())
+                .collect(Collectors.toList());
+            final Page<FeaturedResultsSetSummary> page = page(summaries, request.nextToken(), request.maxResults());
+            return ListFeaturedResultsSetsResponse.builder()
+                .featuredResultsSetSummaryItems(page.items)
+                .nextToken(page.nextToken)
+                .build();
+        });
+    }
+
+    /**
+     * Counts the call, waits out the latency and decides whether to throttle it before running the operation.
+     * Operations run one at a time, the latency doesn't hold up other callers.
+     */
+    private <T> T call(final AwsRequest request, final Supplier<T> operation) {
+        final String apiName = RateLimitedProxyClient.apiName(request);
+        calls.computeIfAbsent(apiName, name -> new AtomicInteger()).incrementAndGet();
+        if (!latency.isZero()) {
+            clock.sleep(latency);
+        }
+        synchronized (this) {
+            if (shouldThrottle(apiName)) {
+                throttled.incrementAndGet();
+                throw ThrottlingException.builder().message("Rate exceeded for " + apiName).build();
+            }
+            return operation.get();
+        }
+    }
+
+    private boolean shouldThrottle(final String apiName) {
+        final int remaining = throttleNext.getOrDefault(apiName, 0);
+        if (remaining > 0) {
+            throttleNext.put(apiName, remaining - 1);
+            return true;
+        }
+        return throttleRate > 0 && random.nextDouble() < throttleRate;
+    }
+
+    private Index index(final String id) {
+        final Index index = id == null ? null : indices.get(id);
+        if (index == null) {
+            throw ResourceNotFoundException.builder().message("Index " + id + " doesn't exist").build();
+        }
+        return index;
+    }
+
+    // A featured results set is only found through the index it belongs to
+    private FeaturedResultsSet featuredResultsSet(final String indexId, final String id) {
+        index(indexId);
+        if (id == null || !indexId.equals(indexIds.get(id))) {
+            throw ResourceNotFoundException.builder().message("Featured results set " + id + " doesn't exist").build();
+        }
+        return featuredResultsSets.get(id);
+    }
+
+    // An active set can't share a query text with another active set of the same index
+    private void requireNoConflicts(final String indexId, final FeaturedResultsSet featuredResultsSet) {
+        if (!FeaturedResultsSetStatus.ACTIVE.toString().equals(featuredResultsSet.statusAsString())) {
+            return;
+        }
+        final List<ConflictingItem> conflicts = new ArrayList<>();
+        for (final FeaturedResultsSet other : featuredResultsSets.values()) {
+            if (other.featuredResultsSetId().equals(featuredResultsSet.featuredResultsSetId())
+                || !indexId.equals(indexIds.get(other.featuredResultsSetId()))
+                || !FeaturedResultsSetStatus.ACTIVE.toString().equals(other.statusAsString())) {
+                continue;
+            }
+            other.queryTexts().stream()
+                .filter(featuredResultsSet.queryTexts()::contains)
+                .map(queryText -> ConflictingItem.builder()
+                    .queryText(queryText)
+                    .setId(other.featuredResultsSetId())
+                    .setName(other.featuredResultsSetName())
+                    .build())
+                .forEach(conflicts::add);
+        }
+        if (!conflicts.isEmpty()) {
+            throw FeaturedResultsConflictException.builder()
+                .message("Query texts are already featured by another set")
+                .conflictingItems(conflicts)
+                .build();
+        }
+    }
+
+    private <T> Page<T> page(final List<T> items, final String nextToken, final Integer maxResults) {
+        final int from;
+        try {
+            from = nextToken == null ? 0 : Integer.parseInt(nextToken);
+        } catch (NumberFormatException e) {
+            throw ValidationException.builder().message("Invalid NextToken " + nextToken).build();
+        }
+        final int to = Math.min(items.size(), from + (maxResults == null ? pageSize : maxResults));
+        return new Page<>(new ArrayList<>(items.subList(Math.min(from, to), to)),
+            to < items.size() ? String.valueOf(to) : null);
+    }
+
+    private static final class Page<T> {
+        private final List<T> items;
+        private final String nextToken;
+
+        private Page(final List<T> items, final String nextToken) {
+            this.items = Collections.unmodifiableList(items);
+            this.nextToken = nextToken;
+        }
+    }
+
+    private static final class Index {
+        private final DescribeIndexResponse state;
+        private final long activeAtNanos;
+
+        private Index(final DescribeIndexResponse state, final long activeAtNanos) {
+            this.state = state;
+            this.activeAtNanos = activeAtNanos;
+        }
+
+        private String status(final long nowNanos) {
+            return nowNanos < activeAtNanos ? IndexStatus.CREATING.toString() : IndexStatus.ACTIVE.toString();
+        }
+    }
+
+    public static class Builder {
+        private FakeClock clock = FakeClock.scaled(1000);
+        private Duration indexCreateTime = DEFAULT_INDEX_CREATE_TIME;
+        private Duration latency = Duration.ZERO;
+        private double throttleRate;
+        private long seed;
+        private int pageSize = DEFAULT_PAGE_SIZE;
+
+        private Builder() {
+        }
+
+        public Builder clock(final FakeClock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        public Builder indexCreateTime(final Duration indexCreateTime) {
+            this.indexCreateTime = indexCreateTime;
+            return this;
+        }
+
+        public Builder latency(final Duration latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        // Share of the calls that are throttled, drawn from a seeded random so runs repeat
+        public Builder throttleRate(final double throttleRate, final long seed) {
+            if (throttleRate < 0 || throttleRate > 1) {
+                throw new IllegalArgumentException("Throttle rate has to be between 0 and 1, got " + throttleRate);
+            }
+            this.throttleRate = throttleRate;
+            this.seed = seed;
+            return this;
+        }
+
+        // Used when a list request doesn't set MaxResults
+        public Builder pageSize(final int pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        public FakeKendraClient build() {
+            return new FakeKendraClient(this);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package software.amazon.kendra.featuredresultsset;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.model.CreateFeaturedResultsSetRequest;
+import software.amazon.awssdk.services.kendra.model.CreateIndexRequest;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the real handlers against {@link FakeKendraClient}, so the whole lifecycle of a featured results set is
+ * exercised, including the calls around the one under test, instead of one mocked call at a time.
+ */
+public class HandlerLifecycleTest extends AbstractTestBase {
+
+    private final TestFeaturedResultsArn testFeaturedResultsArn = new TestFeaturedResultsArn();
+
+    private FakeKendraClient kendra;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<KendraClient> proxyClient;
+    private String indexId;
+
+    @BeforeEach
+    public void setup() {
+        kendra = FakeKendraClient.builder().clock(FakeClock.manual()).build();
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = MOCK_PROXY(proxy, kendra);
+        indexId = kendra.createIndex(CreateIndexRequest.builder().name("index").roleArn("roleArn").build()).id();
+        kendra.clock().advance(FakeKendraClient.DEFAULT_INDEX_CREATE_TIME);
+        kendra.resetCalls();
+    }
+
+    @Test
+    public void testCreateReadUpdateDelete() {
+        final ResourceModel created = create(model("name", "query"));
+        assertThat(created.getFeaturedResultsSetId()).isNotNull();
+        assertThat(created.getArn()).isEqualTo(testFeaturedResultsArn.build(request(created, null)));
+        assertThat(created.getQueryTexts()).containsExactly("query");
+        assertThat(kendra.calls(ApiName.CREATE_FEATURED_RESULTS_SET)).isEqualTo(1);
+
+        assertThat(read(created)).isEqualTo(created);
+
+        kendra.resetCalls();
+        final ResourceModel desired = model("name", "query", "other query");
+        desired.setFeaturedResultsSetId(created.getFeaturedResultsSetId());
+        final UpdateHandler updateHandler = new UpdateHandler(testFeaturedResultsArn);
+        updateHandler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> updated = updateHandler.handleRequest(
+            proxy, request(desired, created), new CallbackContext(), proxyClient, logger);
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getQueryTexts()).containsExactly("query", "other query");
+        assertThat(kendra.calls(ApiName.UPDATE_FEATURED_RESULTS_SET)).isEqualTo(1);
+
+        final DeleteHandler deleteHandler = new DeleteHandler();
+        deleteHandler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = deleteHandler.handleRequest(
+            proxy, request(created, null), new CallbackContext(), proxyClient, logger);
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(deleted.getResourceModel()).isNull();
+
+        assertThatThrownBy(() -> read(created)).isInstanceOf(CfnNotFoundException.class);
+    }
+
+    @Test
+    public void testCreateConflictsWithAnotherSetsQueryTexts() {
+        create(model("first", "query", "other query"));
+
+        assertThatThrownBy(() -> create(model("second", "other query"))).isInstanceOf(CfnResourceConflictException.class);
+    }
+
+    @Test
+    public void testCreateWaitsWhileTheIndexIsCreating() {
+        indexId = kendra.createIndex(CreateIndexRequest.builder().name("index").roleArn("roleArn").build()).id();
+        kendra.resetCalls();
+        // The manual clock only moves when advanced, so every poll of the index moves it along
+        final Delay advancingDelay = attempt -> {
+            kendra.clock().advance(Duration.ofMinutes(1));
+            return Duration.ofMillis(1L);
+        };
+        final CreateHandler handler = new CreateHandler(testFeaturedResultsArn, advancingDelay);
+        handler.serviceErrors = SERVICE_ERRORS;
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy, request(model("name", "query"), null), new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(kendra.calls(ApiName.DESCRIBE_INDEX)).isGreaterThan(1);
+        assertThat(kendra.calls(ApiName.CREATE_FEATURED_RESULTS_SET)).isEqualTo(1);
+    }
+
+    @Test
+    public void testThrottledReadIsRetried() {
+        final ResourceModel created = create(model("name", "query"));
+        kendra.resetCalls();
+        kendra.throttleNext(ApiName.DESCRIBE_FEATURED_RESULTS_SET, 2);
+
+        assertThat(read(created)).isEqualTo(created);
+        assertThat(kendra.calls(ApiName.DESCRIBE_FEATURED_RESULTS_SET)).isEqualTo(3);
+        assertThat(kendra.throttled()).isEqualTo(2);
+    }
+
+    @Test
+    public void testListPagesThroughFeaturedResultsSets() {
+        for (int i = 0; i < 12; i++) {
+            kendra.createFeaturedResultsSet(CreateFeaturedResultsSetRequest.builder()
+                .indexId(indexId)
+                .featuredResultsSetName("featuredResultsSet" + i)
+                .queryTexts("query" + i)
+                .build());
+        }
+        kendra.resetCalls();
+        final ListHandler handler = new ListHandler();
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ResourceModel model = ResourceModel.builder().indexId(indexId).build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstPage = handler.handleRequest(
+            proxy, request(model, null), new CallbackContext(), proxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> secondPage = handler.handleRequest(
+            proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .nextToken(firstPage.getNextToken())
+                .build(),
+            new CallbackContext(), proxyClient, logger);
+
+        assertThat(firstPage.getResourceModels()).hasSize(FakeKendraClient.DEFAULT_PAGE_SIZE);
+        assertThat(secondPage.getResourceModels()).hasSize(2);
+        assertThat(secondPage.getNextToken()).isNull();
+        assertThat(kendra.calls(ApiName.LIST_FEATURED_RESULTS_SETS)).isEqualTo(2);
+    }
+
+    private ResourceModel model(final String name, final String... queryTexts) {
+        final List<String> queryTextList = Arrays.asList(queryTexts);
+        return ResourceModel.builder()
+            .indexId(indexId)
+            .featuredResultsSetName(name)
+            .status("ACTIVE")
+            .queryTexts(queryTextList)
+            .featuredDocuments(List.of(FeaturedDocument.builder().id("document").build()))
+            .build();
+    }
+
+    private ResourceModel create(final ResourceModel model) {
+        final CreateHandler handler = new CreateHandler(testFeaturedResultsArn);
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy, request(model, null), new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        return response.getResourceModel();
+    }
+
+    private ResourceModel read(final ResourceModel model) {
+        final ReadHandler handler = new ReadHandler(testFeaturedResultsArn);
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy, request(model, null), new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        return response.getResourceModel();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(desired)
+            .previousResourceState(previous)
+            .build();
+    }
+}
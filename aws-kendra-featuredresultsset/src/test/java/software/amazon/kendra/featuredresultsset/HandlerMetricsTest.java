@@ -0,0 +1,148 @@
+package software.amazon.kendra.featuredresultsset;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexRequest;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexResponse;
+import software.amazon.awssdk.services.kendra.model.ThrottlingException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HandlerMetricsTest extends AbstractTestBase {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final ResourceModel model = ResourceModel.builder().indexId("indexId").build();
+
+    private AtomicLong now;
+    private List<String> lines;
+    private HandlerMetrics metrics;
+    private CallbackContext callbackContext;
+
+    @BeforeEach
+    public void setup() {
+        now = new AtomicLong(1_000);
+        lines = new ArrayList<>();
+        metrics = new HandlerMetrics(lines::add, now::get);
+        callbackContext = new CallbackContext();
+    }
+
+    @Test
+    public void testPhaseSpansReinvocations() {
+        // Waits out a callback twice before the resource settles
+        final AtomicLong polls = new AtomicLong();
+        assertThat(stabilize(polls).getCallbackDelaySeconds()).isEqualTo(30);
+        assertThat(callbackContext.getPhaseMillis()).isEmpty();
+
+        now.addAndGet(Duration.ofSeconds(30).toMillis());
+        stabilize(polls);
+        now.addAndGet(Duration.ofSeconds(30).toMillis());
+        assertThat(stabilize(polls).isInProgress()).isTrue();
+
+        assertThat(callbackContext.getPhaseMillis()).containsEntry("Stabilize", Duration.ofSeconds(63).toMillis());
+        assertThat(callbackContext.getPhaseStartedAt()).isEmpty();
+    }
+
+    @Test
+    public void testReplayedPhaseIsNotTimedAgain() {
+        ProgressEvent.progress(model, callbackContext).then(metrics.phase("Create", progress -> {
+            now.addAndGet(200);
+            return progress;
+        }));
+        ProgressEvent.progress(model, callbackContext).then(metrics.phase("Create", progress -> {
+            now.addAndGet(5);
+            return progress;
+        }));
+
+        assertThat(callbackContext.getPhaseMillis()).containsEntry("Create", 200L);
+    }
+
+    @Test
+    public void testFailedPhaseIsTimed() {
+        assertThatThrownBy(() -> ProgressEvent.progress(model, callbackContext).then(metrics.phase("Stabilize", progress -> {
+            now.addAndGet(300);
+            throw new CfnNotStabilizedException(ResourceModel.TYPE_NAME, "indexId");
+        }))).isInstanceOf(CfnNotStabilizedException.class);
+
+        assertThat(callbackContext.getPhaseMillis()).containsEntry("Stabilize", 300L);
+    }
+
+    @Test
+    public void testCallsAreCountedAndTimed() {
+        final AmazonWebServicesClientProxy proxy =
+            new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        final ProxyClient<KendraClient> proxyClient = metrics.metered(MOCK_PROXY(proxy, null), callbackContext, () -> "id");
+        final DescribeIndexRequest describeIndexRequest = DescribeIndexRequest.builder().id("id").build();
+
+        proxyClient.injectCredentialsAndInvokeV2(describeIndexRequest, request -> {
+            now.addAndGet(40);
+            return DescribeIndexResponse.builder().build();
+        });
+        assertThatThrownBy(() -> proxyClient.injectCredentialsAndInvokeV2(describeIndexRequest, request -> {
+            now.addAndGet(10);
+            throw ThrottlingException.builder().build();
+        })).isInstanceOf(ThrottlingException.class);
+
+        assertThat(callbackContext.getApiCalls()).containsEntry(ApiName.DESCRIBE_INDEX, 2);
+        assertThat(callbackContext.getApiMillis()).containsEntry(ApiName.DESCRIBE_INDEX, 50L);
+    }
+
+    @Test
+    public void testEmitsEmbeddedMetricFormat() throws Exception {
+        callbackContext.getPhaseMillis().put("Create", 200L);
+        callbackContext.recordCall(ApiName.DESCRIBE_INDEX, 40);
+        callbackContext.recordCall(ApiName.DESCRIBE_INDEX, 10);
+
+        metrics.emit("Create", OperationStatus.SUCCESS, callbackContext);
+
+        assertThat(lines).hasSize(2);
+        final JsonNode phase = MAPPER.readTree(lines.get(0));
+        final JsonNode phaseDirective = phase.at("/_aws/CloudWatchMetrics/0");
+        assertThat(phase.at("/_aws/Timestamp").asLong()).isEqualTo(1_000);
+        assertThat(phaseDirective.get("Namespace").asText()).isEqualTo(HandlerMetrics.NAMESPACE);
+        assertThat(phaseDirective.at("/Dimensions/0").toString()).isEqualTo("[\"ResourceType\",\"Action\",\"Phase\"]");
+        assertThat(phaseDirective.at("/Metrics/0").toString()).isEqualTo("{\"Name\":\"Duration\",\"Unit\":\"Milliseconds\"}");
+        assertThat(phase.get("ResourceType").asText()).isEqualTo(ResourceModel.TYPE_NAME);
+        assertThat(phase.get("Action").asText()).isEqualTo("Create");
+        assertThat(phase.get("Phase").asText()).isEqualTo("Create");
+        assertThat(phase.get("Status").asText()).isEqualTo("SUCCESS");
+        assertThat(phase.get("Duration").asLong()).isEqualTo(200);
+
+        final JsonNode api = MAPPER.readTree(lines.get(1));
+        assertThat(api.at("/_aws/CloudWatchMetrics/0/Dimensions/0/2").asText()).isEqualTo("Api");
+        assertThat(api.get("Api").asText()).isEqualTo(ApiName.DESCRIBE_INDEX);
+        assertThat(api.get("Calls").asInt()).isEqualTo(2);
+        assertThat(api.get("Latency").asLong()).isEqualTo(50);
+    }
+
+    @Test
+    public void testActionIsNamedAfterTheHandler() {
+        assertThat(new DeleteHandler().action()).isEqualTo("Delete");
+        assertThat(new ListHandler().action()).isEqualTo("List");
+    }
+
+    // One invocation of a stabilization that polls for a second and settles on the third poll
+    private ProgressEvent<ResourceModel, CallbackContext> stabilize(final AtomicLong polls) {
+        return ProgressEvent.progress(model, callbackContext)
+            .then(metrics.phase("Stabilize", progress -> {
+                now.addAndGet(Duration.ofSeconds(1).toMillis());
+                return polls.incrementAndGet() < 3
+                    ? ProgressEvent.defaultInProgressHandler(progress.getCallbackContext(), 30, model)
+                    : progress;
+            }));
+    }
+}
@@ -0,0 +1,107 @@
+package software.amazon.kendra.featuredresultsset;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class KendraClientCacheTest {
+
+    private AtomicLong now;
+    private KendraClientCache cache;
+
+    @BeforeEach
+    public void setup() {
+        now = new AtomicLong(0);
+        cache = new KendraClientCache(key -> mock(KendraClient.class), Duration.ofMinutes(10), 2, now::get);
+    }
+
+    @Test
+    public void testReusesClientForSameKey() {
+        final KendraClient first = cache.get("us-west-2", "aws", "0123456789");
+        final KendraClient second = cache.get("us-west-2", "aws", "0123456789");
+
+        assertThat(second).isSameAs(first);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void testBuildsClientPerRegionAndAccount() {
+        final KendraClient usWest2 = cache.get("us-west-2", "aws", "0123456789");
+        final KendraClient usEast1 = cache.get("us-east-1", "aws", "0123456789");
+        final KendraClient otherAccount = cache.get("us-west-2", "aws", "9876543210");
+
+        assertThat(usEast1).isNotSameAs(usWest2);
+        assertThat(otherAccount).isNotSameAs(usWest2);
+        assertThat(cache.getMisses()).isEqualTo(3);
+        assertThat(cache.getHits()).isEqualTo(0);
+    }
+
+    @Test
+    public void testEvictsIdleClients() {
+        final KendraClient idle = cache.get("us-west-2", "aws", "0123456789");
+        now.addAndGet(Duration.ofMinutes(10).toMillis());
+
+        final KendraClient rebuilt = cache.get("us-west-2", "aws", "0123456789");
+
+        assertThat(rebuilt).isNotSameAs(idle);
+        assertThat(cache.getEvictions()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(2);
+        verify(idle).close();
+    }
+
+    @Test
+    public void testAccessKeepsClientWarm() {
+        final KendraClient client = cache.get("us-west-2", "aws", "0123456789");
+        now.addAndGet(Duration.ofMinutes(9).toMillis());
+        cache.get("us-west-2", "aws", "0123456789");
+        now.addAndGet(Duration.ofMinutes(9).toMillis());
+
+        assertThat(cache.get("us-west-2", "aws", "0123456789")).isSameAs(client);
+        assertThat(cache.getEvictions()).isEqualTo(0);
+        verify(client, never()).close();
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsedWhenFull() {
+        final KendraClient eldest = cache.get("us-west-2", "aws", "0123456789");
+        now.incrementAndGet();
+        final KendraClient middle = cache.get("us-east-1", "aws", "0123456789");
+        now.incrementAndGet();
+        cache.get("eu-west-1", "aws", "0123456789");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictions()).isEqualTo(1);
+        assertThat(cache.get("us-east-1", "aws", "0123456789")).isSameAs(middle);
+        verify(eldest).close();
+    }
+
+    @Test
+    public void testStats() {
+        cache.get("us-west-2", "aws", "0123456789");
+        cache.get("us-west-2", "aws", "0123456789");
+
+        assertThat(cache.stats()).isEqualTo("size=1, hits=1, misses=1, evictions=0");
+    }
+
+    @Test
+    public void testClientBuilderReusesClientAcrossRequests() {
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .region("us-west-2")
+            .awsPartition("aws")
+            .awsAccountId("0123456789")
+            .build();
+
+        assertThat(ClientBuilder.getClient(request)).isSameAs(ClientBuilder.getClient(request));
+    }
+}
@@ -3,13 +3,29 @@ package software.amazon.kendra.featuredresultsset;
 import java.time.Duration;
 import java.util.Arrays;
 import org.junit.jupiter.api.AfterEach;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
 import software.amazon.awssdk.services.kendra.model.BatchDeleteFeaturedResultsSetRequest;
 import software.amazon.awssdk.services.kendra.model.BatchDeleteFeaturedResultsSetResponse;
+import software.amazon.awssdk.services.kendra.model.ConflictException;
 import software.amazon.awssdk.services.kendra.model.CreateFeaturedResultsSetRequest;
+import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetRequest;
+import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetResponse;
 import software.amazon.awssdk.services.kendra.model.FeaturedResultsSetSummary;
 import software.amazon.awssdk.services.kendra.model.ListFeaturedResultsSetsRequest;
 import software.amazon.awssdk.services.kendra.model.ListFeaturedResultsSetsResponse;
+import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.kendra.model.ServiceQuotaExceededException;
+import software.amazon.awssdk.services.kendra.model.ThrottlingException;
+import software.amazon.awssdk.services.kendra.model.ValidationException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -23,8 +39,11 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -97,4 +116,74 @@ public class ListHandlerTest extends AbstractTestBase{
 
         verify(proxyClient.client(), times(1)).listFeaturedResultsSets(any(ListFeaturedResultsSetsRequest.class));
     }
+
+    @Test
+    public void handleRequest_HydratedReadsEveryFeaturedResultsSet() {
+        final ListHandler handler = new ListHandler(true, new TestFeaturedResultsArn());
+        handler.serviceErrors = SERVICE_ERRORS;
+        String indexId = "indexId";
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().indexId(indexId).build())
+            .build();
+
+        when(proxyClient.client().listFeaturedResultsSets(any(ListFeaturedResultsSetsRequest.class)))
+            .thenReturn(ListFeaturedResultsSetsResponse.builder()
+                .featuredResultsSetSummaryItems(
+                    FeaturedResultsSetSummary.builder().featuredResultsSetId("first").build(),
+                    FeaturedResultsSetSummary.builder().featuredResultsSetId("second").build())
+                .build());
+        when(proxyClient.client().describeFeaturedResultsSet(any(DescribeFeaturedResultsSetRequest.class))).thenAnswer(invocation -> {
+            final DescribeFeaturedResultsSetRequest describeRequest = invocation.getArgument(0);
+            return DescribeFeaturedResultsSetResponse.builder()
+                .featuredResultsSetId(describeRequest.featuredResultsSetId())
+                .featuredResultsSetName(describeRequest.featuredResultsSetId() + " name")
+                .queryTexts(Arrays.asList(describeRequest.featuredResultsSetId() + " query"))
+                .build();
+        });
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels())
+            .extracting(ResourceModel::getFeaturedResultsSetId, ResourceModel::getFeaturedResultsSetName, ResourceModel::getQueryTexts)
+            .containsExactly(
+                tuple("first", "first name", Arrays.asList("first query")),
+                tuple("second", "second name", Arrays.asList("second query")));
+
+        verify(proxyClient.client(), times(1)).listFeaturedResultsSets(any(ListFeaturedResultsSetsRequest.class));
+        verify(proxyClient.client(), times(2)).describeFeaturedResultsSet(any(DescribeFeaturedResultsSetRequest.class));
+        verify(kendraClient, atLeastOnce()).serviceName();
+    }
+
+    // Mapped to GeneralServiceException before the errors went through ServiceErrors
+    @Test
+    public void handleRequest_ServiceErrorsMapToTheirCodes() {
+        final ListHandler handler = new ListHandler();
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ResourceModel model = ResourceModel.builder()
+            .indexId("indexId")
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        assertFailsWith(handler, request, ValidationException.builder().build(), CfnInvalidRequestException.class);
+        assertFailsWith(handler, request, ConflictException.builder().build(), CfnResourceConflictException.class);
+        assertFailsWith(handler, request, ServiceQuotaExceededException.builder().build(),
+            CfnServiceLimitExceededException.class);
+        assertFailsWith(handler, request, ResourceNotFoundException.builder().build(), CfnNotFoundException.class);
+        assertFailsWith(handler, request, AccessDeniedException.builder().build(), CfnAccessDeniedException.class);
+        assertFailsWith(handler, request, ThrottlingException.builder().build(), CfnThrottlingException.class);
+        verify(kendraClient, atLeastOnce()).serviceName();
+    }
+
+    private void assertFailsWith(final ListHandler handler, final ResourceHandlerRequest<ResourceModel> request,
+                                 final AwsServiceException e, final Class<? extends BaseHandlerException> type) {
+        doThrow(e).when(kendraClient).listFeaturedResultsSets(any(ListFeaturedResultsSetsRequest.class));
+
+        assertThrows(type, () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+    }
 }
@@ -0,0 +1,49 @@
+package software.amazon.kendra.featuredresultsset;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceModelDiffTest {
+
+    private static ResourceModel.ResourceModelBuilder baseModel() {
+        return ResourceModel.builder()
+            .indexId("indexId")
+            .featuredResultsSetId("frsId")
+            .featuredResultsSetName("frsName")
+            .queryTexts(Arrays.asList("query1"))
+            .featuredDocuments(Arrays.asList(FeaturedDocument.builder().id("doc1").build()));
+    }
+
+    @Test
+    void testNoPreviousState() {
+        assertThat(ResourceModelDiff.classify(null, baseModel().build())).isEqualTo(ResourceModelDiff.Change.FULL);
+    }
+
+    @Test
+    void testNoChange() {
+        final ResourceModel previous = baseModel()
+            .arn("arn")
+            .description("")
+            .build();
+        final ResourceModel desired = baseModel()
+            .featuredResultsSetId(null)
+            .build();
+        assertThat(ResourceModelDiff.changedProperties(previous, desired)).isEmpty();
+        assertThat(ResourceModelDiff.classify(previous, desired)).isEqualTo(ResourceModelDiff.Change.NONE);
+    }
+
+    @Test
+    void testChange() {
+        final ResourceModel desired = baseModel()
+            .queryTexts(new ArrayList<>())
+            .featuredDocuments(Arrays.asList(FeaturedDocument.builder().id("doc2").build()))
+            .build();
+        assertThat(ResourceModelDiff.changedProperties(baseModel().build(), desired))
+            .containsExactly("FeaturedDocuments", "QueryTexts");
+        assertThat(ResourceModelDiff.classify(baseModel().build(), desired)).isEqualTo(ResourceModelDiff.Change.FULL);
+    }
+}
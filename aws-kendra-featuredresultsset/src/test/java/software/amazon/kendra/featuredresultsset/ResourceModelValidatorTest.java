@@ -0,0 +1,112 @@
+package software.amazon.kendra.featuredresultsset;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+public class ResourceModelValidatorTest {
+
+    @Test
+    void testValidModel() {
+        assertThat(ResourceModelValidator.violations(validModel())).isEmpty();
+    }
+
+    @ParameterizedTest
+    @MethodSource("requiredProperties")
+    void testRequiredProperty(final String property, final Consumer<ResourceModel> unset) {
+        ResourceModel model = validModel();
+        unset.accept(model);
+
+        assertThat(ResourceModelValidator.violations(model))
+                .containsExactly("#: required key [" + property + "] not found");
+    }
+
+    static Stream<Arguments> requiredProperties() {
+        return Stream.of(
+                unset("FeaturedResultsSetName", model -> model.setFeaturedResultsSetName(null)),
+                unset("IndexId", model -> model.setIndexId(null)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ACTIVE", "INACTIVE"})
+    void testStatus(final String status) {
+        ResourceModel model = validModel();
+        model.setStatus(status);
+
+        assertThat(ResourceModelValidator.violations(model)).isEmpty();
+    }
+
+    @Test
+    void testUnknownStatus() {
+        ResourceModel model = validModel();
+        model.setStatus("PAUSED");
+
+        assertThat(ResourceModelValidator.violations(model)).hasSize(1);
+        assertThat(ResourceModelValidator.violations(model).get(0)).startsWith("#/Status");
+    }
+
+    @Test
+    void testFeaturedDocumentNeedsAnId() {
+        ResourceModel model = validModel();
+        model.setFeaturedDocuments(Arrays.asList(
+                FeaturedDocument.builder().id("document").build(),
+                FeaturedDocument.builder().build()));
+
+        assertThat(ResourceModelValidator.violations(model))
+                .containsExactly("#/FeaturedDocuments/1: required key [Id] not found");
+    }
+
+    @Test
+    void testReportsEveryViolation() {
+        ResourceModel model = validModel();
+        model.setFeaturedResultsSetName(null);
+        model.setStatus("PAUSED");
+
+        assertThat(ResourceModelValidator.violations(model)).hasSize(2);
+        assertThat(String.join("; ", ResourceModelValidator.violations(model)))
+                .contains("[FeaturedResultsSetName]")
+                .contains("#/Status");
+    }
+
+    @Test
+    void testCreateRejectsInvalidModelBeforeCallingKendra() {
+        ResourceModel model = validModel();
+        model.setFeaturedResultsSetName(null);
+        AmazonWebServicesClientProxy proxy = mock(AmazonWebServicesClientProxy.class);
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        assertThatThrownBy(() -> new CreateHandler().handleRequest(proxy, request, null, new LoggerProxy()))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("FeaturedResultsSetName");
+        verifyNoMoreInteractions(proxy);
+    }
+
+    private static Arguments unset(final String property, final Consumer<ResourceModel> unset) {
+        return Arguments.of(property, unset);
+    }
+
+    private static ResourceModel validModel() {
+        return ResourceModel.builder()
+                .indexId("0123456789abcdef0123456789abcdef0123")
+                .featuredResultsSetName("name")
+                .status("ACTIVE")
+                .build();
+    }
+}
@@ -146,9 +146,10 @@ public class TranslatorTest {
         .indexId(indexId)
         .featuredResultsSetId(frsId)
         .build();
-    ListFeaturedResultsSetsRequest request = Translator.translateToListRequest(model, nextToken);
+    ListFeaturedResultsSetsRequest request = Translator.translateToListRequest(model, nextToken, 100);
     assertThat(request.indexId()).isEqualTo(indexId);
     assertThat(request.nextToken()).isEqualTo(nextToken);
+    assertThat(request.maxResults()).isEqualTo(100);
   }
 
   @Test
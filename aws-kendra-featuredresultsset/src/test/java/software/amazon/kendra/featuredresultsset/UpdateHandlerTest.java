@@ -6,6 +6,8 @@ import java.util.List;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.SdkClient;
 import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
+import software.amazon.awssdk.services.kendra.model.ConflictException;
 import software.amazon.awssdk.services.kendra.model.CreateFeaturedResultsSetRequest;
 import software.amazon.awssdk.services.kendra.model.CreateFeaturedResultsSetResponse;
 import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetRequest;
@@ -13,12 +15,19 @@ import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetRe
 import software.amazon.awssdk.services.kendra.model.FeaturedDocumentWithMetadata;
 import software.amazon.awssdk.services.kendra.model.FeaturedResultsConflictException;
 import software.amazon.awssdk.services.kendra.model.FeaturedResultsSet;
+import software.amazon.awssdk.services.kendra.model.IndexStatus;
+import software.amazon.awssdk.services.kendra.model.ServiceQuotaExceededException;
+import software.amazon.awssdk.services.kendra.model.ThrottlingException;
 import software.amazon.awssdk.services.kendra.model.UpdateFeaturedResultsSetRequest;
 import software.amazon.awssdk.services.kendra.model.UpdateFeaturedResultsSetResponse;
 import software.amazon.awssdk.services.kendra.model.ValidationException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -34,8 +43,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -97,6 +108,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().updateFeaturedResultsSet(any(UpdateFeaturedResultsSetRequest.class)))
             .thenReturn(UpdateFeaturedResultsSetResponse.builder()
                 .featuredResultsSet(FeaturedResultsSet.builder()
@@ -130,6 +142,50 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_NoChangeSkipsUpdate() {
+        final UpdateHandler handler = new UpdateHandler(frsArnBuilder);
+        String indexId = "indexId";
+        String frsId = "frsId";
+        String frsName = "frsName";
+        String status = "ACTIVE";
+        List<String> queryTexts = Arrays.asList("query1", "query2");
+        final ResourceModel model = ResourceModel.builder()
+            .indexId(indexId)
+            .featuredResultsSetId(frsId)
+            .featuredResultsSetName(frsName)
+            .queryTexts(queryTexts)
+            .status(status)
+            .build();
+        final ResourceModel prevModel = ResourceModel.builder()
+            .indexId(indexId)
+            .featuredResultsSetId(frsId)
+            .featuredResultsSetName(frsName)
+            .queryTexts(queryTexts)
+            .status(status)
+            .arn("arn:aws:kendra:us-west-2:0123456789:index/indexId/featured-results-set/frsId")
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .previousResourceState(prevModel)
+            .build();
+
+        when(proxyClient.client().describeFeaturedResultsSet(any(DescribeFeaturedResultsSetRequest.class)))
+            .thenReturn(DescribeFeaturedResultsSetResponse.builder()
+                .featuredResultsSetName(frsName)
+                .featuredResultsSetId(frsId)
+                .status(status)
+                .queryTexts(queryTexts)
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), times(0)).updateFeaturedResultsSet(any(UpdateFeaturedResultsSetRequest.class));
+        verify(proxyClient.client(), times(1)).describeFeaturedResultsSet(any(DescribeFeaturedResultsSetRequest.class));
+    }
+
     @Test
     public void handleRequest_ValidationException() {
         final UpdateHandler handler = new UpdateHandler(frsArnBuilder);
@@ -146,6 +202,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().updateFeaturedResultsSet(any(UpdateFeaturedResultsSetRequest.class)))
             .thenThrow(ValidationException.builder().build());
 
@@ -175,6 +232,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().updateFeaturedResultsSet(any(UpdateFeaturedResultsSetRequest.class)))
             .thenThrow(FeaturedResultsConflictException.builder().build());
 
@@ -204,6 +262,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
             .desiredResourceState(model)
             .build();
 
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
         when(proxyClient.client().updateFeaturedResultsSet(any(UpdateFeaturedResultsSetRequest.class)))
             .thenThrow(AwsServiceException.builder().build());
 
@@ -216,4 +275,39 @@ public class UpdateHandlerTest extends AbstractTestBase {
             handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
         });
     }
+
+    // Mapped to GeneralServiceException before the errors went through ServiceErrors
+    @Test
+    public void handleRequest_ServiceErrorsMapToTheirCodes() {
+        final UpdateHandler handler = new UpdateHandler(frsArnBuilder);
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ResourceModel model = ResourceModel.builder()
+            .indexId("indexId")
+            .featuredResultsSetId("frsId")
+            .featuredResultsSetName("frsName")
+            .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        stubIndexStatus(proxyClient.client(), IndexStatus.ACTIVE);
+        when(proxyClient.client().describeFeaturedResultsSet(any(DescribeFeaturedResultsSetRequest.class)))
+            .thenReturn(DescribeFeaturedResultsSetResponse.builder()
+                .featuredResultsSetName("frsName")
+                .build());
+
+        assertFailsWith(handler, request, ConflictException.builder().build(), CfnResourceConflictException.class);
+        assertFailsWith(handler, request, ServiceQuotaExceededException.builder().build(),
+            CfnServiceLimitExceededException.class);
+        assertFailsWith(handler, request, AccessDeniedException.builder().build(), CfnAccessDeniedException.class);
+        assertFailsWith(handler, request, ThrottlingException.builder().build(), CfnThrottlingException.class);
+    }
+
+    private void assertFailsWith(final UpdateHandler handler, final ResourceHandlerRequest<ResourceModel> request,
+                                 final AwsServiceException e, final Class<? extends BaseHandlerException> type) {
+        doThrow(e).when(kendraClient).updateFeaturedResultsSet(any(UpdateFeaturedResultsSetRequest.class));
+
+        assertThrows(type, () -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger));
+    }
 }
@@ -7,4 +7,6 @@ public class ApiName {
     static final String DELETE_INDEX = "DeleteIndex";
     static final String DESCRIBE_INDEX = "DescribeIndex";
     static final String LIST_TAGS_FOR_RESOURCE = "ListTagsForResource";
+    static final String TAG_RESOURCE = "TagResource";
+    static final String UNTAG_RESOURCE = "UntagResource";
 }
@@ -1,10 +1,54 @@
 package software.amazon.kendra.index;
 
+import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.KendraClientBuilder;
+import software.amazon.awssdk.services.kendra.model.ConflictException;
+import software.amazon.awssdk.services.kendra.model.ThrottlingException;
 import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import static software.amazon.kendra.index.ApiName.CREATE_INDEX;
+import static software.amazon.kendra.index.ApiName.DELETE_INDEX;
+import static software.amazon.kendra.index.ApiName.DESCRIBE_INDEX;
+import static software.amazon.kendra.index.ApiName.LIST_INDICES;
+import static software.amazon.kendra.index.ApiName.LIST_TAGS_FOR_RESOURCE;
+import static software.amazon.kendra.index.ApiName.TAG_RESOURCE;
+import static software.amazon.kendra.index.ApiName.UNTAG_RESOURCE;
+import static software.amazon.kendra.index.ApiName.UPDATE_INDEX;
 
 public class ClientBuilder {
-  public static KendraClient getClient() {
-    return KendraClient.builder().httpClient(LambdaWrapper.HTTP_CLIENT).build();
+
+  // Lives as long as the Lambda container, so warm invocations skip client construction.
+  static final KendraClientCache CLIENT_CACHE = new KendraClientCache(ClientBuilder::buildClient);
+
+  // Shared by every invocation in the container, so concurrent reads and stabilization polls draw from the
+  // same buckets. Calls that change a resource get a lower rate than reads.
+  static final ApiRateLimiter RATE_LIMITER = ApiRateLimiter.builder()
+      .limit(CREATE_INDEX, 1, 2)
+      .limit(UPDATE_INDEX, 1, 2)
+      .limit(DELETE_INDEX, 1, 2)
+      .limit(DESCRIBE_INDEX, 5, 10)
+      .limit(LIST_INDICES, 2, 5)
+      .limit(LIST_TAGS_FOR_RESOURCE, 5, 10)
+      .build();
+
+  // A conflict on an existing index is usually another change still being applied, so it is worth waiting out.
+  // On CreateIndex it means the index already exists, which won't change by retrying.
+  static final ServiceErrors SERVICE_ERRORS = ServiceErrors.builder()
+      .retryOn(ThrottlingException.class)
+      .retryOn(ConflictException.class, UPDATE_INDEX, DELETE_INDEX, TAG_RESOURCE, UNTAG_RESOURCE)
+      .build();
+
+  public static KendraClient getClient(final ResourceHandlerRequest<ResourceModel> request) {
+    return CLIENT_CACHE.get(request.getRegion(), request.getAwsPartition(), request.getAwsAccountId());
+  }
+
+  private static KendraClient buildClient(final KendraClientCache.Key key) {
+    final KendraClientBuilder builder = KendraClient.builder().httpClient(LambdaWrapper.HTTP_CLIENT);
+    if (key.getRegion() != null) {
+      builder.region(Region.of(key.getRegion()));
+    }
+    return builder.build();
   }
 }
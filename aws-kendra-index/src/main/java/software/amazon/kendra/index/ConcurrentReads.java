@@ -0,0 +1,61 @@
+package software.amazon.kendra.index;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+
+/**
+ * Runs two independent read calls at the same time, so a read costs one round trip instead of two.
+ *
+ * The second call runs on a shared pool of daemon threads and the first on the calling thread. Both calls always
+ * complete before {@link #both} returns or throws, so no call outlives the invocation that made it, and a failure
+ * of the first call takes precedence over a failure of the second.
+ */
+final class ConcurrentReads {
+
+  // Threads are only created while a read is in flight and are reclaimed once idle.
+  private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+    final Thread thread = new Thread(runnable, "kendra-index-read");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private ConcurrentReads() {
+  }
+
+  static <A, B, R> R both(
+      final Supplier<A> first,
+      final Supplier<B> second,
+      final BiFunction<? super A, ? super B, R> combine) {
+    final CompletableFuture<B> secondResult = CompletableFuture.supplyAsync(second, EXECUTOR);
+    final A firstResult;
+    try {
+      firstResult = first.get();
+    } finally {
+      secondResult.handle((result, e) -> result).join();
+    }
+    return combine.apply(firstResult, join(secondResult));
+  }
+
+  /**
+   * @return the result of a completed future, rethrowing what the call threw rather than the wrapping
+   * CompletionException
+   */
+  static <T> T join(final CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+}
@@ -1,31 +1,19 @@
 package software.amazon.kendra.index;
 
 import software.amazon.awssdk.services.kendra.KendraClient;
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
-import software.amazon.awssdk.services.kendra.model.ConflictException;
-import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
 import software.amazon.awssdk.services.kendra.model.CreateIndexRequest;
 import software.amazon.awssdk.services.kendra.model.CreateIndexResponse;
-import software.amazon.awssdk.services.kendra.model.ServiceQuotaExceededException;
-import software.amazon.awssdk.services.kendra.model.ThrottlingException;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexResponse;
 import software.amazon.awssdk.services.kendra.model.UpdateIndexRequest;
 import software.amazon.awssdk.services.kendra.model.UpdateIndexResponse;
-import software.amazon.awssdk.services.kendra.model.ValidationException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
-import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
-import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 
-import java.time.Duration;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -34,17 +22,7 @@ import static software.amazon.kendra.index.ApiName.UPDATE_INDEX;
 
 public class CreateHandler extends BaseHandlerStd {
 
-    private static final Constant STABILIZATION_DELAY = Constant.of()
-            // Set the timeout to something silly/way too high, because
-            // we already set the timeout in the schema https://github.com/aws-cloudformation/aws-cloudformation-resource-schema
-            .timeout(Duration.ofDays(365L))
-            // Set the delay to two minutes so the stabilization code only calls
-            // DescribeIndex every two minutes - create takes
-            // 30/45+ minutes so there's no need to check the index is active more than every couple minutes.
-            .delay(Duration.ofMinutes(2))
-            .build();
-
-    private final Delay delay;
+    private final BiFunction<ResourceModel, CallbackContext, Delay> delayProvider;
 
     private static final BiFunction<ResourceModel, ProxyClient<KendraClient>, ResourceModel> EMPTY_CALL =
             (model, proxyClient) -> model;
@@ -56,14 +34,24 @@ public class CreateHandler extends BaseHandlerStd {
     public CreateHandler() {
         super();
         indexArnBuilder = new IndexArn();
-        delay = STABILIZATION_DELAY;
+        delayProvider = (model, context) -> StabilizationDelays.forIndex(CREATE_INDEX, model, context);
     }
 
     // Used for testing.
     public CreateHandler(IndexArnBuilder indexArnBuilder, Delay delay) {
         super();
         this.indexArnBuilder = indexArnBuilder;
-        this.delay = delay;
+        this.delayProvider = (model, context) -> delay;
+    }
+
+    @Override
+    protected boolean validatesDesiredState() {
+        return true;
+    }
+
+    @Override
+    protected boolean changesResource() {
+        return true;
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -74,6 +62,8 @@ public class CreateHandler extends BaseHandlerStd {
             final Logger logger) {
 
         this.logger = logger;
+        final Delay delay = delayProvider.apply(request.getDesiredResourceState(), callbackContext);
+        final ResponseCache<DescribeIndexResponse> describeIndexResponseCache = new ResponseCache<>();
 
         // https://github.com/aws-cloudformation/cloudformation-cli-java-plugin/blob/master/src/main/java/software/amazon/cloudformation/proxy/CallChain.java
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
@@ -83,27 +73,52 @@ public class CreateHandler extends BaseHandlerStd {
                 // for more information -> https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
                 //.then(progress -> checkForPreCreateResourceExistence(proxy, request, progress))
                 // STEP 2 [create progress chain - required for resource creation]
-                .then(progress ->
+                .then(phase("Create", progress ->
                         // If your service API throws 'ResourceAlreadyExistsException' for create requests then CreateHandler can return just proxy.initiate construction
                         // STEP 2.0 [initialize a proxy context]
                         proxy.initiate("AWS-Kendra-Index::Create", proxyClient, request.getDesiredResourceState(), callbackContext)
                                 .translateToServiceRequest(Translator::translateToCreateRequest)
                                 .makeServiceCall(this::createIndex)
                                 .done(this::setId)
-                )
+                ))
                 // stabilize
-                .then(progress -> stabilize(request, proxy, proxyClient, progress, "AWS-Kendra-Index::PostCreateStabilize"))
-                .then(progress ->
+                .then(phase("PostCreateStabilize", progress -> stabilize(request, proxy, proxyClient, progress, delay,
+                        describeIndexResponseCache, "AWS-Kendra-Index::PostCreateStabilize")))
+                .then(progress -> postCreateUpdate(request, proxy, proxyClient, progress, delay, describeIndexResponseCache))
+                // the last stabilization poll saw the index ACTIVE, the read reuses that response
+                .then(phase("Read", progress -> new ReadHandler(indexArnBuilder, describeIndexResponseCache)
+                        .handleRequest(proxy, request, callbackContext, proxyClient, logger)));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> postCreateUpdate(
+            final ResourceHandlerRequest<ResourceModel> request,
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<KendraClient> proxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Delay delay,
+            final ResponseCache<DescribeIndexResponse> describeIndexResponseCache) {
+        final ResourceModel model = progress.getResourceModel();
+        // Nothing to apply would still send the index through a full UPDATING cycle.
+        if (!Translator.requiresPostCreateUpdate(model)) {
+            logger.log(String.format("%s [%s] has no document metadata configurations or capacity units to apply, skipping post create update.",
+                    ResourceModel.TYPE_NAME, model.getId()));
+            return progress;
+        }
+        logger.log(String.format("%s [%s] applying document metadata configurations and capacity units in post create update.",
+                ResourceModel.TYPE_NAME, model.getId()));
+        describeIndexResponseCache.invalidate();
+        return ProgressEvent.progress(model, progress.getCallbackContext())
+                .then(phase("PostCreateUpdate", p ->
                         // If your resource is provisioned through multiple API calls, you will need to apply each subsequent update
                         // STEP 3.0 [initialize a proxy context]
-                        proxy.initiate("AWS-Kendra-Index::PostCreateUpdate", proxyClient, request.getDesiredResourceState(), callbackContext)
+                        proxy.initiate("AWS-Kendra-Index::PostCreateUpdate", proxyClient, model, p.getCallbackContext())
                                 .translateToServiceRequest(this::translateToPostCreateUpdateIndexRequest)
                                 .makeServiceCall(this::postCreate)
                                 .progress()
-                )
+                ))
                 // stabilize again because VCU changes can cause the index to enter UPDATING state
-                .then(progress -> stabilize(request, proxy, proxyClient, progress, "AWS-Kendra-Index::PostCreateUpdateStabilize"))
-                .then(progress -> new ReadHandler(indexArnBuilder).handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                .then(phase("PostCreateUpdateStabilize", p -> stabilize(request, proxy, proxyClient, p, delay,
+                        describeIndexResponseCache, "AWS-Kendra-Index::PostCreateUpdateStabilize")));
     }
 
     private UpdateIndexRequest translateToPostCreateUpdateIndexRequest(final ResourceModel resourceModel) {
@@ -135,28 +150,8 @@ public class CreateHandler extends BaseHandlerStd {
     private CreateIndexResponse createIndex(
             final CreateIndexRequest createIndexRequest,
             final ProxyClient<KendraClient> proxyClient) {
-        CreateIndexResponse createIndexResponse;
-        try {
-            createIndexResponse = proxyClient.injectCredentialsAndInvokeV2(createIndexRequest, proxyClient.client()::createIndex);
-        } catch (ValidationException e) {
-            throw new CfnInvalidRequestException(e.getMessage(), e);
-        } catch (ConflictException e) {
-            throw new CfnResourceConflictException(e);
-        } catch (ServiceQuotaExceededException e) {
-            throw new CfnServiceLimitExceededException(ResourceModel.TYPE_NAME, e.getMessage(), e.getCause());
-        } catch (ThrottlingException e) {
-            throw new CfnThrottlingException(CREATE_INDEX, e);
-        } catch (AccessDeniedException e) {
-            throw new CfnAccessDeniedException(CREATE_INDEX, e);
-        } catch (final AwsServiceException e) {
-            /*
-             * While the handler contract states that the handler must always return a progress event,
-             * you may throw any instance of BaseHandlerException, as the wrapper map it to a progress event.
-             * Each BaseHandlerException maps to a specific error code, and you should map service exceptions as closely as possible
-             * to more specific error codes
-             */
-            throw new CfnGeneralServiceException(CREATE_INDEX, e);
-        }
+        final CreateIndexResponse createIndexResponse = serviceErrors.call(CREATE_INDEX, null, () ->
+                proxyClient.injectCredentialsAndInvokeV2(createIndexRequest, proxyClient.client()::createIndex));
 
         logger.log(String.format("%s successfully called CreateIndex and received index ID %s. Still need to stabilize.", ResourceModel.TYPE_NAME, createIndexResponse.id()));
         return createIndexResponse;
@@ -172,29 +167,10 @@ public class CreateHandler extends BaseHandlerStd {
     private UpdateIndexResponse postCreate(
             final UpdateIndexRequest updateIndexRequest,
             final ProxyClient<KendraClient> proxyClient) {
-        UpdateIndexResponse updateIndexResponse;
-
         // Map Kendra Errors: https://docs.aws.amazon.com/kendra/latest/APIReference/API_UpdateIndex.html#API_UpdateIndex_Errors
         // to cfn errors.
-        try {
-            updateIndexResponse = proxyClient.injectCredentialsAndInvokeV2(updateIndexRequest, proxyClient.client()::updateIndex);
-        } catch (ValidationException e) {
-            throw new CfnInvalidRequestException(e.getMessage(), e);
-        } catch (ServiceQuotaExceededException e) {
-            throw new CfnServiceLimitExceededException(ResourceModel.TYPE_NAME, e.getMessage(), e.getCause());
-        } catch (AccessDeniedException e) {
-            throw new CfnAccessDeniedException(UPDATE_INDEX, e);
-        } catch (ThrottlingException e) {
-            throw new CfnThrottlingException(UPDATE_INDEX, e);
-        } catch (final AwsServiceException e) {
-            /*
-             * While the handler contract states that the handler must always return a progress event,
-             * you may throw any instance of BaseHandlerException, as the wrapper map it to a progress event.
-             * Each BaseHandlerException maps to a specific error code, and you should map service exceptions as closely as possible
-             * to more specific error codes
-             */
-            throw new CfnGeneralServiceException(UPDATE_INDEX, e);
-        }
+        final UpdateIndexResponse updateIndexResponse = serviceErrors.call(UPDATE_INDEX, updateIndexRequest.id(), () ->
+                proxyClient.injectCredentialsAndInvokeV2(updateIndexRequest, proxyClient.client()::updateIndex));
 
         logger.log(String.format("%s successfully called UpdateIndex with index ID %s. Still need to stabilize.", ResourceModel.TYPE_NAME, updateIndexRequest.id()));
         return updateIndexResponse;
@@ -205,13 +181,15 @@ public class CreateHandler extends BaseHandlerStd {
             final AmazonWebServicesClientProxy proxy,
             final ProxyClient<KendraClient> proxyClient,
             final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Delay delay,
+            final ResponseCache<DescribeIndexResponse> describeIndexResponseCache,
             final String callGraph) {
         return proxy.initiate(callGraph, proxyClient, progress.getResourceModel(), progress.getCallbackContext())
                 .translateToServiceRequest(Function.identity())
                 .backoffDelay(delay)
                 .makeServiceCall(EMPTY_CALL)
                 .stabilize((request, response, proxyInvocation, model, callbackContext) -> isCreatingOrUpdatingStable(
-                    CREATE_INDEX, resourceHandlerRequest, proxyClient, request, logger
+                    CREATE_INDEX, resourceHandlerRequest, proxyClient, request, callbackContext, describeIndexResponseCache, logger
                 )).progress();
     }
 }
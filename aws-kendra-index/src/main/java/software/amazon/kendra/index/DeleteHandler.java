@@ -1,55 +1,43 @@
 package software.amazon.kendra.index;
 
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.kendra.KendraClient;
-import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
-import software.amazon.awssdk.services.kendra.model.ConflictException;
 import software.amazon.awssdk.services.kendra.model.DeleteIndexRequest;
 import software.amazon.awssdk.services.kendra.model.DeleteIndexResponse;
 import software.amazon.awssdk.services.kendra.model.DescribeIndexRequest;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexResponse;
 import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.kendra.model.ThrottlingException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 
-import java.time.Duration;
+import java.util.function.BiFunction;
 
 import static software.amazon.kendra.index.ApiName.DELETE_INDEX;
+import static software.amazon.kendra.index.ApiName.DESCRIBE_INDEX;
 
 public class DeleteHandler extends BaseHandlerStd {
 
-    private static final Constant STABILIZATION_DELAY = Constant.of()
-            // Set the timeout to something silly/way too high, because
-            // we already set the timeout in the schema https://github.com/aws-cloudformation/aws-cloudformation-resource-schema
-            .timeout(Duration.ofDays(365L))
-            // Set the delay to one minute so the stabilization code only calls
-            // DescribeIndex every minute - delete can take a few minutes
-            // so there's no need to check the index has been deleted more than once every two minutes.
-            .delay(Duration.ofMinutes(2))
-            .build();
-
     private Logger logger;
 
-    private final Delay delay;
+    private final BiFunction<ResourceModel, CallbackContext, Delay> delayProvider;
 
     public DeleteHandler() {
         super();
-        delay = STABILIZATION_DELAY;
+        delayProvider = (model, context) -> StabilizationDelays.forIndex(DELETE_INDEX, model, context);
     }
 
     public DeleteHandler(Delay delay) {
         super();
-        this.delay = delay;
+        this.delayProvider = (model, context) -> delay;
+    }
+
+    @Override
+    protected boolean changesResource() {
+        return true;
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -62,6 +50,7 @@ public class DeleteHandler extends BaseHandlerStd {
         this.logger = logger;
 
         final ResourceModel model = request.getDesiredResourceState();
+        final Delay delay = delayProvider.apply(model, callbackContext);
 
         // https://github.com/aws-cloudformation/cloudformation-cli-java-plugin/blob/master/src/main/java/software/amazon/cloudformation/proxy/CallChain.java
 
@@ -71,9 +60,9 @@ public class DeleteHandler extends BaseHandlerStd {
                 // for more information -> https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
                 // if target API does not support 'ResourceNotFoundException' then following check is required
                 //.then(progress -> checkForPreDeleteResourceExistence(proxy, proxyClient, request, progress))
-                .then(progress -> preExistenceCheckForDelete(proxy, proxyClient, progress, request))
+                .then(phase("PreExistenceCheck", progress -> preExistenceCheckForDelete(proxy, proxyClient, progress, request)))
                 // STEP 2.0 [delete/stabilize progress chain - required for resource deletion]
-                .then(progress ->
+                .then(phase("Delete", progress ->
                         // If your service API throws 'ResourceNotFoundException' for delete requests then DeleteHandler can return just proxy.initiate construction
                         // STEP 2.0 [initialize a proxy context]
                         proxy.initiate("AWS-Kendra-Index::Delete", proxyClient, model, callbackContext)
@@ -82,7 +71,7 @@ public class DeleteHandler extends BaseHandlerStd {
                                 .makeServiceCall((awsRequest, sdkProxyClient) -> deleteIndex(awsRequest, sdkProxyClient, callbackContext))
                                 // for more information -> https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
                                 .stabilize(this::stabilizedOnDelete)
-                                .done(this::setResourceModelToNullAndReturnSuccess));
+                                .done(this::setResourceModelToNullAndReturnSuccess)));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> preExistenceCheckForDelete(
@@ -133,27 +122,9 @@ public class DeleteHandler extends BaseHandlerStd {
             final DeleteIndexRequest deleteIndexRequest,
             final ProxyClient<KendraClient> proxyClient,
             final CallbackContext callbackContext) {
-        DeleteIndexResponse deleteIndexResponse;
-        try {
-            deleteIndexResponse = proxyClient.injectCredentialsAndInvokeV2(deleteIndexRequest, proxyClient.client()::deleteIndex);
-            callbackContext.setDeleteWorkflow(true);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, deleteIndexRequest.id(), e);
-        } catch (ConflictException e) {
-            throw new CfnResourceConflictException(e);
-        } catch (AccessDeniedException e) {
-            throw new CfnAccessDeniedException(DELETE_INDEX, e);
-        } catch (ThrottlingException e) {
-            throw new CfnThrottlingException(DELETE_INDEX, e);
-        } catch (final AwsServiceException e) {
-            /*
-             * While the handler contract states that the handler must always return a progress event,
-             * you may throw any instance of BaseHandlerException, as the wrapper map it to a progress event.
-             * Each BaseHandlerException maps to a specific error code, and you should map service exceptions as closely as possible
-             * to more specific error codes
-             */
-            throw new CfnGeneralServiceException(DELETE_INDEX, e);
-        }
+        final DeleteIndexResponse deleteIndexResponse = serviceErrors.call(DELETE_INDEX, deleteIndexRequest.id(), () ->
+                proxyClient.injectCredentialsAndInvokeV2(deleteIndexRequest, proxyClient.client()::deleteIndex));
+        callbackContext.setDeleteWorkflow(true);
 
         logger.log(String.format("%s successfully called DeleteIndex with index ID %s. Still need to stabilize.", ResourceModel.TYPE_NAME, deleteIndexRequest.id()));
         return deleteIndexResponse;
@@ -181,10 +152,13 @@ public class DeleteHandler extends BaseHandlerStd {
                 .build();
         boolean stabilized;
         try {
-            proxyClient.injectCredentialsAndInvokeV2(describeIndexRequest,
-                    proxyClient.client()::describeIndex);
+            final DescribeIndexResponse describeIndexResponse = HandlerEvents.stabilizationPoll(DESCRIBE_INDEX, model.getId(),
+                    () -> proxyClient.injectCredentialsAndInvokeV2(describeIndexRequest, proxyClient.client()::describeIndex),
+                    DescribeIndexResponse::statusAsString);
+            recordStatus(callbackContext, describeIndexResponse.statusAsString(), model, logger);
             stabilized = false;
         } catch (ResourceNotFoundException e) {
+            recordStatus(callbackContext, StabilizationPredictor.DELETED, model, logger);
             stabilized = true;
         }
         logger.log(String.format("%s [%s] deletion has stabilized: %s", ResourceModel.TYPE_NAME, model.getPrimaryIdentifier(), stabilized));
@@ -0,0 +1,149 @@
+package software.amazon.kendra.index;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+/**
+ * Times the phases of a handler and the Kendra calls it makes, and writes them out once the handler completes.
+ *
+ * Both are kept in the {@link CallbackContext}, so an operation that waits out its stabilization over several
+ * invocations is reported as a whole. A phase is timed from the invocation that starts it to the one that
+ * finishes it, waits included, and a phase replayed after it finished is not timed again. A call is timed from
+ * when the rate limiter lets it through until it returns, once per attempt.
+ *
+ * The metrics are written to standard out as CloudWatch Embedded Metric Format, one line per phase and one per
+ * API, under the {@value #NAMESPACE} namespace. CloudWatch Logs extracts them from the function's log group, and
+ * they read as plain JSON anywhere else.
+ */
+final class HandlerMetrics {
+
+  static final String NAMESPACE = "KendraResourceProviders";
+
+  static final HandlerMetrics STANDARD_OUT = new HandlerMetrics(System.out::println, System::currentTimeMillis);
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private final Consumer<String> out;
+  private final LongSupplier clock;
+
+  HandlerMetrics(final Consumer<String> out, final LongSupplier clock) {
+    this.out = out;
+    this.clock = clock;
+  }
+
+  /**
+   * @return the proxy client, recording every call it makes in the callback context
+   */
+  ProxyClient<KendraClient> metered(
+      final ProxyClient<KendraClient> proxyClient,
+      final CallbackContext callbackContext,
+      final Supplier<String> resourceId) {
+    return new MeteredProxyClient(proxyClient, callbackContext, clock, resourceId);
+  }
+
+  /**
+   * @return the step, timed as the named phase. The phase ends when the step fails or the chain moves on from
+   *     it, not when it returns IN_PROGRESS to be called back. Every invocation of the step is also recorded as a
+   *     {@link HandlerEvents.HandlerPhase} event
+   */
+  Function<ProgressEvent<ResourceModel, CallbackContext>, ProgressEvent<ResourceModel, CallbackContext>> phase(
+      final String name,
+      final Function<ProgressEvent<ResourceModel, CallbackContext>, ProgressEvent<ResourceModel, CallbackContext>> step) {
+    final Function<ProgressEvent<ResourceModel, CallbackContext>, ProgressEvent<ResourceModel, CallbackContext>> recorded =
+        progress -> HandlerEvents.phase(name, HandlerEvents.resourceId(progress.getResourceModel()),
+            () -> step.apply(progress), result -> String.valueOf(result.getStatus()));
+    return progress -> {
+      final CallbackContext callbackContext = progress.getCallbackContext();
+      if (callbackContext.getPhaseMillis().containsKey(name)) {
+        return recorded.apply(progress);
+      }
+      callbackContext.getPhaseStartedAt().putIfAbsent(name, clock.getAsLong());
+      ProgressEvent<ResourceModel, CallbackContext> result = null;
+      try {
+        result = recorded.apply(progress);
+        return result;
+      } finally {
+        if (result == null || !result.isInProgress() || result.getCallbackDelaySeconds() == 0) {
+          callbackContext.getPhaseMillis().put(name, clock.getAsLong() - callbackContext.getPhaseStartedAt().remove(name));
+        }
+      }
+    };
+  }
+
+  /**
+   * Writes the phases and calls recorded for the operation.
+   *
+   * @param action the handler that completed, e.g. Create
+   */
+  void emit(final String action, final OperationStatus status, final CallbackContext callbackContext) {
+    final long timestamp = clock.getAsLong();
+    final List<Map<String, Object>> records = new ArrayList<>();
+    callbackContext.getPhaseMillis().forEach((phase, millis) -> {
+      final Map<String, Object> record = record(timestamp, action, status, "Phase", phase,
+          List.of(metric("Duration", "Milliseconds")));
+      record.put("Duration", millis);
+      records.add(record);
+    });
+    // Concurrent reads record their calls from other threads, under the same lock
+    synchronized (callbackContext) {
+      callbackContext.getApiCalls().forEach((api, calls) -> {
+        final Map<String, Object> record = record(timestamp, action, status, "Api", api,
+            List.of(metric("Calls", "Count"), metric("Latency", "Milliseconds")));
+        record.put("Calls", calls);
+        record.put("Latency", callbackContext.getApiMillis().get(api));
+        records.add(record);
+      });
+    }
+    for (final Map<String, Object> record : records) {
+      try {
+        out.accept(MAPPER.writeValueAsString(record));
+      } catch (JsonProcessingException e) {
+        // A metric is never worth failing the operation over
+      }
+    }
+  }
+
+  private static Map<String, Object> record(
+      final long timestamp,
+      final String action,
+      final OperationStatus status,
+      final String dimension,
+      final String value,
+      final List<Map<String, String>> metrics) {
+    final Map<String, Object> directive = new LinkedHashMap<>();
+    directive.put("Namespace", NAMESPACE);
+    directive.put("Dimensions", List.of(List.of("ResourceType", "Action", dimension)));
+    directive.put("Metrics", metrics);
+    final Map<String, Object> metadata = new LinkedHashMap<>();
+    metadata.put("Timestamp", timestamp);
+    metadata.put("CloudWatchMetrics", List.of(directive));
+    final Map<String, Object> record = new LinkedHashMap<>();
+    record.put("_aws", metadata);
+    record.put("ResourceType", ResourceModel.TYPE_NAME);
+    record.put("Action", action);
+    record.put(dimension, value);
+    // Not a dimension, so failed operations don't split the metrics, but it can be queried
+    record.put("Status", status.toString());
+    return record;
+  }
+
+  private static Map<String, String> metric(final String name, final String unit) {
+    final Map<String, String> metric = new LinkedHashMap<>();
+    metric.put("Name", name);
+    metric.put("Unit", unit);
+    return metric;
+  }
+}
@@ -0,0 +1,142 @@
+package software.amazon.kendra.index;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import software.amazon.awssdk.services.kendra.KendraClient;
+
+/**
+ * Container scoped cache of Kendra clients.
+ *
+ * Building a client resolves the region, endpoint and signer, so warm invocations (and stabilization
+ * re-entries) reuse the client built by the first invocation instead. Credentials are injected per request by
+ * the proxy, so the cache is keyed by the account the credentials belong to rather than the credentials
+ * themselves.
+ */
+public class KendraClientCache {
+
+  static final Duration DEFAULT_IDLE_TIMEOUT = Duration.ofMinutes(30);
+  static final int DEFAULT_MAX_ENTRIES = 16;
+
+  private final Map<Key, Entry> clients = new ConcurrentHashMap<>();
+  private final Function<Key, KendraClient> clientFactory;
+  private final long idleTimeoutMillis;
+  private final int maxEntries;
+  private final LongSupplier clock;
+
+  private final AtomicLong hits = new AtomicLong();
+  private final AtomicLong misses = new AtomicLong();
+  private final AtomicLong evictions = new AtomicLong();
+
+  public KendraClientCache(final Function<Key, KendraClient> clientFactory) {
+    this(clientFactory, DEFAULT_IDLE_TIMEOUT, DEFAULT_MAX_ENTRIES, System::currentTimeMillis);
+  }
+
+  // Used for testing
+  KendraClientCache(final Function<Key, KendraClient> clientFactory,
+                    final Duration idleTimeout,
+                    final int maxEntries,
+                    final LongSupplier clock) {
+    this.clientFactory = clientFactory;
+    this.idleTimeoutMillis = idleTimeout.toMillis();
+    this.maxEntries = maxEntries;
+    this.clock = clock;
+  }
+
+  public KendraClient get(final String region, final String partition, final String accountId) {
+    final long now = clock.getAsLong();
+    evictIdle(now);
+    final Key key = new Key(region, partition, accountId);
+    Entry entry = clients.get(key);
+    if (entry != null) {
+      hits.incrementAndGet();
+    } else {
+      entry = clients.computeIfAbsent(key, k -> {
+        misses.incrementAndGet();
+        return new Entry(clientFactory.apply(k), now);
+      });
+      evictOverflow();
+    }
+    entry.lastAccessMillis = now;
+    return entry.client;
+  }
+
+  public long getHits() {
+    return hits.get();
+  }
+
+  public long getMisses() {
+    return misses.get();
+  }
+
+  public long getEvictions() {
+    return evictions.get();
+  }
+
+  public int size() {
+    return clients.size();
+  }
+
+  public String stats() {
+    return String.format("size=%d, hits=%d, misses=%d, evictions=%d",
+        size(), getHits(), getMisses(), getEvictions());
+  }
+
+  private void evictIdle(final long now) {
+    clients.entrySet().removeIf(e -> {
+      if (now - e.getValue().lastAccessMillis < idleTimeoutMillis) {
+        return false;
+      }
+      close(e.getValue());
+      return true;
+    });
+  }
+
+  private void evictOverflow() {
+    while (clients.size() > maxEntries) {
+      final Optional<Map.Entry<Key, Entry>> eldest = clients.entrySet().stream()
+          .min(Comparator.comparingLong(e -> e.getValue().lastAccessMillis));
+      if (!eldest.isPresent()) {
+        return;
+      }
+      if (clients.remove(eldest.get().getKey(), eldest.get().getValue())) {
+        close(eldest.get().getValue());
+      }
+    }
+  }
+
+  private void close(final Entry entry) {
+    evictions.incrementAndGet();
+    // The shared HTTP client is owned by the wrapper, closing the SDK client leaves it untouched.
+    entry.client.close();
+  }
+
+  private static final class Entry {
+    private final KendraClient client;
+    private volatile long lastAccessMillis;
+
+    private Entry(final KendraClient client, final long lastAccessMillis) {
+      this.client = client;
+      this.lastAccessMillis = lastAccessMillis;
+    }
+  }
+
+  @Getter
+  @EqualsAndHashCode
+  @AllArgsConstructor(access = AccessLevel.PACKAGE)
+  public static final class Key {
+    private final String region;
+    private final String partition;
+    private final String accountId;
+  }
+}
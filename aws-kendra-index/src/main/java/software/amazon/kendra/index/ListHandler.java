@@ -2,15 +2,11 @@ package software.amazon.kendra.index;
 
 import static software.amazon.kendra.index.ApiName.LIST_INDICES;
 
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import java.util.List;
+
 import software.amazon.awssdk.services.kendra.KendraClient;
-import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
 import software.amazon.awssdk.services.kendra.model.ListIndicesRequest;
 import software.amazon.awssdk.services.kendra.model.ListIndicesResponse;
-import software.amazon.awssdk.services.kendra.model.ThrottlingException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -20,6 +16,35 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
 public class ListHandler extends BaseHandlerStd {
 
+    // Lives as long as the Lambda container, so a caller walking the pages picks up the page read ahead for it
+    private static final ListPages<ListIndicesResponse> PAGES = new ListPages<>(ListPages.readAheadFromEnvironment());
+
+    private final boolean hydrate;
+
+    private final IndexArnBuilder indexArnBuilder;
+
+    private final ListPages<ListIndicesResponse> pages;
+
+    private final int pageSize;
+
+    public ListHandler() {
+        this(HydratedList.enabledByEnvironment(), new IndexArn());
+    }
+
+    /**
+     * @param hydrate whether to read every listed index and return complete models instead of identifiers
+     */
+    public ListHandler(boolean hydrate, IndexArnBuilder indexArnBuilder) {
+        this(hydrate, indexArnBuilder, PAGES, ListPages.pageSizeFromEnvironment());
+    }
+
+    ListHandler(boolean hydrate, IndexArnBuilder indexArnBuilder, ListPages<ListIndicesResponse> pages, int pageSize) {
+        this.hydrate = hydrate;
+        this.indexArnBuilder = indexArnBuilder;
+        this.pages = pages;
+        this.pageSize = pageSize;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
             final AmazonWebServicesClientProxy proxy,
@@ -28,28 +53,53 @@ public class ListHandler extends BaseHandlerStd {
             final ProxyClient<KendraClient> proxyClient,
             final Logger logger) {
 
-        final ListIndicesRequest listIndicesRequest = Translator.translateToListRequest(request.getNextToken());
-
-        ListIndicesResponse listIndicesResponse = listIndices(listIndicesRequest, proxyClient);
+        final String scope = String.join("/", request.getAwsAccountId(), request.getRegion());
+        return pages.list(scope, request.getNextToken(),
+                token -> listIndices(Translator.translateToListRequest(token, pageSize), proxyClient),
+                ListIndicesResponse::nextToken,
+                listIndicesResponse -> toProgress(proxy, request, listIndicesResponse, proxyClient, logger));
+    }
 
+    private ProgressEvent<ResourceModel, CallbackContext> toProgress(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final ListIndicesResponse listIndicesResponse,
+            final ProxyClient<KendraClient> proxyClient,
+            final Logger logger) {
         String nextToken = listIndicesResponse.nextToken();
 
+        List<ResourceModel> resourceModels = Translator.translateFromListResponse(listIndicesResponse);
+        if (hydrate) {
+            resourceModels = HydratedList.hydrate(resourceModels, model -> read(proxy, request, model, proxyClient, logger));
+        }
+
         return ProgressEvent.<ResourceModel, CallbackContext>builder()
-                .resourceModels(Translator.translateFromListResponse(listIndicesResponse))
+                .resourceModels(resourceModels)
                 .nextToken(nextToken)
                 .status(OperationStatus.SUCCESS)
                 .build();
     }
 
-  private ListIndicesResponse listIndices (ListIndicesRequest listIndicesRequest, ProxyClient<KendraClient> proxyClient) {
-    try {
-      return proxyClient.injectCredentialsAndInvokeV2(listIndicesRequest, proxyClient.client()::listIndices);
-    } catch (AccessDeniedException e) {
-      throw new CfnAccessDeniedException(LIST_INDICES, e);
-    } catch (ThrottlingException e) {
-      throw new CfnThrottlingException(LIST_INDICES, e);
-    } catch (AwsServiceException e) {
-      throw new CfnGeneralServiceException(LIST_INDICES, e);
+    private ResourceModel read(
+            final AmazonWebServicesClientProxy proxy,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final ResourceModel model,
+            final ProxyClient<KendraClient> proxyClient,
+            final Logger logger) {
+        // The reads run concurrently, each gets its own handler and context
+        final ReadHandler readHandler = new ReadHandler(indexArnBuilder);
+        readHandler.serviceErrors = serviceErrors;
+        final ResourceHandlerRequest<ResourceModel> readRequest = ResourceHandlerRequest.<ResourceModel>builder()
+                .awsPartition(request.getAwsPartition())
+                .region(request.getRegion())
+                .awsAccountId(request.getAwsAccountId())
+                .desiredResourceState(model)
+                .build();
+        return readHandler.handleRequest(proxy, readRequest, new CallbackContext(), proxyClient, logger).getResourceModel();
     }
+
+  private ListIndicesResponse listIndices (ListIndicesRequest listIndicesRequest, ProxyClient<KendraClient> proxyClient) {
+    return serviceErrors.call(LIST_INDICES, null, () ->
+        proxyClient.injectCredentialsAndInvokeV2(listIndicesRequest, proxyClient.client()::listIndices));
   }
 }
@@ -0,0 +1,104 @@
+package software.amazon.kendra.index;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import software.amazon.cloudformation.proxy.Delay;
+
+/**
+ * Stabilization delay that schedules the next poll close to the predicted completion time.
+ *
+ * It relies on the status transitions recorded in the callback context: once the index has been in a
+ * transitional status for a while, it sleeps until shortly before the predicted end of that status, polls on a
+ * short interval around it and falls back to the adaptive schedule once the index is well overdue. The
+ * adaptive schedule is also used for its early polls and whenever there is nothing to predict from.
+ */
+public class PredictiveDelay implements Delay {
+
+  // Wake up this long before the predicted completion
+  static final Duration LEAD = Duration.ofMinutes(1);
+  // Poll interval around the predicted completion
+  static final Duration NEAR_DELAY = Duration.ofSeconds(20);
+  // How long after the predicted completion to keep polling on the near interval
+  static final Duration OVERDUE_WINDOW = Duration.ofMinutes(10);
+  // Bound a single predicted sleep so a bad prediction cannot oversleep by much
+  static final Duration MAX_DELAY = Duration.ofMinutes(10);
+
+  private final StabilizationPredictor predictor;
+  private final CallbackContext callbackContext;
+  private final String edition;
+  private final AdaptiveDelay fallback;
+  private final LongSupplier clock;
+
+  private final AtomicInteger pollCount = new AtomicInteger();
+  private final AtomicLong totalWaitMillis = new AtomicLong();
+
+  public PredictiveDelay(final StabilizationPredictor predictor,
+                         final CallbackContext callbackContext,
+                         final String edition,
+                         final AdaptiveDelay fallback) {
+    this(predictor, callbackContext, edition, fallback, System::currentTimeMillis);
+  }
+
+  // Used for testing
+  PredictiveDelay(final StabilizationPredictor predictor,
+                  final CallbackContext callbackContext,
+                  final String edition,
+                  final AdaptiveDelay fallback,
+                  final LongSupplier clock) {
+    this.predictor = predictor;
+    this.callbackContext = callbackContext;
+    this.edition = edition;
+    this.fallback = fallback;
+    this.clock = clock;
+  }
+
+  @Override
+  public Duration nextDelay(final int attempt) {
+    if (fallback.isTimedOut(attempt)) {
+      return Duration.ZERO;
+    }
+    final Duration next = attempt <= fallback.getEarlyPolls()
+        ? fallback.nextDelay(attempt)
+        : predictedDelay().orElseGet(() -> fallback.nextDelay(attempt));
+    pollCount.incrementAndGet();
+    totalWaitMillis.addAndGet(next.toMillis());
+    return next;
+  }
+
+  public int getPollCount() {
+    return pollCount.get();
+  }
+
+  public Duration getTotalWait() {
+    return Duration.ofMillis(totalWaitMillis.get());
+  }
+
+  @Override
+  public String toString() {
+    return String.format("PredictiveDelay(polls=%d, totalWait=%s)", getPollCount(), getTotalWait());
+  }
+
+  private Optional<Duration> predictedDelay() {
+    final String status = callbackContext.getLastObservedStatus();
+    final Long since = status == null ? null : callbackContext.getStatusTransitions().get(status);
+    if (since == null) {
+      return Optional.empty();
+    }
+    return predictor.expectedDuration(status, edition).flatMap(expected -> {
+      final long now = clock.getAsLong();
+      final long completion = since + expected.toMillis();
+      final long untilLead = completion - LEAD.toMillis() - now;
+      if (untilLead > NEAR_DELAY.toMillis()) {
+        return Optional.of(Duration.ofMillis(Math.min(untilLead, MAX_DELAY.toMillis())));
+      }
+      if (now < completion + OVERDUE_WINDOW.toMillis()) {
+        return Optional.of(NEAR_DELAY);
+      }
+      return Optional.empty();
+    });
+  }
+}
@@ -1,19 +1,10 @@
 package software.amazon.kendra.index;
 
 import software.amazon.awssdk.services.kendra.KendraClient;
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
-import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
 import software.amazon.awssdk.services.kendra.model.DescribeIndexRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeIndexResponse;
 import software.amazon.awssdk.services.kendra.model.ListTagsForResourceRequest;
 import software.amazon.awssdk.services.kendra.model.ListTagsForResourceResponse;
-import software.amazon.awssdk.services.kendra.model.ResourceInUseException;
-import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.kendra.model.ThrottlingException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
-import software.amazon.cloudformation.exceptions.CfnNotFoundException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -29,14 +20,27 @@ public class ReadHandler extends BaseHandlerStd {
 
     private IndexArnBuilder indexArnBuilder;
 
+    // Only ever filled by the create and update chains, a standalone read always describes the index.
+    private final ResponseCache<DescribeIndexResponse> describeIndexResponseCache;
+
     public ReadHandler() {
         super();
         indexArnBuilder = new IndexArn();
+        describeIndexResponseCache = new ResponseCache<>();
     }
 
     public ReadHandler(IndexArnBuilder indexArnBuilder) {
+        this(indexArnBuilder, new ResponseCache<>());
+    }
+
+    /**
+     * @param describeIndexResponseCache the latest DescribeIndex response seen by the calling handler, reused
+     *                                   instead of describing the index again
+     */
+    public ReadHandler(IndexArnBuilder indexArnBuilder, ResponseCache<DescribeIndexResponse> describeIndexResponseCache) {
         super();
         this.indexArnBuilder = indexArnBuilder;
+        this.describeIndexResponseCache = describeIndexResponseCache;
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -50,37 +54,26 @@ public class ReadHandler extends BaseHandlerStd {
 
         final ResourceModel model = request.getDesiredResourceState();
 
-        final DescribeIndexRequest describeIndexRequest = Translator.translateToReadRequest(model);
-        DescribeIndexResponse describeIndexResponse;
-        try {
-            describeIndexResponse = proxyClient.injectCredentialsAndInvokeV2(describeIndexRequest, proxyClient.client()::describeIndex);
-        } catch (ResourceNotFoundException e) {
-            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, describeIndexRequest.id(), e);
-        } catch (AccessDeniedException e) {
-            throw new CfnAccessDeniedException(DESCRIBE_INDEX, e);
-        } catch (ThrottlingException e) {
-            throw new CfnThrottlingException(DESCRIBE_INDEX, e);
-        } catch (final AwsServiceException e) { // ResourceNotFoundException
-            /*
-             * While the handler contract states that the handler must always return a progress event,
-             * you may throw any instance of BaseHandlerException, as the wrapper map it to a progress event.
-             * Each BaseHandlerException maps to a specific error code, and you should map service exceptions as closely as possible
-             * to more specific error codes
-             */
-            throw new CfnGeneralServiceException(DESCRIBE_INDEX, e); // e.g. https://github.com/aws-cloudformation/aws-cloudformation-resource-providers-logs/commit/2077c92299aeb9a68ae8f4418b5e932b12a8b186#diff-5761e3a9f732dc1ef84103dc4bc93399R56-R63
-        }
-
-        String indexArn = indexArnBuilder.build(request);
+        // The ARN only depends on the request, so the tags are listed while the index is described.
+        final String indexArn = indexArnBuilder.build(request);
+        return ConcurrentReads.both(
+                () -> describeIndexResponseCache.get()
+                        .orElseGet(() -> describeIndex(Translator.translateToReadRequest(model), proxyClient)),
+                () -> listTags(indexArn, proxyClient),
+                (describeIndexResponse, listTagsForResourceResponse) ->
+                        constructResourceModelFromResponse(describeIndexResponse, listTagsForResourceResponse, indexArn));
+    }
+
+    private ListTagsForResourceResponse listTags(final String indexArn, final ProxyClient<KendraClient> proxyClient) {
         final ListTagsForResourceRequest listTagsForResourceRequest = Translator.translateToListTagsRequest(indexArn);
-        ListTagsForResourceResponse listTagsForResourceResponse;
-        try {
-            listTagsForResourceResponse = proxyClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest,
-                    proxyClient.client()::listTagsForResource);
-        } catch (ResourceInUseException e) {
-            throw new CfnGeneralServiceException(LIST_TAGS_FOR_RESOURCE, e);
-        }
-
-        return constructResourceModelFromResponse(describeIndexResponse, listTagsForResourceResponse, indexArn);
+        return serviceErrors.call(LIST_TAGS_FOR_RESOURCE, indexArn, () ->
+                proxyClient.injectCredentialsAndInvokeV2(listTagsForResourceRequest, proxyClient.client()::listTagsForResource));
+    }
+
+    private DescribeIndexResponse describeIndex(final DescribeIndexRequest describeIndexRequest,
+                                                final ProxyClient<KendraClient> proxyClient) {
+        return serviceErrors.call(DESCRIBE_INDEX, describeIndexRequest.id(), () ->
+                proxyClient.injectCredentialsAndInvokeV2(describeIndexRequest, proxyClient.client()::describeIndex));
     }
 
     /**
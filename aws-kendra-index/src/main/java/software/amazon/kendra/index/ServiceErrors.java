@@ -0,0 +1,239 @@
+package software.amazon.kendra.index;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
+import software.amazon.awssdk.services.kendra.model.ConflictException;
+import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.kendra.model.ServiceQuotaExceededException;
+import software.amazon.awssdk.services.kendra.model.ThrottlingException;
+import software.amazon.awssdk.services.kendra.model.ValidationException;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+/**
+ * Maps Kendra errors to the handler exceptions CloudFormation understands, and retries the ones that are worth
+ * retrying before giving up on them.
+ *
+ * The mapping is a table of exception types checked in order, so a call site only says which API it called.
+ * An error is retried in place when its type is retryable for that API, waiting between attempts with
+ * decorrelated jitter: each wait is random between the base delay and three times the previous wait, capped at
+ * the maximum delay. Once the attempts or the total wait run out, the last error is mapped like any other.
+ */
+public class ServiceErrors {
+
+  static final int DEFAULT_MAX_ATTEMPTS = 3;
+  static final Duration DEFAULT_BASE_DELAY = Duration.ofMillis(100);
+  static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(1);
+  static final Duration DEFAULT_MAX_TOTAL_DELAY = Duration.ofSeconds(3);
+
+  // Checked in order, the last entry matches any service error
+  private static final List<Rule<?>> DEFAULT_RULES = List.of(
+      new Rule<>(ValidationException.class,
+          (apiName, resourceId, e) -> new CfnInvalidRequestException(e.getMessage(), e)),
+      new Rule<>(ConflictException.class,
+          (apiName, resourceId, e) -> new CfnResourceConflictException(e)),
+      new Rule<>(ServiceQuotaExceededException.class,
+          (apiName, resourceId, e) -> new CfnServiceLimitExceededException(ResourceModel.TYPE_NAME, e.getMessage(), e)),
+      new Rule<>(ResourceNotFoundException.class,
+          (apiName, resourceId, e) -> resourceId == null
+              ? new CfnNotFoundException(e)
+              : new CfnNotFoundException(ResourceModel.TYPE_NAME, resourceId, e)),
+      new Rule<>(AccessDeniedException.class,
+          (apiName, resourceId, e) -> new CfnAccessDeniedException(apiName, e)),
+      new Rule<>(ThrottlingException.class,
+          (apiName, resourceId, e) -> new CfnThrottlingException(apiName, e)),
+      new Rule<>(AwsServiceException.class,
+          (apiName, resourceId, e) -> new CfnGeneralServiceException(apiName, e)));
+
+  private final List<Rule<?>> overrides;
+  private final Map<Class<? extends AwsServiceException>, Set<String>> retryable;
+  private final int maxAttempts;
+  private final Duration baseDelay;
+  private final Duration maxDelay;
+  private final Duration maxTotalDelay;
+  private final ApiRateLimiter.Sleeper sleeper;
+  private final DoubleSupplier random;
+
+  private ServiceErrors(final Builder builder) {
+    this.overrides = new ArrayList<>(builder.overrides);
+    this.retryable = new LinkedHashMap<>(builder.retryable);
+    this.maxAttempts = builder.maxAttempts;
+    this.baseDelay = builder.baseDelay;
+    this.maxDelay = builder.maxDelay;
+    this.maxTotalDelay = builder.maxTotalDelay;
+    this.sleeper = builder.sleeper;
+    this.random = builder.random;
+  }
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public Builder toBuilder() {
+    return new Builder(this);
+  }
+
+  /**
+   * Makes the call, retrying it while the error is retryable and the budget allows.
+   *
+   * @param apiName the {@link ApiName} of the call
+   * @param resourceId the resource the call is about, used when the resource is not found. Null when the call
+   *                   isn't about one resource, or the missing resource would be another one, like the index
+   * @throws BaseHandlerException once the call fails for good
+   */
+  public <T> T call(final String apiName, final String resourceId, final Supplier<T> call) {
+    long waitedNanos = 0;
+    long previousDelayNanos = baseDelay.toNanos();
+    for (int attempt = 1; ; attempt++) {
+      try {
+        return call.get();
+      } catch (final AwsServiceException e) {
+        if (attempt >= maxAttempts || !isRetryable(apiName, e)) {
+          throw map(apiName, resourceId, e);
+        }
+        final long delayNanos = nextDelay(previousDelayNanos);
+        if (waitedNanos + delayNanos > maxTotalDelay.toNanos()) {
+          throw map(apiName, resourceId, e);
+        }
+        try {
+          sleeper.sleep(delayNanos);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          throw map(apiName, resourceId, e);
+        }
+        waitedNanos += delayNanos;
+        previousDelayNanos = delayNanos;
+      }
+    }
+  }
+
+  public boolean isRetryable(final String apiName, final AwsServiceException e) {
+    return retryable.entrySet().stream()
+        .anyMatch(entry -> entry.getKey().isInstance(e)
+            && (entry.getValue().isEmpty() || entry.getValue().contains(apiName)));
+  }
+
+  /**
+   * @return the handler exception for the first entry in the table that matches the error
+   */
+  public BaseHandlerException map(final String apiName, final String resourceId, final AwsServiceException e) {
+    for (final Rule<?> rule : overrides) {
+      if (rule.type.isInstance(e)) {
+        return rule.apply(apiName, resourceId, e);
+      }
+    }
+    for (final Rule<?> rule : DEFAULT_RULES) {
+      if (rule.type.isInstance(e)) {
+        return rule.apply(apiName, resourceId, e);
+      }
+    }
+    return new CfnGeneralServiceException(apiName, e);
+  }
+
+  long nextDelay(final long previousDelayNanos) {
+    final long base = baseDelay.toNanos();
+    final long upper = Math.max(base, previousDelayNanos * 3);
+    final long delay = base + (long) (random.getAsDouble() * (upper - base));
+    return Math.min(maxDelay.toNanos(), delay);
+  }
+
+  @FunctionalInterface
+  public interface Mapper<E extends AwsServiceException> {
+    BaseHandlerException map(String apiName, String resourceId, E e);
+  }
+
+  private static final class Rule<E extends AwsServiceException> {
+    private final Class<E> type;
+    private final Mapper<? super E> mapper;
+
+    private Rule(final Class<E> type, final Mapper<? super E> mapper) {
+      this.type = type;
+      this.mapper = mapper;
+    }
+
+    private BaseHandlerException apply(final String apiName, final String resourceId, final AwsServiceException e) {
+      return mapper.map(apiName, resourceId, type.cast(e));
+    }
+  }
+
+  public static class Builder {
+    private final List<Rule<?>> overrides = new ArrayList<>();
+    private final Map<Class<? extends AwsServiceException>, Set<String>> retryable = new LinkedHashMap<>();
+    private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+    private Duration baseDelay = DEFAULT_BASE_DELAY;
+    private Duration maxDelay = DEFAULT_MAX_DELAY;
+    private Duration maxTotalDelay = DEFAULT_MAX_TOTAL_DELAY;
+    private ApiRateLimiter.Sleeper sleeper = TimeUnit.NANOSECONDS::sleep;
+    private DoubleSupplier random = () -> ThreadLocalRandom.current().nextDouble();
+
+    private Builder() {
+    }
+
+    private Builder(final ServiceErrors serviceErrors) {
+      this.overrides.addAll(serviceErrors.overrides);
+      this.retryable.putAll(serviceErrors.retryable);
+      this.maxAttempts = serviceErrors.maxAttempts;
+      this.baseDelay = serviceErrors.baseDelay;
+      this.maxDelay = serviceErrors.maxDelay;
+      this.maxTotalDelay = serviceErrors.maxTotalDelay;
+      this.sleeper = serviceErrors.sleeper;
+      this.random = serviceErrors.random;
+    }
+
+    // Checked before the defaults, in the order they are added
+    public <E extends AwsServiceException> Builder map(final Class<E> type, final Mapper<? super E> mapper) {
+      overrides.add(new Rule<>(type, mapper));
+      return this;
+    }
+
+    // Without API names the error is retried for every API
+    public Builder retryOn(final Class<? extends AwsServiceException> type, final String... apiNames) {
+      retryable.put(type, Set.copyOf(Arrays.asList(apiNames)));
+      return this;
+    }
+
+    public Builder maxAttempts(final int maxAttempts) {
+      if (maxAttempts < 1) {
+        throw new IllegalArgumentException("Need at least one attempt, got " + maxAttempts);
+      }
+      this.maxAttempts = maxAttempts;
+      return this;
+    }
+
+    public Builder delays(final Duration baseDelay, final Duration maxDelay, final Duration maxTotalDelay) {
+      this.baseDelay = baseDelay;
+      this.maxDelay = maxDelay;
+      this.maxTotalDelay = maxTotalDelay;
+      return this;
+    }
+
+    // Used for testing
+    Builder sleeper(final ApiRateLimiter.Sleeper sleeper, final DoubleSupplier random) {
+      this.sleeper = sleeper;
+      this.random = random;
+      return this;
+    }
+
+    public ServiceErrors build() {
+      return new ServiceErrors(this);
+    }
+  }
+}
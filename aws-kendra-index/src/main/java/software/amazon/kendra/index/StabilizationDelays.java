@@ -0,0 +1,71 @@
+package software.amazon.kendra.index;
+
+import java.time.Duration;
+
+import software.amazon.awssdk.services.kendra.model.IndexEdition;
+import software.amazon.cloudformation.proxy.Delay;
+
+import static software.amazon.kendra.index.ApiName.CREATE_INDEX;
+import static software.amazon.kendra.index.ApiName.DELETE_INDEX;
+import static software.amazon.kendra.index.ApiName.UPDATE_INDEX;
+
+/**
+ * Picks the stabilization schedule for an index operation and edition, and predicts the next poll from the
+ * status transitions recorded in the callback context when there is one.
+ *
+ * A new delay is handed out per request because the handlers are reused across invocations and the delay
+ * keeps per-request counters.
+ */
+final class StabilizationDelays {
+
+  // Set the timeout to something silly/way too high, because
+  // we already set the timeout in the schema https://github.com/aws-cloudformation/aws-cloudformation-resource-schema
+  static final Duration TIMEOUT = Duration.ofDays(365L);
+
+  // Lives as long as the Lambda container, so it keeps learning from the stabilizations it has seen.
+  static final StabilizationPredictor PREDICTOR = new StabilizationPredictor();
+
+  private StabilizationDelays() {
+  }
+
+  static AdaptiveDelay forIndex(final String operation, final String edition) {
+    final boolean developerEdition = IndexEdition.DEVELOPER_EDITION.toString().equals(edition);
+    switch (operation) {
+      case CREATE_INDEX:
+        // Create takes 15+ minutes for developer and 30/45+ minutes for enterprise edition, the early polls only
+        // catch the index failing fast.
+        return AdaptiveDelay.of()
+            .timeout(TIMEOUT)
+            .earlyPolls(2)
+            .earlyDelay(Duration.ofSeconds(30))
+            .baseDelay(Duration.ofMinutes(1))
+            .maxDelay(developerEdition ? Duration.ofMinutes(1) : Duration.ofMinutes(2))
+            .build();
+      case UPDATE_INDEX:
+        // Most updates (name, description, roles) settle in seconds, capacity changes can take much longer.
+        return AdaptiveDelay.of()
+            .timeout(TIMEOUT)
+            .earlyPolls(3)
+            .earlyDelay(Duration.ofSeconds(10))
+            .baseDelay(Duration.ofSeconds(30))
+            .maxDelay(developerEdition ? Duration.ofMinutes(2) : Duration.ofMinutes(3))
+            .build();
+      case DELETE_INDEX:
+        // Delete can take a few minutes.
+        return AdaptiveDelay.of()
+            .timeout(TIMEOUT)
+            .earlyPolls(2)
+            .earlyDelay(Duration.ofSeconds(15))
+            .baseDelay(Duration.ofSeconds(30))
+            .maxDelay(Duration.ofMinutes(2))
+            .build();
+      default:
+        throw new IllegalArgumentException("No stabilization schedule for " + operation);
+    }
+  }
+
+  static Delay forIndex(final String operation, final ResourceModel model, final CallbackContext callbackContext) {
+    final String edition = model == null ? null : model.getEdition();
+    return new PredictiveDelay(PREDICTOR, callbackContext, edition, forIndex(operation, edition));
+  }
+}
@@ -0,0 +1,66 @@
+package software.amazon.kendra.index;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.collect.ImmutableMap;
+import software.amazon.awssdk.services.kendra.model.IndexEdition;
+import software.amazon.awssdk.services.kendra.model.IndexStatus;
+
+/**
+ * Predicts how long an index stays in a transitional status.
+ *
+ * The prediction starts from a table of typical durations per edition and follows the durations observed by the
+ * container (as an exponentially weighted moving average), so a container that keeps seeing slow creates stops
+ * waking up too early.
+ */
+public class StabilizationPredictor {
+
+  // Status used to record that the index no longer exists.
+  static final String DELETED = "DELETED";
+
+  private static final double OBSERVATION_WEIGHT = 0.3;
+
+  private static final Map<String, Map<String, Duration>> TYPICAL_DURATIONS = ImmutableMap.of(
+      IndexEdition.DEVELOPER_EDITION.toString(), ImmutableMap.of(
+          IndexStatus.CREATING.toString(), Duration.ofMinutes(20),
+          IndexStatus.UPDATING.toString(), Duration.ofMinutes(3),
+          IndexStatus.DELETING.toString(), Duration.ofMinutes(5)),
+      IndexEdition.ENTERPRISE_EDITION.toString(), ImmutableMap.of(
+          IndexStatus.CREATING.toString(), Duration.ofMinutes(35),
+          IndexStatus.UPDATING.toString(), Duration.ofMinutes(10),
+          IndexStatus.DELETING.toString(), Duration.ofMinutes(10)));
+
+  private final Map<String, Long> expectedMillis = new ConcurrentHashMap<>();
+
+  public StabilizationPredictor() {
+    TYPICAL_DURATIONS.forEach((edition, durations) -> durations.forEach(
+        (status, duration) -> expectedMillis.put(key(status, edition), duration.toMillis())));
+  }
+
+  /**
+   * @param status a transitional index status
+   * @param edition the index edition, enterprise edition if not set
+   * @return the expected time the index spends in the status, empty if the status is not transitional
+   */
+  public Optional<Duration> expectedDuration(final String status, final String edition) {
+    return Optional.ofNullable(expectedMillis.get(key(status, edition))).map(Duration::ofMillis);
+  }
+
+  /**
+   * Folds an observed duration into the prediction for the status.
+   */
+  public void observe(final String status, final String edition, final Duration observed) {
+    if (observed.isNegative() || observed.isZero()) {
+      return;
+    }
+    expectedMillis.computeIfPresent(key(status, edition), (key, expected) ->
+        Math.round(expected + OBSERVATION_WEIGHT * (observed.toMillis() - expected)));
+  }
+
+  private static String key(final String status, final String edition) {
+    return status + "/" + Optional.ofNullable(edition).orElse(IndexEdition.ENTERPRISE_EDITION.toString());
+  }
+}
@@ -34,6 +34,9 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static software.amazon.kendra.index.ApiName.CREATE_INDEX;
+import static software.amazon.kendra.index.ApiName.DESCRIBE_INDEX;
+
 /**
  * This class is a centralized placeholder for
  *  - api request construction
@@ -44,6 +47,10 @@ import java.util.stream.Stream;
 public class Translator {
 
   static CreateIndexRequest translateToCreateRequest(final ResourceModel model) {
+    return HandlerEvents.conversion(CREATE_INDEX, model.getId(), () -> createRequest(model));
+  }
+
+  private static CreateIndexRequest createRequest(final ResourceModel model) {
     final CreateIndexRequest.Builder builder = CreateIndexRequest
             .builder()
             .name(model.getName())
@@ -101,6 +108,13 @@ public class Translator {
   static ResourceModel translateFromReadResponse(final DescribeIndexResponse describeIndexResponse,
                                                  final ListTagsForResourceResponse listTagsForResourceResponse,
                                                  String arn) {
+    return HandlerEvents.conversion(DESCRIBE_INDEX, describeIndexResponse.id(),
+            () -> modelFromReadResponse(describeIndexResponse, listTagsForResourceResponse, arn));
+  }
+
+  private static ResourceModel modelFromReadResponse(final DescribeIndexResponse describeIndexResponse,
+                                                     final ListTagsForResourceResponse listTagsForResourceResponse,
+                                                     String arn) {
     // e.g. https://github.com/aws-cloudformation/aws-cloudformation-resource-providers-logs/blob/2077c92299aeb9a68ae8f4418b5e932b12a8b186/aws-logs-loggroup/src/main/java/com/aws/logs/loggroup/Translator.java#L58-L73
     ResourceModel.ResourceModelBuilder builder = ResourceModel.builder()
             .id(describeIndexResponse.id())
@@ -178,6 +192,16 @@ public class Translator {
     return builder.build();
   }
 
+  static UpdateIndexRequest translateToMetadataUpdateRequest(final ResourceModel model) {
+    // Only the properties UpdateIndex applies in place, anything else could send the index through UPDATING.
+    return UpdateIndexRequest
+            .builder()
+            .id(model.getId())
+            .name(model.getName())
+            .description(model.getDescription())
+            .build();
+  }
+
   static CapacityUnitsConfiguration translateToCapacityUnitsConfiguration(
           software.amazon.kendra.index.CapacityUnitsConfiguration modelCapacityUnitsConfiguration,
           String indexEdition) {
@@ -214,6 +238,26 @@ public class Translator {
             .build();
   }
 
+  /**
+   * Whether the post create update changes anything on a freshly created index, i.e. the model has document
+   * metadata configurations or non-default capacity units (which developer edition does not take).
+   */
+  static boolean requiresPostCreateUpdate(final ResourceModel model) {
+    if (model.getDocumentMetadataConfigurations() != null && !model.getDocumentMetadataConfigurations().isEmpty()) {
+      return true;
+    }
+    if (IndexEdition.DEVELOPER_EDITION.toString().equals(model.getEdition())) {
+      return false;
+    }
+    final software.amazon.kendra.index.CapacityUnitsConfiguration capacityUnits = model.getCapacityUnits();
+    return capacityUnits != null
+            && (isPositive(capacityUnits.getStorageCapacityUnits()) || isPositive(capacityUnits.getQueryCapacityUnits()));
+  }
+
+  private static boolean isPositive(final Integer units) {
+    return units != null && units > 0;
+  }
+
   static List<DocumentMetadataConfiguration> translateToSdkDocumentMetadataConfigurationList(
           List<software.amazon.kendra.index.DocumentMetadataConfiguration> curr,
           List<software.amazon.kendra.index.DocumentMetadataConfiguration> prev) throws TranslatorValidationException {
@@ -389,10 +433,11 @@ public class Translator {
     }
   }
 
-  static ListIndicesRequest translateToListRequest(final String nextToken) {
+  static ListIndicesRequest translateToListRequest(final String nextToken, final int maxResults) {
     final ListIndicesRequest listIndicesRequest = ListIndicesRequest
             .builder()
             .nextToken(nextToken)
+            .maxResults(maxResults)
             .build();
     return listIndicesRequest;
   }
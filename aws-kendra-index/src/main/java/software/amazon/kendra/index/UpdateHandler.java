@@ -1,58 +1,42 @@
 package software.amazon.kendra.index;
 
 import com.google.common.collect.Sets;
-import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.kendra.KendraClient;
-import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
-import software.amazon.awssdk.services.kendra.model.ConflictException;
 import software.amazon.awssdk.services.kendra.model.DescribeIndexRequest;
 import software.amazon.awssdk.services.kendra.model.DescribeIndexResponse;
 import software.amazon.awssdk.services.kendra.model.IndexStatus;
 import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
-import software.amazon.awssdk.services.kendra.model.ServiceQuotaExceededException;
 import software.amazon.awssdk.services.kendra.model.TagResourceRequest;
-import software.amazon.awssdk.services.kendra.model.ThrottlingException;
 import software.amazon.awssdk.services.kendra.model.UntagResourceRequest;
 import software.amazon.awssdk.services.kendra.model.UpdateIndexRequest;
 import software.amazon.awssdk.services.kendra.model.UpdateIndexResponse;
-import software.amazon.awssdk.services.kendra.model.ValidationException;
-import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
-import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.exceptions.CfnNotUpdatableException;
-import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
-import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
-import software.amazon.cloudformation.exceptions.CfnThrottlingException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 
-import java.time.Duration;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static software.amazon.kendra.index.ApiName.TAG_RESOURCE;
+import static software.amazon.kendra.index.ApiName.UNTAG_RESOURCE;
 import static software.amazon.kendra.index.ApiName.UPDATE_INDEX;
 
 public class UpdateHandler extends BaseHandlerStd {
 
-    private static final Constant STABILIZATION_DELAY = Constant.of()
-            // Set the timeout to something silly/way too high, because
-            // we already set the timeout in the schema https://github.com/aws-cloudformation/aws-cloudformation-resource-schema
-            .timeout(Duration.ofDays(365L))
-            // Set the delay to two minutes so the stabilization code only calls
-            // DescribeIndex every two minutes - update takes
-            // 30/45+ minutes so there's no need to check the index is active more than every five minutes.
-            .delay(Duration.ofMinutes(5))
-            .build();
+    private final BiFunction<ResourceModel, CallbackContext, Delay> delayProvider;
 
-    private Delay delay;
+    private static final BiFunction<ResourceModel, ProxyClient<KendraClient>, ResourceModel> EMPTY_CALL =
+            (model, proxyClient) -> model;
 
     private Logger logger;
 
@@ -61,13 +45,23 @@ public class UpdateHandler extends BaseHandlerStd {
     public UpdateHandler() {
         super();
         indexArnBuilder = new IndexArn();
-        delay = STABILIZATION_DELAY;
+        delayProvider = (model, context) -> StabilizationDelays.forIndex(UPDATE_INDEX, model, context);
     }
 
     public UpdateHandler(IndexArnBuilder indexArnBuilder, Delay delay) {
         super();
         this.indexArnBuilder = indexArnBuilder;
-        this.delay = delay;
+        this.delayProvider = (model, context) -> delay;
+    }
+
+    @Override
+    protected boolean validatesDesiredState() {
+        return true;
+    }
+
+    @Override
+    protected boolean changesResource() {
+        return true;
     }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -80,29 +74,68 @@ public class UpdateHandler extends BaseHandlerStd {
         this.logger = logger;
 
         final ResourceModel model = request.getDesiredResourceState();
+        final Delay delay = delayProvider.apply(model, callbackContext);
 
         verifyNonUpdatableFields(model, request.getPreviousResourceState());
 
+        final ResourceModelDiff.Change change = ResourceModelDiff.classify(request.getPreviousResourceState(), model);
+        logger.log(String.format("%s [%s] update classified as %s.", ResourceModel.TYPE_NAME, model.getId(), change));
+        final ResponseCache<DescribeIndexResponse> describeIndexResponseCache = new ResponseCache<>();
+
         return ProgressEvent.progress(model, callbackContext)
                 // First validate the resource actually exists per the contract requirements
                 // https://docs.aws.amazon.com/cloudformation-cli/latest/userguide/resource-type-test-contract.html
-                .then(progress ->
+                .then(phase("ValidateResourceExists", progress ->
                         proxy.initiate("AWS-Kendra-Index::ValidateResourceExists", proxyClient, model, callbackContext)
                                 .translateToServiceRequest(resourceModel -> Translator.translateToReadRequest(model))
                                 .makeServiceCall(this::validateResourceExists)
-                                .progress())
-                .then(progress ->
-                        proxy.initiate("AWS-Kendra-Index::Update", proxyClient, model, callbackContext)
-                                .translateToServiceRequest(resourceModel -> translateToUpdateRequest(model, request.getPreviousResourceState()))
-                                .backoffDelay(delay)
-                                .makeServiceCall(this::updateIndex)
-                                .stabilize((updateReq, updateRep, client, resourceModel, ctx) -> isCreatingOrUpdatingStable(
-                                    UPDATE_INDEX, request, proxyClient, resourceModel, logger)
-                                )
-                                .progress()
-                )
-                .then(progress -> updateTags(proxyClient, progress, request))
-                .then(progress -> new ReadHandler(indexArnBuilder).handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                                .done((describeIndexRequest, describeIndexResponse, client, resourceModel, context) -> {
+                                    // Still current if the update turns out to leave the index alone
+                                    describeIndexResponseCache.put(describeIndexResponse);
+                                    return ProgressEvent.progress(resourceModel, context);
+                                })))
+                .then(phase("Update", progress -> {
+                    // Tags are applied separately, so there is nothing for UpdateIndex to do.
+                    if (!requiresIndexUpdate(change)) {
+                        return progress;
+                    }
+                    describeIndexResponseCache.invalidate();
+                    return proxy.initiate("AWS-Kendra-Index::Update", proxyClient, model, callbackContext)
+                            .translateToServiceRequest(resourceModel -> change == ResourceModelDiff.Change.METADATA_ONLY
+                                    ? Translator.translateToMetadataUpdateRequest(model)
+                                    : translateToUpdateRequest(model, request.getPreviousResourceState()))
+                            .makeServiceCall(this::updateIndex)
+                            .progress();
+                }))
+                // Tags don't depend on the index settling, so apply them before the stabilization wait instead of after.
+                .then(phase("Tag", progress -> updateTags(proxyClient, progress, request)))
+                // A metadata only update leaves the index ACTIVE, so the stabilization returns on its first poll. It is
+                // kept in case the index was still settling from an earlier change.
+                .then(phase("PostUpdateStabilize", progress -> requiresIndexUpdate(change)
+                        ? stabilize(request, proxy, proxyClient, progress, delay, describeIndexResponseCache)
+                        : progress))
+                .then(phase("Read", progress -> new ReadHandler(indexArnBuilder, describeIndexResponseCache)
+                        .handleRequest(proxy, request, callbackContext, proxyClient, logger)));
+    }
+
+    private static boolean requiresIndexUpdate(final ResourceModelDiff.Change change) {
+        return change != ResourceModelDiff.Change.NONE && change != ResourceModelDiff.Change.TAGS_ONLY;
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> stabilize(
+            final ResourceHandlerRequest<ResourceModel> resourceHandlerRequest,
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<KendraClient> proxyClient,
+            final ProgressEvent<ResourceModel, CallbackContext> progress,
+            final Delay delay,
+            final ResponseCache<DescribeIndexResponse> describeIndexResponseCache) {
+        return proxy.initiate("AWS-Kendra-Index::PostUpdateStabilize", proxyClient, progress.getResourceModel(), progress.getCallbackContext())
+                .translateToServiceRequest(Function.identity())
+                .backoffDelay(delay)
+                .makeServiceCall(EMPTY_CALL)
+                .stabilize((request, response, proxyInvocation, model, callbackContext) -> isCreatingOrUpdatingStable(
+                    UPDATE_INDEX, resourceHandlerRequest, proxyClient, model, callbackContext, describeIndexResponseCache, logger
+                )).progress();
     }
 
     private DescribeIndexResponse validateResourceExists(DescribeIndexRequest describeIndexRequest, ProxyClient<KendraClient> proxyClient) {
@@ -133,30 +166,9 @@ public class UpdateHandler extends BaseHandlerStd {
     private UpdateIndexResponse updateIndex(
             final UpdateIndexRequest updateIndexRequest,
             final ProxyClient<KendraClient> proxyClient) {
-        UpdateIndexResponse updateIndexResponse;
-        // In this code block we assume the previous DescribeIndex API call validated the resource exists and so doesn't
-        // catch and re-throw here.
-        try {
-            updateIndexResponse = proxyClient.injectCredentialsAndInvokeV2(updateIndexRequest, proxyClient.client()::updateIndex);
-        } catch (ValidationException e) {
-            throw new CfnInvalidRequestException(e.getMessage(), e);
-        } catch (ConflictException e) {
-            throw new CfnResourceConflictException(e);
-        } catch (ServiceQuotaExceededException e) {
-            throw new CfnServiceLimitExceededException(ResourceModel.TYPE_NAME, e.getMessage(), e.getCause());
-        }  catch (AccessDeniedException e) {
-            throw new CfnAccessDeniedException(UPDATE_INDEX, e);
-        } catch (ThrottlingException e) {
-            throw new CfnThrottlingException(UPDATE_INDEX, e);
-        } catch (final AwsServiceException e) {
-            /*
-             * While the handler contract states that the handler must always return a progress event,
-             * you may throw any instance of BaseHandlerException, as the wrapper map it to a progress event.
-             * Each BaseHandlerException maps to a specific error code, and you should map service exceptions as closely as possible
-             * to more specific error codes
-             */
-            throw new CfnGeneralServiceException(UPDATE_INDEX, e);
-        }
+        // In this code block we assume the previous DescribeIndex API call validated the resource exists.
+        final UpdateIndexResponse updateIndexResponse = serviceErrors.call(UPDATE_INDEX, updateIndexRequest.id(), () ->
+                proxyClient.injectCredentialsAndInvokeV2(updateIndexRequest, proxyClient.client()::updateIndex));
 
         logger.log(String.format("%s has successfully been updated.", ResourceModel.TYPE_NAME));
         return updateIndexResponse;
@@ -168,6 +180,10 @@ public class UpdateHandler extends BaseHandlerStd {
             ResourceHandlerRequest<ResourceModel> request) {
         CallbackContext callbackContext = progress.getCallbackContext();
         ResourceModel currResourceModel = request.getDesiredResourceState();
+        // The chain is replayed when the handler is re-invoked during stabilization
+        if (callbackContext.isTagsUpdated()) {
+            return ProgressEvent.progress(currResourceModel, callbackContext);
+        }
         ResourceModel prevResourceModel = request.getPreviousResourceState();
         Set<Tag> currentTags;
         if (currResourceModel.getTags() != null) {
@@ -184,22 +200,17 @@ public class UpdateHandler extends BaseHandlerStd {
         final Set<Tag> tagsToAdd = Sets.difference(currentTags, existingTags);
         if (!tagsToAdd.isEmpty()) {
             TagResourceRequest tagResourceRequest = Translator.translateToTagResourceRequest(tagsToAdd, arn);
-            try {
-                proxyClient.injectCredentialsAndInvokeV2(tagResourceRequest, proxyClient.client()::tagResource);
-            } catch (ValidationException e) {
-                throw new CfnInvalidRequestException(e.getMessage(), e);
-            }
+            serviceErrors.call(TAG_RESOURCE, arn, () ->
+                    proxyClient.injectCredentialsAndInvokeV2(tagResourceRequest, proxyClient.client()::tagResource));
         }
 
         final Set<Tag> tagsToRemove = Sets.difference(existingTags, currentTags);
         if (!tagsToRemove.isEmpty()) {
             UntagResourceRequest untagResourceRequest = Translator.translateToUntagResourceRequest(tagsToRemove, arn);
-            try {
-                proxyClient.injectCredentialsAndInvokeV2(untagResourceRequest, proxyClient.client()::untagResource);
-            } catch (ValidationException e) {
-                throw new CfnInvalidRequestException(e.getMessage(), e);
-            }
+            serviceErrors.call(UNTAG_RESOURCE, arn, () ->
+                    proxyClient.injectCredentialsAndInvokeV2(untagResourceRequest, proxyClient.client()::untagResource));
         }
+        callbackContext.setTagsUpdated(true);
         return ProgressEvent.progress(currResourceModel, callbackContext);
     }
 
@@ -5,6 +5,7 @@ import java.util.function.Function;
 
 import software.amazon.awssdk.awscore.AwsRequest;
 import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.pagination.sync.SdkIterable;
@@ -22,6 +23,16 @@ public class AbstractTestBase {
     MOCK_CREDENTIALS = new Credentials("accessKey", "secretKey", "token");
     logger = new LoggerProxy();
   }
+
+  // The handlers' retry settings, without sleeping between attempts
+  static final ServiceErrors SERVICE_ERRORS = ClientBuilder.SERVICE_ERRORS.toBuilder()
+    .sleeper(nanos -> { }, () -> 0.5)
+    .build();
+
+  static int attempts(final String apiName, final AwsServiceException e) {
+    return SERVICE_ERRORS.isRetryable(apiName, e) ? ServiceErrors.DEFAULT_MAX_ATTEMPTS : 1;
+  }
+
   static ProxyClient<KendraClient> MOCK_PROXY(
     final AmazonWebServicesClientProxy proxy,
     final KendraClient sdkClient) {
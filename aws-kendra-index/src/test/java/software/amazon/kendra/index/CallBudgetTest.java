@@ -0,0 +1,181 @@
+package software.amazon.kendra.index;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.model.CreateIndexRequest;
+import software.amazon.awssdk.services.kendra.model.IndexEdition;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Holds every handler operation to the calls {@link CallBudget} declares for it, running the real handlers against
+ * {@link FakeKendraClient}. Status transitions complete at once, so the counts don't depend on how long a
+ * stabilization takes.
+ */
+public class CallBudgetTest extends AbstractTestBase {
+
+    private final TestIndexArnBuilder testIndexArnBuilder = new TestIndexArnBuilder();
+    private final Delay testDelay = Constant.of().timeout(Duration.ofMinutes(1)).delay(Duration.ofMillis(1L)).build();
+    private final CallBudget budget = CallBudget.load();
+
+    private FakeKendraClient kendra;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<KendraClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        kendra = FakeKendraClient.builder()
+            .clock(FakeClock.manual())
+            .transitionTimes(Duration.ZERO, Duration.ZERO, Duration.ZERO)
+            .build();
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = MOCK_PROXY(proxy, kendra);
+    }
+
+    @Test
+    public void testCreate() {
+        budget.assertWithin("Create", proxyClient, client ->
+            assertThat(run(new CreateHandler(testIndexArnBuilder, testDelay), request(model(), null), client).getId())
+                .isNotNull());
+    }
+
+    @Test
+    public void testRead() {
+        final ResourceModel created = create();
+
+        budget.assertWithin("Read", proxyClient, client ->
+            assertThat(run(new ReadHandler(testIndexArnBuilder), request(created, null), client)).isEqualTo(created));
+    }
+
+    @Test
+    public void testUpdate() {
+        final ResourceModel created = create();
+        final ResourceModel desired = read(created);
+        desired.setDescription("updated");
+
+        budget.assertWithin("Update", proxyClient, client ->
+            assertThat(run(new UpdateHandler(testIndexArnBuilder, testDelay), request(desired, created), client)
+                .getDescription()).isEqualTo("updated"));
+    }
+
+    @Test
+    public void testUpdateTags() {
+        final ResourceModel created = create();
+        final ResourceModel desired = read(created);
+        desired.setTags(Collections.singletonList(Tag.builder().key("key").value("value").build()));
+
+        budget.assertWithin("UpdateTags", proxyClient, client ->
+            assertThat(run(new UpdateHandler(testIndexArnBuilder, testDelay), request(desired, created), client)
+                .getTags()).hasSize(1));
+    }
+
+    @Test
+    public void testDelete() {
+        final ResourceModel created = create();
+
+        budget.assertWithin("Delete", proxyClient, client ->
+            assertThat(run(new DeleteHandler(testDelay), request(created, null), client)).isNull());
+    }
+
+    @Test
+    public void testList() {
+        createIndices(3);
+
+        budget.assertWithin("List", proxyClient, client -> assertThat(list(false, client)).hasSize(3));
+    }
+
+    @Test
+    public void testHydratedList() {
+        createIndices(3);
+
+        budget.assertWithin("HydratedList", proxyClient, client -> assertThat(list(true, client))
+            .allSatisfy(model -> assertThat(model.getRoleArn()).isEqualTo("roleArn")));
+    }
+
+    @Test
+    public void testGoingOverTheBudgetFailsWithTheCalls() {
+        final ResourceModel created = create();
+
+        assertThatThrownBy(() -> budget.assertWithin("Read", proxyClient, client -> {
+            run(new ReadHandler(testIndexArnBuilder), request(created, null), client);
+            run(new ReadHandler(testIndexArnBuilder), request(created, null), client);
+        }))
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("Read made other calls than its budget in " + CallBudget.BUDGETS + " declares")
+            .hasMessageContaining("+ " + ApiName.DESCRIBE_INDEX)
+            .hasMessageContaining("2 calls, budget 1");
+    }
+
+    @Test
+    public void testFallingShortOfTheBudgetFailsWithTheCalls() {
+        assertThatThrownBy(() -> budget.assertWithin("Read", proxyClient, client -> { }))
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("- " + ApiName.DESCRIBE_INDEX)
+            .hasMessageContaining("0 calls, budget 1");
+    }
+
+    private ResourceModel create() {
+        return run(new CreateHandler(testIndexArnBuilder, testDelay), request(model(), null), proxyClient);
+    }
+
+    private ResourceModel read(final ResourceModel model) {
+        return run(new ReadHandler(testIndexArnBuilder), request(model, null), proxyClient);
+    }
+
+    private void createIndices(final int count) {
+        for (int i = 0; i < count; i++) {
+            kendra.createIndex(CreateIndexRequest.builder().name("index" + i).roleArn("roleArn").build());
+        }
+    }
+
+    // Not from the environment, so the budget holds wherever the tests run
+    private List<ResourceModel> list(final boolean hydrate, final ProxyClient<KendraClient> client) {
+        final ListHandler handler =
+            new ListHandler(hydrate, testIndexArnBuilder, new ListPages<>(false), ListPages.MAX_PAGE_SIZE);
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy, request(ResourceModel.builder().build(), null), new CallbackContext(), client, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        return response.getResourceModels();
+    }
+
+    private ResourceModel run(
+            final BaseHandlerStd handler,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final ProxyClient<KendraClient> client) {
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, request, new CallbackContext(), client, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        return response.getResourceModel();
+    }
+
+    private static ResourceModel model() {
+        return ResourceModel.builder()
+            .name("name")
+            .roleArn("roleArn")
+            .edition(IndexEdition.DEVELOPER_EDITION.toString())
+            .description("description")
+            .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(desired)
+            .previousResourceState(previous)
+            .build();
+    }
+}
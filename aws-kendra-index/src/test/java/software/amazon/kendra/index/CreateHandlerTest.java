@@ -123,8 +123,6 @@ public class CreateHandlerTest extends AbstractTestBase {
                         .build());
         when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
                 .thenReturn(ListTagsForResourceResponse.builder().build());
-        when(proxyClient.client().updateIndex(any(UpdateIndexRequest.class)))
-                .thenReturn(UpdateIndexResponse.builder().build());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -146,9 +144,9 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).createIndex(any(CreateIndexRequest.class));
-        verify(proxyClient.client(), times(3)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(1)).describeIndex(any(DescribeIndexRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
-        verify(proxyClient.client(), times(1)).updateIndex(any(UpdateIndexRequest.class));
+        verify(proxyClient.client(), times(0)).updateIndex(any(UpdateIndexRequest.class));
     }
 
     @Test
@@ -190,8 +188,6 @@ public class CreateHandlerTest extends AbstractTestBase {
                                 .build());
         when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
                 .thenReturn(ListTagsForResourceResponse.builder().build());
-        when(proxyClient.client().updateIndex(any(UpdateIndexRequest.class)))
-                .thenReturn(UpdateIndexResponse.builder().build());
 
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
@@ -213,7 +209,71 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).createIndex(any(CreateIndexRequest.class));
-        verify(proxyClient.client(), times(4)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(2)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(proxyClient.client(), times(0)).updateIndex(any(UpdateIndexRequest.class));
+    }
+
+    @Test
+    public void handleRequest_SimpleSuccessWithPostCreateUpdate() {
+        final CreateHandler handler = new CreateHandler(testIndexArnBuilder, testDelay);
+
+        String name = "testName";
+        String roleArn = "testRoleArn";
+        String indexEdition = IndexEdition.ENTERPRISE_EDITION.toString();
+        CapacityUnitsConfiguration capacityUnits = CapacityUnitsConfiguration.builder()
+                .storageCapacityUnits(1)
+                .queryCapacityUnits(2)
+                .build();
+        final ResourceModel model = ResourceModel
+                .builder()
+                .name(name)
+                .roleArn(roleArn)
+                .edition(indexEdition)
+                .capacityUnits(capacityUnits)
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        String id = "testId";
+        when(proxyClient.client().createIndex(any(CreateIndexRequest.class)))
+                .thenReturn(CreateIndexResponse.builder().id(id).build());
+        when(proxyClient.client().describeIndex(any(DescribeIndexRequest.class)))
+                .thenReturn(DescribeIndexResponse.builder()
+                        .id(id)
+                        .name(name)
+                        .roleArn(roleArn)
+                        .edition(indexEdition)
+                        .capacityUnits(software.amazon.awssdk.services.kendra.model.CapacityUnitsConfiguration.builder()
+                                .storageCapacityUnits(1)
+                                .queryCapacityUnits(2)
+                                .build())
+                        .status(IndexStatus.ACTIVE.toString())
+                        .build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+        when(proxyClient.client().updateIndex(any(UpdateIndexRequest.class)))
+                .thenReturn(UpdateIndexResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        ResourceModel expectedResourceModel = ResourceModel
+                .builder()
+                .id(id)
+                .arn(testIndexArnBuilder.build(request))
+                .name(name)
+                .roleArn(roleArn)
+                .edition(indexEdition)
+                .capacityUnits(capacityUnits)
+                .build();
+        assertThat(response.getResourceModel()).isEqualTo(expectedResourceModel);
+
+        verify(proxyClient.client(), times(1)).createIndex(any(CreateIndexRequest.class));
+        verify(proxyClient.client(), times(2)).describeIndex(any(DescribeIndexRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
         verify(proxyClient.client(), times(1)).updateIndex(any(UpdateIndexRequest.class));
     }
@@ -230,6 +290,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     public void testThatItThrowsExpectedError(AwsServiceException kendraError, Class<? extends RuntimeException> cfnError) {
         // set up test scenario
         final CreateHandler handler = new CreateHandler(testIndexArnBuilder, testDelay);
+        handler.serviceErrors = SERVICE_ERRORS;
 
         String name = "testName";
         String roleArn = "testRoleArn";
@@ -251,7 +312,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
             .isInstanceOf(cfnError);
 
-        verify(proxyClient.client(), times(1)).createIndex(any(CreateIndexRequest.class));
+        verify(proxyClient.client(), times(attempts(ApiName.CREATE_INDEX, kendraError))).createIndex(any(CreateIndexRequest.class));
         verify(proxyClient.client(), times(0)).describeIndex(any(DescribeIndexRequest.class));
         verify(proxyClient.client(), times(0)).listTagsForResource(any(ListTagsForResourceRequest.class));
         verify(proxyClient.client(), times(0)).updateIndex(any(UpdateIndexRequest.class));
@@ -436,8 +497,6 @@ public class CreateHandlerTest extends AbstractTestBase {
                         .tags(Arrays.asList(software.amazon.awssdk.services.kendra.model.Tag
                                 .builder().key(key).value(value).build()))
                         .build());
-        when(proxyClient.client().updateIndex(any(UpdateIndexRequest.class)))
-                .thenReturn(UpdateIndexResponse.builder().build());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -459,9 +518,9 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).createIndex(any(CreateIndexRequest.class));
-        verify(proxyClient.client(), times(3)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(1)).describeIndex(any(DescribeIndexRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
-        verify(proxyClient.client(), times(1)).updateIndex(any(UpdateIndexRequest.class));
+        verify(proxyClient.client(), times(0)).updateIndex(any(UpdateIndexRequest.class));
     }
 
     @Test
@@ -507,8 +566,6 @@ public class CreateHandlerTest extends AbstractTestBase {
                         .build());
         when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
                 .thenReturn(ListTagsForResourceResponse.builder().build());
-        when(proxyClient.client().updateIndex(any(UpdateIndexRequest.class)))
-                .thenReturn(UpdateIndexResponse.builder().build());
 
         final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -531,9 +588,9 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).createIndex(any(CreateIndexRequest.class));
-        verify(proxyClient.client(), times(3)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(1)).describeIndex(any(DescribeIndexRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
-        verify(proxyClient.client(), times(1)).updateIndex(any(UpdateIndexRequest.class));
+        verify(proxyClient.client(), times(0)).updateIndex(any(UpdateIndexRequest.class));
     }
 
     private static Stream<Arguments> postCreateUpdateIndexArgs() {
@@ -548,6 +605,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     @MethodSource("postCreateUpdateIndexArgs")
     public void testItThrowsExpectedErrorInPostCreate(KendraException kendraError, Class<? extends RuntimeException> cfnError) {
         final CreateHandler handler = new CreateHandler(testIndexArnBuilder, testDelay);
+        handler.serviceErrors = SERVICE_ERRORS;
 
         String roleArn = "testRoleArn";
         String indexEdition = IndexEdition.ENTERPRISE_EDITION.toString();
@@ -555,6 +613,10 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .builder()
                 .roleArn(roleArn)
                 .edition(indexEdition)
+                .capacityUnits(CapacityUnitsConfiguration.builder()
+                        .storageCapacityUnits(1)
+                        .queryCapacityUnits(1)
+                        .build())
                 .build();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -579,7 +641,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).createIndex(any(CreateIndexRequest.class));
         verify(proxyClient.client(), times(1)).describeIndex(any(DescribeIndexRequest.class));
         verify(proxyClient.client(), times(0)).listTagsForResource(any(ListTagsForResourceRequest.class));
-        verify(proxyClient.client(), times(1)).updateIndex(any(UpdateIndexRequest.class));
+        verify(proxyClient.client(), times(attempts(ApiName.UPDATE_INDEX, kendraError))).updateIndex(any(UpdateIndexRequest.class));
     }
 
     @Test
@@ -633,6 +695,10 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .builder()
                 .roleArn(roleArn)
                 .edition(indexEdition)
+                .capacityUnits(CapacityUnitsConfiguration.builder()
+                        .storageCapacityUnits(1)
+                        .queryCapacityUnits(1)
+                        .build())
                 .build();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -690,6 +756,10 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .builder()
                 .roleArn(roleArn)
                 .edition(indexEdition)
+                .capacityUnits(CapacityUnitsConfiguration.builder()
+                        .storageCapacityUnits(1)
+                        .queryCapacityUnits(1)
+                        .build())
                 .build();
 
         final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
@@ -176,6 +176,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
     @MethodSource("kendraUpdateIndexExceptionTestArgs")
     public void handleRequest_FailWith_ConflictException(AwsServiceException kendraException, Class<? extends RuntimeException> cfnError) {
         final DeleteHandler handler = new DeleteHandler(testDelay);
+        handler.serviceErrors = SERVICE_ERRORS;
 
         when(proxyClient.client().describeIndex(any(DescribeIndexRequest.class)))
                .thenReturn(DescribeIndexResponse.builder().build());
@@ -198,6 +199,6 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .isInstanceOf(cfnError);
 
         verify(proxyClient.client(), times(1)).describeIndex(any(DescribeIndexRequest.class));
-        verify(proxyClient.client(), times(1)).deleteIndex(any(DeleteIndexRequest.class));
+        verify(proxyClient.client(), times(attempts(ApiName.DELETE_INDEX, kendraException))).deleteIndex(any(DeleteIndexRequest.class));
     }
 }
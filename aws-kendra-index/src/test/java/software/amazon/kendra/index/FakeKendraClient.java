@@ -0,0 +1,445 @@
+package software.amazon.kendra.index;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.model.ConflictException;
+import software.amazon.awssdk.services.kendra.model.CreateIndexRequest;
+import software.amazon.awssdk.services.kendra.model.CreateIndexResponse;
+import software.amazon.awssdk.services.kendra.model.DeleteIndexRequest;
+import software.amazon.awssdk.services.kendra.model.DeleteIndexResponse;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexRequest;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexResponse;
+import software.amazon.awssdk.services.kendra.model.IndexConfigurationSummary;
+import software.amazon.awssdk.services.kendra.model.IndexEdition;
+import software.amazon.awssdk.services.kendra.model.IndexStatus;
+import software.amazon.awssdk.services.kendra.model.ListIndicesRequest;
+import software.amazon.awssdk.services.kendra.model.ListIndicesResponse;
+import software.amazon.awssdk.services.kendra.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.kendra.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.kendra.model.Tag;
+import software.amazon.awssdk.services.kendra.model.TagResourceRequest;
+import software.amazon.awssdk.services.kendra.model.TagResourceResponse;
+import software.amazon.awssdk.services.kendra.model.ThrottlingException;
+import software.amazon.awssdk.services.kendra.model.UntagResourceRequest;
+import software.amazon.awssdk.services.kendra.model.UntagResourceResponse;
+import software.amazon.awssdk.services.kendra.model.UpdateIndexRequest;
+import software.amazon.awssdk.services.kendra.model.UpdateIndexResponse;
+import software.amazon.awssdk.services.kendra.model.ValidationException;
+
+/**
+ * An in-memory stand-in for the Kendra control plane, so the handlers can run end to end without an account.
+ *
+ * Indices move through the statuses Kendra reports: CREATING then ACTIVE (or FAILED), UPDATING then ACTIVE, and
+ * DELETING until they are gone. Each transition takes a configured time on a {@link FakeClock}, which tests can
+ * speed up or drive by hand. Changing an index that is still in a transition fails with a conflict, like it does
+ * against Kendra. Every call can be slowed down by a fixed latency and throttled, and the calls are counted per
+ * API, using the {@link ApiName} spelling, so tests can assert what a handler change costs.
+ */
+public class FakeKendraClient implements KendraClient {
+
+    static final Duration DEFAULT_CREATE_TIME = Duration.ofMinutes(10);
+    static final Duration DEFAULT_UPDATE_TIME = Duration.ofMinutes(2);
+    static final Duration DEFAULT_DELETE_TIME = Duration.ofMinutes(5);
+    static final int DEFAULT_PAGE_SIZE = 10;
+
+    private final FakeClock clock;
+    private final Duration createTime;
+    private final Duration updateTime;
+    private final Duration deleteTime;
+    private final Duration latency;
+    private final double throttleRate;
+    private final Random random;
+    private final int pageSize;
+
+    // Sorted by ID so that pages stay stable while indices come and go
+    private final NavigableMap<String, Resource<DescribeIndexResponse>> indices = new TreeMap<>();
+    private final Map<String, AtomicInteger> calls = new ConcurrentHashMap<>();
+    private final AtomicInteger throttled = new AtomicInteger();
+    private final Map<String, Integer> throttleNext = new HashMap<>();
+    private String failNextCreate;
+
+    private FakeKendraClient(final Builder builder) {
+        this.clock = builder.clock;
+        this.createTime = builder.createTime;
+        this.updateTime = builder.updateTime;
+        this.deleteTime = builder.deleteTime;
+        this.latency = builder.latency;
+        this.throttleRate = builder.throttleRate;
+        this.random = new Random(builder.seed);
+        this.pageSize = builder.pageSize;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public FakeClock clock() {
+        return clock;
+    }
+
+    // Throttles the next calls to the API, on top of the random throttling
+    public synchronized void throttleNext(final String apiName, final int times) {
+        throttleNext.put(apiName, times);
+    }
+
+    // The next index created ends up FAILED with the message instead of ACTIVE
+    public synchronized void failNextCreate(final String errorMessage) {
+        failNextCreate = errorMessage;
+    }
+
+    public int calls(final String apiName) {
+        final AtomicInteger count = calls.get(apiName);
+        return count == null ? 0 : count.get();
+    }
+
+    public Map<String, Integer> calls() {
+        return calls.entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().get(), (a, b) -> a, TreeMap::new));
+    }
+
+    public int totalCalls() {
+        return calls.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    public int throttled() {
+        return throttled.get();
+    }
+
+    public void resetCalls() {
+        calls.clear();
+        throttled.set(0);
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public CreateIndexResponse createIndex(final CreateIndexRequest request) {
+        return call(request, () -> {
+            if (request.name() == null || request.roleArn() == null) {
+                throw ValidationException.builder().message("Name and RoleArn are required").build();
+            }
+            final String id = UUID.randomUUID().toString();
+            final Resource<DescribeIndexResponse> index = new Resource<>(DescribeIndexResponse.builder()
+                .id(id)
+                .name(request.name())
+                .edition(request.edition() == null ? IndexEdition.ENTERPRISE_EDITION.toString() : request.editionAsString())
+                .roleArn(request.roleArn())
+                .description(request.description())
+                .serverSideEncryptionConfiguration(request.serverSideEncryptionConfiguration())
+                .userTokenConfigurations(request.userTokenConfigurations())
+                .userContextPolicy(request.userContextPolicyAsString())
+                .createdAt(clock.instant())
+                .updatedAt(clock.instant())
+                .build());
+            request.tags().forEach(tag -> index.tags.put(tag.key(), tag.value()));
+            final String status = failNextCreate == null ? IndexStatus.ACTIVE.toString() : IndexStatus.FAILED.toString();
+            index.errorMessage = failNextCreate;
+            failNextCreate = null;
+            index.transition(clock.nanos(), IndexStatus.CREATING.toString(), createTime, status);
+            indices.put(id, index);
+            return CreateIndexResponse.builder().id(id).build();
+        });
+    }
+
+    @Override
+    public DescribeIndexResponse describeIndex(final DescribeIndexRequest request) {
+        return call(request, () -> {
+            final Resource<DescribeIndexResponse> index = live(indices, request.id());
+            return index.state.toBuilder()
+                .status(index.status(clock.nanos()))
+                .errorMessage(index.errorMessage)
+                .build();
+        });
+    }
+
+    @Override
+    public UpdateIndexResponse updateIndex(final UpdateIndexRequest request) {
+        return call(request, () -> {
+            final Resource<DescribeIndexResponse> index = live(indices, request.id());
+            requireActive(index, request.id());
+            final DescribeIndexResponse.Builder state = index.state.toBuilder().updatedAt(clock.instant());
+            if (request.name() != null) {
+                state.name(request.name());
+            }
+            if (request.description() != null) {
+                state.description(request.description());
+            }
+            // Kendra applies the name and description in place, anything else sends the index through UPDATING
+            boolean inPlace = true;
+            if (request.roleArn() != null) {
+                state.roleArn(request.roleArn());
+                inPlace = false;
+            }
+            if (request.hasDocumentMetadataConfigurationUpdates()) {
+                state.documentMetadataConfigurations(request.documentMetadataConfigurationUpdates());
+                inPlace = false;
+            }
+            if (request.capacityUnits() != null) {
+                state.capacityUnits(request.capacityUnits());
+                inPlace = false;
+            }
+            if (request.hasUserTokenConfigurations()) {
+                state.userTokenConfigurations(request.userTokenConfigurations());
+                inPlace = false;
+            }
+            if (request.userContextPolicy() != null) {
+                state.userContextPolicy(request.userContextPolicyAsString());
+                inPlace = false;
+            }
+            index.state = state.build();
+            if (!inPlace) {
+                index.transition(clock.nanos(), IndexStatus.UPDATING.toString(), updateTime, IndexStatus.ACTIVE.toString());
+            }
+            return UpdateIndexResponse.builder().build();
+        });
+    }
+
+    @Override
+    public DeleteIndexResponse deleteIndex(final DeleteIndexRequest request) {
+        return call(request, () -> {
+            final Resource<DescribeIndexResponse> index = live(indices, request.id());
+            final String status = index.status(clock.nanos());
+            if (!IndexStatus.ACTIVE.toString().equals(status) && !IndexStatus.FAILED.toString().equals(status)) {
+                throw conflict(request.id(), status);
+            }
+            index.transition(clock.nanos(), IndexStatus.DELETING.toString(), deleteTime, null);
+            return DeleteIndexResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListIndicesResponse listIndices(final ListIndicesRequest request) {
+        return call(request, () -> {
+            final List<IndexConfigurationSummary> summaries = new ArrayList<>();
+            for (final String id : new ArrayList<>(indices.keySet())) {
+                final Resource<DescribeIndexResponse> index = indices.get(id);
+                final String status = index.status(clock.nanos());
+                if (status == null) {
+                    indices.remove(id);
+                    continue;
+                }
+                summaries.add(IndexConfigurationSummary.builder()
+                    .id(id)
+                    .name(index.state.name())
+                    .edition(index.state.editionAsString())
+                    .createdAt(index.state.createdAt())
+                    .updatedAt(index.state.updatedAt())
+                    .status(status)
+                    .build());
+            }
+            final Page<IndexConfigurationSummary> page = page(summaries, request.nextToken(), request.maxResults());
+            return ListIndicesResponse.builder()
+                .indexConfigurationSummaryItems(page.items)
+                .nextToken(page.nextToken)
+                .build();
+        });
+    }
+
+    @Override
+    public TagResourceResponse tagResource(final TagResourceRequest request) {
+        return call(request, () -> {
+            final Resource<?> resource = tagged(request.resourceARN());
+            request.tags().forEach(tag -> resource.tags.put(tag.key(), tag.value()));
+            return TagResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        return call(request, () -> {
+            final Resource<?> resource = tagged(request.resourceARN());
+            request.tagKeys().forEach(resource.tags::remove);
+            return UntagResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public ListTagsForResourceResponse listTagsForResource(final ListTagsForResourceRequest request) {
+        return call(request, () -> ListTagsForResourceResponse.builder()
+            .tags(tagged(request.resourceARN()).tags.entrySet().stream()
+                .map(tag -> Tag.builder().key(tag.getKey()).value(tag.getValue()).build())
+                .collect(Collectors.toList()))
+            .build());
+    }
+
+    /**
+     * Counts the call, waits out the latency and decides whether to throttle it before running the operation.
+     * Operations run one at a time, the latency doesn't hold up other callers.
+     */
+    private <T> T call(final AwsRequest request, final Supplier<T> operation) {
+        final String apiName = RateLimitedProxyClient.apiName(request);
+        calls.computeIfAbsent(apiName, name -> new AtomicInteger()).incrementAndGet();
+        if (!latency.isZero()) {
+            clock.sleep(latency);
+        }
+        synchronized (this) {
+            if (shouldThrottle(apiName)) {
+                throttled.incrementAndGet();
+                throw ThrottlingException.builder().message("Rate exceeded for " + apiName).build();
+            }
+            return operation.get();
+        }
+    }
+
+    private boolean shouldThrottle(final String apiName) {
+        final int remaining = throttleNext.getOrDefault(apiName, 0);
+        if (remaining > 0) {
+            throttleNext.put(apiName, remaining - 1);
+            return true;
+        }
+        return throttleRate > 0 && random.nextDouble() < throttleRate;
+    }
+
+    // Forgets the resource once it is gone
+    private <T> Resource<T> live(final Map<String, Resource<T>> resources, final String id) {
+        final Resource<T> resource = id == null ? null : resources.get(id);
+        if (resource != null && resource.status(clock.nanos()) != null) {
+            return resource;
+        }
+        if (resource != null) {
+            resources.remove(id);
+        }
+        throw ResourceNotFoundException.builder().message("Resource " + id + " doesn't exist").build();
+    }
+
+    // The ID is the last part of the ARN
+    private Resource<?> tagged(final String arn) {
+        if (arn == null) {
+            throw ValidationException.builder().message("ResourceARN is required").build();
+        }
+        return live(indices, arn.substring(arn.lastIndexOf('/') + 1));
+    }
+
+    private void requireActive(final Resource<?> resource, final String id) {
+        final String status = resource.status(clock.nanos());
+        if (!IndexStatus.ACTIVE.toString().equals(status)) {
+            throw conflict(id, status);
+        }
+    }
+
+    private static ConflictException conflict(final String id, final String status) {
+        return ConflictException.builder().message("Resource " + id + " is " + status).build();
+    }
+
+    private <T> Page<T> page(final List<T> items, final String nextToken, final Integer maxResults) {
+        final int from;
+        try {
+            from = nextToken == null ? 0 : Integer.parseInt(nextToken);
+        } catch (NumberFormatException e) {
+            throw ValidationException.builder().message("Invalid NextToken " + nextToken).build();
+        }
+        final int to = Math.min(items.size(), from + (maxResults == null ? pageSize : maxResults));
+        return new Page<>(new ArrayList<>(items.subList(Math.min(from, to), to)),
+            to < items.size() ? String.valueOf(to) : null);
+    }
+
+    private static final class Page<T> {
+        private final List<T> items;
+        private final String nextToken;
+
+        private Page(final List<T> items, final String nextToken) {
+            this.items = Collections.unmodifiableList(items);
+            this.nextToken = nextToken;
+        }
+    }
+
+    private static final class Resource<T> {
+        // Status changes keyed by the virtual time they take effect, a null status means the resource is gone
+        private final NavigableMap<Long, String> transitions = new TreeMap<>();
+        private final Map<String, String> tags = new LinkedHashMap<>();
+        private T state;
+        private String errorMessage;
+
+        private Resource(final T state) {
+            this.state = state;
+        }
+
+        private String status(final long nowNanos) {
+            final Map.Entry<Long, String> transition = transitions.floorEntry(nowNanos);
+            return transition == null ? null : transition.getValue();
+        }
+
+        // Replaces whatever was still to come, so the latest change wins
+        private void transition(final long nowNanos, final String during, final Duration takes, final String after) {
+            transitions.tailMap(nowNanos, true).clear();
+            transitions.put(nowNanos, during);
+            transitions.put(nowNanos + takes.toNanos(), after);
+        }
+    }
+
+    public static class Builder {
+        private FakeClock clock = FakeClock.scaled(1000);
+        private Duration createTime = DEFAULT_CREATE_TIME;
+        private Duration updateTime = DEFAULT_UPDATE_TIME;
+        private Duration deleteTime = DEFAULT_DELETE_TIME;
+        private Duration latency = Duration.ZERO;
+        private double throttleRate;
+        private long seed;
+        private int pageSize = DEFAULT_PAGE_SIZE;
+
+        private Builder() {
+        }
+
+        public Builder clock(final FakeClock clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        // How long each status transition takes on the clock
+        public Builder transitionTimes(final Duration createTime, final Duration updateTime, final Duration deleteTime) {
+            this.createTime = createTime;
+            this.updateTime = updateTime;
+            this.deleteTime = deleteTime;
+            return this;
+        }
+
+        public Builder latency(final Duration latency) {
+            this.latency = latency;
+            return this;
+        }
+
+        // Share of the calls that are throttled, drawn from a seeded random so runs repeat
+        public Builder throttleRate(final double throttleRate, final long seed) {
+            if (throttleRate < 0 || throttleRate > 1) {
+                throw new IllegalArgumentException("Throttle rate has to be between 0 and 1, got " + throttleRate);
+            }
+            this.throttleRate = throttleRate;
+            this.seed = seed;
+            return this;
+        }
+
+        // Used when a list request doesn't set MaxResults
+        public Builder pageSize(final int pageSize) {
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        public FakeKendraClient build() {
+            return new FakeKendraClient(this);
+        }
+    }
+}
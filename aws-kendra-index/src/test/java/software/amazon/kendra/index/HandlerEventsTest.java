@@ -0,0 +1,153 @@
+package software.amazon.kendra.index;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexResponse;
+import software.amazon.awssdk.services.kendra.model.IndexEdition;
+import software.amazon.awssdk.services.kendra.model.IndexStatus;
+import software.amazon.awssdk.services.kendra.model.ThrottlingException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HandlerEventsTest extends AbstractTestBase {
+
+    private static final List<String> EVENTS = List.of(
+        HandlerEvents.KendraApiCall.NAME,
+        HandlerEvents.StabilizationPoll.NAME,
+        HandlerEvents.TranslatorConversion.NAME,
+        HandlerEvents.HandlerPhase.NAME);
+
+    private static final Delay DELAY =
+        Constant.of().timeout(Duration.ofMinutes(1)).delay(Duration.ofMillis(1L)).build();
+
+    @Test
+    public void testApiCallsAreRecorded() throws IOException {
+        final List<RecordedEvent> events = record(true, () -> {
+            assertThat(HandlerEvents.apiCall(ApiName.DESCRIBE_INDEX, "id", () -> "response")).isEqualTo("response");
+            assertThatThrownBy(() -> HandlerEvents.apiCall(ApiName.DESCRIBE_INDEX, "id", () -> {
+                throw ThrottlingException.builder().build();
+            })).isInstanceOf(ThrottlingException.class);
+        });
+
+        assertThat(events).hasSize(2);
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.getEventType().getName()).isEqualTo(HandlerEvents.KendraApiCall.NAME);
+            assertThat(event.getString("apiName")).isEqualTo(ApiName.DESCRIBE_INDEX);
+            assertThat(event.getString("resourceType")).isEqualTo(ResourceModel.TYPE_NAME);
+            assertThat(event.getString("resourceId")).isEqualTo("id");
+            assertThat(event.getDuration().isNegative()).isFalse();
+        });
+        assertThat(events).extracting(event -> event.getString("outcome"))
+            .containsExactlyInAnyOrder(HandlerEvents.SUCCESS, "ThrottlingException");
+    }
+
+    @Test
+    public void testStabilizationPollRecordsTheStatus() throws IOException {
+        final List<RecordedEvent> events = record(true, () -> HandlerEvents.stabilizationPoll(ApiName.DESCRIBE_INDEX,
+            "id", () -> DescribeIndexResponse.builder().status(IndexStatus.CREATING).build(),
+            DescribeIndexResponse::statusAsString));
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getEventType().getName()).isEqualTo(HandlerEvents.StabilizationPoll.NAME);
+        assertThat(events.get(0).getString("outcome")).isEqualTo(IndexStatus.CREATING.toString());
+    }
+
+    @Test
+    public void testConversionsAndPhasesAreRecorded() throws IOException {
+        final List<RecordedEvent> events = record(true, () -> {
+            HandlerEvents.conversion(ApiName.CREATE_INDEX, null, () -> "request");
+            HandlerEvents.phase("Create", "id", () -> "progress", progress -> "IN_PROGRESS");
+        });
+
+        assertThat(events).extracting(event -> event.getEventType().getName())
+            .containsExactlyInAnyOrder(HandlerEvents.TranslatorConversion.NAME, HandlerEvents.HandlerPhase.NAME);
+        assertThat(events).extracting(event -> event.getString("outcome"))
+            .containsExactlyInAnyOrder(HandlerEvents.SUCCESS, "IN_PROGRESS");
+    }
+
+    @Test
+    public void testStepsRunWhenNotRecorded() throws IOException {
+        final List<RecordedEvent> events = record(false, () ->
+            assertThat(HandlerEvents.apiCall(ApiName.DESCRIBE_INDEX, "id", () -> "response")).isEqualTo("response"));
+
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    public void testCreateIsRecorded() throws IOException {
+        final FakeKendraClient kendra = FakeKendraClient.builder()
+            .clock(FakeClock.manual())
+            .transitionTimes(Duration.ZERO, Duration.ZERO, Duration.ZERO)
+            .build();
+        final AmazonWebServicesClientProxy proxy =
+            new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder()
+                .name("name")
+                .roleArn("roleArn")
+                .edition(IndexEdition.DEVELOPER_EDITION.toString())
+                .build())
+            .build();
+        final CallbackContext callbackContext = new CallbackContext();
+        final HandlerMetrics metrics = new HandlerMetrics(line -> { }, System::currentTimeMillis);
+        final ProxyClient<KendraClient> proxyClient = metrics.metered(MOCK_PROXY(proxy, kendra), callbackContext,
+            () -> HandlerEvents.resourceId(request.getDesiredResourceState()));
+        final CreateHandler handler = new CreateHandler(new TestIndexArnBuilder(), DELAY);
+        handler.serviceErrors = SERVICE_ERRORS;
+        handler.metrics = metrics;
+
+        final List<RecordedEvent> events = record(true, () -> assertThat(
+            handler.handleRequest(proxy, request, callbackContext, proxyClient, logger).getStatus())
+            .isEqualTo(OperationStatus.SUCCESS));
+
+        assertThat(values(events, HandlerEvents.KendraApiCall.NAME, "apiName"))
+            .contains(ApiName.CREATE_INDEX, ApiName.DESCRIBE_INDEX);
+        assertThat(values(events, HandlerEvents.StabilizationPoll.NAME, "apiName")).contains(ApiName.DESCRIBE_INDEX);
+        assertThat(values(events, HandlerEvents.TranslatorConversion.NAME, "apiName")).contains(ApiName.CREATE_INDEX);
+        assertThat(values(events, HandlerEvents.HandlerPhase.NAME, "outcome")).isNotEmpty();
+    }
+
+    private static List<RecordedEvent> record(final boolean enabled, final Runnable steps) throws IOException {
+        final Path dump = Files.createTempFile("handler-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (final String event : EVENTS) {
+                if (enabled) {
+                    recording.enable(event).withoutThreshold();
+                } else {
+                    recording.disable(event);
+                }
+            }
+            recording.start();
+            steps.run();
+            recording.stop();
+            recording.dump(dump);
+            return RecordingFile.readAllEvents(dump);
+        } finally {
+            Files.delete(dump);
+        }
+    }
+
+    private static List<String> values(final List<RecordedEvent> events, final String name, final String field) {
+        return events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .map(event -> event.getString(field))
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,163 @@
+package software.amazon.kendra.index;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.kendra.KendraClient;
+import software.amazon.awssdk.services.kendra.model.CreateIndexRequest;
+import software.amazon.awssdk.services.kendra.model.IndexEdition;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the real handlers against {@link FakeKendraClient}, so the whole lifecycle of an index is exercised,
+ * including the stabilization polls, instead of one mocked call at a time.
+ */
+public class HandlerLifecycleTest extends AbstractTestBase {
+
+    // A minute of index time passes in under a millisecond
+    private static final double SPEED = 100_000;
+
+    private final TestIndexArnBuilder testIndexArnBuilder = new TestIndexArnBuilder();
+    private final Delay testDelay = Constant.of().timeout(Duration.ofMinutes(1)).delay(Duration.ofMillis(1L)).build();
+
+    private FakeKendraClient kendra;
+    private AmazonWebServicesClientProxy proxy;
+    private ProxyClient<KendraClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        kendra = FakeKendraClient.builder().clock(FakeClock.scaled(SPEED)).build();
+        proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
+        proxyClient = MOCK_PROXY(proxy, kendra);
+    }
+
+    @Test
+    public void testCreateReadUpdateDelete() {
+        final ResourceModel created = create(ResourceModel.builder()
+            .name("name")
+            .roleArn("roleArn")
+            .edition(IndexEdition.DEVELOPER_EDITION.toString())
+            .description("description")
+            .build());
+        assertThat(created.getId()).isNotNull();
+        assertThat(created.getArn()).isEqualTo(testIndexArnBuilder.build(request(created, null)));
+        assertThat(kendra.calls(ApiName.CREATE_INDEX)).isEqualTo(1);
+        assertThat(kendra.calls(ApiName.DESCRIBE_INDEX)).isGreaterThan(1);
+
+        assertThat(read(created)).isEqualTo(created);
+
+        kendra.resetCalls();
+        final ResourceModel desired = ResourceModel.builder()
+            .id(created.getId())
+            .arn(created.getArn())
+            .name(created.getName())
+            .roleArn(created.getRoleArn())
+            .edition(created.getEdition())
+            .description("updated")
+            .build();
+        final UpdateHandler updateHandler = new UpdateHandler(testIndexArnBuilder, testDelay);
+        updateHandler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> updated = updateHandler.handleRequest(
+            proxy, request(desired, created), new CallbackContext(), proxyClient, logger);
+        assertThat(updated.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(updated.getResourceModel().getDescription()).isEqualTo("updated");
+        assertThat(kendra.calls(ApiName.UPDATE_INDEX)).isEqualTo(1);
+
+        final DeleteHandler deleteHandler = new DeleteHandler(testDelay);
+        deleteHandler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> deleted = deleteHandler.handleRequest(
+            proxy, request(created, null), new CallbackContext(), proxyClient, logger);
+        assertThat(deleted.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(deleted.getResourceModel()).isNull();
+
+        assertThatThrownBy(() -> read(created)).isInstanceOf(CfnNotFoundException.class);
+    }
+
+    @Test
+    public void testCreateFailsWhenTheIndexFails() {
+        kendra.failNextCreate("The role can't be assumed");
+
+        assertThatThrownBy(() -> create(ResourceModel.builder()
+            .name("name")
+            .roleArn("roleArn")
+            .edition(IndexEdition.DEVELOPER_EDITION.toString())
+            .build()))
+            .isInstanceOf(CfnNotStabilizedException.class)
+            .hasMessageContaining("The role can't be assumed");
+    }
+
+    @Test
+    public void testThrottledReadIsRetried() {
+        final ResourceModel created = create(ResourceModel.builder()
+            .name("name")
+            .roleArn("roleArn")
+            .edition(IndexEdition.DEVELOPER_EDITION.toString())
+            .build());
+        kendra.resetCalls();
+        kendra.throttleNext(ApiName.DESCRIBE_INDEX, 2);
+
+        assertThat(read(created)).isEqualTo(created);
+        assertThat(kendra.calls(ApiName.DESCRIBE_INDEX)).isEqualTo(3);
+        assertThat(kendra.throttled()).isEqualTo(2);
+    }
+
+    @Test
+    public void testListPagesThroughIndices() {
+        for (int i = 0; i < 3; i++) {
+            kendra.createIndex(CreateIndexRequest.builder().name("index" + i).roleArn("roleArn").build());
+        }
+        kendra.resetCalls();
+        final ListHandler handler = new ListHandler();
+        handler.serviceErrors = SERVICE_ERRORS;
+
+        final ProgressEvent<ResourceModel, CallbackContext> firstPage = handler.handleRequest(
+            proxy, request(ResourceModel.builder().build(), null), new CallbackContext(), proxyClient, logger);
+        final ProgressEvent<ResourceModel, CallbackContext> secondPage = handler.handleRequest(
+            proxy, ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(ResourceModel.builder().build())
+                .nextToken(firstPage.getNextToken())
+                .build(),
+            new CallbackContext(), proxyClient, logger);
+
+        assertThat(firstPage.getResourceModels().size() + secondPage.getResourceModels().size()).isEqualTo(3);
+        assertThat(secondPage.getNextToken()).isNull();
+        assertThat(kendra.calls(ApiName.LIST_INDICES)).isEqualTo(2);
+    }
+
+    private ResourceModel create(final ResourceModel model) {
+        final CreateHandler handler = new CreateHandler(testIndexArnBuilder, testDelay);
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy, request(model, null), new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        return response.getResourceModel();
+    }
+
+    private ResourceModel read(final ResourceModel model) {
+        final ReadHandler handler = new ReadHandler(testIndexArnBuilder);
+        handler.serviceErrors = SERVICE_ERRORS;
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy, request(model, null), new CallbackContext(), proxyClient, logger);
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        return response.getResourceModel();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(desired)
+            .previousResourceState(previous)
+            .build();
+    }
+}
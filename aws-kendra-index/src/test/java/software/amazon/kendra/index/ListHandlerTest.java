@@ -3,10 +3,15 @@ package software.amazon.kendra.index;
 import org.junit.jupiter.api.AfterEach;
 import software.amazon.awssdk.services.kendra.KendraClient;
 import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexRequest;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexResponse;
+import software.amazon.awssdk.services.kendra.model.IndexEdition;
 import software.amazon.awssdk.services.kendra.model.IndexConfigurationSummary;
 import software.amazon.awssdk.services.kendra.model.KendraException;
 import software.amazon.awssdk.services.kendra.model.ListIndicesRequest;
 import software.amazon.awssdk.services.kendra.model.ListIndicesResponse;
+import software.amazon.awssdk.services.kendra.model.ListTagsForResourceRequest;
+import software.amazon.awssdk.services.kendra.model.ListTagsForResourceResponse;
 import software.amazon.awssdk.services.kendra.model.ThrottlingException;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
@@ -32,6 +37,7 @@ import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -100,6 +106,47 @@ public class ListHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).listIndices(any(ListIndicesRequest.class));
     }
 
+    @Test
+    public void handleRequest_HydratedReadsEveryIndex() {
+        final ListHandler handler = new ListHandler(true, new TestIndexArnBuilder());
+        handler.serviceErrors = SERVICE_ERRORS;
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().build())
+            .build();
+
+        when(proxyClient.client().listIndices(any(ListIndicesRequest.class)))
+                .thenReturn(ListIndicesResponse.builder()
+                        .indexConfigurationSummaryItems(
+                                IndexConfigurationSummary.builder().id("first").build(),
+                                IndexConfigurationSummary.builder().id("second").build())
+                        .build());
+        when(proxyClient.client().describeIndex(any(DescribeIndexRequest.class))).thenAnswer(invocation -> {
+            final DescribeIndexRequest describeRequest = invocation.getArgument(0);
+            return DescribeIndexResponse.builder()
+                    .id(describeRequest.id())
+                    .name(describeRequest.id() + " name")
+                    .edition(IndexEdition.DEVELOPER_EDITION)
+                    .build();
+        });
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+                handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels())
+                .extracting(ResourceModel::getId, ResourceModel::getName, ResourceModel::getEdition)
+                .containsExactly(
+                        tuple("first", "first name", "DEVELOPER_EDITION"),
+                        tuple("second", "second name", "DEVELOPER_EDITION"));
+
+        verify(proxyClient.client(), times(1)).listIndices(any(ListIndicesRequest.class));
+        verify(proxyClient.client(), times(2)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(2)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
     private static Stream<Arguments> testItThrowsExpectedCfnErrorForKendraErrorArguments() {
         return Stream.of(
             Arguments.of(KendraException.builder().build(), CfnGeneralServiceException.class),
@@ -115,6 +162,7 @@ public class ListHandlerTest extends AbstractTestBase {
         Class<? extends RuntimeException> expectedCfnError) {
         // set up
         final ListHandler handler = new ListHandler();
+        handler.serviceErrors = SERVICE_ERRORS;
         final ResourceModel model = ResourceModel.builder().id("id").build();
         when(proxyClient.client().listIndices(any(ListIndicesRequest.class)))
             .thenThrow(kendraException);
@@ -126,6 +174,6 @@ public class ListHandlerTest extends AbstractTestBase {
 
         assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
             .isInstanceOf(expectedCfnError);
-        verify(proxyClient.client(), times(1)).listIndices(any(ListIndicesRequest.class));
+        verify(proxyClient.client(), times(attempts(ApiName.LIST_INDICES, kendraException))).listIndices(any(ListIndicesRequest.class));
     }
 }
@@ -129,6 +129,51 @@ public class ReadHandlerTest extends AbstractTestBase {
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
+    @Test
+    public void handleRequest_ReusesCachedDescribeResponse() {
+        String id = "testId";
+        String name = "testName";
+        String roleArn = "testRoleArn";
+        String indexEdition = IndexEdition.ENTERPRISE_EDITION.toString();
+
+        final ResponseCache<DescribeIndexResponse> describeIndexResponseCache = new ResponseCache<>();
+        describeIndexResponseCache.put(DescribeIndexResponse.builder()
+                .id(id)
+                .name(name)
+                .roleArn(roleArn)
+                .edition(indexEdition)
+                .status(IndexStatus.ACTIVE.toString())
+                .build());
+        final ReadHandler handler = new ReadHandler(testIndexArnBuilder, describeIndexResponseCache);
+
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final ResourceModel model = ResourceModel
+                .builder()
+                .id(id)
+                .build();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .build();
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ResourceModel expected = ResourceModel
+                .builder()
+                .id(id)
+                .arn(testIndexArnBuilder.build(request))
+                .name(name)
+                .roleArn(roleArn)
+                .edition(indexEdition)
+                .build();
+        assertThat(response.getResourceModel()).isEqualTo(expected);
+
+        verify(proxyClient.client(), times(0)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+    }
+
     @Test
     public void handleRequest_Tags() {
         final ReadHandler handler = new ReadHandler(testIndexArnBuilder);
@@ -202,6 +247,7 @@ public class ReadHandlerTest extends AbstractTestBase {
     @MethodSource("testItThrowsExpectedCfnErrorForKendraErrorArguments")
     public void testItThrowsExpectedCfnErrorForKendraError(KendraException kendraException, Class<? extends RuntimeException> expectedCfnError) {
         final ReadHandler handler = new ReadHandler(testIndexArnBuilder);
+        handler.serviceErrors = SERVICE_ERRORS;
         when(proxyClient.client().describeIndex(any(DescribeIndexRequest.class)))
                 .thenThrow(kendraException);
 
@@ -216,7 +262,9 @@ public class ReadHandlerTest extends AbstractTestBase {
         assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
             .isInstanceOf(expectedCfnError);
 
-        verify(proxyClient.client(), times(1)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(attempts(ApiName.DESCRIBE_INDEX, kendraException))).describeIndex(any(DescribeIndexRequest.class));
+        // Listed alongside the describe, the describe failure is still the one reported
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
     }
 
     @Test
@@ -0,0 +1,89 @@
+package software.amazon.kendra.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResourceModelDiffTest {
+
+    private static ResourceModel.ResourceModelBuilder baseModel() {
+        return ResourceModel.builder()
+                .id("id")
+                .arn("arn")
+                .name("name")
+                .roleArn("roleArn")
+                .edition("ENTERPRISE_EDITION");
+    }
+
+    @Test
+    void testNoPreviousState() {
+        assertThat(ResourceModelDiff.classify(null, baseModel().build())).isEqualTo(ResourceModelDiff.Change.FULL);
+    }
+
+    @Test
+    void testNoChange() {
+        assertThat(ResourceModelDiff.classify(baseModel().build(), baseModel().build()))
+                .isEqualTo(ResourceModelDiff.Change.NONE);
+    }
+
+    @Test
+    void testReadOnlyPropertiesAndEmptyValuesAreIgnored() {
+        final ResourceModel previous = baseModel()
+                .id(null)
+                .arn(null)
+                .build();
+        final ResourceModel desired = baseModel()
+                .tags(new ArrayList<>())
+                .documentMetadataConfigurations(new ArrayList<>())
+                .build();
+        assertThat(ResourceModelDiff.changedProperties(previous, desired)).isEmpty();
+        assertThat(ResourceModelDiff.classify(previous, desired)).isEqualTo(ResourceModelDiff.Change.NONE);
+    }
+
+    @Test
+    void testTagOrderIsIgnored() {
+        final Tag a = Tag.builder().key("a").value("1").build();
+        final Tag b = Tag.builder().key("b").value("2").build();
+        assertThat(ResourceModelDiff.classify(
+                baseModel().tags(Arrays.asList(a, b)).build(),
+                baseModel().tags(Arrays.asList(b, a)).build()))
+                .isEqualTo(ResourceModelDiff.Change.NONE);
+    }
+
+    @Test
+    void testTagsOnly() {
+        final Tag tag = Tag.builder().key("a").value("1").build();
+        final ResourceModel previous = baseModel().tags(Arrays.asList(tag)).build();
+        final ResourceModel desired = baseModel().tags(Arrays.asList(Tag.builder().key("a").value("2").build())).build();
+        assertThat(ResourceModelDiff.changedProperties(previous, desired)).containsExactly("Tags");
+        assertThat(ResourceModelDiff.classify(previous, desired)).isEqualTo(ResourceModelDiff.Change.TAGS_ONLY);
+    }
+
+    @Test
+    void testMetadataOnly() {
+        final ResourceModel previous = baseModel().build();
+        final ResourceModel desired = baseModel()
+                .name("newName")
+                .description("description")
+                .tags(Arrays.asList(Tag.builder().key("a").value("1").build()))
+                .build();
+        assertThat(ResourceModelDiff.changedProperties(previous, desired)).containsExactly("Description", "Name", "Tags");
+        assertThat(ResourceModelDiff.classify(previous, desired)).isEqualTo(ResourceModelDiff.Change.METADATA_ONLY);
+    }
+
+    @Test
+    void testFull() {
+        final ResourceModel previous = baseModel().build();
+        final ResourceModel desired = baseModel()
+                .name("newName")
+                .capacityUnits(CapacityUnitsConfiguration.builder().storageCapacityUnits(1).queryCapacityUnits(0).build())
+                .build();
+        assertThat(ResourceModelDiff.changedProperties(previous, desired)).containsExactly("CapacityUnits", "Name");
+        assertThat(ResourceModelDiff.classify(previous, desired)).isEqualTo(ResourceModelDiff.Change.FULL);
+        assertThat(ResourceModelDiff.classify(previous, baseModel().roleArn("otherRoleArn").build()))
+                .isEqualTo(ResourceModelDiff.Change.FULL);
+    }
+}
@@ -0,0 +1,129 @@
+package software.amazon.kendra.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+public class ResourceModelValidatorTest {
+
+    @Test
+    void testValidModel() {
+        assertThat(ResourceModelValidator.violations(validModel())).isEmpty();
+    }
+
+    @ParameterizedTest
+    @MethodSource("requiredProperties")
+    void testRequiredProperty(final String property, final Consumer<ResourceModel> unset) {
+        ResourceModel model = validModel();
+        unset.accept(model);
+
+        assertThat(ResourceModelValidator.violations(model))
+                .containsExactly("#: required key [" + property + "] not found");
+    }
+
+    static Stream<Arguments> requiredProperties() {
+        return Stream.of(
+                unset("Name", model -> model.setName(null)),
+                unset("RoleArn", model -> model.setRoleArn(null)),
+                unset("Edition", model -> model.setEdition(null)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"DEVELOPER_EDITION", "ENTERPRISE_EDITION", "GEN_AI_ENTERPRISE_EDITION"})
+    void testEdition(final String edition) {
+        ResourceModel model = validModel();
+        model.setEdition(edition);
+
+        assertThat(ResourceModelValidator.violations(model)).isEmpty();
+    }
+
+    @Test
+    void testUnknownEdition() {
+        ResourceModel model = validModel();
+        model.setEdition("PREMIUM_EDITION");
+
+        assertThat(ResourceModelValidator.violations(model)).hasSize(1);
+        assertThat(ResourceModelValidator.violations(model).get(0)).startsWith("#/Edition");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ATTRIBUTE_FILTER", "USER_TOKEN"})
+    void testUserContextPolicy(final String userContextPolicy) {
+        ResourceModel model = validModel();
+        model.setUserContextPolicy(userContextPolicy);
+
+        assertThat(ResourceModelValidator.violations(model)).isEmpty();
+    }
+
+    @Test
+    void testUnknownUserContextPolicy() {
+        ResourceModel model = validModel();
+        model.setUserContextPolicy("GROUP_FILTER");
+
+        assertThat(ResourceModelValidator.violations(model)).hasSize(1);
+        assertThat(ResourceModelValidator.violations(model).get(0)).startsWith("#/UserContextPolicy");
+    }
+
+    @Test
+    void testCapacityUnitsNeedBothUnits() {
+        ResourceModel model = validModel();
+        model.setEdition("ENTERPRISE_EDITION");
+        model.setCapacityUnits(CapacityUnitsConfiguration.builder().storageCapacityUnits(1).build());
+
+        assertThat(ResourceModelValidator.violations(model))
+                .containsExactly("#/CapacityUnits: required key [QueryCapacityUnits] not found");
+    }
+
+    @Test
+    void testReportsEveryViolation() {
+        ResourceModel model = validModel();
+        model.setRoleArn("KendraIndex");
+        model.setEdition("PREMIUM_EDITION");
+
+        assertThat(ResourceModelValidator.violations(model)).hasSize(2);
+        assertThat(String.join("; ", ResourceModelValidator.violations(model)))
+                .contains("#/RoleArn")
+                .contains("#/Edition");
+    }
+
+    @Test
+    void testCreateRejectsInvalidModelBeforeCallingKendra() {
+        ResourceModel model = validModel();
+        model.setEdition(null);
+        AmazonWebServicesClientProxy proxy = mock(AmazonWebServicesClientProxy.class);
+        ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        assertThatThrownBy(() -> new CreateHandler().handleRequest(proxy, request, null, new LoggerProxy()))
+                .isInstanceOf(CfnInvalidRequestException.class)
+                .hasMessageContaining("Edition");
+        verifyNoMoreInteractions(proxy);
+    }
+
+    private static Arguments unset(final String property, final Consumer<ResourceModel> unset) {
+        return Arguments.of(property, unset);
+    }
+
+    private static ResourceModel validModel() {
+        return ResourceModel.builder()
+                .name("name")
+                .roleArn("arn:aws:iam::0123456789:role/KendraIndex")
+                .edition("DEVELOPER_EDITION")
+                .build();
+    }
+}
@@ -0,0 +1,193 @@
+package software.amazon.kendra.index;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.kendra.model.AccessDeniedException;
+import software.amazon.awssdk.services.kendra.model.ConflictException;
+import software.amazon.awssdk.services.kendra.model.KendraException;
+import software.amazon.awssdk.services.kendra.model.ResourceInUseException;
+import software.amazon.awssdk.services.kendra.model.ResourceNotFoundException;
+import software.amazon.awssdk.services.kendra.model.ServiceQuotaExceededException;
+import software.amazon.awssdk.services.kendra.model.ThrottlingException;
+import software.amazon.awssdk.services.kendra.model.ValidationException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+import software.amazon.cloudformation.exceptions.CfnThrottlingException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ServiceErrorsTest {
+
+    private List<Long> sleeps;
+    private ServiceErrors.Builder builder;
+
+    @BeforeEach
+    public void setup() {
+        sleeps = new ArrayList<>();
+        builder = ServiceErrors.builder()
+            .retryOn(ThrottlingException.class)
+            .retryOn(ConflictException.class, ApiName.UPDATE_INDEX)
+            .sleeper(sleeps::add, () -> 1.0);
+    }
+
+    private static Stream<Arguments> mappingArguments() {
+        return Stream.of(
+            Arguments.of(ValidationException.builder().build(), CfnInvalidRequestException.class),
+            Arguments.of(ConflictException.builder().build(), CfnResourceConflictException.class),
+            Arguments.of(ServiceQuotaExceededException.builder().build(), CfnServiceLimitExceededException.class),
+            Arguments.of(ResourceNotFoundException.builder().build(), CfnNotFoundException.class),
+            Arguments.of(AccessDeniedException.builder().build(), CfnAccessDeniedException.class),
+            Arguments.of(ThrottlingException.builder().build(), CfnThrottlingException.class),
+            Arguments.of(ResourceInUseException.builder().build(), CfnGeneralServiceException.class),
+            Arguments.of(KendraException.builder().build(), CfnGeneralServiceException.class)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("mappingArguments")
+    public void testMapsEveryErrorType(AwsServiceException kendraError, Class<? extends RuntimeException> cfnError) {
+        assertThat(builder.build().map(ApiName.DESCRIBE_INDEX, "id", kendraError))
+            .isInstanceOf(cfnError)
+            .hasCause(kendraError);
+    }
+
+    @Test
+    public void testNotFoundWithoutAResourceIdentifier() {
+        final ResourceNotFoundException notFound = ResourceNotFoundException.builder().build();
+
+        assertThat(builder.build().map(ApiName.LIST_INDICES, null, notFound))
+            .isInstanceOf(CfnNotFoundException.class)
+            .hasCause(notFound);
+    }
+
+    @Test
+    public void testRetriesUntilTheCallSucceeds() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        final String result = builder.build().call(ApiName.DESCRIBE_INDEX, "id", () -> {
+            if (calls.incrementAndGet() < 3) {
+                throw ThrottlingException.builder().build();
+            }
+            return "described";
+        });
+
+        assertThat(result).isEqualTo("described");
+        assertThat(calls).hasValue(3);
+        assertThat(sleeps).hasSize(2);
+    }
+
+    @Test
+    public void testGivesUpAfterMaxAttempts() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> builder.maxAttempts(2).build().call(ApiName.DESCRIBE_INDEX, "id", () -> {
+            calls.incrementAndGet();
+            throw ThrottlingException.builder().build();
+        })).isInstanceOf(CfnThrottlingException.class);
+        assertThat(calls).hasValue(2);
+        assertThat(sleeps).hasSize(1);
+    }
+
+    @Test
+    public void testRetriesConflictsOnlyForListedApis() {
+        final AtomicInteger calls = new AtomicInteger();
+        final ServiceErrors serviceErrors = builder.build();
+
+        assertThatThrownBy(() -> serviceErrors.call(ApiName.CREATE_INDEX, null, () -> {
+            calls.incrementAndGet();
+            throw ConflictException.builder().build();
+        })).isInstanceOf(CfnResourceConflictException.class);
+        assertThat(calls).hasValue(1);
+
+        assertThatThrownBy(() -> serviceErrors.call(ApiName.UPDATE_INDEX, "id", () -> {
+            calls.incrementAndGet();
+            throw ConflictException.builder().build();
+        })).isInstanceOf(CfnResourceConflictException.class);
+        assertThat(calls).hasValue(1 + ServiceErrors.DEFAULT_MAX_ATTEMPTS);
+    }
+
+    @Test
+    public void testDoesNotRetryOtherErrors() {
+        final AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> builder.build().call(ApiName.UPDATE_INDEX, "id", () -> {
+            calls.incrementAndGet();
+            throw ValidationException.builder().build();
+        })).isInstanceOf(CfnInvalidRequestException.class);
+        assertThat(calls).hasValue(1);
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    public void testWaitsGrowWithDecorrelatedJitterUpToTheCap() {
+        final ServiceErrors serviceErrors = builder
+            .delays(Duration.ofMillis(100), Duration.ofMillis(500), Duration.ofSeconds(10))
+            .maxAttempts(5)
+            .build();
+
+        assertThatThrownBy(() -> serviceErrors.call(ApiName.DESCRIBE_INDEX, "id", () -> {
+            throw ThrottlingException.builder().build();
+        })).isInstanceOf(CfnThrottlingException.class);
+
+        // The random draw is pinned to its upper end, so each wait is three times the last one until it hits the cap
+        assertThat(sleeps).containsExactly(
+            TimeUnit.MILLISECONDS.toNanos(300),
+            TimeUnit.MILLISECONDS.toNanos(500),
+            TimeUnit.MILLISECONDS.toNanos(500),
+            TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    @Test
+    public void testWaitNeverDropsBelowTheBaseDelay() {
+        final ServiceErrors serviceErrors = builder.sleeper(sleeps::add, () -> 0.0).build();
+
+        assertThat(serviceErrors.nextDelay(0)).isEqualTo(ServiceErrors.DEFAULT_BASE_DELAY.toNanos());
+    }
+
+    @Test
+    public void testStopsOnceTheTotalWaitWouldRunOut() {
+        final AtomicInteger calls = new AtomicInteger();
+        final ServiceErrors serviceErrors = builder
+            .delays(Duration.ofMillis(100), Duration.ofSeconds(1), Duration.ofMillis(500))
+            .maxAttempts(10)
+            .build();
+
+        assertThatThrownBy(() -> serviceErrors.call(ApiName.DESCRIBE_INDEX, "id", () -> {
+            calls.incrementAndGet();
+            throw ThrottlingException.builder().build();
+        })).isInstanceOf(CfnThrottlingException.class);
+
+        // 300ms fits in the budget, the following 900ms doesn't
+        assertThat(sleeps).containsExactly(TimeUnit.MILLISECONDS.toNanos(300));
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    public void testOverridesAreCheckedBeforeTheDefaults() {
+        final ServiceErrors serviceErrors = builder
+            .map(ResourceNotFoundException.class, (apiName, resourceId, e) -> new CfnInvalidRequestException(e))
+            .build();
+
+        assertThat(serviceErrors.map(ApiName.UPDATE_INDEX, "id", ResourceNotFoundException.builder().build()))
+            .isInstanceOf(CfnInvalidRequestException.class);
+        assertThat(serviceErrors.toBuilder().build().map(ApiName.UPDATE_INDEX, "id",
+            ResourceNotFoundException.builder().build()))
+            .isInstanceOf(CfnInvalidRequestException.class);
+    }
+}
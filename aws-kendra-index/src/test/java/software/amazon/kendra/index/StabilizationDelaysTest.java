@@ -0,0 +1,65 @@
+package software.amazon.kendra.index;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static software.amazon.kendra.index.ApiName.CREATE_INDEX;
+import static software.amazon.kendra.index.ApiName.DELETE_INDEX;
+import static software.amazon.kendra.index.ApiName.LIST_INDICES;
+import static software.amazon.kendra.index.ApiName.UPDATE_INDEX;
+
+public class StabilizationDelaysTest {
+
+    private static final int CAPPED_ATTEMPT = 20;
+
+    @Test
+    public void testCreateScheduleDependsOnEdition() {
+        final AdaptiveDelay developer = StabilizationDelays.forIndex(CREATE_INDEX, "DEVELOPER_EDITION");
+        final AdaptiveDelay enterprise = StabilizationDelays.forIndex(CREATE_INDEX, "ENTERPRISE_EDITION");
+
+        assertThat(developer.scheduledDelayMillis(1)).isEqualTo(Duration.ofSeconds(30).toMillis());
+        assertThat(developer.scheduledDelayMillis(CAPPED_ATTEMPT)).isEqualTo(Duration.ofMinutes(1).toMillis());
+        assertThat(enterprise.scheduledDelayMillis(CAPPED_ATTEMPT)).isEqualTo(Duration.ofMinutes(2).toMillis());
+    }
+
+    @Test
+    public void testUpdatePollsEarly() {
+        final AdaptiveDelay developer = StabilizationDelays.forIndex(UPDATE_INDEX, "DEVELOPER_EDITION");
+        final AdaptiveDelay enterprise = StabilizationDelays.forIndex(UPDATE_INDEX, "ENTERPRISE_EDITION");
+
+        assertThat(enterprise.scheduledDelayMillis(1)).isEqualTo(Duration.ofSeconds(10).toMillis());
+        assertThat(developer.scheduledDelayMillis(CAPPED_ATTEMPT)).isEqualTo(Duration.ofMinutes(2).toMillis());
+        assertThat(enterprise.scheduledDelayMillis(CAPPED_ATTEMPT)).isEqualTo(Duration.ofMinutes(3).toMillis());
+    }
+
+    @Test
+    public void testMissingEditionUsesEnterpriseSchedule() {
+        final AdaptiveDelay delay = StabilizationDelays.forIndex(DELETE_INDEX, null);
+
+        assertThat(delay.scheduledDelayMillis(CAPPED_ATTEMPT)).isEqualTo(Duration.ofMinutes(2).toMillis());
+    }
+
+    @Test
+    public void testHandsOutNewDelayPerRequest() {
+        final String edition = null;
+        assertThat(StabilizationDelays.forIndex(CREATE_INDEX, edition))
+            .isNotSameAs(StabilizationDelays.forIndex(CREATE_INDEX, edition));
+    }
+
+    @Test
+    public void testPredictsFromCallbackContext() {
+        final ResourceModel model = ResourceModel.builder().edition("DEVELOPER_EDITION").build();
+        final CallbackContext callbackContext = new CallbackContext();
+
+        assertThat(StabilizationDelays.forIndex(CREATE_INDEX, model, callbackContext)).isInstanceOf(PredictiveDelay.class);
+        assertThat(StabilizationDelays.forIndex(DELETE_INDEX, null, callbackContext)).isInstanceOf(PredictiveDelay.class);
+    }
+
+    @Test
+    public void testRejectsUnknownOperation() {
+        assertThrows(IllegalArgumentException.class, () -> StabilizationDelays.forIndex(LIST_INDICES, "DEVELOPER_EDITION"));
+    }
+}
@@ -0,0 +1,42 @@
+package software.amazon.kendra.index;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StabilizationPredictorTest {
+
+    @Test
+    public void testSeededFromTypicalDurations() {
+        final StabilizationPredictor predictor = new StabilizationPredictor();
+
+        assertThat(predictor.expectedDuration("CREATING", "DEVELOPER_EDITION")).contains(Duration.ofMinutes(20));
+        assertThat(predictor.expectedDuration("CREATING", "ENTERPRISE_EDITION")).contains(Duration.ofMinutes(35));
+        assertThat(predictor.expectedDuration("DELETING", null)).contains(Duration.ofMinutes(10));
+        assertThat(predictor.expectedDuration("ACTIVE", "DEVELOPER_EDITION")).isEmpty();
+    }
+
+    @Test
+    public void testFollowsObservedDurations() {
+        final StabilizationPredictor predictor = new StabilizationPredictor();
+
+        predictor.observe("UPDATING", "DEVELOPER_EDITION", Duration.ofMinutes(13));
+
+        // 3 minutes + 0.3 * (13 - 3) minutes
+        assertThat(predictor.expectedDuration("UPDATING", "DEVELOPER_EDITION")).contains(Duration.ofMinutes(6));
+        assertThat(predictor.expectedDuration("UPDATING", "ENTERPRISE_EDITION")).contains(Duration.ofMinutes(10));
+    }
+
+    @Test
+    public void testIgnoresUnusableObservations() {
+        final StabilizationPredictor predictor = new StabilizationPredictor();
+
+        predictor.observe("CREATING", "DEVELOPER_EDITION", Duration.ZERO);
+        predictor.observe("ACTIVE", "DEVELOPER_EDITION", Duration.ofMinutes(5));
+
+        assertThat(predictor.expectedDuration("CREATING", "DEVELOPER_EDITION")).contains(Duration.ofMinutes(20));
+        assertThat(predictor.expectedDuration("ACTIVE", "DEVELOPER_EDITION")).isEmpty();
+    }
+}
@@ -734,8 +734,8 @@ class TranslatorTest {
     @Test
     void testTranslateToListRequest() {
         String nextToken = "nextToken";
-        ListIndicesRequest actual = Translator.translateToListRequest(nextToken);
-        ListIndicesRequest expected = ListIndicesRequest.builder().nextToken(nextToken).build();
+        ListIndicesRequest actual = Translator.translateToListRequest(nextToken, 100);
+        ListIndicesRequest expected = ListIndicesRequest.builder().nextToken(nextToken).maxResults(100).build();
         assertThat(actual).isEqualTo(expected);
     }
 
@@ -892,4 +892,38 @@ class TranslatorTest {
 
         assertThrows(TranslatorValidationException.class, () -> Translator.translateToPostCreateUpdateRequest(resourceModel));
     }
+
+    @Test
+    void testRequiresPostCreateUpdateNothingToApply() {
+        assertThat(Translator.requiresPostCreateUpdate(ResourceModel
+                .builder()
+                .edition(IndexEdition.ENTERPRISE_EDITION.toString())
+                .documentMetadataConfigurations(new ArrayList<>())
+                .build())).isFalse();
+        assertThat(Translator.requiresPostCreateUpdate(ResourceModel
+                .builder()
+                .edition(IndexEdition.ENTERPRISE_EDITION.toString())
+                .capacityUnits(CapacityUnitsConfiguration.builder().storageCapacityUnits(0).queryCapacityUnits(0).build())
+                .build())).isFalse();
+        // Developer edition does not take capacity units
+        assertThat(Translator.requiresPostCreateUpdate(ResourceModel
+                .builder()
+                .edition(IndexEdition.DEVELOPER_EDITION.toString())
+                .capacityUnits(CapacityUnitsConfiguration.builder().storageCapacityUnits(1).queryCapacityUnits(1).build())
+                .build())).isFalse();
+    }
+
+    @Test
+    void testRequiresPostCreateUpdate() {
+        assertThat(Translator.requiresPostCreateUpdate(ResourceModel
+                .builder()
+                .edition(IndexEdition.DEVELOPER_EDITION.toString())
+                .documentMetadataConfigurations(Arrays.asList(DocumentMetadataConfiguration.builder().name("name").build()))
+                .build())).isTrue();
+        assertThat(Translator.requiresPostCreateUpdate(ResourceModel
+                .builder()
+                .edition(IndexEdition.ENTERPRISE_EDITION.toString())
+                .capacityUnits(CapacityUnitsConfiguration.builder().storageCapacityUnits(0).queryCapacityUnits(1).build())
+                .build())).isTrue();
+    }
 }
@@ -45,6 +45,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.cloudformation.proxy.delay.Constant;
@@ -54,6 +56,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -143,7 +146,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).updateIndex(any(UpdateIndexRequest.class));
-        verify(proxyClient.client(), times(3)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(2)).describeIndex(any(DescribeIndexRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
         verify(sdkClient, atLeastOnce()).serviceName();
     }
@@ -217,7 +220,110 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).updateIndex(any(UpdateIndexRequest.class));
-        verify(proxyClient.client(), times(4)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(3)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_TagsAppliedBeforeStabilization() {
+        final UpdateHandler handler = new UpdateHandler(testIndexArnBuilder, testDelay);
+
+        String roleArn = "roleArn";
+        String name = "name";
+        String id = "id";
+        String key = "key";
+        String value = "value";
+        String indexEdition = IndexEdition.ENTERPRISE_EDITION.toString();
+        final ResourceModel model = ResourceModel
+                .builder()
+                .roleArn(roleArn)
+                .name(name)
+                .id(id)
+                .edition(indexEdition)
+                .tags(Arrays.asList(Tag.builder().key(key).value(value).build()))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        final DescribeIndexResponse.Builder describeIndexResponse = DescribeIndexResponse.builder()
+                .id(id)
+                .name(name)
+                .roleArn(roleArn)
+                .edition(indexEdition);
+        when(proxyClient.client().updateIndex(any(UpdateIndexRequest.class)))
+                .thenReturn(UpdateIndexResponse.builder().build());
+        when(proxyClient.client().tagResource(any(TagResourceRequest.class)))
+                .thenReturn(TagResourceResponse.builder().build());
+        when(proxyClient.client().describeIndex(any(DescribeIndexRequest.class)))
+                .thenReturn(
+                        describeIndexResponse.status(IndexStatus.ACTIVE.toString()).build(),
+                        describeIndexResponse.status(IndexStatus.UPDATING.toString()).build(),
+                        describeIndexResponse.status(IndexStatus.ACTIVE.toString()).build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse
+                        .builder()
+                        .tags(Arrays.asList(software.amazon.awssdk.services.kendra.model.Tag
+                                .builder().key(key).value(value).build()))
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getCallbackContext().isTagsUpdated()).isTrue();
+        final InOrder inOrder = inOrder(sdkClient);
+        inOrder.verify(sdkClient).describeIndex(any(DescribeIndexRequest.class));
+        inOrder.verify(sdkClient).updateIndex(any(UpdateIndexRequest.class));
+        inOrder.verify(sdkClient).tagResource(any(TagResourceRequest.class));
+        inOrder.verify(sdkClient, times(2)).describeIndex(any(DescribeIndexRequest.class));
+        inOrder.verify(sdkClient).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_TagsNotReappliedOnReinvocation() {
+        final UpdateHandler handler = new UpdateHandler(testIndexArnBuilder, testDelay);
+
+        String roleArn = "roleArn";
+        String name = "name";
+        String id = "id";
+        String indexEdition = IndexEdition.ENTERPRISE_EDITION.toString();
+        final ResourceModel model = ResourceModel
+                .builder()
+                .roleArn(roleArn)
+                .name(name)
+                .id(id)
+                .edition(indexEdition)
+                .tags(Arrays.asList(Tag.builder().key("key").value("value").build()))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .build();
+
+        when(proxyClient.client().updateIndex(any(UpdateIndexRequest.class)))
+                .thenReturn(UpdateIndexResponse.builder().build());
+        when(proxyClient.client().describeIndex(any(DescribeIndexRequest.class)))
+                .thenReturn(DescribeIndexResponse.builder()
+                        .id(id)
+                        .name(name)
+                        .roleArn(roleArn)
+                        .edition(indexEdition)
+                        .status(IndexStatus.ACTIVE.toString())
+                        .build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setTagsUpdated(true);
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), times(0)).tagResource(any(TagResourceRequest.class));
+        verify(proxyClient.client(), times(1)).updateIndex(any(UpdateIndexRequest.class));
+        verify(proxyClient.client(), times(2)).describeIndex(any(DescribeIndexRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
         verify(sdkClient, atLeastOnce()).serviceName();
     }
@@ -265,6 +371,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
     @MethodSource("updateIndexTestErrorArgs")
     public void testItThrowsExpectedErrorForKendraException(KendraException kendraException, Class<? extends RuntimeException> cfnError) {
         final UpdateHandler handler = new UpdateHandler(testIndexArnBuilder, testDelay);
+        handler.serviceErrors = SERVICE_ERRORS;
 
         when(proxyClient.client().describeIndex(any(DescribeIndexRequest.class)))
                 .thenReturn(DescribeIndexResponse
@@ -287,7 +394,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThatThrownBy(() -> handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger))
             .isInstanceOf(cfnError);
         verify(proxyClient.client(), times(1)).describeIndex(any(DescribeIndexRequest.class));
-        verify(proxyClient.client(), times(1)).updateIndex(any(UpdateIndexRequest.class));
+        verify(proxyClient.client(), times(attempts(ApiName.UPDATE_INDEX, kendraException))).updateIndex(any(UpdateIndexRequest.class));
         verify(sdkClient, atLeastOnce()).serviceName();
     }
 
@@ -355,7 +462,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).updateIndex(any(UpdateIndexRequest.class));
-        verify(proxyClient.client(), times(3)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(2)).describeIndex(any(DescribeIndexRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
         verify(proxyClient.client(), times(1)).tagResource(any(TagResourceRequest.class));
         verify(sdkClient, atLeastOnce()).serviceName();
@@ -425,7 +532,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).updateIndex(any(UpdateIndexRequest.class));
-        verify(proxyClient.client(), times(3)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(2)).describeIndex(any(DescribeIndexRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
         verify(proxyClient.client(), times(1)).untagResource(any(UntagResourceRequest.class));
         verify(sdkClient, atLeastOnce()).serviceName();
@@ -505,7 +612,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
 
         verify(proxyClient.client(), times(1)).updateIndex(any(UpdateIndexRequest.class));
-        verify(proxyClient.client(), times(3)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(2)).describeIndex(any(DescribeIndexRequest.class));
         verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
         verify(proxyClient.client(), times(1)).tagResource(any(TagResourceRequest.class));
         verify(proxyClient.client(), times(1)).untagResource(any(UntagResourceRequest.class));
@@ -555,7 +662,7 @@ public class UpdateHandlerTest extends AbstractTestBase {
         });
 
         verify(proxyClient.client(), times(1)).updateIndex(any(UpdateIndexRequest.class));
-        verify(proxyClient.client(), times(2)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(1)).describeIndex(any(DescribeIndexRequest.class));
         verify(sdkClient, atLeastOnce()).serviceName();
     }
 
@@ -605,7 +712,175 @@ public class UpdateHandlerTest extends AbstractTestBase {
         });
 
         verify(proxyClient.client(), times(1)).updateIndex(any(UpdateIndexRequest.class));
+        verify(proxyClient.client(), times(1)).describeIndex(any(DescribeIndexRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_NoChangeSkipsUpdate() {
+        final UpdateHandler handler = new UpdateHandler(testIndexArnBuilder, testDelay);
+
+        String roleArn = "roleArn";
+        String name = "name";
+        String id = "id";
+        String indexEdition = IndexEdition.ENTERPRISE_EDITION.toString();
+        final ResourceModel model = ResourceModel
+                .builder()
+                .id(id)
+                .roleArn(roleArn)
+                .name(name)
+                .edition(indexEdition)
+                .capacityUnits(CapacityUnitsConfiguration.builder().storageCapacityUnits(1).queryCapacityUnits(1).build())
+                .build();
+        final ResourceModel prevModel = ResourceModel
+                .builder()
+                .id(id)
+                .roleArn(roleArn)
+                .name(name)
+                .edition(indexEdition)
+                .capacityUnits(CapacityUnitsConfiguration.builder().storageCapacityUnits(1).queryCapacityUnits(1).build())
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(prevModel)
+                .build();
+
+        when(proxyClient.client().describeIndex(any(DescribeIndexRequest.class)))
+                .thenReturn(DescribeIndexResponse.builder()
+                        .id(id)
+                        .name(name)
+                        .roleArn(roleArn)
+                        .edition(indexEdition)
+                        .status(IndexStatus.ACTIVE.toString())
+                        .build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(proxyClient.client(), times(0)).updateIndex(any(UpdateIndexRequest.class));
+        verify(proxyClient.client(), times(1)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_TagsOnlySkipsUpdateAndStabilization() {
+        final UpdateHandler handler = new UpdateHandler(testIndexArnBuilder, testDelay);
+
+        String roleArn = "roleArn";
+        String name = "name";
+        String id = "id";
+        String key = "key";
+        String value = "value";
+        String indexEdition = IndexEdition.ENTERPRISE_EDITION.toString();
+        final ResourceModel prevModel = ResourceModel
+                .builder()
+                .id(id)
+                .roleArn(roleArn)
+                .name(name)
+                .edition(indexEdition)
+                .build();
+        final ResourceModel model = ResourceModel
+                .builder()
+                .id(id)
+                .roleArn(roleArn)
+                .name(name)
+                .edition(indexEdition)
+                .tags(Arrays.asList(Tag.builder().key(key).value(value).build()))
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(prevModel)
+                .build();
+
+        when(proxyClient.client().describeIndex(any(DescribeIndexRequest.class)))
+                .thenReturn(DescribeIndexResponse.builder()
+                        .id(id)
+                        .name(name)
+                        .roleArn(roleArn)
+                        .edition(indexEdition)
+                        .status(IndexStatus.ACTIVE.toString())
+                        .build());
+        when(proxyClient.client().tagResource(any(TagResourceRequest.class)))
+                .thenReturn(TagResourceResponse.builder().build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse
+                        .builder()
+                        .tags(Arrays.asList(software.amazon.awssdk.services.kendra.model.Tag
+                                .builder().key(key).value(value).build()))
+                        .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel().getTags()).containsExactly(Tag.builder().key(key).value(value).build());
+        verify(proxyClient.client(), times(0)).updateIndex(any(UpdateIndexRequest.class));
+        verify(proxyClient.client(), times(1)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(1)).tagResource(any(TagResourceRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
+        verify(sdkClient, atLeastOnce()).serviceName();
+    }
+
+    @Test
+    public void handleRequest_MetadataOnlySendsPartialUpdate() {
+        final UpdateHandler handler = new UpdateHandler(testIndexArnBuilder, testDelay);
+
+        String roleArn = "roleArn";
+        String name = "newName";
+        String id = "id";
+        String indexEdition = IndexEdition.ENTERPRISE_EDITION.toString();
+        final ResourceModel model = ResourceModel
+                .builder()
+                .id(id)
+                .roleArn(roleArn)
+                .name(name)
+                .description("description")
+                .edition(indexEdition)
+                .capacityUnits(CapacityUnitsConfiguration.builder().storageCapacityUnits(1).queryCapacityUnits(1).build())
+                .build();
+        final ResourceModel prevModel = ResourceModel
+                .builder()
+                .id(id)
+                .roleArn(roleArn)
+                .name("oldName")
+                .edition(indexEdition)
+                .capacityUnits(CapacityUnitsConfiguration.builder().storageCapacityUnits(1).queryCapacityUnits(1).build())
+                .build();
+
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(model)
+                .previousResourceState(prevModel)
+                .build();
+
+        when(proxyClient.client().updateIndex(any(UpdateIndexRequest.class)))
+                .thenReturn(UpdateIndexResponse.builder().build());
+        when(proxyClient.client().describeIndex(any(DescribeIndexRequest.class)))
+                .thenReturn(DescribeIndexResponse.builder()
+                        .id(id)
+                        .name(name)
+                        .roleArn(roleArn)
+                        .edition(indexEdition)
+                        .status(IndexStatus.ACTIVE.toString())
+                        .build());
+        when(proxyClient.client().listTagsForResource(any(ListTagsForResourceRequest.class)))
+                .thenReturn(ListTagsForResourceResponse.builder().build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        final ArgumentCaptor<UpdateIndexRequest> updateIndexRequest = ArgumentCaptor.forClass(UpdateIndexRequest.class);
+        verify(proxyClient.client(), times(1)).updateIndex(updateIndexRequest.capture());
+        assertThat(updateIndexRequest.getValue()).isEqualTo(UpdateIndexRequest.builder()
+                .id(id)
+                .name(name)
+                .description("description")
+                .build());
         verify(proxyClient.client(), times(2)).describeIndex(any(DescribeIndexRequest.class));
+        verify(proxyClient.client(), times(1)).listTagsForResource(any(ListTagsForResourceRequest.class));
         verify(sdkClient, atLeastOnce()).serviceName();
     }
 
@@ -0,0 +1,420 @@
+package software.amazon.kendra.datasource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import software.amazon.awssdk.services.kendra.model.DataSourceType;
+
+/**
+ * Builds data source models the way large deployments write them. The size is the number of entries in every
+ * list of the configuration (URLs, patterns, field mappings, ...), so one knob scales the whole payload. Lists the
+ * schema caps below 100 entries stop at their maxItems, so up to a size of 100 every model passes the schema.
+ */
+public final class DataSourcePayloads {
+
+  // The maxItems of aws-kendra-datasource.json below 100
+  private static final int MAX_SUBNET_IDS = 6;
+  private static final int MAX_SECURITY_GROUP_IDS = 10;
+  private static final int MAX_STANDARD_OBJECTS = 17;
+  private static final int MAX_CUSTOM_ARTICLE_TYPES = 10;
+  private static final int MAX_CHANGE_DETECTING_COLUMNS = 5;
+  private static final int MAX_SPACE_MAPPINGS = 4;
+  private static final int MAX_PAGE_MAPPINGS = 12;
+  private static final int MAX_BLOG_MAPPINGS = 9;
+  private static final int MAX_ATTACHMENT_MAPPINGS = 11;
+  private static final int MAX_EXCLUDE_MIME_TYPES = 30;
+  private static final int MAX_BASIC_AUTHENTICATIONS = 10;
+
+  private DataSourcePayloads() {
+  }
+
+  public static ResourceModel model(final DataSourceType type, final int size) {
+    return ResourceModel.builder()
+        .id("0123456789abcdef0123456789abcdef")
+        .indexId("fedcba98-7654-3210-fedc-ba9876543210")
+        .name("benchmark")
+        .type(type.toString())
+        .description("A data source for benchmarks")
+        .roleArn("arn:aws:iam::0123456789:role/kendra-data-source")
+        .schedule("cron(0 0 * * ? *)")
+        .languageCode("en")
+        .dataSourceConfiguration(configuration(type, size))
+        .customDocumentEnrichmentConfiguration(customDocumentEnrichment(size))
+        .tags(tags(size))
+        .build();
+  }
+
+  public static DataSourceConfiguration configuration(final DataSourceType type, final int size) {
+    final DataSourceConfiguration.DataSourceConfigurationBuilder builder = DataSourceConfiguration.builder();
+    switch (type) {
+      case S3:
+        return builder.s3Configuration(s3(size)).build();
+      case SHAREPOINT:
+        return builder.sharePointConfiguration(sharePoint(size)).build();
+      case SALESFORCE:
+        return builder.salesforceConfiguration(salesforce(size)).build();
+      case DATABASE:
+        return builder.databaseConfiguration(database(size)).build();
+      case SERVICENOW:
+        return builder.serviceNowConfiguration(serviceNow(size)).build();
+      case ONEDRIVE:
+        return builder.oneDriveConfiguration(oneDrive(size)).build();
+      case CONFLUENCE:
+        return builder.confluenceConfiguration(confluence(size)).build();
+      case GOOGLEDRIVE:
+        return builder.googleDriveConfiguration(googleDrive(size)).build();
+      case WEBCRAWLER:
+        return builder.webCrawlerConfiguration(webCrawler(size)).build();
+      case WORKDOCS:
+        return builder.workDocsConfiguration(workDocs(size)).build();
+      case TEMPLATE:
+        return builder.templateConfiguration(template(size)).build();
+      default:
+        throw new IllegalArgumentException("No payload for data source type " + type);
+    }
+  }
+
+  public static List<Tag> tags(final int size) {
+    return list(size, i -> Tag.builder().key("key" + i).value("value" + i).build());
+  }
+
+  public static List<String> strings(final String prefix, final int size) {
+    return list(size, i -> prefix + i);
+  }
+
+  public static List<DataSourceToIndexFieldMapping> fieldMappings(final int size) {
+    return list(size, i -> DataSourceToIndexFieldMapping.builder()
+        .dataSourceFieldName("source_field_" + i)
+        .indexFieldName("index_field_" + i)
+        .dateFieldFormat("yyyy-MM-dd'T'HH:mm:ss'Z'")
+        .build());
+  }
+
+  public static DataSourceVpcConfiguration vpc(final int size) {
+    return DataSourceVpcConfiguration.builder()
+        .subnetIds(strings("subnet-", Math.min(size, MAX_SUBNET_IDS)))
+        .securityGroupIds(strings("sg-", Math.min(size, MAX_SECURITY_GROUP_IDS)))
+        .build();
+  }
+
+  public static S3Path s3Path() {
+    return S3Path.builder().bucket("bucket").key("path/to/object").build();
+  }
+
+  public static S3DataSourceConfiguration s3(final int size) {
+    return S3DataSourceConfiguration.builder()
+        .bucketName("bucket")
+        .inclusionPrefixes(strings("documents/", size))
+        .inclusionPatterns(strings("**/*.pdf#", size))
+        .exclusionPatterns(strings("**/drafts/", size))
+        .documentsMetadataConfiguration(DocumentsMetadataConfiguration.builder().s3Prefix("metadata/").build())
+        .accessControlListConfiguration(AccessControlListConfiguration.builder().keyPath("acl.json").build())
+        .build();
+  }
+
+  public static SharePointConfiguration sharePoint(final int size) {
+    return SharePointConfiguration.builder()
+        .sharePointVersion("SHAREPOINT_ONLINE")
+        .urls(strings("https://example.sharepoint.com/sites/site", size))
+        .secretArn("arn:aws:secretsmanager:us-west-2:0123456789:secret:sharepoint")
+        .crawlAttachments(true)
+        .useChangeLog(true)
+        .inclusionPatterns(strings(".*\\.docx#", size))
+        .exclusionPatterns(strings(".*/Archive/", size))
+        .vpcConfiguration(vpc(size))
+        .fieldMappings(fieldMappings(size))
+        .documentTitleFieldName("title")
+        .disableLocalGroups(false)
+        .sslCertificateS3Path(s3Path())
+        .build();
+  }
+
+  public static SalesforceConfiguration salesforce(final int size) {
+    return SalesforceConfiguration.builder()
+        .serverUrl("https://example.my.salesforce.com")
+        .secretArn("arn:aws:secretsmanager:us-west-2:0123456789:secret:salesforce")
+        .standardObjectConfigurations(list(size, MAX_STANDARD_OBJECTS,
+            i -> SalesforceStandardObjectConfiguration.builder()
+                .name("ACCOUNT")
+                .documentDataFieldName("Description")
+                .documentTitleFieldName("Name")
+                .fieldMappings(fieldMappings(size))
+                .build()))
+        .knowledgeArticleConfiguration(SalesforceKnowledgeArticleConfiguration.builder()
+            .includedStates(List.of("PUBLISHED", "DRAFT"))
+            .standardKnowledgeArticleTypeConfiguration(SalesforceStandardKnowledgeArticleTypeConfiguration.builder()
+                .documentDataFieldName("Summary")
+                .documentTitleFieldName("Title")
+                .fieldMappings(fieldMappings(size))
+                .build())
+            .customKnowledgeArticleTypeConfigurations(list(size, MAX_CUSTOM_ARTICLE_TYPES,
+                i -> SalesforceCustomKnowledgeArticleTypeConfiguration.builder()
+                    .name("Custom_" + i + "__kav")
+                    .documentDataFieldName("Body__c")
+                    .documentTitleFieldName("Title")
+                    .fieldMappings(fieldMappings(size))
+                    .build()))
+            .build())
+        .chatterFeedConfiguration(SalesforceChatterFeedConfiguration.builder()
+            .documentDataFieldName("Body")
+            .documentTitleFieldName("Title")
+            .fieldMappings(fieldMappings(size))
+            .includeFilterTypes(List.of("ACTIVE_USER", "STANDARD_USER"))
+            .build())
+        .crawlAttachments(true)
+        .includeAttachmentFilePatterns(strings(".*\\.pdf#", size))
+        .excludeAttachmentFilePatterns(strings(".*\\.tmp#", size))
+        .build();
+  }
+
+  public static DatabaseConfiguration database(final int size) {
+    return DatabaseConfiguration.builder()
+        .databaseEngineType("RDS_POSTGRESQL")
+        .connectionConfiguration(ConnectionConfiguration.builder()
+            .databaseHost("database.example.com")
+            .databasePort(5432)
+            .databaseName("documents")
+            .tableName("articles")
+            .secretArn("arn:aws:secretsmanager:us-west-2:0123456789:secret:database")
+            .build())
+        .vpcConfiguration(vpc(size))
+        .columnConfiguration(ColumnConfiguration.builder()
+            .documentIdColumnName("id")
+            .documentDataColumnName("body")
+            .documentTitleColumnName("title")
+            .changeDetectingColumns(strings("column_", Math.min(size, MAX_CHANGE_DETECTING_COLUMNS)))
+            .fieldMappings(fieldMappings(size))
+            .build())
+        .aclConfiguration(AclConfiguration.builder().allowedGroupsColumnName("groups").build())
+        .sqlConfiguration(SqlConfiguration.builder().queryIdentifiersEnclosingOption("DOUBLE_QUOTES").build())
+        .build();
+  }
+
+  public static ServiceNowConfiguration serviceNow(final int size) {
+    return ServiceNowConfiguration.builder()
+        .hostUrl("example.service-now.com")
+        .secretArn("arn:aws:secretsmanager:us-west-2:0123456789:secret:servicenow")
+        .serviceNowBuildVersion("LONDON")
+        .authenticationType("HTTP_BASIC")
+        .knowledgeArticleConfiguration(ServiceNowKnowledgeArticleConfiguration.builder()
+            .crawlAttachments(true)
+            .documentDataFieldName("text")
+            .documentTitleFieldName("short_description")
+            .fieldMappings(fieldMappings(size))
+            .includeAttachmentFilePatterns(strings(".*\\.pdf#", size))
+            .excludeAttachmentFilePatterns(strings(".*\\.tmp#", size))
+            .filterQuery("workflow_state=published")
+            .build())
+        .serviceCatalogConfiguration(ServiceNowServiceCatalogConfiguration.builder()
+            .crawlAttachments(true)
+            .documentDataFieldName("description")
+            .documentTitleFieldName("name")
+            .fieldMappings(fieldMappings(size))
+            .includeAttachmentFilePatterns(strings(".*\\.pdf#", size))
+            .excludeAttachmentFilePatterns(strings(".*\\.tmp#", size))
+            .build())
+        .build();
+  }
+
+  public static OneDriveConfiguration oneDrive(final int size) {
+    return OneDriveConfiguration.builder()
+        .tenantDomain("example.onmicrosoft.com")
+        .secretArn("arn:aws:secretsmanager:us-west-2:0123456789:secret:onedrive")
+        .oneDriveUsers(OneDriveUsers.builder()
+            .oneDriveUserList(list(size, i -> "user" + i + "@example.com"))
+            .build())
+        .inclusionPatterns(strings(".*\\.docx#", size))
+        .exclusionPatterns(strings(".*/Archive/", size))
+        .fieldMappings(fieldMappings(size))
+        .disableLocalGroups(false)
+        .build();
+  }
+
+  public static ConfluenceConfiguration confluence(final int size) {
+    return ConfluenceConfiguration.builder()
+        .serverUrl("https://example.atlassian.net")
+        .secretArn("arn:aws:secretsmanager:us-west-2:0123456789:secret:confluence")
+        .version("CLOUD")
+        .spaceConfiguration(ConfluenceSpaceConfiguration.builder()
+            .crawlPersonalSpaces(false)
+            .crawlArchivedSpaces(false)
+            .includeSpaces(strings("SPACE", size))
+            .excludeSpaces(strings("ARCHIVE", size))
+            .spaceFieldMappings(list(size, MAX_SPACE_MAPPINGS, i -> ConfluenceSpaceToIndexFieldMapping.builder()
+                .dataSourceFieldName("DISPLAY_URL")
+                .indexFieldName("space_url_" + i)
+                .build()))
+            .build())
+        .pageConfiguration(ConfluencePageConfiguration.builder()
+            .pageFieldMappings(list(size, MAX_PAGE_MAPPINGS, i -> ConfluencePageToIndexFieldMapping.builder()
+                .dataSourceFieldName("CREATED_DATE")
+                .indexFieldName("page_created_" + i)
+                .dateFieldFormat("yyyy-MM-dd'T'HH:mm:ss'Z'")
+                .build()))
+            .build())
+        .blogConfiguration(ConfluenceBlogConfiguration.builder()
+            .blogFieldMappings(list(size, MAX_BLOG_MAPPINGS, i -> ConfluenceBlogToIndexFieldMapping.builder()
+                .dataSourceFieldName("AUTHOR")
+                .indexFieldName("blog_author_" + i)
+                .build()))
+            .build())
+        .attachmentConfiguration(ConfluenceAttachmentConfiguration.builder()
+            .crawlAttachments(true)
+            .attachmentFieldMappings(list(size, MAX_ATTACHMENT_MAPPINGS,
+                i -> ConfluenceAttachmentToIndexFieldMapping.builder()
+                    .dataSourceFieldName("FILE_SIZE")
+                    .indexFieldName("attachment_size_" + i)
+                    .build()))
+            .build())
+        .vpcConfiguration(vpc(size))
+        .inclusionPatterns(strings(".*/display/", size))
+        .exclusionPatterns(strings(".*/archive/", size))
+        .build();
+  }
+
+  public static GoogleDriveConfiguration googleDrive(final int size) {
+    return GoogleDriveConfiguration.builder()
+        .secretArn("arn:aws:secretsmanager:us-west-2:0123456789:secret:googledrive")
+        .inclusionPatterns(strings(".*\\.gdoc#", size))
+        .exclusionPatterns(strings(".*/Trash/", size))
+        .fieldMappings(fieldMappings(size))
+        .excludeMimeTypes(strings("application/x-type", Math.min(size, MAX_EXCLUDE_MIME_TYPES)))
+        .excludeUserAccounts(strings("user@example.com#", size))
+        .excludeSharedDrives(strings("drive", size))
+        .build();
+  }
+
+  public static WebCrawlerConfiguration webCrawler(final int size) {
+    return WebCrawlerConfiguration.builder()
+        .urls(WebCrawlerUrls.builder()
+            .seedUrlConfiguration(WebCrawlerSeedUrlConfiguration.builder()
+                .seedUrls(strings("https://example.com/section", size))
+                .webCrawlerMode("HOST_ONLY")
+                .build())
+            .build())
+        .crawlDepth(3)
+        .maxLinksPerPage(100)
+        .maxContentSizePerPageInMegaBytes(50.0)
+        .maxUrlsPerMinuteCrawlRate(300)
+        .urlInclusionPatterns(strings(".*/docs/", size))
+        .urlExclusionPatterns(strings(".*/private/", size))
+        .proxyConfiguration(ProxyConfiguration.builder()
+            .host("proxy.example.com")
+            .port(8080)
+            .credentials("arn:aws:secretsmanager:us-west-2:0123456789:secret:proxy")
+            .build())
+        .authenticationConfiguration(WebCrawlerAuthenticationConfiguration.builder()
+            .basicAuthentication(list(size, MAX_BASIC_AUTHENTICATIONS, i -> WebCrawlerBasicAuthentication.builder()
+                .host("host" + i + ".example.com")
+                .port(443)
+                .credentials("arn:aws:secretsmanager:us-west-2:0123456789:secret:host" + i)
+                .build()))
+            .build())
+        .build();
+  }
+
+  // A crawl starts from either seed URLs or site maps, this is the site map one
+  public static WebCrawlerConfiguration webCrawlerSiteMaps(final int size) {
+    return WebCrawlerConfiguration.builder()
+        .urls(WebCrawlerUrls.builder()
+            .siteMapsConfiguration(WebCrawlerSiteMapsConfiguration.builder()
+                .siteMaps(strings("https://example.com/sitemap", size))
+                .build())
+            .build())
+        .build();
+  }
+
+  public static WorkDocsConfiguration workDocs(final int size) {
+    return WorkDocsConfiguration.builder()
+        .organizationId("d-0123456789")
+        .crawlComments(true)
+        .useChangeLog(true)
+        .inclusionPatterns(strings(".*\\.docx#", size))
+        .exclusionPatterns(strings(".*/Archive/", size))
+        .fieldMappings(fieldMappings(size))
+        .build();
+  }
+
+  /**
+   * A template shaped like the connector templates, with strings, booleans written as strings the way YAML
+   * hands them over, numbers, nested maps and lists of both.
+   */
+  public static TemplateConfiguration template(final int size) {
+    final Map<String, Object> connection = new LinkedHashMap<>();
+    connection.put("repositoryEndpointMetadata", Map.of("hostUrl", "https://example.com", "port", 443));
+    final Map<String, Object> fieldMappings = new LinkedHashMap<>();
+    fieldMappings.put("fieldMappings", list(size, i -> Map.<String, Object>of(
+        "dataSourceFieldName", "source_field_" + i,
+        "indexFieldName", "index_field_" + i,
+        "indexFieldType", "STRING")));
+    final Map<String, Object> repositoryConfigurations = new LinkedHashMap<>();
+    repositoryConfigurations.put("document", fieldMappings);
+    final Map<String, Object> additionalProperties = new LinkedHashMap<>();
+    additionalProperties.put("inclusionPatterns", strings(".*/docs/", size));
+    additionalProperties.put("exclusionPatterns", strings(".*/private/", size));
+    additionalProperties.put("crawlAttachments", "true");
+    additionalProperties.put("maxFileSizeInMegaBytes", 50);
+    additionalProperties.put("fileSizeRatio", 0.5);
+
+    final Map<String, Object> template = new LinkedHashMap<>();
+    template.put("type", "TEMPLATE_CONNECTOR");
+    template.put("syncMode", "FORCED_FULL_CRAWL");
+    template.put("enableIdentityCrawler", false);
+    template.put("version", "1.0.0");
+    template.put("connectionConfiguration", connection);
+    template.put("repositoryConfigurations", repositoryConfigurations);
+    template.put("additionalProperties", additionalProperties);
+    return TemplateConfiguration.builder().template(template).build();
+  }
+
+  public static CustomDocumentEnrichmentConfiguration customDocumentEnrichment(final int size) {
+    return CustomDocumentEnrichmentConfiguration.builder()
+        .inlineConfigurations(list(size, i -> InlineCustomDocumentEnrichmentConfiguration.builder()
+            .condition(documentAttributeCondition(i))
+            .target(DocumentAttributeTarget.builder()
+                .targetDocumentAttributeKey("_category")
+                .targetDocumentAttributeValueDeletion(false)
+                .targetDocumentAttributeValue(DocumentAttributeValue.builder()
+                    .stringListValue(strings("category", 3))
+                    .build())
+                .build())
+            .documentContentDeletion(false)
+            .build()))
+        .preExtractionHookConfiguration(HookConfiguration.builder()
+            .invocationCondition(documentAttributeCondition(0))
+            .lambdaArn("arn:aws:lambda:us-west-2:0123456789:function:pre-extraction")
+            .s3Bucket("bucket")
+            .build())
+        .postExtractionHookConfiguration(HookConfiguration.builder()
+            .lambdaArn("arn:aws:lambda:us-west-2:0123456789:function:post-extraction")
+            .s3Bucket("bucket")
+            .build())
+        .roleArn("arn:aws:iam::0123456789:role/kendra-enrichment")
+        .build();
+  }
+
+  public static DocumentAttributeCondition documentAttributeCondition(final int i) {
+    return DocumentAttributeCondition.builder()
+        .conditionDocumentAttributeKey("_source_uri")
+        .operator("BeginsWith")
+        .conditionOnValue(DocumentAttributeValue.builder()
+            .stringValue("https://example.com/section" + i)
+            .build())
+        .build();
+  }
+
+  private static <T> List<T> list(final int size, final int maxItems, final IntFunction<T> element) {
+    return list(Math.min(size, maxItems), element);
+  }
+
+  private static <T> List<T> list(final int size, final IntFunction<T> element) {
+    final List<T> list = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      list.add(element.apply(i));
+    }
+    return list;
+  }
+}
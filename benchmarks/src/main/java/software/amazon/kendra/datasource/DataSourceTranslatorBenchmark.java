@@ -0,0 +1,84 @@
+package software.amazon.kendra.datasource;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.kendra.model.CreateDataSourceRequest;
+import software.amazon.awssdk.services.kendra.model.DataSourceStatus;
+import software.amazon.awssdk.services.kendra.model.DataSourceType;
+import software.amazon.awssdk.services.kendra.model.DescribeDataSourceResponse;
+import software.amazon.awssdk.services.kendra.model.ListTagsForResourceResponse;
+import software.amazon.kendra.datasource.convert.ListConverter;
+import software.amazon.kendra.datasource.convert.cde.CustomDocumentEnrichmentConfigurationConverter;
+
+/**
+ * What translating a data source costs on create and on every read, for each connector type and payload size.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DataSourceTranslatorBenchmark {
+
+  private static final String ARN = "arn:aws:kendra:us-west-2:0123456789:index/fedcba9876543210fedcba9876543210"
+      + "/data-source/0123456789abcdef0123456789abcdef";
+
+  @Param({"S3", "SHAREPOINT", "SALESFORCE", "DATABASE", "SERVICENOW", "ONEDRIVE", "CONFLUENCE", "GOOGLEDRIVE",
+      "WEBCRAWLER", "WORKDOCS", "TEMPLATE"})
+  private DataSourceType type;
+
+  @Param({"1", "10", "100", "1000"})
+  private int size;
+
+  private ResourceModel model;
+  private DescribeDataSourceResponse describeDataSourceResponse;
+  private ListTagsForResourceResponse listTagsForResourceResponse;
+
+  @Setup
+  public void setup() {
+    model = DataSourcePayloads.model(type, size);
+    // What Kendra hands back for the same data source
+    describeDataSourceResponse = DescribeDataSourceResponse.builder()
+        .id(model.getId())
+        .indexId(model.getIndexId())
+        .name(model.getName())
+        .type(model.getType())
+        .description(model.getDescription())
+        .roleArn(model.getRoleArn())
+        .schedule(model.getSchedule())
+        .languageCode(model.getLanguageCode())
+        .status(DataSourceStatus.ACTIVE)
+        .configuration(Translator.toSdkDataSourceConfiguration(model.getDataSourceConfiguration()))
+        .customDocumentEnrichmentConfiguration(CustomDocumentEnrichmentConfigurationConverter
+            .toSdkCustomDocumentEnrichmentConfiguration(model.getCustomDocumentEnrichmentConfiguration()))
+        .build();
+    listTagsForResourceResponse = ListTagsForResourceResponse.builder()
+        .tags(ListConverter.toSdk(model.getTags(), tag -> software.amazon.awssdk.services.kendra.model.Tag.builder()
+            .key(tag.getKey())
+            .value(tag.getValue())
+            .build()))
+        .build();
+  }
+
+  @Benchmark
+  public CreateDataSourceRequest translateToCreateRequest() {
+    return Translator.translateToCreateRequest(model);
+  }
+
+  @Benchmark
+  public ResourceModel translateFromReadResponse() {
+    return Translator.translateFromReadResponse(describeDataSourceResponse, listTagsForResourceResponse, ARN);
+  }
+}
@@ -0,0 +1,59 @@
+package software.amazon.kendra.datasource;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.kendra.model.DataSourceType;
+
+/**
+ * What validating a data source costs before Create and Update, against the schema and against the connector
+ * rules, for each connector type and payload size. The schema is loaded in the setup, not measured. The sizes stop at
+ * the largest maxItems of the schema's lists, a larger model would only measure how violations are reported.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ValidatorBenchmark {
+
+  @Param({"S3", "SHAREPOINT", "SALESFORCE", "DATABASE", "SERVICENOW", "ONEDRIVE", "CONFLUENCE", "GOOGLEDRIVE",
+      "WEBCRAWLER", "WORKDOCS", "TEMPLATE"})
+  private DataSourceType type;
+
+  @Param({"1", "10", "100"})
+  private int size;
+
+  private ResourceModel model;
+
+  @Setup
+  public void setup() {
+    model = DataSourcePayloads.model(type, size);
+    final List<String> violations = ResourceModelValidator.violations(model);
+    if (!violations.isEmpty()) {
+      throw new IllegalStateException("The " + type + " payload of size " + size + " is invalid: " + violations);
+    }
+  }
+
+  @Benchmark
+  public List<String> schema() {
+    return ResourceModelValidator.violations(model);
+  }
+
+  @Benchmark
+  public List<String> connectorRules() {
+    return DataSourceValidator.violations(model);
+  }
+}
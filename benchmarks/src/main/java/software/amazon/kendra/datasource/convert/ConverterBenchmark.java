@@ -0,0 +1,274 @@
+package software.amazon.kendra.datasource.convert;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.kendra.datasource.DataSourceConfiguration;
+import software.amazon.kendra.datasource.DataSourcePayloads;
+import software.amazon.kendra.datasource.DataSourceToIndexFieldMapping;
+import software.amazon.kendra.datasource.DataSourceVpcConfiguration;
+import software.amazon.kendra.datasource.DatabaseConfiguration;
+import software.amazon.kendra.datasource.GoogleDriveConfiguration;
+import software.amazon.kendra.datasource.OneDriveConfiguration;
+import software.amazon.kendra.datasource.S3DataSourceConfiguration;
+import software.amazon.kendra.datasource.S3Path;
+import software.amazon.kendra.datasource.SalesforceConfiguration;
+import software.amazon.kendra.datasource.ServiceNowConfiguration;
+import software.amazon.kendra.datasource.SharePointConfiguration;
+import software.amazon.kendra.datasource.TemplateConfiguration;
+import software.amazon.kendra.datasource.WebCrawlerConfiguration;
+import software.amazon.kendra.datasource.WorkDocsConfiguration;
+
+/**
+ * Every converter of the convert package in both directions, one pair of benchmarks per converter. The SDK side
+ * of each pair is the model side converted once up front, so both directions see the same payload.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConverterBenchmark {
+
+  @Param({"1", "10", "100", "1000"})
+  private int size;
+
+  private List<String> strings;
+  private List<Double> doubles;
+  private List<Float> floats;
+  private List<DataSourceToIndexFieldMapping> fieldMappings;
+  private List<software.amazon.awssdk.services.kendra.model.DataSourceToIndexFieldMapping> sdkFieldMappings;
+  private DataSourceVpcConfiguration vpc;
+  private software.amazon.awssdk.services.kendra.model.DataSourceVpcConfiguration sdkVpc;
+  private S3Path s3Path;
+  private software.amazon.awssdk.services.kendra.model.S3Path sdkS3Path;
+  private S3DataSourceConfiguration s3;
+  private software.amazon.awssdk.services.kendra.model.S3DataSourceConfiguration sdkS3;
+  private SharePointConfiguration sharePoint;
+  private software.amazon.awssdk.services.kendra.model.SharePointConfiguration sdkSharePoint;
+  private SalesforceConfiguration salesforce;
+  private software.amazon.awssdk.services.kendra.model.SalesforceConfiguration sdkSalesforce;
+  private DatabaseConfiguration database;
+  private software.amazon.awssdk.services.kendra.model.DatabaseConfiguration sdkDatabase;
+  private ServiceNowConfiguration serviceNow;
+  private software.amazon.awssdk.services.kendra.model.ServiceNowConfiguration sdkServiceNow;
+  private OneDriveConfiguration oneDrive;
+  private software.amazon.awssdk.services.kendra.model.OneDriveConfiguration sdkOneDrive;
+  private GoogleDriveConfiguration googleDrive;
+  private software.amazon.awssdk.services.kendra.model.GoogleDriveConfiguration sdkGoogleDrive;
+  private WebCrawlerConfiguration webCrawler;
+  private software.amazon.awssdk.services.kendra.model.WebCrawlerConfiguration sdkWebCrawler;
+  private WebCrawlerConfiguration webCrawlerSiteMaps;
+  private software.amazon.awssdk.services.kendra.model.WebCrawlerConfiguration sdkWebCrawlerSiteMaps;
+  private WorkDocsConfiguration workDocs;
+  private software.amazon.awssdk.services.kendra.model.WorkDocsConfiguration sdkWorkDocs;
+  private TemplateConfiguration template;
+  private software.amazon.awssdk.services.kendra.model.TemplateConfiguration sdkTemplate;
+
+  @Setup
+  public void setup() {
+    strings = DataSourcePayloads.strings("value", size);
+    doubles = ListConverter.toSdk(strings, value -> (double) value.length());
+    floats = ListConverter.toSdk(doubles, NumberConverter::doubleToFloat);
+    fieldMappings = DataSourcePayloads.fieldMappings(size);
+    sdkFieldMappings = ListConverter.toSdk(fieldMappings, FieldMappingConverter::toSdk);
+    vpc = DataSourcePayloads.vpc(size);
+    sdkVpc = DataSourceVpcConfigurationConverter.toSdk(vpc);
+    s3Path = DataSourcePayloads.s3Path();
+    sdkS3Path = S3PathConverter.toSdk(s3Path);
+    s3 = DataSourcePayloads.s3(size);
+    sdkS3 = S3Converter.toSdkDataSourceConfiguration(s3);
+    sharePoint = DataSourcePayloads.sharePoint(size);
+    sdkSharePoint = SharePointConverter.toSdkDataSourceConfiguration(sharePoint);
+    salesforce = DataSourcePayloads.salesforce(size);
+    sdkSalesforce = SalesforceConverter.toSdkDataSourceConfiguration(salesforce);
+    database = DataSourcePayloads.database(size);
+    sdkDatabase = DatabaseConverter.toSdk(database);
+    serviceNow = DataSourcePayloads.serviceNow(size);
+    sdkServiceNow = ServiceNowConverter.toSdkDataSourceConfiguration(serviceNow);
+    oneDrive = DataSourcePayloads.oneDrive(size);
+    sdkOneDrive = OneDriveConverter.toSdkDataSourceConfiguration(oneDrive);
+    googleDrive = DataSourcePayloads.googleDrive(size);
+    sdkGoogleDrive = GoogleDriveConverter.toSdkDataSourceConfiguration(googleDrive);
+    webCrawler = DataSourcePayloads.webCrawler(size);
+    sdkWebCrawler = WebCrawlerConverter.toSdkDataSourceConfiguration(webCrawler);
+    webCrawlerSiteMaps = DataSourcePayloads.webCrawlerSiteMaps(size);
+    sdkWebCrawlerSiteMaps = WebCrawlerConverter.toSdkDataSourceConfiguration(webCrawlerSiteMaps);
+    workDocs = DataSourcePayloads.workDocs(size);
+    sdkWorkDocs = WorkDocsConverter.toSdkDataSourceConfiguration(workDocs);
+    template = DataSourcePayloads.template(size);
+    sdkTemplate = TemplateConverter.toSdkTemplateConfiguration(template);
+  }
+
+  @Benchmark
+  public List<String> stringListToSdk() {
+    return StringListConverter.toSdk(strings);
+  }
+
+  @Benchmark
+  public List<String> stringListToModel() {
+    return StringListConverter.toModel(strings);
+  }
+
+  @Benchmark
+  public List<Float> numbersToSdk() {
+    return ListConverter.toSdk(doubles, NumberConverter::doubleToFloat);
+  }
+
+  @Benchmark
+  public List<Double> numbersToModel() {
+    return ListConverter.toModel(floats, NumberConverter::floatToDouble);
+  }
+
+  @Benchmark
+  public List<software.amazon.awssdk.services.kendra.model.DataSourceToIndexFieldMapping> fieldMappingsToSdk() {
+    return ListConverter.toSdk(fieldMappings, FieldMappingConverter::toSdk);
+  }
+
+  @Benchmark
+  public List<DataSourceToIndexFieldMapping> fieldMappingsToModel() {
+    return ListConverter.toModel(sdkFieldMappings, FieldMappingConverter::toModel);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.DataSourceVpcConfiguration vpcToSdk() {
+    return DataSourceVpcConfigurationConverter.toSdk(vpc);
+  }
+
+  @Benchmark
+  public DataSourceVpcConfiguration vpcToModel() {
+    return DataSourceVpcConfigurationConverter.toModel(sdkVpc);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.S3Path s3PathToSdk() {
+    return S3PathConverter.toSdk(s3Path);
+  }
+
+  @Benchmark
+  public S3Path s3PathToModel() {
+    return S3PathConverter.toModel(sdkS3Path);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.S3DataSourceConfiguration s3ToSdk() {
+    return S3Converter.toSdkDataSourceConfiguration(s3);
+  }
+
+  @Benchmark
+  public DataSourceConfiguration s3ToModel() {
+    return S3Converter.toModelDataSourceConfiguration(sdkS3);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.SharePointConfiguration sharePointToSdk() {
+    return SharePointConverter.toSdkDataSourceConfiguration(sharePoint);
+  }
+
+  @Benchmark
+  public DataSourceConfiguration sharePointToModel() {
+    return SharePointConverter.toModelDataSourceConfiguration(sdkSharePoint);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.SalesforceConfiguration salesforceToSdk() {
+    return SalesforceConverter.toSdkDataSourceConfiguration(salesforce);
+  }
+
+  @Benchmark
+  public DataSourceConfiguration salesforceToModel() {
+    return SalesforceConverter.toModelDataSourceConfiguration(sdkSalesforce);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.DatabaseConfiguration databaseToSdk() {
+    return DatabaseConverter.toSdk(database);
+  }
+
+  @Benchmark
+  public DataSourceConfiguration databaseToModel() {
+    return DatabaseConverter.toModelDataSourceConfiguration(sdkDatabase);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.ServiceNowConfiguration serviceNowToSdk() {
+    return ServiceNowConverter.toSdkDataSourceConfiguration(serviceNow);
+  }
+
+  @Benchmark
+  public DataSourceConfiguration serviceNowToModel() {
+    return ServiceNowConverter.toModelDataSourceConfiguration(sdkServiceNow);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.OneDriveConfiguration oneDriveToSdk() {
+    return OneDriveConverter.toSdkDataSourceConfiguration(oneDrive);
+  }
+
+  @Benchmark
+  public DataSourceConfiguration oneDriveToModel() {
+    return OneDriveConverter.toModelDataSourceConfiguration(sdkOneDrive);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.GoogleDriveConfiguration googleDriveToSdk() {
+    return GoogleDriveConverter.toSdkDataSourceConfiguration(googleDrive);
+  }
+
+  @Benchmark
+  public DataSourceConfiguration googleDriveToModel() {
+    return GoogleDriveConverter.toModelDataSourceConfiguration(sdkGoogleDrive);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.WebCrawlerConfiguration webCrawlerToSdk() {
+    return WebCrawlerConverter.toSdkDataSourceConfiguration(webCrawler);
+  }
+
+  @Benchmark
+  public DataSourceConfiguration webCrawlerToModel() {
+    return WebCrawlerConverter.toModelDataSourceConfiguration(sdkWebCrawler);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.WebCrawlerConfiguration webCrawlerSiteMapsToSdk() {
+    return WebCrawlerConverter.toSdkDataSourceConfiguration(webCrawlerSiteMaps);
+  }
+
+  @Benchmark
+  public DataSourceConfiguration webCrawlerSiteMapsToModel() {
+    return WebCrawlerConverter.toModelDataSourceConfiguration(sdkWebCrawlerSiteMaps);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.WorkDocsConfiguration workDocsToSdk() {
+    return WorkDocsConverter.toSdkDataSourceConfiguration(workDocs);
+  }
+
+  @Benchmark
+  public DataSourceConfiguration workDocsToModel() {
+    return WorkDocsConverter.toModelDataSourceConfiguration(sdkWorkDocs);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.TemplateConfiguration templateToSdk() {
+    return TemplateConverter.toSdkTemplateConfiguration(template);
+  }
+
+  @Benchmark
+  public DataSourceConfiguration templateToModel() {
+    return TemplateConverter.toModelDataSourceConfiguration(sdkTemplate);
+  }
+}
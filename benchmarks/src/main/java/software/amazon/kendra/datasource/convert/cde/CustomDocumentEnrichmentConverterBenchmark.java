@@ -0,0 +1,131 @@
+package software.amazon.kendra.datasource.convert.cde;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.kendra.datasource.CustomDocumentEnrichmentConfiguration;
+import software.amazon.kendra.datasource.DataSourcePayloads;
+import software.amazon.kendra.datasource.DocumentAttributeCondition;
+import software.amazon.kendra.datasource.DocumentAttributeTarget;
+import software.amazon.kendra.datasource.DocumentAttributeValue;
+import software.amazon.kendra.datasource.HookConfiguration;
+import software.amazon.kendra.datasource.InlineCustomDocumentEnrichmentConfiguration;
+
+/**
+ * Every custom document enrichment converter in both directions. The size is the number of inline
+ * configurations, which is where large enrichment setups grow.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CustomDocumentEnrichmentConverterBenchmark {
+
+  @Param({"1", "10", "100", "1000"})
+  private int size;
+
+  private CustomDocumentEnrichmentConfiguration configuration;
+  private software.amazon.awssdk.services.kendra.model.CustomDocumentEnrichmentConfiguration sdkConfiguration;
+  private InlineCustomDocumentEnrichmentConfiguration inline;
+  private software.amazon.awssdk.services.kendra.model.InlineCustomDocumentEnrichmentConfiguration sdkInline;
+  private HookConfiguration hook;
+  private software.amazon.awssdk.services.kendra.model.HookConfiguration sdkHook;
+  private DocumentAttributeCondition condition;
+  private software.amazon.awssdk.services.kendra.model.DocumentAttributeCondition sdkCondition;
+  private DocumentAttributeTarget target;
+  private software.amazon.awssdk.services.kendra.model.DocumentAttributeTarget sdkTarget;
+  private DocumentAttributeValue value;
+  private software.amazon.awssdk.services.kendra.model.DocumentAttributeValue sdkValue;
+
+  @Setup
+  public void setup() {
+    configuration = DataSourcePayloads.customDocumentEnrichment(size);
+    sdkConfiguration = CustomDocumentEnrichmentConfigurationConverter.toSdkCustomDocumentEnrichmentConfiguration(configuration);
+    inline = configuration.getInlineConfigurations().get(0);
+    sdkInline = InlineCustomDocumentEnrichmentConfigurationConverter.toSdkInlineCDEConfiguration(inline);
+    hook = configuration.getPreExtractionHookConfiguration();
+    sdkHook = HookConfigurationConverter.toSdkHookConfiguration(hook);
+    condition = inline.getCondition();
+    sdkCondition = DocumentAttributeConditionConverter.toSdkDocumentAttributeCondition(condition);
+    target = inline.getTarget();
+    sdkTarget = DocumentAttributeTargetConverter.toSdkDocumentAttributeTarget(target);
+    value = DocumentAttributeValue.builder()
+        .stringListValue(DataSourcePayloads.strings("value", size))
+        .dateValue("2021-01-01T00:00:00Z")
+        .build();
+    sdkValue = DocumentAttributeValueConverter.toSdkDocumentAttributeValue(value);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.CustomDocumentEnrichmentConfiguration configurationToSdk() {
+    return CustomDocumentEnrichmentConfigurationConverter.toSdkCustomDocumentEnrichmentConfiguration(configuration);
+  }
+
+  @Benchmark
+  public CustomDocumentEnrichmentConfiguration configurationToModel() {
+    return CustomDocumentEnrichmentConfigurationConverter.toModelCustomDocumentEnrichmentConfiguration(sdkConfiguration);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.InlineCustomDocumentEnrichmentConfiguration inlineToSdk() {
+    return InlineCustomDocumentEnrichmentConfigurationConverter.toSdkInlineCDEConfiguration(inline);
+  }
+
+  @Benchmark
+  public InlineCustomDocumentEnrichmentConfiguration inlineToModel() {
+    return InlineCustomDocumentEnrichmentConfigurationConverter.toModelInlineCDEConfiguration(sdkInline);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.HookConfiguration hookToSdk() {
+    return HookConfigurationConverter.toSdkHookConfiguration(hook);
+  }
+
+  @Benchmark
+  public HookConfiguration hookToModel() {
+    return HookConfigurationConverter.toModelHookConfiguration(sdkHook);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.DocumentAttributeCondition conditionToSdk() {
+    return DocumentAttributeConditionConverter.toSdkDocumentAttributeCondition(condition);
+  }
+
+  @Benchmark
+  public DocumentAttributeCondition conditionToModel() {
+    return DocumentAttributeConditionConverter.toModelDocumentAttributeCondition(sdkCondition);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.DocumentAttributeTarget targetToSdk() {
+    return DocumentAttributeTargetConverter.toSdkDocumentAttributeTarget(target);
+  }
+
+  @Benchmark
+  public DocumentAttributeTarget targetToModel() {
+    return DocumentAttributeTargetConverter.toModelDocumentAttributeTarget(sdkTarget);
+  }
+
+  // The value is the one piece that scales on its own, with a string list of the benchmark size
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.DocumentAttributeValue valueToSdk() {
+    return DocumentAttributeValueConverter.toSdkDocumentAttributeValue(value);
+  }
+
+  @Benchmark
+  public DocumentAttributeValue valueToModel() {
+    return DocumentAttributeValueConverter.toModelDocumentAttributeValue(sdkValue);
+  }
+}
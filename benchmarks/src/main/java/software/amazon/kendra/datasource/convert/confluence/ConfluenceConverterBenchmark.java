@@ -0,0 +1,62 @@
+package software.amazon.kendra.datasource.convert.confluence;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.kendra.datasource.ConfluenceConfiguration;
+import software.amazon.kendra.datasource.DataSourceConfiguration;
+import software.amazon.kendra.datasource.DataSourcePayloads;
+
+/**
+ * The Confluence converters in both directions, through the entry point and through each half directly.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConfluenceConverterBenchmark {
+
+  @Param({"1", "10", "100", "1000"})
+  private int size;
+
+  private ConfluenceConfiguration confluence;
+  private software.amazon.awssdk.services.kendra.model.ConfluenceConfiguration sdkConfluence;
+
+  @Setup
+  public void setup() {
+    confluence = DataSourcePayloads.confluence(size);
+    sdkConfluence = ConfluenceModelToSdkConverter.toSdkDataSourceConfiguration(confluence);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.ConfluenceConfiguration confluenceToSdk() {
+    return ConfluenceConverter.toSdkDataSourceConfiguration(confluence);
+  }
+
+  @Benchmark
+  public DataSourceConfiguration confluenceToModel() {
+    return ConfluenceConverter.toModelDataSourceConfiguration(sdkConfluence);
+  }
+
+  @Benchmark
+  public software.amazon.awssdk.services.kendra.model.ConfluenceConfiguration modelToSdk() {
+    return ConfluenceModelToSdkConverter.toSdkDataSourceConfiguration(confluence);
+  }
+
+  @Benchmark
+  public DataSourceConfiguration sdkToModel() {
+    return ConfluenceSdkToModelConverter.toModelDataSourceConfiguration(sdkConfluence);
+  }
+}
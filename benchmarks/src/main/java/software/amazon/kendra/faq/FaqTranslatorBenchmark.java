@@ -0,0 +1,89 @@
+package software.amazon.kendra.faq;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.kendra.model.CreateFaqRequest;
+import software.amazon.awssdk.services.kendra.model.DescribeFaqResponse;
+import software.amazon.awssdk.services.kendra.model.FaqFileFormat;
+import software.amazon.awssdk.services.kendra.model.FaqStatus;
+import software.amazon.awssdk.services.kendra.model.ListTagsForResourceResponse;
+
+/**
+ * What translating a FAQ costs on create and on every read. A FAQ's only list is its tags, so the size is the
+ * number of tags.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FaqTranslatorBenchmark {
+
+  private static final String ARN = "arn:aws:kendra:us-west-2:0123456789:index/fedcba9876543210fedcba9876543210"
+      + "/faq/0123456789abcdef0123456789abcdef";
+
+  @Param({"1", "10", "100", "1000"})
+  private int size;
+
+  private ResourceModel model;
+  private DescribeFaqResponse describeFaqResponse;
+  private ListTagsForResourceResponse listTagsForResourceResponse;
+
+  @Setup
+  public void setup() {
+    final List<Tag> tags = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      tags.add(Tag.builder().key("key" + i).value("value" + i).build());
+    }
+    model = ResourceModel.builder()
+        .id("0123456789abcdef0123456789abcdef")
+        .indexId("fedcba9876543210fedcba9876543210")
+        .name("benchmark")
+        .description("A FAQ for benchmarks")
+        .fileFormat(FaqFileFormat.CSV_WITH_HEADER.toString())
+        .languageCode("en")
+        .roleArn("arn:aws:iam::0123456789:role/kendra-faq")
+        .s3Path(S3Path.builder().bucket("bucket").key("faq.csv").build())
+        .tags(tags)
+        .build();
+    // What Kendra hands back for the same FAQ
+    describeFaqResponse = DescribeFaqResponse.builder()
+        .id(model.getId())
+        .indexId(model.getIndexId())
+        .name(model.getName())
+        .description(model.getDescription())
+        .fileFormat(model.getFileFormat())
+        .languageCode(model.getLanguageCode())
+        .roleArn(model.getRoleArn())
+        .status(FaqStatus.ACTIVE)
+        .s3Path(software.amazon.awssdk.services.kendra.model.S3Path.builder().bucket("bucket").key("faq.csv").build())
+        .build();
+    listTagsForResourceResponse = ListTagsForResourceResponse.builder()
+        .tags(Translator.translateToCreateRequest(model).tags())
+        .build();
+  }
+
+  @Benchmark
+  public CreateFaqRequest translateToCreateRequest() {
+    return Translator.translateToCreateRequest(model);
+  }
+
+  @Benchmark
+  public ResourceModel translateFromReadResponse() {
+    return Translator.translateFromReadResponse(describeFaqResponse, listTagsForResourceResponse, ARN);
+  }
+}
@@ -0,0 +1,96 @@
+package software.amazon.kendra.featuredresultsset;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.kendra.model.CreateFeaturedResultsSetRequest;
+import software.amazon.awssdk.services.kendra.model.DescribeFeaturedResultsSetResponse;
+import software.amazon.awssdk.services.kendra.model.FeaturedDocumentMissing;
+import software.amazon.awssdk.services.kendra.model.FeaturedDocumentWithMetadata;
+import software.amazon.awssdk.services.kendra.model.FeaturedResultsSetStatus;
+
+/**
+ * What translating a featured results set costs on create and on every read. The size is the number of query
+ * texts and of featured documents, a tenth of which Kendra reports as missing on read.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FeaturedResultsSetTranslatorBenchmark {
+
+  private static final String ARN = "arn:aws:kendra:us-west-2:0123456789:index/fedcba9876543210fedcba9876543210"
+      + "/featured-results-set/0123456789abcdef0123456789abcdef";
+
+  @Param({"1", "10", "100", "1000"})
+  private int size;
+
+  private ResourceModel model;
+  private DescribeFeaturedResultsSetResponse describeFeaturedResultsSetResponse;
+
+  @Setup
+  public void setup() {
+    final List<String> queryTexts = new ArrayList<>(size);
+    final List<FeaturedDocument> featuredDocuments = new ArrayList<>(size);
+    final List<FeaturedDocumentWithMetadata> featuredDocumentsWithMetadata = new ArrayList<>(size);
+    final List<FeaturedDocumentMissing> featuredDocumentsMissing = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      queryTexts.add("query text " + i);
+      featuredDocuments.add(FeaturedDocument.builder().id("document" + i).build());
+      if (i % 10 == 9) {
+        featuredDocumentsMissing.add(FeaturedDocumentMissing.builder().id("document" + i).build());
+      } else {
+        featuredDocumentsWithMetadata.add(FeaturedDocumentWithMetadata.builder()
+            .id("document" + i)
+            .title("Document " + i)
+            .uri("https://example.com/documents/" + i)
+            .build());
+      }
+    }
+    model = ResourceModel.builder()
+        .featuredResultsSetId("0123456789abcdef0123456789abcdef")
+        .indexId("fedcba9876543210fedcba9876543210")
+        .featuredResultsSetName("benchmark")
+        .description("A featured results set for benchmarks")
+        .status(FeaturedResultsSetStatus.ACTIVE.toString())
+        .queryTexts(queryTexts)
+        .featuredDocuments(featuredDocuments)
+        .build();
+    // What Kendra hands back for the same featured results set
+    describeFeaturedResultsSetResponse = DescribeFeaturedResultsSetResponse.builder()
+        .featuredResultsSetId(model.getFeaturedResultsSetId())
+        .featuredResultsSetName(model.getFeaturedResultsSetName())
+        .description(model.getDescription())
+        .status(model.getStatus())
+        .queryTexts(queryTexts)
+        .featuredDocumentsWithMetadata(featuredDocumentsWithMetadata)
+        .featuredDocumentsMissing(featuredDocumentsMissing)
+        .creationTimestamp(1609459200000L)
+        .lastUpdatedTimestamp(1609459200000L)
+        .build();
+  }
+
+  @Benchmark
+  public CreateFeaturedResultsSetRequest translateToCreateRequest() {
+    return Translator.translateToCreateRequest(model);
+  }
+
+  @Benchmark
+  public ResourceModel translateFromReadResponse() {
+    return Translator.translateFromReadResponse(describeFeaturedResultsSetResponse, ARN, model.getIndexId());
+  }
+}
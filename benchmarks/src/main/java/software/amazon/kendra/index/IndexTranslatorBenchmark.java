@@ -0,0 +1,124 @@
+package software.amazon.kendra.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.kendra.model.CreateIndexRequest;
+import software.amazon.awssdk.services.kendra.model.DescribeIndexResponse;
+import software.amazon.awssdk.services.kendra.model.DocumentAttributeValueType;
+import software.amazon.awssdk.services.kendra.model.DocumentMetadataConfiguration;
+import software.amazon.awssdk.services.kendra.model.IndexEdition;
+import software.amazon.awssdk.services.kendra.model.IndexStatus;
+import software.amazon.awssdk.services.kendra.model.ListTagsForResourceResponse;
+import software.amazon.awssdk.services.kendra.model.Relevance;
+import software.amazon.awssdk.services.kendra.model.Search;
+
+/**
+ * What translating an index costs on create and on every read. The size is the number of tags and user token
+ * configurations, and on read also the number of document metadata configurations, which is what grows on
+ * indices with many custom fields.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class IndexTranslatorBenchmark {
+
+  private static final String ARN = "arn:aws:kendra:us-west-2:0123456789:index/0123456789abcdef0123456789abcdef";
+
+  @Param({"1", "10", "100", "1000"})
+  private int size;
+
+  private ResourceModel model;
+  private DescribeIndexResponse describeIndexResponse;
+  private ListTagsForResourceResponse listTagsForResourceResponse;
+
+  @Setup
+  public void setup() {
+    final List<Tag> tags = new ArrayList<>(size);
+    final List<UserTokenConfiguration> userTokenConfigurations = new ArrayList<>(size);
+    final List<DocumentMetadataConfiguration> documentMetadataConfigurations = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      tags.add(Tag.builder().key("key" + i).value("value" + i).build());
+      userTokenConfigurations.add(UserTokenConfiguration.builder()
+          .jwtTokenTypeConfiguration(JwtTokenTypeConfiguration.builder()
+              .keyLocation("SECRET_MANAGER")
+              .secretManagerArn("arn:aws:secretsmanager:us-west-2:0123456789:secret:jwt" + i)
+              .issuer("https://issuer" + i + ".example.com")
+              .claimRegex(".*")
+              .userNameAttributeField("user")
+              .groupAttributeField("groups")
+              .build())
+          .build());
+      documentMetadataConfigurations.add(DocumentMetadataConfiguration.builder()
+          .name("field_" + i)
+          .type(i % 2 == 0 ? DocumentAttributeValueType.STRING_VALUE : DocumentAttributeValueType.DATE_VALUE)
+          .relevance(Relevance.builder()
+              .importance(1 + i % 10)
+              .duration("25920000s")
+              .rankOrder("ASCENDING")
+              .valueImportanceMap(Map.of("high", 10, "low", 1))
+              .build())
+          .search(Search.builder().facetable(true).searchable(true).displayable(true).sortable(false).build())
+          .build());
+    }
+    model = ResourceModel.builder()
+        .name("benchmark")
+        .description("An index for benchmarks")
+        .roleArn("arn:aws:iam::0123456789:role/kendra-index")
+        .edition(IndexEdition.ENTERPRISE_EDITION.toString())
+        .userContextPolicy("USER_TOKEN")
+        .userTokenConfigurations(userTokenConfigurations)
+        .serverSideEncryptionConfiguration(ServerSideEncryptionConfiguration.builder().kmsKeyId("key").build())
+        .tags(tags)
+        .build();
+    // What Kendra hands back for the same index, once its fields are configured
+    describeIndexResponse = DescribeIndexResponse.builder()
+        .id("0123456789abcdef0123456789abcdef")
+        .name(model.getName())
+        .description(model.getDescription())
+        .roleArn(model.getRoleArn())
+        .edition(model.getEdition())
+        .status(IndexStatus.ACTIVE)
+        .userContextPolicy(model.getUserContextPolicy())
+        .userTokenConfigurations(Translator.translateToCreateRequest(model).userTokenConfigurations())
+        .serverSideEncryptionConfiguration(software.amazon.awssdk.services.kendra.model.ServerSideEncryptionConfiguration
+            .builder()
+            .kmsKeyId("key")
+            .build())
+        .capacityUnits(software.amazon.awssdk.services.kendra.model.CapacityUnitsConfiguration.builder()
+            .storageCapacityUnits(1)
+            .queryCapacityUnits(1)
+            .build())
+        .documentMetadataConfigurations(documentMetadataConfigurations)
+        .build();
+    listTagsForResourceResponse = ListTagsForResourceResponse.builder()
+        .tags(Translator.translateToCreateRequest(model).tags())
+        .build();
+  }
+
+  @Benchmark
+  public CreateIndexRequest translateToCreateRequest() {
+    return Translator.translateToCreateRequest(model);
+  }
+
+  @Benchmark
+  public ResourceModel translateFromReadResponse() {
+    return Translator.translateFromReadResponse(describeIndexResponse, listTagsForResourceResponse, ARN);
+  }
+}
@@ -0,0 +1,44 @@
+package software.amazon.kendra.tools;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.xml.stream.XMLStreamException;
+
+import software.amazon.kendra.datasource.ResourceModel;
+import software.amazon.kendra.datasource.WebCrawlerConfiguration;
+import software.amazon.kendra.tools.webcrawler.CrawlScope;
+import software.amazon.kendra.tools.webcrawler.Sitemaps;
+
+/**
+ * Predicts the volume of a web crawl before the data source is created: runs the page URLs of a local sitemap
+ * through the seed URLs, web crawler mode, crawl depth and URL patterns of the configuration, see
+ * {@link CrawlScope}.
+ */
+final class CrawlScopeTool {
+
+  static final String NAME = "crawl-scope";
+
+  private CrawlScopeTool() {
+  }
+
+  static void run(final ResourceModel model, final Path sitemap, final PrintStream out)
+      throws IOException, XMLStreamException {
+    final WebCrawlerConfiguration configuration = model.getDataSourceConfiguration() == null
+        ? null
+        : model.getDataSourceConfiguration().getWebCrawlerConfiguration();
+    if (configuration == null) {
+      out.println("The configuration has no WebCrawlerConfiguration");
+      return;
+    }
+    final List<String> urls;
+    try (InputStream in = Files.newInputStream(sitemap)) {
+      urls = Sitemaps.read(in);
+    }
+    out.println(CrawlScope.of(configuration).estimate(urls));
+  }
+}
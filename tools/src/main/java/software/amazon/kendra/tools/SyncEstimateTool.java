@@ -0,0 +1,50 @@
+package software.amazon.kendra.tools;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import software.amazon.kendra.datasource.ResourceModel;
+import software.amazon.kendra.datasource.pattern.ConnectorPatterns;
+import software.amazon.kendra.datasource.pattern.PatternFilter;
+import software.amazon.kendra.datasource.pattern.PatternFinding;
+import software.amazon.kendra.datasource.pattern.SyncEstimate;
+
+/**
+ * Sizes a sync before running it: runs a sample listing of document keys, paths or URLs, one per line, through the
+ * inclusion and exclusion patterns of every connector the data source configuration sets, the way
+ * {@link PatternFilter} applies them.
+ */
+final class SyncEstimateTool {
+
+  static final String NAME = "sync-estimate";
+
+  private SyncEstimateTool() {
+  }
+
+  static void run(final ResourceModel model, final Path keys, final PrintStream out) throws IOException {
+    final Map<String, PatternFilter> filters = ConnectorPatterns.of(model.getDataSourceConfiguration());
+    if (filters.isEmpty()) {
+      out.println("The configuration sets no inclusion or exclusion patterns, a sync indexes every document");
+      return;
+    }
+    for (final Map.Entry<String, PatternFilter> filter : filters.entrySet()) {
+      out.println(filter.getKey());
+      for (final PatternFinding finding : filter.getValue().getFindings()) {
+        out.println("  " + finding.getSeverity() + " " + finding);
+      }
+      final SyncEstimate estimate;
+      // Read again for every connector, a listing can be larger than the heap
+      try (Stream<String> lines = Files.lines(keys)) {
+        estimate = filter.getValue().estimate(lines.filter(line -> !line.isEmpty())::iterator);
+      }
+      out.println("  " + estimate);
+      for (final String unused : estimate.getUnusedPatterns()) {
+        out.println("  " + unused + " matched none of the keys");
+      }
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package software.amazon.kendra.tools;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import javax.xml.stream.XMLStreamException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import software.amazon.kendra.datasource.ResourceModel;
+
+/**
+ * Runs one of the tools on the properties of an AWS::Kendra::DataSource, read from a JSON file as they appear in
+ * the template, with the intrinsic functions resolved.
+ */
+public final class ToolsMain {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  private static final String USAGE = String.format("Usage: java -jar tools.jar %s <data source properties.json> "
+      + "<keys.txt>%n       java -jar tools.jar %s <data source properties.json> <sitemap.xml>",
+      SyncEstimateTool.NAME, CrawlScopeTool.NAME);
+
+  private ToolsMain() {
+  }
+
+  public static void main(final String[] args) throws IOException, XMLStreamException {
+    if (args.length != 3) {
+      usage();
+      return;
+    }
+    final ResourceModel model = readModel(Paths.get(args[1]));
+    final Path input = Paths.get(args[2]);
+    switch (args[0]) {
+      case SyncEstimateTool.NAME:
+        SyncEstimateTool.run(model, input, System.out);
+        break;
+      case CrawlScopeTool.NAME:
+        CrawlScopeTool.run(model, input, System.out);
+        break;
+      default:
+        usage();
+    }
+  }
+
+  static ResourceModel readModel(final Path properties) throws IOException {
+    return MAPPER.readValue(properties.toFile(), ResourceModel.class);
+  }
+
+  private static void usage() {
+    System.err.println(USAGE);
+    System.exit(2);
+  }
+}
@@ -0,0 +1,70 @@
+package software.amazon.kendra.tools.webcrawler;
+
+/**
+ * What a web crawler configuration does to the URLs of a sitemap, to predict the volume of a crawl before the
+ * data source is created.
+ */
+public final class CrawlEstimate {
+
+  private final long total;
+  private final long duplicates;
+  private final long outOfScope;
+  private final long tooDeep;
+  private final long excluded;
+  private final long included;
+
+  CrawlEstimate(final long total, final long duplicates, final long outOfScope, final long tooDeep,
+                final long excluded, final long included) {
+    this.total = total;
+    this.duplicates = duplicates;
+    this.outOfScope = outOfScope;
+    this.tooDeep = tooDeep;
+    this.excluded = excluded;
+    this.included = included;
+  }
+
+  public long getTotal() {
+    return total;
+  }
+
+  /**
+   * @return the URLs with the same canonical form as an earlier one, a crawler fetches them once
+   */
+  public long getDuplicates() {
+    return duplicates;
+  }
+
+  /**
+   * @return the URLs on a host the web crawler mode doesn't reach from any seed URL
+   */
+  public long getOutOfScope() {
+    return outOfScope;
+  }
+
+  /**
+   * @return the URLs deeper below every seed URL than the crawl depth
+   */
+  public long getTooDeep() {
+    return tooDeep;
+  }
+
+  /**
+   * @return the URLs the inclusion and exclusion patterns drop
+   */
+  public long getExcluded() {
+    return excluded;
+  }
+
+  /**
+   * @return the URLs a crawl would index
+   */
+  public long getIncluded() {
+    return included;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%d of %d URLs crawled, %d duplicates, %d out of scope, %d too deep, %d excluded", included,
+        total, duplicates, outOfScope, tooDeep, excluded);
+  }
+}
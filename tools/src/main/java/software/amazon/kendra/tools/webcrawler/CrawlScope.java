@@ -0,0 +1,163 @@
+package software.amazon.kendra.tools.webcrawler;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import software.amazon.kendra.datasource.WebCrawlerConfiguration;
+import software.amazon.kendra.datasource.WebCrawlerSeedUrlConfiguration;
+import software.amazon.kendra.datasource.convert.UrlCanonicalizer;
+import software.amazon.kendra.datasource.pattern.PatternFilter;
+import software.amazon.kendra.datasource.pattern.PatternSyntax;
+
+/**
+ * Predicts which URLs of a locally supplied sitemap a web crawler configuration would crawl, applying the seed
+ * URLs, the web crawler mode, the crawl depth and the URL inclusion and exclusion patterns.
+ *
+ * The link graph of the site isn't known, so the depth of a page is estimated from its path: the seed URL is at
+ * depth 1, and a page is one level deeper for every path segment it has below the nearest seed URL it shares a
+ * host with, at least one level. That is a lower bound, a crawl may need more hops to reach a page. With site
+ * maps instead of seed URLs, every URL of the sitemap is crawled as a seed.
+ */
+public final class CrawlScope {
+
+  // What Kendra uses when the configuration leaves them out
+  static final int DEFAULT_CRAWL_DEPTH = 2;
+  static final String DEFAULT_MODE = "HOST_ONLY";
+
+  private final List<URI> seeds;
+  private final String mode;
+  private final int crawlDepth;
+  private final PatternFilter patterns;
+
+  private CrawlScope(final List<URI> seeds, final String mode, final int crawlDepth, final PatternFilter patterns) {
+    this.seeds = seeds;
+    this.mode = mode;
+    this.crawlDepth = crawlDepth;
+    this.patterns = patterns;
+  }
+
+  public static CrawlScope of(final WebCrawlerConfiguration configuration) {
+    final WebCrawlerSeedUrlConfiguration seedUrls = configuration.getUrls() == null
+        ? null
+        : configuration.getUrls().getSeedUrlConfiguration();
+    final List<URI> seeds = new ArrayList<>();
+    String mode = DEFAULT_MODE;
+    if (seedUrls != null) {
+      for (final String seed : UrlCanonicalizer.dedupe(
+          seedUrls.getSeedUrls() == null ? Collections.emptyList() : seedUrls.getSeedUrls())) {
+        final URI uri = parse(UrlCanonicalizer.canonicalize(seed));
+        if (uri != null) {
+          seeds.add(uri);
+        }
+      }
+      if (seedUrls.getWebCrawlerMode() != null) {
+        mode = seedUrls.getWebCrawlerMode();
+      }
+    }
+    return new CrawlScope(seeds, mode,
+        configuration.getCrawlDepth() == null ? DEFAULT_CRAWL_DEPTH : configuration.getCrawlDepth(),
+        PatternFilter.builder(PatternSyntax.REGEX)
+            .inclusions("UrlInclusionPatterns", configuration.getUrlInclusionPatterns())
+            .exclusions("UrlExclusionPatterns", configuration.getUrlExclusionPatterns())
+            .build());
+  }
+
+  /**
+   * @param urls the page URLs of a sitemap, see {@link Sitemaps#read}
+   */
+  public CrawlEstimate estimate(final Iterable<String> urls) {
+    final Set<String> seen = new HashSet<>();
+    long total = 0;
+    long duplicates = 0;
+    long outOfScope = 0;
+    long tooDeep = 0;
+    long excluded = 0;
+    long included = 0;
+    for (final String url : urls) {
+      total++;
+      final String canonical = UrlCanonicalizer.canonicalize(url);
+      if (!seen.add(canonical)) {
+        duplicates++;
+        continue;
+      }
+      final URI uri = parse(canonical);
+      final int depth = uri == null ? -1 : depth(uri);
+      if (depth < 0) {
+        outOfScope++;
+      } else if (depth > crawlDepth) {
+        tooDeep++;
+      } else if (!patterns.includes(url)) {
+        excluded++;
+      } else {
+        included++;
+      }
+    }
+    return new CrawlEstimate(total, duplicates, outOfScope, tooDeep, excluded, included);
+  }
+
+  /**
+   * @return the estimated depth of the page, -1 when the mode doesn't reach its host from any seed URL
+   */
+  int depth(final URI page) {
+    if (seeds.isEmpty()) {
+      // Site maps, every page is a seed
+      return 1;
+    }
+    final String[] pageSegments = segments(page);
+    int depth = -1;
+    for (final URI seed : seeds) {
+      final int seedDepth;
+      if (page.getHost().equals(seed.getHost())) {
+        if (page.equals(seed)) {
+          return 1;
+        }
+        final String[] seedSegments = segments(seed);
+        int common = 0;
+        while (common < pageSegments.length && common < seedSegments.length
+            && pageSegments[common].equals(seedSegments[common])) {
+          common++;
+        }
+        seedDepth = 1 + Math.max(1, pageSegments.length - common);
+      } else if (reaches(seed.getHost(), page.getHost())) {
+        seedDepth = 1 + Math.max(1, pageSegments.length);
+      } else {
+        continue;
+      }
+      depth = depth < 0 ? seedDepth : Math.min(depth, seedDepth);
+    }
+    return depth;
+  }
+
+  private boolean reaches(final String seedHost, final String host) {
+    switch (mode) {
+      case "EVERYTHING":
+        return true;
+      case "SUBDOMAINS":
+        return host.endsWith("." + seedHost);
+      default:
+        return false;
+    }
+  }
+
+  private static String[] segments(final URI uri) {
+    final String path = uri.getRawPath();
+    return path == null || path.isEmpty() || "/".equals(path) ? new String[0] : path.substring(1).split("/");
+  }
+
+  /**
+   * @return the canonical form of a URL as a URI with a host, or null
+   */
+  private static URI parse(final String canonical) {
+    try {
+      final URI uri = new URI(canonical);
+      return uri.getHost() == null ? null : uri;
+    } catch (final URISyntaxException e) {
+      return null;
+    }
+  }
+}
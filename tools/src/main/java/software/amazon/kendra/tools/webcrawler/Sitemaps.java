@@ -0,0 +1,58 @@
+package software.amazon.kendra.tools.webcrawler;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Reads the page URLs of a sitemap, https://www.sitemaps.org/protocol.html, from a local file.
+ */
+public final class Sitemaps {
+
+  private static final XMLInputFactory FACTORY = XMLInputFactory.newFactory();
+
+  static {
+    // A sitemap has no business with a DTD, and external entities would read local files
+    FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+    FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+  }
+
+  private Sitemaps() {
+  }
+
+  /**
+   * @return the loc of every url element, in document order. The loc of the sitemap elements of a sitemap index
+   *     are other sitemaps, not pages, and are skipped.
+   */
+  public static List<String> read(final InputStream sitemap) throws XMLStreamException {
+    final List<String> urls = new ArrayList<>();
+    final XMLStreamReader reader = FACTORY.createXMLStreamReader(sitemap);
+    try {
+      boolean inUrl = false;
+      while (reader.hasNext()) {
+        final int event = reader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          final String name = reader.getLocalName();
+          if ("url".equals(name)) {
+            inUrl = true;
+          } else if (inUrl && "loc".equals(name)) {
+            final String loc = reader.getElementText().trim();
+            if (!loc.isEmpty()) {
+              urls.add(loc);
+            }
+          }
+        } else if (event == XMLStreamConstants.END_ELEMENT && "url".equals(reader.getLocalName())) {
+          inUrl = false;
+        }
+      }
+    } finally {
+      reader.close();
+    }
+    return urls;
+  }
+}
@@ -0,0 +1,45 @@
+package software.amazon.kendra.tools;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CrawlScopeToolTest {
+
+    private static final String SITEMAP = "<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">"
+            + "<url><loc>https://example.com/docs</loc></url>"
+            + "<url><loc>https://example.com/docs/guide</loc></url>"
+            + "<url><loc>https://other.org/page</loc></url>"
+            + "</urlset>";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testEstimatesTheCrawl() throws Exception {
+        assertThat(run("{\"Type\": \"WEBCRAWLER\", \"DataSourceConfiguration\": {\"WebCrawlerConfiguration\": "
+                + "{\"Urls\": {\"SeedUrlConfiguration\": {\"SeedUrls\": [\"https://example.com/docs\"]}}, "
+                + "\"CrawlDepth\": 2}}}"))
+                .isEqualTo("2 of 3 URLs crawled, 0 duplicates, 1 out of scope, 0 too deep, 0 excluded");
+    }
+
+    @Test
+    void testWithoutWebCrawlerConfiguration() throws Exception {
+        assertThat(run("{\"Type\": \"CUSTOM\"}")).isEqualTo("The configuration has no WebCrawlerConfiguration");
+    }
+
+    private String run(final String properties) throws Exception {
+        Path file = Files.write(directory.resolve("properties.json"), properties.getBytes(StandardCharsets.UTF_8));
+        Path sitemap = Files.write(directory.resolve("sitemap.xml"), SITEMAP.getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        CrawlScopeTool.run(ToolsMain.readModel(file), sitemap, new PrintStream(out, true, "UTF-8"));
+        return out.toString("UTF-8").trim();
+    }
+}
@@ -0,0 +1,49 @@
+package software.amazon.kendra.tools;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SyncEstimateToolTest {
+
+    private static final String S3_PROPERTIES = "{\"Name\": \"documents\", \"IndexId\": \"index\", \"Type\": \"S3\", "
+            + "\"RoleArn\": \"roleArn\", \"DataSourceConfiguration\": {\"S3Configuration\": {\"BucketName\": \"bucket\", "
+            + "\"InclusionPatterns\": [\"*.pdf\", \"*.docx\"], \"ExclusionPatterns\": [\"*internal*\"]}}}";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testEstimatesEveryConnector() throws Exception {
+        Path keys = Files.write(directory.resolve("keys.txt"),
+                Arrays.asList("report.pdf", "internal-report.pdf", "", "notes.txt"));
+
+        assertThat(run(S3_PROPERTIES, keys)).containsExactly(
+                "DataSourceConfiguration.S3Configuration",
+                "  1 of 3 documents included, 1 excluded, 1 not included",
+                "  InclusionPatterns[1] matched none of the keys");
+    }
+
+    @Test
+    void testWithoutPatterns() throws Exception {
+        Path keys = Files.write(directory.resolve("keys.txt"), Arrays.asList("report.pdf"));
+
+        assertThat(run("{\"Name\": \"documents\", \"Type\": \"CUSTOM\"}", keys)).containsExactly(
+                "The configuration sets no inclusion or exclusion patterns, a sync indexes every document");
+    }
+
+    private String[] run(final String properties, final Path keys) throws Exception {
+        Path file = Files.write(directory.resolve("properties.json"), properties.getBytes(StandardCharsets.UTF_8));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SyncEstimateTool.run(ToolsMain.readModel(file), keys, new PrintStream(out, true, "UTF-8"));
+        return out.toString("UTF-8").split(System.lineSeparator());
+    }
+}
@@ -0,0 +1,107 @@
+package software.amazon.kendra.tools.webcrawler;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.kendra.datasource.WebCrawlerConfiguration;
+import software.amazon.kendra.datasource.WebCrawlerSeedUrlConfiguration;
+import software.amazon.kendra.datasource.WebCrawlerSiteMapsConfiguration;
+import software.amazon.kendra.datasource.WebCrawlerUrls;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CrawlScopeTest {
+
+    private static final String SITEMAP = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n"
+            + "  <url><loc>https://example.com/docs</loc><lastmod>2023-01-01</lastmod></url>\n"
+            + "  <url><loc>https://example.com/docs/</loc></url>\n"
+            + "  <url><loc>https://example.com/docs/guide</loc></url>\n"
+            + "  <url><loc>https://example.com/docs/guide/setup/linux</loc></url>\n"
+            + "  <url><loc>https://example.com/docs/internal/roadmap</loc></url>\n"
+            + "  <url><loc>https://blog.example.com/post</loc></url>\n"
+            + "  <url><loc>https://other.org/page</loc></url>\n"
+            + "</urlset>\n";
+
+    @Test
+    void testReadSitemap() throws Exception {
+        assertThat(read(SITEMAP)).hasSize(7).startsWith("https://example.com/docs", "https://example.com/docs/");
+        assertThat(read("<sitemapindex><sitemap><loc>https://example.com/sitemap.xml</loc></sitemap></sitemapindex>"))
+                .isEmpty();
+    }
+
+    @Test
+    void testHostOnly() throws Exception {
+        CrawlScope scope = CrawlScope.of(seeds(null, 2, "https://example.com/docs"));
+
+        CrawlEstimate estimate = scope.estimate(read(SITEMAP));
+
+        assertThat(estimate.getTotal()).isEqualTo(7);
+        assertThat(estimate.getDuplicates()).isEqualTo(1);
+        assertThat(estimate.getOutOfScope()).isEqualTo(2);
+        assertThat(estimate.getTooDeep()).isEqualTo(2);
+        assertThat(estimate.getIncluded()).isEqualTo(2);
+        assertThat(estimate).hasToString("2 of 7 URLs crawled, 1 duplicates, 2 out of scope, 2 too deep, 0 excluded");
+    }
+
+    @Test
+    void testSubdomainsAndPatterns() throws Exception {
+        WebCrawlerConfiguration configuration = seeds("SUBDOMAINS", 4, "https://example.com/docs");
+        configuration.setUrlExclusionPatterns(Collections.singletonList("/internal/"));
+
+        CrawlEstimate estimate = CrawlScope.of(configuration).estimate(read(SITEMAP));
+
+        assertThat(estimate.getOutOfScope()).isEqualTo(1);
+        assertThat(estimate.getTooDeep()).isEqualTo(0);
+        assertThat(estimate.getExcluded()).isEqualTo(1);
+        assertThat(estimate.getIncluded()).isEqualTo(4);
+    }
+
+    @Test
+    void testDepth() {
+        CrawlScope scope = CrawlScope.of(seeds("EVERYTHING", 2, "https://example.com/docs/guide"));
+
+        assertThat(scope.depth(URI.create("https://example.com/docs/guide"))).isEqualTo(1);
+        assertThat(scope.depth(URI.create("https://example.com/docs/guide/setup"))).isEqualTo(2);
+        assertThat(scope.depth(URI.create("https://example.com/docs"))).isEqualTo(2);
+        assertThat(scope.depth(URI.create("https://example.com/faq/a"))).isEqualTo(3);
+        assertThat(scope.depth(URI.create("https://other.org/page"))).isEqualTo(2);
+    }
+
+    @Test
+    void testSiteMapsAreSeeds() throws Exception {
+        WebCrawlerConfiguration configuration = WebCrawlerConfiguration.builder()
+                .urls(WebCrawlerUrls.builder()
+                        .siteMapsConfiguration(WebCrawlerSiteMapsConfiguration.builder()
+                                .siteMaps(Collections.singletonList("https://example.com/sitemap.xml"))
+                                .build())
+                        .build())
+                .build();
+
+        CrawlEstimate estimate = CrawlScope.of(configuration).estimate(read(SITEMAP));
+
+        assertThat(estimate.getDuplicates()).isEqualTo(1);
+        assertThat(estimate.getIncluded()).isEqualTo(6);
+    }
+
+    private static WebCrawlerConfiguration seeds(String mode, Integer crawlDepth, String... seedUrls) {
+        return WebCrawlerConfiguration.builder()
+                .urls(WebCrawlerUrls.builder()
+                        .seedUrlConfiguration(WebCrawlerSeedUrlConfiguration.builder()
+                                .seedUrls(Arrays.asList(seedUrls))
+                                .webCrawlerMode(mode)
+                                .build())
+                        .build())
+                .crawlDepth(crawlDepth)
+                .build();
+    }
+
+    private static List<String> read(String sitemap) throws Exception {
+        return Sitemaps.read(new ByteArrayInputStream(sitemap.getBytes(StandardCharsets.UTF_8)));
+    }
+}